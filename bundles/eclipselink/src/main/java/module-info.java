@@ -43,6 +43,7 @@
     requires static jakarta.messaging;
     requires static jakarta.resource;
 
+    requires static jdk.jfr;
     requires static org.objectweb.asm;
     requires static com.sun.xml.bind.core;
 
@@ -131,6 +132,7 @@
     exports org.eclipse.persistence.sessions.server;
     exports org.eclipse.persistence.tools;
     exports org.eclipse.persistence.tools.profiler;
+    exports org.eclipse.persistence.tools.profiler.jfr;
     exports org.eclipse.persistence.tools.schemaframework;
     exports org.eclipse.persistence.tools.tuning;
     exports org.eclipse.persistence.transaction;
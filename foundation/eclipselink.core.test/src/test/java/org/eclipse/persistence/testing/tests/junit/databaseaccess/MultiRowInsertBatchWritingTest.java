@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.databaseaccess;
+
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.databaseaccess.BatchWritingStatistics;
+import org.eclipse.persistence.internal.databaseaccess.ParameterizedSQLBatchWritingMechanism;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.mappings.DirectToFieldMapping;
+import org.eclipse.persistence.platform.database.DatabasePlatform;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.tests.junit.failover.FailoverBase;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedConnection;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests that consecutive batched inserts of a table are written as multi-row inserts.
+ */
+public class MultiRowInsertBatchWritingTest extends FailoverBase<DatabaseSession> {
+
+    /**
+     * An object stored in two tables, so each insert writes a row to each table.
+     */
+    public static final class Note {
+        public Integer id;
+        public String text;
+    }
+
+    /**
+     * A platform writing at most two rows per multi-row insert.
+     */
+    public static final class TwoRowsPlatform extends DatabasePlatform {
+        @Override
+        public int getMaxMultiRowInsertRows(int parametersPerRow) {
+            return 2;
+        }
+    }
+
+    private static RelationalDescriptor noteDescriptor() {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Note.class);
+        descriptor.addTableName("NOTE");
+        descriptor.addTableName("NOTE_TEXT");
+        descriptor.addPrimaryKeyFieldName("NOTE.NOTE_ID");
+
+        DirectToFieldMapping idMapping = new DirectToFieldMapping();
+        idMapping.setAttributeName("id");
+        idMapping.setFieldName("NOTE.NOTE_ID");
+        descriptor.addMapping(idMapping);
+
+        DirectToFieldMapping textMapping = new DirectToFieldMapping();
+        textMapping.setAttributeName("text");
+        textMapping.setFieldName("NOTE_TEXT.TEXT");
+        descriptor.addMapping(textMapping);
+        return descriptor;
+    }
+
+    @Override
+    protected DatabaseSession createSession(Project p) {
+        TwoRowsPlatform platform = new TwoRowsPlatform();
+        platform.setPingSQL("SELECT 1");
+        p.getLogin().setPlatform(platform);
+        p.getLogin().setShouldBindAllParameters(true);
+        p.getLogin().useBatchWriting();
+        p.getLogin().setUsesMultiRowInsertBatchWriting(true);
+        p.addDescriptor(noteDescriptor());
+        return p.createDatabaseSession();
+    }
+
+    private List<String> insertNotes(int numberOfNotes) {
+        List<String> executedStatements = ((EmulatedConnection)((DatabaseSessionImpl)getEmulatedSession()).getAccessor().getConnection()).getExecutedStatements();
+        executedStatements.clear();
+        getStatistics().reset();
+        UnitOfWork uow = getEmulatedSession().acquireUnitOfWork();
+        for (int index = 1; index <= numberOfNotes; index++) {
+            Note note = new Note();
+            note.id = index;
+            note.text = "note " + index;
+            uow.registerNewObject(note);
+        }
+        uow.commit();
+        return executedStatements;
+    }
+
+    private BatchWritingStatistics getStatistics() {
+        return getEmulatedSession().getLogin().getPlatform().getBatchWritingStatistics();
+    }
+
+    @Test
+    public void insertsGroupedByTableTest() {
+        List<String> statements = insertNotes(5);
+        // Two statements of two rows in one batch, and the last row, for each table.
+        Assert.assertEquals(statements.toString(), 4, statements.size());
+        Assert.assertTrue(statements.get(0), statements.get(0).startsWith("INSERT INTO NOTE (") && statements.get(0).endsWith("VALUES (?), (?)"));
+        Assert.assertTrue(statements.get(1), statements.get(1).startsWith("INSERT INTO NOTE (") && statements.get(1).endsWith("VALUES (?)"));
+        Assert.assertTrue(statements.get(2), statements.get(2).startsWith("INSERT INTO NOTE_TEXT (") && statements.get(2).endsWith("VALUES (?, ?), (?, ?)"));
+        Assert.assertTrue(statements.get(3), statements.get(3).startsWith("INSERT INTO NOTE_TEXT (") && statements.get(3).endsWith("VALUES (?, ?)"));
+        Assert.assertEquals(10, getStatistics().getRowCount());
+        Assert.assertEquals(4, getStatistics().getRoundTripCount());
+        Assert.assertEquals(2.5, getStatistics().getRowsPerRoundTrip(), 0.001);
+    }
+
+    @Test
+    public void interleavedInsertsKeepTheirOrderTest() {
+        List<String> statements = ((EmulatedConnection)((DatabaseSessionImpl)getEmulatedSession()).getAccessor().getConnection()).getExecutedStatements();
+        statements.clear();
+        getEmulatedSession().beginTransaction();
+        for (int index = 1; index <= 2; index++) {
+            Note note = new Note();
+            note.id = index;
+            note.text = "note " + index;
+            // Each insert writes a row to each table, so the inserts of a table are not consecutive.
+            getEmulatedSession().insertObject(note);
+        }
+        getEmulatedSession().commitTransaction();
+        Assert.assertEquals(statements.toString(), 4, statements.size());
+        for (int index = 0; index < 4; index = index + 2) {
+            Assert.assertTrue(statements.get(index), statements.get(index).startsWith("INSERT INTO NOTE (") && statements.get(index).endsWith("VALUES (?)"));
+            Assert.assertTrue(statements.get(index + 1), statements.get(index + 1).startsWith("INSERT INTO NOTE_TEXT (") && statements.get(index + 1).endsWith("VALUES (?, ?)"));
+        }
+    }
+
+    @Test
+    public void insertsBatchedWithoutMultiRowInsertTest() {
+        getEmulatedSession().getLogin().setUsesMultiRowInsertBatchWriting(false);
+        List<String> statements = insertNotes(5);
+        // One batch of single row statements for each table.
+        Assert.assertEquals(statements.toString(), 2, statements.size());
+        Assert.assertTrue(statements.get(0), statements.get(0).startsWith("INSERT INTO NOTE (") && statements.get(0).endsWith("VALUES (?)"));
+        Assert.assertTrue(statements.get(1), statements.get(1).startsWith("INSERT INTO NOTE_TEXT (") && statements.get(1).endsWith("VALUES (?, ?)"));
+        Assert.assertEquals(10, getStatistics().getRowCount());
+        Assert.assertEquals(2, getStatistics().getRoundTripCount());
+    }
+
+    @Test
+    public void valuesClauseTest() {
+        String sql = "INSERT INTO NOTE_TEXT (TEXT, NOTE_ID) VALUES (?, ?)";
+        int valuesIndex = ParameterizedSQLBatchWritingMechanism.getValuesIndex(sql, 2);
+        Assert.assertEquals("INSERT INTO NOTE_TEXT (TEXT, NOTE_ID) VALUES (?, ?), (?, ?), (?, ?)",
+                ParameterizedSQLBatchWritingMechanism.buildMultiRowInsertSQL(sql, valuesIndex, 3));
+        Assert.assertEquals(-1, ParameterizedSQLBatchWritingMechanism.getValuesIndex(sql, 1));
+        Assert.assertEquals(-1, ParameterizedSQLBatchWritingMechanism.getValuesIndex("INSERT INTO NOTE (NOTE_ID, TEXT) VALUES (?, 'text')", 1));
+        Assert.assertEquals(-1, ParameterizedSQLBatchWritingMechanism.getValuesIndex("INSERT INTO NOTE (NOTE_ID) VALUES (?) RETURNING NOTE_ID", 1));
+    }
+}
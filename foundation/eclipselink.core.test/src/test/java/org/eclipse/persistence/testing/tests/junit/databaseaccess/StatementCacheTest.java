@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.databaseaccess;
+
+import java.util.List;
+
+import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.internal.databaseaccess.StatementCacheStatistics;
+import org.eclipse.persistence.queries.DataModifyQuery;
+import org.eclipse.persistence.queries.SQLCall;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.failover.FailoverBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the least recently used eviction, the statistics and the key normalization of the statement cache.
+ */
+public class StatementCacheTest extends FailoverBase<DatabaseSession> {
+
+    @Override
+    protected DatabaseSession createSession(Project p) {
+        p.getLogin().setShouldBindAllParameters(true);
+        p.getLogin().setShouldCacheAllStatements(true);
+        p.getLogin().setStatementCacheSize(2);
+        return p.createDatabaseSession();
+    }
+
+    private void execute(String sql) {
+        DataModifyQuery query = new DataModifyQuery(new SQLCall(sql));
+        query.addArgument("ID");
+        getEmulatedSession().executeQuery(query, List.of(1));
+    }
+
+    private StatementCacheStatistics getStatistics() {
+        return getEmulatedSession().getLogin().getPlatform().getStatementCacheStatistics();
+    }
+
+    @Test
+    public void leastRecentlyUsedEvictionTest() {
+        getStatistics().reset();
+        execute("UPDATE ADDRESS SET CITY = NULL WHERE ADDRESS_ID = #ID");
+        execute("UPDATE ADDRESS SET STREET = NULL WHERE ADDRESS_ID = #ID");
+        // Hit, and now the most recently used.
+        execute("UPDATE ADDRESS SET CITY = NULL WHERE ADDRESS_ID = #ID");
+        // Evicts the STREET statement.
+        execute("UPDATE ADDRESS SET COUNTRY = NULL WHERE ADDRESS_ID = #ID");
+        execute("UPDATE ADDRESS SET CITY = NULL WHERE ADDRESS_ID = #ID");
+        Assert.assertEquals(2, getStatistics().getHitCount());
+        Assert.assertEquals(3, getStatistics().getMissCount());
+        Assert.assertEquals(1, getStatistics().getEvictionCount());
+        execute("UPDATE ADDRESS SET STREET = NULL WHERE ADDRESS_ID = #ID");
+        Assert.assertEquals(4, getStatistics().getMissCount());
+    }
+
+    @Test
+    public void normalizedKeysTest() {
+        getEmulatedSession().getLogin().setShouldNormalizeStatementCacheKeys(true);
+        getStatistics().reset();
+        execute("UPDATE ADDRESS SET CITY = NULL WHERE ADDRESS_ID = #ID");
+        execute(" UPDATE  ADDRESS\n SET CITY = NULL\tWHERE ADDRESS_ID = #ID ");
+        Assert.assertEquals(1, getStatistics().getHitCount());
+        Assert.assertEquals(1, getStatistics().getMissCount());
+    }
+
+    @Test
+    public void normalizeWhiteSpaceTest() {
+        Assert.assertEquals("SELECT A FROM T WHERE B = ' x  y ' AND \"C  D\" = ?",
+                DatabaseAccessor.normalizeWhiteSpace("  SELECT A\n\tFROM  T WHERE B = ' x  y '  AND \"C  D\" = ?  "));
+    }
+}
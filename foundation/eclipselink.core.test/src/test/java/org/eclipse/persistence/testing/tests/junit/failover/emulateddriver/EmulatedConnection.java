@@ -28,6 +28,8 @@
 import java.sql.Savepoint;
 import java.sql.Statement;
 import java.sql.Struct;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 import java.util.Vector;
 import java.util.concurrent.Executor;
@@ -37,6 +39,9 @@ public class EmulatedConnection implements Connection {
 
     protected boolean inFailureState = false;
 
+    /** The SQL of the statements executed by an update or a batch, in execution order. */
+    protected List<String> executedStatements = new ArrayList<>();
+
     public void causeCommError() {
         this.inFailureState = true;
     }
@@ -45,6 +50,14 @@ public boolean isInFailureState() {
         return this.inFailureState;
     }
 
+    public void recordExecution(String sql) {
+        this.executedStatements.add(sql);
+    }
+
+    public List<String> getExecutedStatements() {
+        return this.executedStatements;
+    }
+
     public EmulatedConnection(EmulatedDriver driver) {
         this.driver = driver;
     }
@@ -31,12 +31,14 @@
 import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.SQLXML;
+import java.util.Arrays;
 import java.util.Calendar;
 
 public class EmulatedStatement implements PreparedStatement {
 
     protected EmulatedConnection connection;
     protected String sql;
+    protected int batchSize;
 
     public EmulatedStatement(EmulatedConnection connection) {
         this.connection = connection;
@@ -108,6 +110,7 @@ public ResultSet executeQuery(String sql) throws SQLException {
     @Override
     public int executeUpdate() throws SQLException {
         checkForError();
+        this.connection.recordExecution(this.sql);
         return 1;
     }
 
@@ -237,6 +240,7 @@ public void setObject(int parameterIndex, Object x) {
 
     @Override
     public void addBatch() {
+        this.batchSize++;
     }
 
 
@@ -405,7 +409,11 @@ public void clearBatch() {
 
     @Override
     public int[] executeBatch(){
-        return null;
+        this.connection.recordExecution(this.sql);
+        int[] rowCounts = new int[this.batchSize];
+        Arrays.fill(rowCounts, 1);
+        this.batchSize = 0;
+        return rowCounts;
     }
     @Override
     public Connection getConnection() {
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.helper;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.internal.helper.ConcurrencyManager;
+import org.eclipse.persistence.internal.helper.ConcurrencyUtil;
+import org.eclipse.persistence.internal.helper.ReadLockManager;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ConcurrencyManagerFastPathTest {
+
+    @After
+    public void tearDown() {
+        ConcurrencyUtil.SINGLETON.setUseUncontendedLockFastPath(true);
+    }
+
+    @Test
+    public void uncontendedAcquireAndRelease() {
+        ConcurrencyManager manager = new ConcurrencyManager();
+        manager.acquire();
+        manager.acquire();
+        assertSame(Thread.currentThread(), manager.getActiveThread());
+        assertEquals(2, manager.getDepth());
+        manager.release();
+        manager.release();
+        assertNull(manager.getActiveThread());
+        assertFalse(manager.isAcquired());
+    }
+
+    @Test
+    public void uncontendedReadLockIsNotTracked() {
+        ConcurrencyManager manager = new TrackingConcurrencyManager();
+        manager.acquireReadLock();
+        assertEquals(1, manager.getNumberOfReaders());
+        assertFalse(isTracked(manager));
+        manager.releaseReadLock();
+        assertEquals(0, manager.getNumberOfReaders());
+    }
+
+    @Test
+    public void readLockIsTrackedWithoutFastPath() {
+        ConcurrencyUtil.SINGLETON.setUseUncontendedLockFastPath(false);
+        ConcurrencyManager manager = new TrackingConcurrencyManager();
+        manager.acquireReadLock();
+        assertTrue(isTracked(manager));
+        // Mixed tracked and untracked read locks are released consistently.
+        ConcurrencyUtil.SINGLETON.setUseUncontendedLockFastPath(true);
+        manager.acquireReadLock();
+        assertEquals(2, manager.getNumberOfReaders());
+        manager.releaseReadLock();
+        manager.releaseReadLock();
+        assertEquals(0, manager.getNumberOfReaders());
+        assertFalse(isTracked(manager));
+    }
+
+    @Test
+    public void untrackedReadLocksAreReleasedByTheirThread() throws InterruptedException {
+        ConcurrencyManager manager = new TrackingConcurrencyManager();
+        CountDownLatch acquired = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread reader = new Thread(() -> {
+            manager.acquireReadLock();
+            acquired.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            manager.releaseReadLock();
+        });
+        reader.start();
+        assertTrue(acquired.await(10, TimeUnit.SECONDS));
+        ConcurrencyUtil.SINGLETON.setUseUncontendedLockFastPath(false);
+        manager.acquireReadLock();
+        assertTrue(isTracked(manager));
+        // The tracked read lock of this thread is released, not the untracked one of the other thread.
+        manager.releaseReadLock();
+        assertFalse(isTracked(manager));
+        assertEquals(1, manager.getNumberOfReaders());
+        release.countDown();
+        reader.join();
+        assertEquals(0, manager.getNumberOfReaders());
+    }
+
+    @Test
+    public void writerWaitsForUntrackedReader() throws InterruptedException {
+        ConcurrencyManager manager = new ConcurrencyManager();
+        manager.acquireReadLock();
+        CountDownLatch acquired = new CountDownLatch(1);
+        Thread writer = new Thread(() -> {
+            manager.acquire();
+            acquired.countDown();
+            manager.release();
+        });
+        writer.start();
+        assertFalse(acquired.await(200, TimeUnit.MILLISECONDS));
+        manager.releaseReadLock();
+        assertTrue(acquired.await(10, TimeUnit.SECONDS));
+        writer.join();
+    }
+
+    @Test
+    public void readLocksBeyondCapacityAreTracked() {
+        ConcurrencyManager[] managers = new ConcurrencyManager[17];
+        for (int index = 0; index < managers.length; index++) {
+            managers[index] = new TrackingConcurrencyManager();
+            managers[index].acquireReadLock();
+        }
+        for (int index = 0; index < managers.length - 1; index++) {
+            assertFalse(isTracked(managers[index]));
+        }
+        assertTrue(isTracked(managers[managers.length - 1]));
+        for (ConcurrencyManager manager : managers) {
+            manager.releaseReadLock();
+            assertEquals(0, manager.getNumberOfReaders());
+        }
+        assertFalse(isTracked(managers[managers.length - 1]));
+    }
+
+    private static boolean isTracked(ConcurrencyManager manager) {
+        return TrackingConcurrencyManager.isTracked(manager);
+    }
+
+    private static final class TrackingConcurrencyManager extends ConcurrencyManager {
+        static boolean isTracked(ConcurrencyManager manager) {
+            ReadLockManager readLockManager = getReadLockManager(Thread.currentThread());
+            return (readLockManager != null) && readLockManager.getReadLocks().contains(manager);
+        }
+    }
+}
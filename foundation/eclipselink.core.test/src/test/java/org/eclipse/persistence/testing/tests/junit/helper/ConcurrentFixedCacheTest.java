@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.helper;
+
+import org.eclipse.persistence.internal.helper.ConcurrentFixedCache;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ConcurrentFixedCacheTest {
+
+    /**
+     * Look up the key as a parse cache user would, putting it if missing.
+     */
+    private static void lookup(ConcurrentFixedCache<String, String> cache, String key) {
+        if (cache.get(key) == null) {
+            cache.put(key, key, 1000);
+        }
+    }
+
+    @Test
+    public void frequentKeysSurviveOneTimeKeys() {
+        ConcurrentFixedCache<String, String> cache = new ConcurrentFixedCache<>(10);
+        for (int repeat = 0; repeat < 5; repeat++) {
+            for (int index = 0; index < 5; index++) {
+                lookup(cache, "hot" + index);
+            }
+        }
+        // The hot keys are used every 25 one-time keys, which would evict them from a least recently used cache of 10.
+        long hits = cache.getHitCount();
+        for (int index = 0; index < 1000; index++) {
+            lookup(cache, "cold" + index);
+            if ((index % 5) == 0) {
+                lookup(cache, "hot" + ((index / 5) % 5));
+            }
+        }
+        assertEquals(hits + 200, cache.getHitCount());
+        assertTrue(cache.getCache().size() <= 10);
+        for (int index = 0; index < 5; index++) {
+            assertNotNull("hot" + index, cache.getCache().get("hot" + index));
+        }
+        assertTrue(cache.getEvictionCount() >= 995);
+    }
+
+    @Test
+    public void evictionKeepsTheMaxSize() {
+        ConcurrentFixedCache<String, String> cache = new ConcurrentFixedCache<>(100);
+        for (int index = 0; index < 100000; index++) {
+            lookup(cache, "key" + index);
+            if ((index % 7) == 0) {
+                cache.remove("key" + (index / 2));
+                lookup(cache, "key" + (index / 2));
+            }
+            lookup(cache, "hot" + (index % 10));
+        }
+        assertEquals(100, cache.getCache().size());
+        for (int index = 0; index < 10; index++) {
+            assertNotNull("hot" + index, cache.getCache().get("hot" + index));
+        }
+    }
+
+    @Test
+    public void removedKeysDoNotAccumulate() {
+        KeyCountingCache cache = new KeyCountingCache(10);
+        for (int index = 0; index < 5; index++) {
+            lookup(cache, "key" + index);
+        }
+        // The cache is not full, so no eviction drops the keys removed from the key queue.
+        for (int index = 0; index < 1000; index++) {
+            cache.remove("key" + (index % 5));
+            lookup(cache, "key" + (index % 5));
+        }
+        assertEquals(5, cache.getCache().size());
+        assertTrue(cache.getNumberOfQueuedKeys() <= 5 + 10);
+    }
+
+    @Test
+    public void statistics() {
+        ConcurrentFixedCache<String, String> cache = new ConcurrentFixedCache<>(10);
+        lookup(cache, "a");
+        lookup(cache, "a");
+        lookup(cache, "a");
+        lookup(cache, "b");
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(0, cache.getEvictionCount());
+        assertEquals(2000, cache.getEstimatedTimeSaved());
+        cache.resetStatistics();
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getEstimatedTimeSaved());
+    }
+
+    @Test
+    public void zeroSizeDisablesCaching() {
+        ConcurrentFixedCache<String, String> cache = new ConcurrentFixedCache<>(0);
+        lookup(cache, "a");
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.getCache().size());
+    }
+
+    private static final class KeyCountingCache extends ConcurrentFixedCache<String, String> {
+        KeyCountingCache(int maxSize) {
+            super(maxSize);
+        }
+
+        int getNumberOfQueuedKeys() {
+            return this.keys.size();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.identitymaps.ConcurrentCacheIdentityMap;
+import org.junit.Test;
+
+public class ConcurrentCacheIdentityMapTest {
+
+    @Test
+    public void putAndGet() {
+        ConcurrentCacheIdentityMap map = new ConcurrentCacheIdentityMap(10, null, null, false);
+        Object object = new Object();
+        CacheKey cacheKey = map.put(1, object, null, 0);
+        assertSame(cacheKey, map.getCacheKey(1, false));
+        assertSame(object, map.get(1));
+        assertSame(object, map.remove(1, object));
+        assertNull(map.getCacheKey(1, false));
+        assertEquals(0, map.getSize());
+    }
+
+    @Test
+    public void evictsBeyondMaxSize() {
+        ConcurrentCacheIdentityMap map = new ConcurrentCacheIdentityMap(10, null, null, false);
+        for (int index = 0; index < 100; index++) {
+            map.put(index, index, null, 0);
+        }
+        assertEquals(10, map.getSize());
+        // The most recently put objects are kept.
+        assertNotNull(map.getCacheKey(99, false));
+        assertNull(map.getCacheKey(0, false));
+    }
+
+    @Test
+    public void keepsRecentlyReadObjects() {
+        ConcurrentCacheIdentityMap map = new ConcurrentCacheIdentityMap(10, null, null, false);
+        for (int index = 0; index < 10; index++) {
+            map.put(index, index, null, 0);
+        }
+        // Read the oldest object often enough to drain the read buffer.
+        for (int count = 0; count < 32; count++) {
+            map.getCacheKey(0, false);
+        }
+        map.put(10, 10, null, 0);
+        assertEquals(10, map.getSize());
+        assertNotNull(map.getCacheKey(0, false));
+        assertNull(map.getCacheKey(1, false));
+    }
+
+    @Test
+    public void doesNotEvictLockedObjects() throws InterruptedException {
+        ConcurrentCacheIdentityMap map = new ConcurrentCacheIdentityMap(2, null, null, false);
+        CacheKey locked = map.put(0, 0, null, 0);
+        CountDownLatch acquired = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+        Thread owner = new Thread(() -> {
+            locked.acquire();
+            acquired.countDown();
+            try {
+                evicted.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            } finally {
+                locked.release();
+            }
+        });
+        owner.start();
+        acquired.await();
+        try {
+            map.put(1, 1, null, 0);
+            map.put(2, 2, null, 0);
+            assertEquals(2, map.getSize());
+            assertSame(locked, map.getCacheKey(0, false));
+            assertNull(map.getCacheKey(1, false));
+        } finally {
+            evicted.countDown();
+            join(owner);
+        }
+    }
+
+    @Test
+    public void concurrentReadsAndPuts() {
+        final ConcurrentCacheIdentityMap map = new ConcurrentCacheIdentityMap(100, null, null, false);
+        List<Thread> threads = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+            final int offset = thread;
+            threads.add(new Thread(() -> {
+                for (int index = 0; index < 10000; index++) {
+                    Integer key = (index * 8 + offset) % 1000;
+                    if (map.getCacheKey(key, false) == null) {
+                        map.put(key, key, null, 0);
+                    }
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        threads.forEach(ConcurrentCacheIdentityMapTest::join);
+        map.updateMaxSize(100);
+        assertEquals(100, map.getSize());
+    }
+
+    private static void join(Thread thread) {
+        try {
+            thread.join();
+        } catch (InterruptedException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.mapping;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.persistence.internal.databaseaccess.BatchFetchArrayValues;
+import org.eclipse.persistence.internal.databaseaccess.BindCallCustomParameter;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.platform.database.DatabasePlatform;
+import org.eclipse.persistence.platform.database.H2Platform;
+import org.eclipse.persistence.platform.database.PostgreSQLPlatform;
+import org.eclipse.persistence.queries.SQLCall;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.failover.FailoverBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests that the bound foreign key values of IN batch fetching are bound as an array, or padded to a few sizes.
+ */
+public class BatchFetchINValuesTest extends FailoverBase<DatabaseSession> {
+
+    @Override
+    protected DatabaseSession createSession(Project p) {
+        return p.createDatabaseSession();
+    }
+
+    private static List<Object> values(int size) {
+        List<Object> values = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            values.add(index);
+        }
+        return values;
+    }
+
+    private static <P extends DatabasePlatform> P platform(P platform, boolean bind) {
+        platform.setUsesArrayBindingForBatchFetch(true);
+        platform.setShouldBindAllParameters(bind);
+        return platform;
+    }
+
+    @Test
+    public void disabledTest() {
+        DatabasePlatform platform = new PostgreSQLPlatform();
+        platform.setShouldBindAllParameters(true);
+        List<Object> values = values(5);
+        Assert.assertSame(values, platform.buildBatchFetchINValues(values, 500));
+    }
+
+    @Test
+    public void paddedValuesTest() {
+        DatabasePlatform platform = platform(new DatabasePlatform(), true);
+        List<Object> padded = platform.buildBatchFetchINValues(values(5), 500);
+        Assert.assertEquals(Arrays.asList(0, 1, 2, 3, 4, 4, 4, 4), padded);
+        Assert.assertEquals(500, platform.buildBatchFetchINValues(values(300), 500).size());
+        Assert.assertEquals(600, platform.buildBatchFetchINValues(values(600), 500).size());
+        List<Object> values = values(16);
+        Assert.assertSame(values, platform.buildBatchFetchINValues(values, 500));
+        Assert.assertEquals(1, platform.buildBatchFetchINValues(values(1), 500).size());
+    }
+
+    @Test
+    public void arrayValuesTest() {
+        List<Object> values = platform(new PostgreSQLPlatform(), true).buildBatchFetchINValues(values(5), 500);
+        Assert.assertTrue(values instanceof BatchFetchArrayValues);
+        Assert.assertEquals("int4", ((BatchFetchArrayValues)values).getElementTypeName());
+        Assert.assertEquals(5, values.size());
+        values = platform(new H2Platform(), true).buildBatchFetchINValues(values(5), 500);
+        Assert.assertEquals("INTEGER", ((BatchFetchArrayValues)values).getElementTypeName());
+    }
+
+    @Test
+    public void unboundValuesNotPaddedTest() {
+        List<Object> values = values(5);
+        Assert.assertSame(values, platform(new PostgreSQLPlatform(), false).buildBatchFetchINValues(values, 500));
+        Assert.assertSame(values, platform(new DatabasePlatform(), false).buildBatchFetchINValues(values, 500));
+        // The binding of the query overrides the platform's.
+        Assert.assertSame(values, platform(new DatabasePlatform(), true).buildBatchFetchINValues(values, 500, false));
+        Assert.assertEquals(8, platform(new DatabasePlatform(), false).buildBatchFetchINValues(values, 500, true).size());
+    }
+
+    @Test
+    public void compositeOrMixedValuesPaddedTest() {
+        DatabasePlatform platform = platform(new PostgreSQLPlatform(), true);
+        List<Object> values = new ArrayList<>();
+        values.add(Arrays.asList(1, "A"));
+        values.add(Arrays.asList(2, "B"));
+        values.add(Arrays.asList(3, "C"));
+        List<Object> padded = platform.buildBatchFetchINValues(values, 500);
+        Assert.assertFalse(padded instanceof BatchFetchArrayValues);
+        Assert.assertEquals(4, padded.size());
+        padded = platform.buildBatchFetchINValues(new ArrayList<>(Arrays.asList(1, 2L, 3)), 500);
+        Assert.assertFalse(padded instanceof BatchFetchArrayValues);
+        Assert.assertEquals(4, padded.size());
+    }
+
+    @Test
+    public void arrayParameterSQLTest() {
+        DatabasePlatform platform = platform(new PostgreSQLPlatform(), true);
+        SQLCall call = new SQLCall();
+        call.setQueryString("SELECT ID FROM ADDRESS WHERE (ID IN ?)");
+        call.getParameters().add(platform.buildBatchFetchINValues(values(3), 500));
+        call.translateQueryStringForParameterizedIN(new DatabaseRecord(), new DatabaseRecord(), (AbstractSession)getEmulatedSession());
+        Assert.assertEquals("SELECT ID FROM ADDRESS WHERE (ID IN (SELECT * FROM UNNEST(?)))", call.getSQLString());
+        Assert.assertEquals(1, call.getParameters().size());
+        Assert.assertTrue(call.getParameters().get(0) instanceof BindCallCustomParameter);
+
+        call = new SQLCall();
+        call.setQueryString("SELECT ID FROM ADDRESS WHERE (ID IN ?)");
+        call.getParameters().add(platform.buildBatchFetchINValues(values(300), 500));
+        call.translateQueryStringForParameterizedIN(new DatabaseRecord(), new DatabaseRecord(), (AbstractSession)getEmulatedSession());
+        Assert.assertEquals("SELECT ID FROM ADDRESS WHERE (ID IN (SELECT * FROM UNNEST(?)))", call.getSQLString());
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.profiler;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.queries.ReadObjectQuery;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.tests.junit.failover.Address;
+import org.eclipse.persistence.testing.tests.junit.failover.FailoverBase;
+import org.eclipse.persistence.tools.profiler.FlightRecorderProfiler;
+import org.eclipse.persistence.tools.profiler.jfr.CacheAccessEvent;
+import org.eclipse.persistence.tools.profiler.jfr.FlightRecorderEvents;
+import org.eclipse.persistence.tools.profiler.jfr.LockWaitEvent;
+import org.eclipse.persistence.tools.profiler.jfr.ProfilerOperationEvent;
+import org.eclipse.persistence.tools.profiler.jfr.SqlExecutionEvent;
+import org.eclipse.persistence.tools.profiler.jfr.UnitOfWorkCommitEvent;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the SQL, cache, lock, commit and profiler events are recorded by the flight recorder.
+ */
+public class FlightRecorderEventsTest extends FailoverBase<DatabaseSession> {
+
+    private static final String ADDRESS_SQL = "SELECT ADDRESS_ID, CITY, COUNTRY, P_CODE, PROVINCE, STREET FROM ADDRESS";
+
+    @Override
+    protected DatabaseSession createSession(Project p) {
+        DatabaseSession session = p.createDatabaseSession();
+        session.setProfiler(new FlightRecorderProfiler());
+        return session;
+    }
+
+    @Before
+    public void checkAvailable() {
+        Assume.assumeTrue(FlightRecorderEvents.isAvailable());
+    }
+
+    private List<RecordedEvent> record(String eventName, Runnable work) throws IOException {
+        Path file = Files.createTempFile("eclipselink", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withThreshold(Duration.ZERO);
+            recording.start();
+            work.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(eventName))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void notRecordedEventsNotBegunTest() {
+        Assert.assertNull(FlightRecorderEvents.beginSqlExecution());
+        Assert.assertNull(FlightRecorderEvents.beginLockWait(Thread.currentThread()));
+        Assert.assertNull(FlightRecorderEvents.beginCommitPhase());
+        Assert.assertNull(FlightRecorderEvents.beginCacheCoordination());
+        Assert.assertNull(FlightRecorderEvents.beginProfilerOperation());
+    }
+
+    @Test
+    public void sqlExecutionTest() throws IOException {
+        List<RecordedEvent> events = record(SqlExecutionEvent.NAME, () -> getEmulatedSession().readAllObjects(Address.class));
+        Assert.assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        Assert.assertEquals(ADDRESS_SQL, event.getString("sql"));
+        Assert.assertEquals(3, event.getLong("rows"));
+        Assert.assertFalse(event.getDuration("fetchTime").isNegative());
+    }
+
+    @Test
+    public void cacheAccessTest() throws IOException {
+        getEmulatedSession().readAllObjects(Address.class);
+        List<RecordedEvent> events = record(CacheAccessEvent.NAME, () -> {
+            ReadObjectQuery query = new ReadObjectQuery(Address.class);
+            query.setSelectionId(new BigDecimal(51));
+            Assert.assertNotNull(getEmulatedSession().executeQuery(query));
+        });
+        Assert.assertEquals(1, events.size());
+        Assert.assertTrue(events.get(0).getBoolean("hit"));
+        Assert.assertEquals(Address.class.getName(), events.get(0).getString("entityClass"));
+    }
+
+    @Test
+    public void commitPhasesTest() throws IOException {
+        Address address = (Address)getEmulatedSession().readAllObjects(Address.class).get(0);
+        List<RecordedEvent> events = record(UnitOfWorkCommitEvent.NAME, () -> {
+            UnitOfWork uow = getEmulatedSession().acquireUnitOfWork();
+            Address clone = (Address)uow.registerObject(address);
+            clone.city = "Ottawa";
+            uow.commit();
+        });
+        List<String> phases = events.stream().map(event -> event.getString("phase")).collect(Collectors.toList());
+        Assert.assertEquals(List.of(UnitOfWorkCommitEvent.CALCULATE_CHANGES, UnitOfWorkCommitEvent.COMMIT_TO_DATABASE,
+                UnitOfWorkCommitEvent.MERGE_CHANGES), phases);
+    }
+
+    @Test
+    public void lockWaitTest() throws IOException {
+        CacheKey lock = new CacheKey(new BigDecimal(51));
+        Thread[] owner = new Thread[1];
+        List<RecordedEvent> events = record(LockWaitEvent.NAME, () -> {
+            lock.acquire();
+            owner[0] = Thread.currentThread();
+            Thread waiter = new Thread(() -> {
+                lock.acquire();
+                lock.release();
+            });
+            waiter.start();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException exception) {
+                throw new RuntimeException(exception);
+            } finally {
+                lock.release();
+            }
+            try {
+                waiter.join();
+            } catch (InterruptedException exception) {
+                throw new RuntimeException(exception);
+            }
+        });
+        Assert.assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        Assert.assertEquals(LockWaitEvent.WRITE, event.getString("lockType"));
+        Assert.assertEquals(owner[0].getName(), event.getThread("ownerThread").getJavaName());
+        Assert.assertTrue(event.getDuration().toMillis() >= 40);
+    }
+
+    @Test
+    public void profilerOperationTest() throws IOException {
+        List<RecordedEvent> events = record(ProfilerOperationEvent.NAME, () -> getEmulatedSession().readAllObjects(Address.class));
+        List<String> operations = events.stream().map(event -> event.getString("operation")).collect(Collectors.toList());
+        Assert.assertTrue(operations.toString(), operations.contains("ReadAllQuery"));
+        Assert.assertTrue(operations.toString(), operations.contains(SessionProfiler.ObjectBuilding));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.profiler;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.services.mbean.MBeanRuntimeServices;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.testing.tests.junit.failover.Address;
+import org.eclipse.persistence.testing.tests.junit.failover.FailoverBase;
+import org.eclipse.persistence.tools.profiler.LatencyProfiler;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests that the latency profiler records the percentiles of the timers of the session and of its queries.
+ */
+public class LatencyProfilerTest extends FailoverBase<DatabaseSession> {
+
+    private LatencyProfiler profiler;
+
+    @Override
+    protected DatabaseSession createSession(Project p) {
+        DatabaseSession session = p.createDatabaseSession();
+        this.profiler = new LatencyProfiler();
+        session.setProfiler(this.profiler);
+        return session;
+    }
+
+    private void readAddresses(int times) {
+        for (int index = 0; index < times; index++) {
+            ReadAllQuery query = new ReadAllQuery(Address.class);
+            query.setName("findAll");
+            Assert.assertEquals(3, ((List<?>)getEmulatedSession().executeQuery(query)).size());
+        }
+    }
+
+    @Test
+    public void timersRecordedTest() {
+        readAddresses(2);
+        Map<String, LatencyProfiler.Summary> totals = this.profiler.getTotals();
+        String queryName = "Timer:ReadAllQuery";
+        Assert.assertEquals(2, totals.get(queryName).getCount());
+        String monitorName = "Timer:ReadAllQuery:" + Address.class.getName() + ":findAll";
+        LatencyProfiler.Summary query = totals.get(monitorName);
+        Assert.assertEquals(2, query.getCount());
+        Assert.assertTrue(query.getMedian() <= query.getPercentile99());
+        Assert.assertTrue(query.getPercentile99() <= query.getMax());
+        Assert.assertEquals(2, totals.get(SessionProfiler.ObjectBuilding).getCount());
+        Assert.assertEquals(2, totals.get(monitorName + ":ObjectBuilding").getCount());
+        Map<String, Long> counters = this.profiler.getCounters();
+        Assert.assertEquals(Long.valueOf(2), counters.get("Counter:ReadAllQuery:" + Address.class.getName() + ":findAll"));
+    }
+
+    @Test
+    public void snapshotIntervalTest() {
+        readAddresses(2);
+        Map<String, LatencyProfiler.Summary> snapshot = this.profiler.snapshot();
+        Assert.assertEquals(2, snapshot.get(SessionProfiler.ObjectBuilding).getCount());
+        readAddresses(1);
+        snapshot = this.profiler.snapshot();
+        Assert.assertEquals(1, snapshot.get(SessionProfiler.ObjectBuilding).getCount());
+        Assert.assertTrue(this.profiler.snapshot().isEmpty());
+        Assert.assertEquals(3, this.profiler.getTotals().get(SessionProfiler.ObjectBuilding).getCount());
+        this.profiler.reset();
+        Assert.assertTrue(this.profiler.getTotals().isEmpty());
+    }
+
+    @Test
+    public void runtimeServicesTest() {
+        MBeanRuntimeServices services = new MBeanRuntimeServices(getEmulatedSession());
+        readAddresses(1);
+        Assert.assertEquals(0, services.getLatencyPercentiles().length);
+        this.profiler.snapshot();
+        Object[][] latencies = services.getLatencyPercentiles();
+        Assert.assertTrue(latencies.length > 0);
+        Assert.assertEquals(7, latencies[0].length);
+        Assert.assertEquals(latencies.length, services.getTotalLatencyPercentiles().length);
+        services.resetLatencyPercentiles();
+        Assert.assertEquals(0, services.getTotalLatencyPercentiles().length);
+    }
+}
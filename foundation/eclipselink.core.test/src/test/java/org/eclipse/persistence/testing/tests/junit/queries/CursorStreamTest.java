@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.queries;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.eclipse.persistence.internal.queries.CursorSpliterator;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.queries.Cursor;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.failover.Address;
+import org.eclipse.persistence.testing.tests.junit.failover.FailoverBase;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that a stream of cursor results builds each object when it is consumed,
+ * releases the consumed objects it registered, and closes its cursor.
+ */
+public class CursorStreamTest extends FailoverBase<DatabaseSession> {
+
+    private UnitOfWorkImpl unitOfWork;
+
+    private Cursor cursor;
+
+    private Set<Object> managedObjects;
+
+    @Override
+    protected DatabaseSession createSession(Project p) {
+        return p.createDatabaseSession();
+    }
+
+    @Before
+    public void acquireUnitOfWork() {
+        this.unitOfWork = (UnitOfWorkImpl)getEmulatedSession().acquireUnitOfWork();
+    }
+
+    private void openCursor() {
+        this.managedObjects = CursorSpliterator.getManagedObjects(this.unitOfWork);
+        ReadAllQuery query = new ReadAllQuery(Address.class);
+        query.useCursoredStream(1, 1);
+        this.cursor = (Cursor)this.unitOfWork.executeQuery(query);
+    }
+
+    @After
+    public void releaseUnitOfWork() {
+        this.unitOfWork.release();
+    }
+
+    @Test
+    public void objectsBuiltWhenConsumedTest() {
+        openCursor();
+        Iterator<Object> results = CursorSpliterator.stream(this.cursor, 0, this.managedObjects).iterator();
+        Object first = results.next();
+        Assert.assertTrue(this.unitOfWork.isObjectRegistered(first));
+        Assert.assertEquals(1, this.unitOfWork.getCloneMapping().size());
+        results.next();
+        results.next();
+        Assert.assertEquals(3, this.unitOfWork.getCloneMapping().size());
+        Assert.assertFalse(this.cursor.isClosed());
+        Assert.assertFalse(results.hasNext());
+        Assert.assertTrue(this.cursor.isClosed());
+    }
+
+    @Test
+    public void objectsReleasedAfterIntervalTest() {
+        openCursor();
+        Iterator<Object> results = CursorSpliterator.stream(this.cursor, 2, this.managedObjects).iterator();
+        Object first = results.next();
+        Object second = results.next();
+        Object third = results.next();
+        Assert.assertFalse(this.unitOfWork.isObjectRegistered(first));
+        Assert.assertFalse(this.unitOfWork.isObjectRegistered(second));
+        Assert.assertTrue(this.unitOfWork.isObjectRegistered(third));
+        Assert.assertFalse(results.hasNext());
+        Assert.assertTrue(this.cursor.isClosed());
+    }
+
+    @Test
+    public void objectsManagedBeforeStreamNotReleasedTest() {
+        Object managed = this.unitOfWork.readObject(Address.class);
+        Assert.assertNotNull(managed);
+        openCursor();
+        Assert.assertTrue(this.managedObjects.contains(managed));
+        Iterator<Object> results = CursorSpliterator.stream(this.cursor, 1, this.managedObjects).iterator();
+        Object first = results.next();
+        Object second = results.next();
+        results.next();
+        Assert.assertSame(managed, first);
+        Assert.assertTrue(this.unitOfWork.isObjectRegistered(first));
+        Assert.assertFalse(this.unitOfWork.isObjectRegistered(second));
+        Assert.assertFalse(results.hasNext());
+    }
+
+    @Test
+    public void cursorClosedWithStreamTest() {
+        openCursor();
+        try (Stream<Object> results = CursorSpliterator.stream(this.cursor, 0, this.managedObjects)) {
+            Assert.assertTrue(results.findFirst().isPresent());
+            Assert.assertFalse(this.cursor.isClosed());
+        }
+        Assert.assertTrue(this.cursor.isClosed());
+    }
+}
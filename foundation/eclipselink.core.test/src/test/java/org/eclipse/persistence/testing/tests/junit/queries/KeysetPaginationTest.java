@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.queries;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.eclipse.persistence.exceptions.QueryException;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.failover.Address;
+import org.eclipse.persistence.testing.tests.junit.failover.FailoverBase;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedConnection;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests that keyset pagination orders by a unique key and selects the page after an object with a seek predicate.
+ */
+public class KeysetPaginationTest extends FailoverBase<DatabaseSession> {
+
+    private static final String ADDRESS_SQL = "SELECT ADDRESS_ID, CITY, COUNTRY, P_CODE, PROVINCE, STREET FROM ADDRESS";
+
+    @Override
+    protected DatabaseSession createSession(Project p) {
+        p.getLogin().dontBindAllParameters();
+        return p.createDatabaseSession();
+    }
+
+    private void putRows(String sql) {
+        EmulatedConnection connection = (EmulatedConnection)((DatabaseSessionImpl)getEmulatedSession()).getAccessor().getConnection();
+        connection.putRows(sql, connection.getRows(ADDRESS_SQL));
+    }
+
+    private static Address address(int id, String city) {
+        Address address = new Address();
+        address.id = new BigDecimal(id);
+        address.city = city;
+        return address;
+    }
+
+    @Test
+    public void firstPageOrdersByPrimaryKeyTest() {
+        ReadAllQuery query = new ReadAllQuery(Address.class);
+        query.addAscendingOrdering("city");
+        query.setUsesKeysetPagination(true);
+        putRows(ADDRESS_SQL + " ORDER BY CITY ASC, ADDRESS_ID");
+        Assert.assertEquals(3, ((List<?>)getEmulatedSession().executeQuery(query)).size());
+        Assert.assertNull(query.getKeysetExpression());
+        // The primary key is only appended to the SQL, not to the order bys of the query.
+        Assert.assertEquals(1, query.getOrderByExpressions().size());
+
+        // The order by already ending with the primary key is unique.
+        query = new ReadAllQuery(Address.class);
+        query.addDescendingOrdering("id");
+        query.setUsesKeysetPagination(true);
+        putRows(ADDRESS_SQL + " ORDER BY ADDRESS_ID DESC");
+        Assert.assertEquals(3, ((List<?>)getEmulatedSession().executeQuery(query)).size());
+    }
+
+    @Test
+    public void nextPageSeekPredicateTest() {
+        ReadAllQuery query = new ReadAllQuery(Address.class);
+        query.setSelectionCriteria(query.getExpressionBuilder().get("country").equal("Canada"));
+        query.addAscendingOrdering("city");
+        query.setKeysetAfter(address(52, "Metcalfe"));
+        putRows(ADDRESS_SQL + " WHERE ((COUNTRY = 'Canada') AND ((CITY > 'Metcalfe') OR ((CITY = 'Metcalfe') AND (ADDRESS_ID > 52)))) ORDER BY CITY ASC, ADDRESS_ID");
+        Assert.assertEquals(3, ((List<?>)getEmulatedSession().executeQuery(query)).size());
+
+        // The prepared query seeks after the key of the new object.
+        query.setKeysetAfter(address(53, "Montreal"));
+        putRows(ADDRESS_SQL + " WHERE ((COUNTRY = 'Canada') AND ((CITY > 'Montreal') OR ((CITY = 'Montreal') AND (ADDRESS_ID > 53)))) ORDER BY CITY ASC, ADDRESS_ID");
+        Assert.assertEquals(3, ((List<?>)getEmulatedSession().executeQuery(query)).size());
+
+        // Back to the first page.
+        query.setKeysetAfter(null);
+        putRows(ADDRESS_SQL + " WHERE (COUNTRY = 'Canada') ORDER BY CITY ASC, ADDRESS_ID");
+        Assert.assertEquals(3, ((List<?>)getEmulatedSession().executeQuery(query)).size());
+    }
+
+    @Test
+    public void descendingSeekPredicateTest() {
+        ReadAllQuery query = new ReadAllQuery(Address.class);
+        query.addDescendingOrdering("city");
+        query.setKeysetAfter(address(52, "Metcalfe"));
+        putRows(ADDRESS_SQL + " WHERE ((CITY < 'Metcalfe') OR ((CITY = 'Metcalfe') AND (ADDRESS_ID > 52))) ORDER BY CITY DESC, ADDRESS_ID");
+        Assert.assertEquals(3, ((List<?>)getEmulatedSession().executeQuery(query)).size());
+    }
+
+    @Test
+    public void nullOrderingTest() {
+        ReadAllQuery query = new ReadAllQuery(Address.class);
+        query.addOrdering(query.getExpressionBuilder().get("city").descending().nullsLast());
+        query.setKeysetAfter(address(52, "Metcalfe"));
+        try {
+            getEmulatedSession().executeQuery(query);
+            Assert.fail("Keyset pagination should not be possible with null ordering, as the seek predicate does not select null keys.");
+        } catch (QueryException expected) {
+            Assert.assertEquals(QueryException.INVALID_EXPRESSION, expected.getErrorCode());
+        }
+    }
+
+    @Test
+    public void unsupportedOrderByTest() {
+        ReadAllQuery query = new ReadAllQuery(Address.class);
+        query.addOrdering(query.getExpressionBuilder().get("city").toUpperCase());
+        query.setKeysetAfter(address(52, "Metcalfe"));
+        try {
+            getEmulatedSession().executeQuery(query);
+            Assert.fail("Keyset pagination should not be possible on a function of an attribute.");
+        } catch (QueryException expected) {
+            Assert.assertEquals(QueryException.INVALID_EXPRESSION, expected.getErrorCode());
+        }
+    }
+}
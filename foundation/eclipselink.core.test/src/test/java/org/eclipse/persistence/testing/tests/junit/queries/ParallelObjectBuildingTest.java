@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.queries;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Vector;
+
+import org.eclipse.persistence.annotations.BatchFetchType;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.exceptions.QueryException;
+import org.eclipse.persistence.indirection.ValueHolder;
+import org.eclipse.persistence.indirection.ValueHolderInterface;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.mappings.DirectToFieldMapping;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.tests.junit.failover.Address;
+import org.eclipse.persistence.testing.tests.junit.failover.FailoverBase;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedConnection;
+import org.eclipse.persistence.tools.profiler.PerformanceMonitor;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests that the objects of large read all results are built in chunks in parallel,
+ * in the order of the rows, and through the identity map.
+ */
+public class ParallelObjectBuildingTest extends FailoverBase<DatabaseSession> {
+
+    private static final String ADDRESS_SQL = "SELECT ADDRESS_ID, CITY, COUNTRY, P_CODE, PROVINCE, STREET FROM ADDRESS";
+
+    private static final int ROWS = 1000;
+
+    private static final int DISTINCT_ROWS = 500;
+
+    public static class Resident {
+        public BigDecimal id;
+        public String name;
+    }
+
+    /**
+     * A resident whose address is batch fetched, only mapped in the child descriptor.
+     */
+    public static class Tenant extends Resident {
+        public ValueHolderInterface<Address> address = new ValueHolder<>();
+    }
+
+    private static ClassDescriptor residentDescriptor() {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Resident.class);
+        descriptor.addTableName("RESIDENT");
+        descriptor.addPrimaryKeyFieldName("RESIDENT.ID");
+        descriptor.getInheritancePolicy().setClassIndicatorFieldName("RESIDENT.TYPE");
+        descriptor.getInheritancePolicy().addClassIndicator(Resident.class, "R");
+        descriptor.getInheritancePolicy().addClassIndicator(Tenant.class, "T");
+        descriptor.addDirectMapping("id", "RESIDENT.ID");
+        descriptor.addDirectMapping("name", "RESIDENT.NAME");
+        return descriptor;
+    }
+
+    private static ClassDescriptor tenantDescriptor() {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Tenant.class);
+        descriptor.getInheritancePolicy().setParentClass(Resident.class);
+        OneToOneMapping addressMapping = new OneToOneMapping();
+        addressMapping.setAttributeName("address");
+        addressMapping.setReferenceClass(Address.class);
+        addressMapping.addForeignKeyFieldName("RESIDENT.ADDRESS_ID", "ADDRESS.ADDRESS_ID");
+        addressMapping.useBasicIndirection();
+        addressMapping.setBatchFetchType(BatchFetchType.JOIN);
+        descriptor.addMapping(addressMapping);
+        return descriptor;
+    }
+
+    @Override
+    protected DatabaseSession createSession(Project p) {
+        p.addDescriptor(residentDescriptor());
+        p.addDescriptor(tenantDescriptor());
+        DatabaseSession session = p.createDatabaseSession();
+        session.setProfiler(new PerformanceMonitor());
+        return session;
+    }
+
+    /**
+     * Replace the address rows by rows reading each address twice, optionally with a null primary key.
+     */
+    private void putRows(boolean withNullPrimaryKey) {
+        ClassDescriptor descriptor = getEmulatedSession().getDescriptor(Address.class);
+        Vector<DatabaseField> fields = new Vector<>(descriptor.getAllFields());
+        DatabaseField[] fieldsArray = fields.toArray(new DatabaseField[0]);
+        Vector<DatabaseRecord> rows = new Vector<>();
+        for (int index = 0; index < ROWS; index++) {
+            int id = 100 + (index % DISTINCT_ROWS);
+            Object[] values = new Object[fieldsArray.length];
+            for (int column = 0; column < fieldsArray.length; column++) {
+                String name = fieldsArray[column].getName();
+                if (name.equals("ADDRESS_ID")) {
+                    values[column] = ((index == ROWS - 1) && withNullPrimaryKey) ? null : id;
+                } else {
+                    values[column] = name + id;
+                }
+            }
+            rows.add(new ArrayRecord(fields, fieldsArray, values));
+        }
+        EmulatedConnection connection = (EmulatedConnection)((DatabaseSessionImpl)getEmulatedSession()).getAccessor().getConnection();
+        connection.putRows(ADDRESS_SQL, rows);
+    }
+
+    private void putResidentRows() {
+        Vector<DatabaseField> fields = new Vector<>();
+        for (String name : new String[] {"RESIDENT.ID", "RESIDENT.TYPE", "RESIDENT.NAME", "RESIDENT.ADDRESS_ID"}) {
+            fields.add(new DatabaseField(name));
+        }
+        DatabaseField[] fieldsArray = fields.toArray(new DatabaseField[0]);
+        Vector<DatabaseRecord> rows = new Vector<>();
+        for (int index = 0; index < ROWS; index++) {
+            boolean isTenant = (index % 2) == 0;
+            rows.add(new ArrayRecord(fields, fieldsArray, new Object[] {index, isTenant ? "T" : "R", "NAME" + index, isTenant ? 51 : null}));
+        }
+        EmulatedConnection connection = (EmulatedConnection)((DatabaseSessionImpl)getEmulatedSession()).getAccessor().getConnection();
+        connection.putRows("SELECT ID, TYPE, NAME, ADDRESS_ID FROM RESIDENT", rows);
+    }
+
+    private Object getParallelBuilds() {
+        return ((PerformanceMonitor)getEmulatedSession().getProfiler()).getOperationTimings().get(SessionProfiler.ParallelObjectBuilds);
+    }
+
+    @Test
+    public void orderAndIdentityPreservedTest() {
+        putRows(false);
+        ReadAllQuery query = new ReadAllQuery(Address.class);
+        query.setParallelBuildChunkSize(64);
+        List<?> addresses = (List<?>)getEmulatedSession().executeQuery(query);
+        Assert.assertEquals(ROWS, addresses.size());
+        for (int index = 0; index < ROWS; index++) {
+            Address address = (Address)addresses.get(index);
+            int id = 100 + (index % DISTINCT_ROWS);
+            Assert.assertEquals(new BigDecimal(id), address.id);
+            Assert.assertEquals("CITY" + id, address.city);
+            if (index < DISTINCT_ROWS) {
+                Assert.assertSame(address, addresses.get(index + DISTINCT_ROWS));
+                Assert.assertSame(address, getEmulatedSession().getIdentityMapAccessor().getFromIdentityMap(address));
+            }
+        }
+        Assert.assertEquals(1L, getParallelBuilds());
+    }
+
+    @Test
+    public void descriptorChunkSizeTest() {
+        putRows(false);
+        getEmulatedSession().getDescriptor(Address.class).setParallelBuildChunkSize(100);
+        Assert.assertEquals(ROWS, ((List<?>)getEmulatedSession().executeQuery(new ReadAllQuery(Address.class))).size());
+        Assert.assertEquals(1L, getParallelBuilds());
+
+        // The query's chunk size overrides the descriptor's.
+        ReadAllQuery query = new ReadAllQuery(Address.class);
+        query.setParallelBuildChunkSize(0);
+        Assert.assertEquals(ROWS, ((List<?>)getEmulatedSession().executeQuery(query)).size());
+        // Results smaller than the chunk size are built on the calling thread.
+        query = new ReadAllQuery(Address.class);
+        query.setParallelBuildChunkSize(ROWS);
+        Assert.assertEquals(ROWS, ((List<?>)getEmulatedSession().executeQuery(query)).size());
+        Assert.assertEquals(1L, getParallelBuilds());
+    }
+
+    @Test
+    public void onlyReadOnlyQueriesInUnitOfWorkTest() {
+        putRows(false);
+        getEmulatedSession().getDescriptor(Address.class).setParallelBuildChunkSize(100);
+        UnitOfWork uow = getEmulatedSession().acquireUnitOfWork();
+        Assert.assertEquals(ROWS, uow.readAllObjects(Address.class).size());
+        Assert.assertNull(getParallelBuilds());
+        ReadAllQuery query = new ReadAllQuery(Address.class);
+        query.setIsReadOnly(true);
+        Assert.assertEquals(ROWS, ((List<?>)uow.executeQuery(query)).size());
+        Assert.assertEquals(1L, getParallelBuilds());
+        uow.release();
+    }
+
+    @Test
+    public void batchFetchedQueryNotBuiltInParallelTest() {
+        putRows(false);
+        ReadAllQuery query = new ReadAllQuery(Address.class);
+        query.setParallelBuildChunkSize(64);
+        query.setBatchFetchType(BatchFetchType.IN);
+        Assert.assertEquals(ROWS, ((List<?>)getEmulatedSession().executeQuery(query)).size());
+        Assert.assertNull(getParallelBuilds());
+    }
+
+    @Test
+    public void batchFetchedMappingNotBuiltInParallelTest() {
+        putResidentRows();
+        ReadAllQuery query = new ReadAllQuery(Resident.class);
+        query.setParallelBuildChunkSize(64);
+        List<?> residents = (List<?>)getEmulatedSession().executeQuery(query);
+        Assert.assertEquals(ROWS, residents.size());
+        Assert.assertTrue(residents.get(0) instanceof Tenant);
+        Assert.assertNull(getParallelBuilds());
+    }
+
+    @Test
+    public void chunkExceptionThrownTest() {
+        putRows(true);
+        ReadAllQuery query = new ReadAllQuery(Address.class);
+        query.setParallelBuildChunkSize(64);
+        try {
+            getEmulatedSession().executeQuery(query);
+            Assert.fail("The exception of the chunk building the row with a null primary key should be thrown.");
+        } catch (QueryException expected) {
+            Assert.assertEquals(QueryException.NULL_PRIMARY_KEY_IN_BUILDING_OBJECT, expected.getErrorCode());
+        }
+        Assert.assertNull(getParallelBuilds());
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.queries;
+
+import java.util.List;
+import java.util.Vector;
+
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.queries.QueryResultsCachePolicy;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.tests.junit.failover.Address;
+import org.eclipse.persistence.testing.tests.junit.failover.FailoverBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests that a query results cache tracking its dependencies only invalidates the results affected by a commit.
+ */
+public class QueryResultsCacheDependencyTest extends FailoverBase<DatabaseSession> {
+
+    @Override
+    protected DatabaseSession createSession(Project p) {
+        return p.createDatabaseSession();
+    }
+
+    private ReadAllQuery buildQueryByCity(boolean isDependencyTracked) {
+        ReadAllQuery query = new ReadAllQuery(Address.class);
+        ExpressionBuilder builder = query.getExpressionBuilder();
+        query.setSelectionCriteria(builder.get("city").equal(builder.getParameter("CITY")));
+        query.addArgument("CITY");
+        QueryResultsCachePolicy policy = new QueryResultsCachePolicy();
+        policy.setIsDependencyTracked(isDependencyTracked);
+        query.setQueryResultsCachePolicy(policy);
+        query.checkPrepare((AbstractSession)getEmulatedSession(), new DatabaseRecord());
+        return query;
+    }
+
+    private Address find(List<Address> addresses, int id) {
+        for (Address address : addresses) {
+            if (address.id.intValue() == id) {
+                return address;
+            }
+        }
+        throw new AssertionError("No address " + id);
+    }
+
+    private void cacheResults(ReadAllQuery query, String city, Address... results) {
+        ((AbstractSession)getEmulatedSession()).getIdentityMapAccessorInstance().putQueryResult(query, List.of(city), new Vector<>(List.of(results)));
+    }
+
+    private boolean isCached(ReadAllQuery query, String city) {
+        return ((AbstractSession)getEmulatedSession()).getIdentityMapAccessorInstance().getQueryResult(query, List.of(city), true) != null;
+    }
+
+    private void updateCity(Address address, String city) {
+        UnitOfWork uow = getEmulatedSession().acquireUnitOfWork();
+        Address clone = (Address)uow.registerObject(address);
+        clone.city = city;
+        uow.commit();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Address> readAll() {
+        return getEmulatedSession().readAllObjects(Address.class);
+    }
+
+    @Test
+    public void onlyAffectedResultsInvalidatedTest() {
+        List<Address> addresses = readAll();
+        ReadAllQuery query = buildQueryByCity(true);
+        cacheResults(query, "Calgary", find(addresses, 51));
+        cacheResults(query, "Montreal", find(addresses, 53));
+        cacheResults(query, "Ottawa");
+
+        // Metcalfe is in no results, and now conforms to the Ottawa results only.
+        updateCity(find(addresses, 52), "Ottawa");
+        Assert.assertTrue(isCached(query, "Calgary"));
+        Assert.assertTrue(isCached(query, "Montreal"));
+        Assert.assertFalse(isCached(query, "Ottawa"));
+
+        // Calgary is in the Calgary results.
+        updateCity(find(addresses, 51), "Edmonton");
+        Assert.assertFalse(isCached(query, "Calgary"));
+        Assert.assertTrue(isCached(query, "Montreal"));
+    }
+
+    @Test
+    public void allResultsInvalidatedByDefaultTest() {
+        List<Address> addresses = readAll();
+        ReadAllQuery query = buildQueryByCity(false);
+        cacheResults(query, "Calgary", find(addresses, 51));
+        cacheResults(query, "Montreal", find(addresses, 53));
+
+        updateCity(find(addresses, 52), "Ottawa");
+        Assert.assertFalse(isCached(query, "Calgary"));
+        Assert.assertFalse(isCached(query, "Montreal"));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.queries;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.descriptors.ResultSetPlan;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.failover.Address;
+import org.eclipse.persistence.testing.tests.junit.failover.FailoverBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests that objects built directly from the result set read the mappings by the columns of the selected fields.
+ */
+public class ResultSetPlanTest extends FailoverBase<DatabaseSession> {
+
+    @Override
+    protected DatabaseSession createSession(Project p) {
+        return p.createDatabaseSession();
+    }
+
+    private ClassDescriptor getDescriptor() {
+        return getEmulatedSession().getDescriptor(Address.class);
+    }
+
+    @Test
+    public void readAllFromResultSetTest() {
+        ReadAllQuery query = new ReadAllQuery(Address.class);
+        query.setIsResultSetOptimizedQuery(true);
+        List<?> addresses = (List<?>)getEmulatedSession().executeQuery(query);
+        Assert.assertEquals(3, addresses.size());
+        Address address = (Address)addresses.get(0);
+        Assert.assertEquals(new BigDecimal(51), address.id);
+        Assert.assertEquals("Calgary", address.city);
+        Assert.assertEquals("Canada", address.country);
+        Assert.assertEquals("J5J2B5", address.postalCode);
+        Assert.assertEquals("ALB", address.province);
+        Assert.assertEquals("1111 Moose Rd.", address.street);
+        Assert.assertEquals("Montreal", ((Address)addresses.get(2)).city);
+
+        ResultSetPlan plan = getDescriptor().getObjectBuilder().getResultSetPlan();
+        Assert.assertNotNull(plan);
+        Assert.assertFalse(plan.requiresRow());
+        getEmulatedSession().executeQuery(query);
+        Assert.assertSame(plan, getDescriptor().getObjectBuilder().getResultSetPlan());
+    }
+
+    @Test
+    public void columnsOfSelectedFieldsTest() {
+        List<DatabaseField> fields = new ArrayList<>(getDescriptor().getAllFields());
+        Collections.reverse(fields);
+        DatabaseField[] fieldsArray = fields.toArray(new DatabaseField[0]);
+        ResultSetPlan plan = new ResultSetPlan(getDescriptor(), fieldsArray);
+        Assert.assertTrue(plan.appliesTo(fieldsArray));
+        Assert.assertFalse(plan.appliesTo(fieldsArray.clone()));
+        Assert.assertEquals("id", plan.getPrimaryKeyMapping().getAttributeName());
+        Assert.assertEquals(fieldsArray[plan.getPrimaryKeyColumn() - 1], plan.getPrimaryKeyMapping().getField());
+        DatabaseMapping[] mappings = plan.getDirectMappings();
+        Assert.assertEquals(5, mappings.length);
+        for (int index = 0; index < mappings.length; index++) {
+            Assert.assertEquals(fieldsArray[plan.getDirectIndexes()[index]], mappings[index].getField());
+        }
+        Assert.assertEquals(0, plan.getRowMappings().length);
+    }
+
+    @Test
+    public void unselectedFieldReadFromRowTest() {
+        List<DatabaseField> fields = new ArrayList<>(getDescriptor().getAllFields());
+        DatabaseField street = getDescriptor().getMappingForAttributeName("street").getField();
+        fields.remove(street);
+        ResultSetPlan plan = new ResultSetPlan(getDescriptor(), fields.toArray(new DatabaseField[0]));
+        Assert.assertTrue(plan.requiresRow());
+        Assert.assertNull(plan.getPrimaryKeyMapping());
+        Assert.assertEquals(5, plan.getDirectMappings().length);
+        Assert.assertEquals(1, plan.getRowMappings().length);
+        Assert.assertEquals("street", plan.getRowMappings()[0].getAttributeName());
+    }
+}
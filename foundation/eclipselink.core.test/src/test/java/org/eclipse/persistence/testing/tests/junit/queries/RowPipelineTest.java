@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.queries;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.persistence.annotations.BatchFetchType;
+import org.eclipse.persistence.exceptions.DatabaseException;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.internal.helper.RowPipeline;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.queries.SQLCall;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.tests.junit.failover.Address;
+import org.eclipse.persistence.testing.tests.junit.failover.FailoverBase;
+import org.eclipse.persistence.tools.profiler.PerformanceMonitor;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests that rows are passed from the fetching thread to the building thread through a bounded pipeline.
+ */
+public class RowPipelineTest extends FailoverBase<ServerSession> {
+
+    private static final String ADDRESS_SQL = "SELECT ADDRESS_ID, CITY, COUNTRY, P_CODE, PROVINCE, STREET FROM ADDRESS";
+
+    @Override
+    protected ServerSession createSession(Project p) {
+        ServerSession session = (ServerSession) p.createServerSession();
+        session.setProfiler(new PerformanceMonitor());
+        session.setRowPipelineSize(2);
+        return session;
+    }
+
+    /**
+     * Exposes the check of the rows that are pipelined.
+     */
+    private static class TestAccessor extends DatabaseAccessor {
+        boolean shouldPipelineRows(ReadAllQuery query, AbstractSession session) {
+            SQLCall call = new SQLCall(ADDRESS_SQL);
+            call.setQuery(query);
+            return shouldPipelineRows(call, session);
+        }
+    }
+
+    private ReadAllQuery prepareQuery(ReadAllQuery query) {
+        query.setSession((AbstractSession)getEmulatedSession());
+        query.setDescriptor(getEmulatedSession().getDescriptor(Address.class));
+        return query;
+    }
+
+    private Object getCounter(String counter) {
+        return ((PerformanceMonitor)getEmulatedSession().getProfiler()).getOperationTimings().get(counter);
+    }
+
+    private Thread produce(RowPipeline<Integer> pipeline, int rows, RuntimeException exception) {
+        Thread producer = new Thread(() -> {
+            try {
+                for (int index = 0; index < rows; index++) {
+                    if (!pipeline.add(index)) {
+                        return;
+                    }
+                }
+                if (exception != null) {
+                    pipeline.throwException(exception);
+                }
+            } finally {
+                pipeline.setIsComplete(true);
+            }
+        });
+        producer.start();
+        return producer;
+    }
+
+    @Test
+    public void readAllThroughPipelineTest() {
+        List<?> addresses = getEmulatedSession().acquireClientSession().readAllObjects(Address.class);
+        Assert.assertEquals(3, addresses.size());
+        UnitOfWork uow = getEmulatedSession().acquireClientSession().acquireUnitOfWork();
+        Assert.assertEquals(3, uow.readAllObjects(Address.class).size());
+        uow.release();
+    }
+
+    @Test
+    public void rowsConsumedInOrderTest() throws InterruptedException {
+        RowPipeline<Integer> pipeline = new RowPipeline<>(2, (AbstractSession)getEmulatedSession());
+        Thread producer = produce(pipeline, 100, null);
+        List<Integer> rows = new ArrayList<>();
+        for (Integer row : pipeline) {
+            rows.add(row);
+        }
+        producer.join();
+        Assert.assertEquals(100, rows.size());
+        for (int index = 0; index < rows.size(); index++) {
+            Assert.assertEquals(Integer.valueOf(index), rows.get(index));
+        }
+        Assert.assertNotNull(getCounter(SessionProfiler.RowPipelineProducerStalls));
+    }
+
+    @Test
+    public void producerExceptionThrownTest() throws InterruptedException {
+        RowPipeline<Integer> pipeline = new RowPipeline<>(4, (AbstractSession)getEmulatedSession());
+        DatabaseException exception = DatabaseException.sqlException(new java.sql.SQLException("fetch failed"), null, false);
+        Thread producer = produce(pipeline, 3, exception);
+        Iterator<Integer> rows = pipeline.iterator();
+        try {
+            while (rows.hasNext()) {
+                rows.next();
+            }
+            Assert.fail("The exception of the producer should be thrown.");
+        } catch (DatabaseException expected) {
+            Assert.assertSame(exception, expected);
+        }
+        producer.join();
+    }
+
+    @Test
+    public void batchFetchedQueryNotPipelinedTest() {
+        TestAccessor accessor = new TestAccessor();
+        AbstractSession session = (AbstractSession)getEmulatedSession();
+        Assert.assertTrue(accessor.shouldPipelineRows(prepareQuery(new ReadAllQuery(Address.class)), session));
+        ReadAllQuery query = new ReadAllQuery(Address.class);
+        query.setBatchFetchType(BatchFetchType.IN);
+        Assert.assertFalse(accessor.shouldPipelineRows(prepareQuery(query), session));
+    }
+
+    @Test
+    public void rowsKeptWhenAccessedAsListTest() throws InterruptedException {
+        RowPipeline<Integer> pipeline = new RowPipeline<>(2, (AbstractSession)getEmulatedSession());
+        Thread producer = produce(pipeline, 10, null);
+        Assert.assertEquals(10, pipeline.size());
+        Assert.assertTrue(pipeline.isMaterialized());
+        Assert.assertEquals(Integer.valueOf(9), pipeline.get(9));
+        int index = 0;
+        for (Integer row : pipeline) {
+            Assert.assertEquals(Integer.valueOf(index++), row);
+        }
+        Assert.assertEquals(10, index);
+        producer.join();
+    }
+
+    @Test
+    public void iteratedRowsNotAccessedAsListTest() throws InterruptedException {
+        RowPipeline<Integer> pipeline = new RowPipeline<>(2, (AbstractSession)getEmulatedSession());
+        Thread producer = produce(pipeline, 3, null);
+        Iterator<Integer> rows = pipeline.iterator();
+        Assert.assertEquals(Integer.valueOf(0), rows.next());
+        try {
+            pipeline.get(0);
+            Assert.fail("The rows of an iterated pipeline should not be accessed by index.");
+        } catch (IllegalStateException expected) {
+        }
+        while (rows.hasNext()) {
+            rows.next();
+        }
+        producer.join();
+    }
+
+    @Test
+    public void cancelStopsProducerTest() throws InterruptedException {
+        RowPipeline<Integer> pipeline = new RowPipeline<>(2, (AbstractSession)getEmulatedSession());
+        Thread producer = produce(pipeline, Integer.MAX_VALUE, null);
+        Iterator<Integer> rows = pipeline.iterator();
+        Assert.assertEquals(Integer.valueOf(0), rows.next());
+        pipeline.cancel();
+        producer.join(10000);
+        Assert.assertFalse(producer.isAlive());
+        Assert.assertTrue(pipeline.isCancelled());
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.remote.rcm;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.exceptions.CommunicationException;
+import org.eclipse.persistence.exceptions.RemoteCommandManagerException;
+import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ChangeRecord;
+import org.eclipse.persistence.internal.sessions.ChangeSetWriter;
+import org.eclipse.persistence.internal.sessions.CollectionChangeRecord;
+import org.eclipse.persistence.internal.sessions.DirectCollectionChangeRecord;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.ObjectReferenceChangeRecord;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.coordination.RemoteConnection;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.CommandProcessor;
+import org.eclipse.persistence.sessions.coordination.DiscoveryManager;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+import org.eclipse.persistence.sessions.coordination.TransportManager;
+import org.eclipse.persistence.sessions.serializers.ChangeSetSerializer;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+import org.eclipse.persistence.testing.tests.junit.failover.Address;
+import org.eclipse.persistence.testing.tests.junit.failover.FailoverBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests that the change sets written by the binary change set serializer are read back as they were sent,
+ * and merged by the receiving node.
+ */
+public class ChangeSetSerializerTest extends FailoverBase<DatabaseSession> {
+
+    private final List<byte[]> sent = new ArrayList<>();
+
+    private class RecordingConnection extends RemoteConnection {
+        RecordingConnection() {
+            ServiceId serviceId = new ServiceId();
+            serviceId.setId("remote");
+            setServiceId(serviceId);
+        }
+
+        @Override
+        public Object executeCommand(Command command) throws CommunicationException {
+            return executeCommand((byte[])JavaSerializer.instance.serialize(command, null));
+        }
+
+        @Override
+        public Object executeCommand(byte[] command) throws CommunicationException {
+            sent.add(command);
+            return null;
+        }
+    }
+
+    private static class LocalTransportManager extends TransportManager {
+        LocalTransportManager() {
+            initialize();
+        }
+
+        @Override
+        public RemoteConnection createConnection(ServiceId serviceId) {
+            return null;
+        }
+
+        @Override
+        public void createLocalConnection() {
+        }
+
+        @Override
+        public void removeLocalConnection() {
+        }
+
+        @Override
+        public void connectBackToRemote(RemoteConnection connection) {
+        }
+
+        @Override
+        public DiscoveryManager createDiscoveryManager() {
+            return null;
+        }
+    }
+
+    @Override
+    protected DatabaseSession createSession(Project p) {
+        return p.createDatabaseSession();
+    }
+
+    private AbstractSession getSession() {
+        return (AbstractSession)getEmulatedSession();
+    }
+
+    private RemoteCommandManager startCoordination(ChangeSetSerializer serializer) {
+        RemoteCommandManager rcm = new RemoteCommandManager((CommandProcessor)getEmulatedSession());
+        rcm.setTransportManager(new LocalTransportManager());
+        rcm.getTransportManager().addConnectionToExternalService(new RecordingConnection());
+        rcm.setShouldPropagateAsynchronously(false);
+        rcm.setSerializer(serializer);
+        getEmulatedSession().setCommandManager(rcm);
+        getEmulatedSession().setShouldPropagateChanges(true);
+        return rcm;
+    }
+
+    private ObjectChangeSet newChangeSet(UnitOfWorkChangeSet changeSet, Object id) {
+        ObjectChangeSet objectChangeSet = new ObjectChangeSet(id, getSession().getDescriptor(Address.class), null, changeSet, false);
+        objectChangeSet.setCacheSynchronizationType(ClassDescriptor.SEND_OBJECT_CHANGES);
+        changeSet.getAllChangeSets().put(objectChangeSet, objectChangeSet);
+        return objectChangeSet;
+    }
+
+    private ChangeRecord getChange(ObjectChangeSet objectChangeSet, String attribute) {
+        // The change records are not indexed by attribute once deserialized.
+        for (org.eclipse.persistence.sessions.changesets.ChangeRecord record : objectChangeSet.getChanges()) {
+            if (record.getAttribute().equals(attribute)) {
+                return (ChangeRecord)record;
+            }
+        }
+        return null;
+    }
+
+    private Object roundTrip(ChangeSetSerializer serializer, Object object) {
+        byte[] bytes = (byte[])serializer.serialize(object, getSession());
+        return serializer.deserialize(bytes, getSession());
+    }
+
+    @Test
+    public void committedChangesMergedTest() {
+        Address address = (Address)getEmulatedSession().readAllObjects(Address.class).get(0);
+        RemoteCommandManager rcm = startCoordination(new ChangeSetSerializer());
+        UnitOfWork uow = getEmulatedSession().acquireUnitOfWork();
+        Address clone = (Address)uow.registerObject(address);
+        clone.city = "Ottawa";
+        clone.postalCode = "K1A0A6";
+        uow.commit();
+        Assert.assertEquals(1, sent.size());
+        byte[] bytes = sent.get(0);
+        Assert.assertEquals(ChangeSetWriter.MERGE_COMMAND, bytes[0]);
+        MergeChangeSetCommand command = (MergeChangeSetCommand)rcm.getSerializer().deserialize(bytes, getSession());
+        Assert.assertEquals(rcm.getServiceId().getId(), command.getServiceId().getId());
+        Assert.assertEquals(rcm.getServiceId().getChannel(), command.getServiceId().getChannel());
+        ObjectChangeSet changeSet = command.getChangeSet(getSession()).getAllChangeSets().keySet().iterator().next();
+        Assert.assertEquals(Address.class.getName(), changeSet.getClassName());
+        Assert.assertEquals(address.id, changeSet.getId());
+        Assert.assertEquals("Ottawa", ((DirectToFieldChangeRecord)getChange(changeSet, "city")).getNewValue());
+        Assert.assertEquals("K1A0A6", ((DirectToFieldChangeRecord)getChange(changeSet, "postalCode")).getNewValue());
+        byte[] javaBytes = (byte[])JavaSerializer.instance.serialize(command, null);
+        Assert.assertTrue(bytes.length + " < " + javaBytes.length, bytes.length * 4 < javaBytes.length);
+
+        // Merge the changes as received by another node.
+        address.city = "Calgary";
+        address.postalCode = "J5J2B5";
+        rcm.processCommandFromRemoteConnection(bytes);
+        Assert.assertEquals("Ottawa", address.city);
+        Assert.assertEquals("K1A0A6", address.postalCode);
+        rcm.shutdown();
+    }
+
+    @Test
+    public void valuesTest() {
+        ChangeSetSerializer serializer = new ChangeSetSerializer();
+        serializer.initialize(UnitOfWorkChangeSet.class, null, getSession());
+        Object[] values = { null, "Montréal", -1, Integer.MAX_VALUE, Long.MIN_VALUE, new BigDecimal(51), new BigDecimal("-12.345"),
+                new BigDecimal("123456789012345678901234567890"), BigInteger.TEN.pow(30), true, false, 1.5d, 2.5f, (short)-7, (byte)3, 'x',
+                new java.sql.Date(86400000L), new Time(3600000L), Timestamp.valueOf("2026-10-18 12:34:56.123456789"), new Date(1234567890123L),
+                new byte[] { 1, 2, 3 }, new CacheId(new Object[] { 1L, "key" }), Locale.CANADA };
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        for (int index = 0; index < values.length; index++) {
+            ObjectChangeSet objectChangeSet = newChangeSet(changeSet, new BigDecimal(index));
+            DirectToFieldChangeRecord record = new DirectToFieldChangeRecord(objectChangeSet);
+            record.setAttribute("city");
+            record.setNewValue(values[index]);
+            objectChangeSet.addChange(record);
+        }
+        UnitOfWorkChangeSet result = (UnitOfWorkChangeSet)roundTrip(serializer, changeSet);
+        Assert.assertEquals(values.length, result.getAllChangeSets().size());
+        for (ObjectChangeSet objectChangeSet : result.getAllChangeSets().keySet()) {
+            Object value = values[((BigDecimal)objectChangeSet.getId()).intValue()];
+            Object newValue = ((DirectToFieldChangeRecord)objectChangeSet.getChanges().get(0)).getNewValue();
+            if (value instanceof byte[]) {
+                Assert.assertArrayEquals((byte[])value, (byte[])newValue);
+            } else {
+                Assert.assertEquals(value, newValue);
+                Assert.assertEquals(value == null ? null : value.getClass(), newValue == null ? null : newValue.getClass());
+            }
+        }
+    }
+
+    @Test
+    public void referencesTest() {
+        ChangeSetSerializer serializer = new ChangeSetSerializer();
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        ObjectChangeSet first = newChangeSet(changeSet, new BigDecimal(51));
+        ObjectChangeSet second = newChangeSet(changeSet, new BigDecimal(52));
+        ObjectReferenceChangeRecord reference = new ObjectReferenceChangeRecord(first);
+        reference.setAttribute("street");
+        reference.setNewValue(second);
+        first.addChange(reference);
+        CollectionChangeRecord collection = new CollectionChangeRecord(second);
+        collection.setAttribute("country");
+        collection.getAddObjectList().put(first, first);
+        collection.getRemoveObjectList().put(second, second);
+        second.addChange(collection);
+        ObjectChangeSet deleted = new ObjectChangeSet(new BigDecimal(53), getSession().getDescriptor(Address.class), null, changeSet, false);
+        deleted.setShouldBeDeleted(true);
+        changeSet.getDeletedObjects().put(deleted, deleted);
+
+        UnitOfWorkChangeSet result = (UnitOfWorkChangeSet)roundTrip(serializer, changeSet);
+        ObjectChangeSet readFirst = null;
+        ObjectChangeSet readSecond = null;
+        for (ObjectChangeSet objectChangeSet : result.getAllChangeSets().keySet()) {
+            if (objectChangeSet.getId().equals(new BigDecimal(51))) {
+                readFirst = objectChangeSet;
+            } else {
+                readSecond = objectChangeSet;
+            }
+        }
+        Assert.assertSame(readSecond, ((ObjectReferenceChangeRecord)getChange(readFirst, "street")).getNewValue());
+        CollectionChangeRecord readCollection = (CollectionChangeRecord)getChange(readSecond, "country");
+        Assert.assertSame(readFirst, readCollection.getAddObjectList().keySet().iterator().next());
+        Assert.assertSame(readSecond, readCollection.getRemoveObjectList().keySet().iterator().next());
+        Assert.assertSame(readSecond, readCollection.getOwner());
+        ObjectChangeSet readDeleted = result.getDeletedObjects().keySet().iterator().next();
+        Assert.assertTrue(readDeleted.shouldBeDeleted());
+        Assert.assertEquals(new BigDecimal(53), readDeleted.getId());
+    }
+
+    @Test
+    public void unsupportedChangesSentWithJavaSerializationTest() {
+        ChangeSetSerializer serializer = new ChangeSetSerializer();
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        ObjectChangeSet objectChangeSet = newChangeSet(changeSet, new BigDecimal(51));
+        DirectCollectionChangeRecord record = new DirectCollectionChangeRecord(objectChangeSet);
+        record.setAttribute("city");
+        objectChangeSet.addChange(record);
+        MergeChangeSetCommand command = new MergeChangeSetCommand();
+        command.setChangeSet(changeSet);
+        byte[] bytes = (byte[])serializer.serialize(command, getSession());
+        Assert.assertEquals((byte)0xAC, bytes[0]);
+        MergeChangeSetCommand result = (MergeChangeSetCommand)serializer.deserialize(bytes, getSession());
+        ObjectChangeSet readChangeSet = result.getChangeSet(getSession()).getAllChangeSets().keySet().iterator().next();
+        Assert.assertTrue(getChange(readChangeSet, "city") instanceof DirectCollectionChangeRecord);
+    }
+
+    @Test
+    public void differentProjectRejectedTest() {
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        newChangeSet(changeSet, new BigDecimal(51));
+        byte[] bytes = (byte[])new ChangeSetSerializer().serialize(changeSet, getSession());
+        ChangeSetSerializer serializer = new ChangeSetSerializer();
+        serializer.initialize(UnitOfWorkChangeSet.class, null, new Project(new DatabaseLogin()).createDatabaseSession());
+        Assert.assertThrows(RemoteCommandManagerException.class, () -> serializer.deserialize(bytes, getSession()));
+    }
+}
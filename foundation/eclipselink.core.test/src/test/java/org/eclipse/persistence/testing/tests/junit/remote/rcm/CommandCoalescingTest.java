@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.remote.rcm;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.InflaterInputStream;
+
+import org.eclipse.persistence.exceptions.CommunicationException;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.coordination.CoalescedCommand;
+import org.eclipse.persistence.internal.sessions.coordination.RemoteConnection;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.CommandProcessor;
+import org.eclipse.persistence.sessions.coordination.DiscoveryManager;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+import org.eclipse.persistence.sessions.coordination.TransportManager;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+import org.eclipse.persistence.testing.tests.junit.failover.Address;
+import org.eclipse.persistence.testing.tests.junit.failover.FailoverBase;
+import org.eclipse.persistence.tools.profiler.PerformanceMonitor;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests that the commands propagated during the coalescing window are merged and sent together.
+ */
+public class CommandCoalescingTest extends FailoverBase<DatabaseSession> {
+
+    private static final AtomicInteger executions = new AtomicInteger();
+
+    private final List<byte[]> sent = new ArrayList<>();
+
+    private RemoteCommandManager rcm;
+
+    public static class CountingCommand extends Command {
+        @Override
+        public void executeWithSession(AbstractSession session) {
+            executions.incrementAndGet();
+        }
+    }
+
+    private class RecordingConnection extends RemoteConnection {
+        RecordingConnection() {
+            ServiceId serviceId = new ServiceId();
+            serviceId.setId("remote");
+            setServiceId(serviceId);
+        }
+
+        @Override
+        public Object executeCommand(Command command) throws CommunicationException {
+            return executeCommand((byte[])JavaSerializer.instance.serialize(command, null));
+        }
+
+        @Override
+        public Object executeCommand(byte[] command) throws CommunicationException {
+            synchronized (sent) {
+                sent.add(command);
+                sent.notifyAll();
+            }
+            return null;
+        }
+    }
+
+    private static class LocalTransportManager extends TransportManager {
+        LocalTransportManager() {
+            initialize();
+        }
+
+        @Override
+        public RemoteConnection createConnection(ServiceId serviceId) {
+            return null;
+        }
+
+        @Override
+        public void createLocalConnection() {
+        }
+
+        @Override
+        public void removeLocalConnection() {
+        }
+
+        @Override
+        public void connectBackToRemote(RemoteConnection connection) {
+        }
+
+        @Override
+        public DiscoveryManager createDiscoveryManager() {
+            return null;
+        }
+    }
+
+    @Override
+    protected DatabaseSession createSession(Project p) {
+        DatabaseSession session = p.createDatabaseSession();
+        session.setProfiler(new PerformanceMonitor());
+        return session;
+    }
+
+    private RemoteCommandManager startCoordination(int size, boolean compress) {
+        this.rcm = new RemoteCommandManager((CommandProcessor)getEmulatedSession());
+        this.rcm.setTransportManager(new LocalTransportManager());
+        this.rcm.getTransportManager().addConnectionToExternalService(new RecordingConnection());
+        this.rcm.setCommandCoalescingWindow(60000);
+        this.rcm.setCommandCoalescingSize(size);
+        this.rcm.setShouldCompressCommands(compress);
+        getEmulatedSession().setCommandManager(this.rcm);
+        getEmulatedSession().setShouldPropagateChanges(true);
+        return this.rcm;
+    }
+
+    private Command nextSentCommand() throws InterruptedException {
+        synchronized (sent) {
+            long end = System.currentTimeMillis() + 10000;
+            while (sent.isEmpty() && (System.currentTimeMillis() < end)) {
+                sent.wait(100);
+            }
+            Assert.assertFalse("No command sent.", sent.isEmpty());
+            return (Command)JavaSerializer.instance.deserialize(sent.remove(0), (AbstractSession)getEmulatedSession());
+        }
+    }
+
+    private List<Command> readCommands(CoalescedCommand command) throws IOException {
+        InputStream input = new ByteArrayInputStream(command.getCommands());
+        if (command.isCompressed()) {
+            input = new InflaterInputStream(input);
+        }
+        List<Command> commands = new ArrayList<>();
+        try (DataInputStream data = new DataInputStream(input)) {
+            int count = data.readInt();
+            for (int index = 0; index < count; index++) {
+                byte[] bytes = new byte[data.readInt()];
+                data.readFully(bytes);
+                commands.add((Command)JavaSerializer.instance.deserialize(bytes, (AbstractSession)getEmulatedSession()));
+            }
+        }
+        return commands;
+    }
+
+    private void updateCity(Address address, String city) {
+        UnitOfWork uow = getEmulatedSession().acquireUnitOfWork();
+        Address clone = (Address)uow.registerObject(address);
+        clone.city = city;
+        uow.commit();
+    }
+
+    private Object getCounter(String counter) {
+        return ((PerformanceMonitor)getEmulatedSession().getProfiler()).getOperationTimings().get(counter);
+    }
+
+    @Test
+    public void commandsSentTogetherTest() throws Exception {
+        startCoordination(3, false);
+        executions.set(0);
+        for (int index = 0; index < 3; index++) {
+            this.rcm.propagateCommand(new CountingCommand());
+        }
+        Command command = nextSentCommand();
+        Assert.assertTrue(command instanceof CoalescedCommand);
+        Assert.assertEquals(3, ((CoalescedCommand)command).getSize());
+        Assert.assertFalse(((CoalescedCommand)command).isCompressed());
+        this.rcm.processCommandFromRemoteConnection(command);
+        Assert.assertEquals(3, executions.get());
+        Assert.assertEquals(2L, this.rcm.getCommandCoalescer().getCommandsCoalesced());
+        Assert.assertEquals(2L, getCounter(SessionProfiler.RcmCommandsCoalesced));
+        this.rcm.shutdown();
+    }
+
+    @Test
+    public void changeSetsMergedTest() throws Exception {
+        List<?> addresses = getEmulatedSession().readAllObjects(Address.class);
+        startCoordination(3, true);
+        updateCity((Address)addresses.get(0), "Ottawa");
+        updateCity((Address)addresses.get(1), "Ottawa");
+        updateCity((Address)addresses.get(0), "Kanata");
+        CoalescedCommand command = (CoalescedCommand)nextSentCommand();
+        Assert.assertTrue(command.isCompressed());
+        List<Command> commands = readCommands(command);
+        // The second change of the first address cannot be merged with the first change.
+        Assert.assertEquals(2, commands.size());
+        AbstractSession session = (AbstractSession)getEmulatedSession();
+        Assert.assertEquals(2, ((MergeChangeSetCommand)commands.get(0)).getChangeSet(session).getAllChangeSets().size());
+        Assert.assertEquals(1, ((MergeChangeSetCommand)commands.get(1)).getChangeSet(session).getAllChangeSets().size());
+        Assert.assertTrue(this.rcm.getCommandCoalescer().getBytesSaved() > 0);
+        Assert.assertEquals(this.rcm.getCommandCoalescer().getBytesSaved(), getCounter(SessionProfiler.RcmBytesSaved));
+        this.rcm.shutdown();
+    }
+
+    @Test
+    public void shutdownSendsBufferedCommandsTest() throws Exception {
+        startCoordination(100, false);
+        this.rcm.propagateCommand(new CountingCommand());
+        this.rcm.shutdown();
+        Assert.assertTrue(nextSentCommand() instanceof CountingCommand);
+    }
+
+    @Test
+    public void synchronousCommandsNotCoalescedTest() throws Exception {
+        startCoordination(100, false);
+        this.rcm.setShouldPropagateAsynchronously(false);
+        this.rcm.propagateCommand(new CountingCommand());
+        synchronized (sent) {
+            Assert.assertEquals(1, sent.size());
+        }
+        Assert.assertTrue(nextSentCommand() instanceof CountingCommand);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.sequencing;
+
+import java.util.List;
+import java.util.Vector;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.sequencing.SequencingControl;
+import org.eclipse.persistence.sequencing.StandardSequence;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.failover.Address;
+import org.eclipse.persistence.testing.tests.junit.failover.FailoverBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests that the preallocated sequence values are refilled in the background before they run out.
+ */
+public class BackgroundSequencePreallocationTest extends FailoverBase<DatabaseSession> {
+
+    /**
+     * A table like sequence kept in memory, recording the sizes it allocates.
+     */
+    static class MemorySequence extends StandardSequence {
+        long value;
+        final List<Integer> sizes = new CopyOnWriteArrayList<>();
+
+        MemorySequence(String name, int size) {
+            super(name, size);
+        }
+
+        @Override
+        protected synchronized Number updateAndSelectSequence(Accessor accessor, AbstractSession writeSession, String seqName, int size) {
+            this.sizes.add(size);
+            this.value += size;
+            return this.value;
+        }
+
+        @Override
+        public boolean shouldAcquireValueAfterInsert() {
+            return false;
+        }
+
+        @Override
+        public boolean shouldUseTransaction() {
+            return true;
+        }
+    }
+
+    private MemorySequence sequence;
+
+    @Override
+    protected DatabaseSession createSession(Project p) {
+        this.sequence = new MemorySequence("ADDRESS_SEQ", 10);
+        p.getLogin().getPlatform().addSequence(this.sequence);
+        DatabaseSession session = p.createDatabaseSession();
+        session.getSequencingControl().setShouldUseSeparateConnection(true);
+        session.getSequencingControl().setShouldPreallocateInBackground(true);
+        session.getSequencingControl().setPreallocationLowWaterMark(50);
+        return session;
+    }
+
+    private SequencingControl getSequencingControl() {
+        return getEmulatedSession().getSequencingControl();
+    }
+
+    private long nextValue() {
+        return ((Number)((DatabaseSessionImpl)getEmulatedSession()).getSequencing().getNextValue(Address.class)).longValue();
+    }
+
+    private void waitForAllocations(int allocations) throws InterruptedException {
+        for (int wait = 0; (this.sequence.sizes.size() < allocations) && (wait < 500); wait++) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(allocations, this.sequence.sizes.size());
+    }
+
+    @Test
+    public void refilledBeforeRunningOutTest() throws InterruptedException {
+        Assert.assertTrue(getSequencingControl().isConnectedUsingSeparateConnection());
+        Vector<Long> values = new Vector<>();
+        // The first 10 values are allocated by the inserting thread, fewer than 5 remain after 6 values.
+        for (int index = 0; index < 6; index++) {
+            values.add(nextValue());
+        }
+        waitForAllocations(2);
+        for (int index = 0; index < 10; index++) {
+            values.add(nextValue());
+        }
+        // The values of the background refill are used next, and consumed quickly so the next refill allocates more.
+        waitForAllocations(3);
+        for (int index = 0; index < 10; index++) {
+            values.add(nextValue());
+        }
+        for (int index = 0; index < values.size(); index++) {
+            Assert.assertEquals(index + 1, values.get(index).longValue());
+        }
+        Assert.assertEquals(1, getSequencingControl().getPreallocationStallCount());
+        Assert.assertEquals(2, getSequencingControl().getPreallocationStallsAvoidedCount());
+        Assert.assertEquals(10, this.sequence.sizes.get(1).intValue());
+        Assert.assertTrue(this.sequence.sizes.get(2) > 10);
+    }
+
+    @Test
+    public void inserterAllocatesWithoutBackgroundPreallocationTest() {
+        getEmulatedSession().logout();
+        getSequencingControl().setShouldPreallocateInBackground(false);
+        getEmulatedSession().login();
+        this.sequence.sizes.clear();
+        for (int index = 0; index < 25; index++) {
+            nextValue();
+        }
+        Assert.assertEquals(List.of(10, 10, 10), this.sequence.sizes);
+        Assert.assertEquals(3, getSequencingControl().getPreallocationStallCount());
+        Assert.assertEquals(0, getSequencingControl().getPreallocationStallsAvoidedCount());
+    }
+}
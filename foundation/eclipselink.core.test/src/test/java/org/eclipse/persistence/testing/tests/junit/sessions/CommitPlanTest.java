@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.sessions;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Vector;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.CommitManager;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.DirectToFieldMapping;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.mappings.converters.Converter;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.tests.junit.failover.Address;
+import org.eclipse.persistence.testing.tests.junit.failover.FailoverBase;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedConnection;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests that a commit only visits the classes of its change set,
+ * and inserts the rows of a class in foreign key order when configured to.
+ */
+public class CommitPlanTest extends FailoverBase<DatabaseSession> {
+
+    public static final class Parent {
+        public Integer id;
+        public String name;
+    }
+
+    public static final class Child {
+        public Integer id;
+        public String name;
+        public Parent parent;
+    }
+
+    /** The names of the objects in the order their insert rows were built. */
+    private final List<Object> inserted = new Vector<>();
+
+    /**
+     * Records the names written to the database.
+     */
+    private final class RecordingConverter implements Converter {
+        @Override
+        public Object convertObjectValueToDataValue(Object objectValue, Session session) {
+            inserted.add(objectValue);
+            return objectValue;
+        }
+
+        @Override
+        public Object convertDataValueToObjectValue(Object dataValue, Session session) {
+            return dataValue;
+        }
+
+        @Override
+        public boolean isMutable() {
+            return false;
+        }
+
+        @Override
+        public void initialize(DatabaseMapping mapping, Session session) {
+        }
+    }
+
+    private RelationalDescriptor descriptor(Class<?> javaClass, String table) {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(javaClass);
+        descriptor.addTableName(table);
+        descriptor.addPrimaryKeyFieldName(table + ".ID");
+        descriptor.addDirectMapping("id", table + ".ID");
+        DirectToFieldMapping nameMapping = new DirectToFieldMapping();
+        nameMapping.setAttributeName("name");
+        nameMapping.setFieldName(table + ".NAME");
+        nameMapping.setConverter(new RecordingConverter());
+        descriptor.addMapping(nameMapping);
+        return descriptor;
+    }
+
+    @Override
+    protected DatabaseSession createSession(Project p) {
+        p.addDescriptor(descriptor(Parent.class, "PARENT"));
+        RelationalDescriptor childDescriptor = descriptor(Child.class, "CHILD");
+        OneToOneMapping parentMapping = new OneToOneMapping();
+        parentMapping.setAttributeName("parent");
+        parentMapping.setReferenceClass(Parent.class);
+        parentMapping.addForeignKeyFieldName("CHILD.PARENT_ID", "PARENT.ID");
+        parentMapping.dontUseIndirection();
+        childDescriptor.addMapping(parentMapping);
+        p.addDescriptor(childDescriptor);
+        return p.createDatabaseSession();
+    }
+
+    private CommitManager getCommitManager() {
+        return ((AbstractSession)getEmulatedSession()).getCommitManager();
+    }
+
+    private Parent parent(int id) {
+        Parent parent = new Parent();
+        parent.id = id;
+        parent.name = "parent" + id;
+        return parent;
+    }
+
+    private Child child(int id, Parent parent) {
+        Child child = new Child();
+        child.id = id;
+        child.name = "child" + id;
+        child.parent = parent;
+        return child;
+    }
+
+    @Test
+    public void commitPlanTest() {
+        UnitOfWork uow = getEmulatedSession().acquireUnitOfWork();
+        uow.registerNewObject(child(1, (Parent)uow.registerNewObject(parent(1))));
+        UnitOfWorkChangeSet changeSet = (UnitOfWorkChangeSet)uow.getCurrentChanges();
+        BitSet plan = getCommitManager().buildCommitPlan(changeSet);
+        List<Class<?>> commitOrder = getCommitManager().getCommitOrder();
+        Assert.assertEquals(2, plan.cardinality());
+        Assert.assertEquals(Parent.class, commitOrder.get(plan.nextSetBit(0)));
+        Assert.assertEquals(Child.class, commitOrder.get(plan.nextSetBit(plan.nextSetBit(0) + 1)));
+        Assert.assertFalse(plan.get(commitOrder.indexOf(Address.class)));
+        uow.release();
+    }
+
+    @Test
+    public void newObjectsInForeignKeyOrderTest() {
+        List<String> executedStatements = ((EmulatedConnection)((DatabaseSessionImpl)getEmulatedSession()).getAccessor().getConnection()).getExecutedStatements();
+        executedStatements.clear();
+        Assert.assertFalse(getCommitManager().shouldSortNewObjects());
+        getCommitManager().setShouldSortNewObjects(true);
+        UnitOfWork uow = getEmulatedSession().acquireUnitOfWork();
+        Parent parent1 = (Parent)uow.registerNewObject(parent(1));
+        Parent parent2 = (Parent)uow.registerNewObject(parent(2));
+        uow.registerNewObject(child(4, parent1));
+        uow.registerNewObject(child(1, parent2));
+        uow.registerNewObject(child(3, parent2));
+        uow.registerNewObject(child(2, parent1));
+        uow.commit();
+        // Each object is written once, the children ordered by parent, then id.
+        Assert.assertEquals(executedStatements.toString(), 6, executedStatements.size());
+        Assert.assertEquals(List.of("parent1", "parent2", "child2", "child4", "child1", "child3"), this.inserted);
+    }
+}
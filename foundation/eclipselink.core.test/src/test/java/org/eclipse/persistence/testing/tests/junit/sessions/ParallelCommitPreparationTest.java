@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.sessions;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.DirectToFieldMapping;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.mappings.TransformationMapping;
+import org.eclipse.persistence.mappings.converters.Converter;
+import org.eclipse.persistence.platform.server.ServerPlatformBase;
+import org.eclipse.persistence.sessions.DataRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.tests.junit.failover.Address;
+import org.eclipse.persistence.testing.tests.junit.failover.FailoverBase;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedConnection;
+import org.eclipse.persistence.tools.profiler.PerformanceMonitor;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests that the insert rows of classes without dependencies between them are built on concurrent threads.
+ */
+public class ParallelCommitPreparationTest extends FailoverBase<DatabaseSession> {
+
+    public static final class Item {
+        public Integer id;
+        public String name;
+    }
+
+    public static final class Tag {
+        public Integer id;
+        public String name;
+        public Item item;
+    }
+
+    public static final class Label {
+        public Integer id;
+        public String name;
+    }
+
+    public static final class Memo {
+        public Integer id;
+        public String name;
+        public String text;
+
+        public String getText() {
+            return this.text;
+        }
+
+        public String buildText(DataRecord row) {
+            return (String)row.get("MEMO.TEXT");
+        }
+
+        public void setText(String text) {
+            this.text = text;
+        }
+    }
+
+    /** The thread that built the insert rows of each class. */
+    private final Map<Class<?>, Thread> threads = new ConcurrentHashMap<>();
+
+    /**
+     * Records the thread converting the values of a class.
+     */
+    private final class ThreadRecordingConverter implements Converter {
+        private final Class<?> owner;
+
+        ThreadRecordingConverter(Class<?> owner) {
+            this.owner = owner;
+        }
+
+        @Override
+        public Object convertObjectValueToDataValue(Object objectValue, Session session) {
+            threads.put(this.owner, Thread.currentThread());
+            return objectValue;
+        }
+
+        @Override
+        public Object convertDataValueToObjectValue(Object dataValue, Session session) {
+            return dataValue;
+        }
+
+        @Override
+        public boolean isMutable() {
+            return false;
+        }
+
+        @Override
+        public void initialize(DatabaseMapping mapping, Session session) {
+        }
+    }
+
+    private RelationalDescriptor descriptor(Class<?> javaClass, String table) {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(javaClass);
+        descriptor.addTableName(table);
+        descriptor.addPrimaryKeyFieldName(table + ".ID");
+        descriptor.addDirectMapping("id", table + ".ID");
+        DirectToFieldMapping nameMapping = new DirectToFieldMapping();
+        nameMapping.setAttributeName("name");
+        nameMapping.setFieldName(table + ".NAME");
+        nameMapping.setConverter(new ThreadRecordingConverter(javaClass));
+        descriptor.addMapping(nameMapping);
+        return descriptor;
+    }
+
+    @Override
+    protected DatabaseSession createSession(Project p) {
+        p.addDescriptor(descriptor(Item.class, "ITEM"));
+        RelationalDescriptor tagDescriptor = descriptor(Tag.class, "TAG");
+        OneToOneMapping itemMapping = new OneToOneMapping();
+        itemMapping.setAttributeName("item");
+        itemMapping.setReferenceClass(Item.class);
+        itemMapping.addForeignKeyFieldName("TAG.ITEM_ID", "ITEM.ID");
+        itemMapping.dontUseIndirection();
+        tagDescriptor.addMapping(itemMapping);
+        p.addDescriptor(tagDescriptor);
+        p.addDescriptor(descriptor(Label.class, "LABEL"));
+        RelationalDescriptor memoDescriptor = descriptor(Memo.class, "MEMO");
+        TransformationMapping textMapping = new TransformationMapping();
+        textMapping.setAttributeName("text");
+        textMapping.setSetMethodName("setText");
+        textMapping.setGetMethodName("getText");
+        textMapping.setAttributeTransformation("buildText");
+        textMapping.addFieldTransformation("MEMO.TEXT", "getText");
+        memoDescriptor.addMapping(textMapping);
+        p.addDescriptor(memoDescriptor);
+        DatabaseSession session = p.createDatabaseSession();
+        session.setProfiler(new PerformanceMonitor());
+        return session;
+    }
+
+    /**
+     * Runs each task on its own thread and waits for it,
+     * so the rows are prepared on another thread before the commit reaches them.
+     */
+    private static final class JoiningExecutor extends AbstractExecutorService {
+        private volatile boolean isShutdown;
+
+        @Override
+        public void execute(Runnable command) {
+            Thread thread = new Thread(command);
+            thread.start();
+            try {
+                thread.join();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void shutdown() {
+            this.isShutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            this.isShutdown = true;
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return this.isShutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return this.isShutdown;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return this.isShutdown;
+        }
+    }
+
+    private void setShouldPrepareInParallel(boolean shouldPrepareInParallel) {
+        setShouldPrepareInParallel(shouldPrepareInParallel, 1);
+        ((ServerPlatformBase)getEmulatedSession().getServerPlatform()).setThreadPool(new JoiningExecutor());
+    }
+
+    private void setShouldPrepareInParallel(boolean shouldPrepareInParallel, int minimumSize) {
+        ((AbstractSession)getEmulatedSession()).getCommitManager().setShouldPrepareInParallel(shouldPrepareInParallel);
+        ((AbstractSession)getEmulatedSession()).getCommitManager().setParallelPrepareMinimumSize(minimumSize);
+    }
+
+    private List<String> commitNewObjects() {
+        return commitNewObjects(false);
+    }
+
+    private List<String> commitNewObjects(boolean withMemos) {
+        List<String> executedStatements = ((EmulatedConnection)((DatabaseSessionImpl)getEmulatedSession()).getAccessor().getConnection()).getExecutedStatements();
+        executedStatements.clear();
+        UnitOfWork uow = getEmulatedSession().acquireUnitOfWork();
+        for (int index = 1; index <= 2; index++) {
+            Item item = new Item();
+            item.id = index;
+            item.name = "item";
+            Tag tag = new Tag();
+            tag.id = index;
+            tag.name = "tag";
+            tag.item = item;
+            Label label = new Label();
+            label.id = index;
+            label.name = "label";
+            uow.registerNewObject(item);
+            uow.registerNewObject(tag);
+            uow.registerNewObject(label);
+            if (withMemos) {
+                Memo memo = new Memo();
+                memo.id = index;
+                memo.name = "memo";
+                memo.text = "text";
+                uow.registerNewObject(memo);
+            }
+        }
+        uow.commit();
+        return executedStatements;
+    }
+
+    private Object getPreparedRowCount() {
+        return ((PerformanceMonitor)getEmulatedSession().getProfiler()).getOperationTimings().get(SessionProfiler.CommitRowsPreparedInParallel);
+    }
+
+    @Test
+    public void commitOrderComponentsTest() {
+        Map<Class<?>, Integer> components = ((AbstractSession)getEmulatedSession()).getCommitManager().getCommitOrderComponents();
+        Assert.assertEquals(components.get(Item.class), components.get(Tag.class));
+        Assert.assertNotEquals(components.get(Item.class), components.get(Label.class));
+        Assert.assertNotEquals(components.get(Item.class), components.get(Address.class));
+        Assert.assertNotEquals(components.get(Label.class), components.get(Address.class));
+    }
+
+    @Test
+    public void independentRowsPreparedInParallelTest() {
+        setShouldPrepareInParallel(true);
+        List<String> statements = commitNewObjects();
+        Assert.assertEquals(statements.toString(), 6, statements.size());
+        Assert.assertEquals(6L, getPreparedRowCount());
+        // The rows of dependent classes are built on the same thread, and one component is built by the committing thread.
+        Assert.assertSame(this.threads.get(Item.class), this.threads.get(Tag.class));
+        Assert.assertNotSame(this.threads.get(Item.class), this.threads.get(Label.class));
+        Assert.assertTrue((this.threads.get(Item.class) == Thread.currentThread()) || (this.threads.get(Label.class) == Thread.currentThread()));
+    }
+
+    @Test
+    public void rowsNeedingMoreThanDirectAccessPreparedByCommitTest() {
+        setShouldPrepareInParallel(true);
+        List<String> statements = commitNewObjects(true);
+        Assert.assertEquals(statements.toString(), 8, statements.size());
+        // The transformation mapping of the memos runs code of the object, so their rows are built by the commit.
+        Assert.assertEquals(6L, getPreparedRowCount());
+        Assert.assertSame(Thread.currentThread(), this.threads.get(Memo.class));
+    }
+
+    @Test
+    public void smallComponentsPreparedByCommitTest() {
+        setShouldPrepareInParallel(true, 3);
+        List<String> statements = commitNewObjects();
+        Assert.assertEquals(statements.toString(), 6, statements.size());
+        // No component has three new objects, so no thread is launched.
+        Assert.assertNull(getPreparedRowCount());
+        Assert.assertSame(Thread.currentThread(), this.threads.get(Item.class));
+        Assert.assertSame(Thread.currentThread(), this.threads.get(Label.class));
+    }
+
+    @Test
+    public void componentNotStartedPreparedByCommitTest() throws InterruptedException {
+        setShouldPrepareInParallel(true);
+        // The only thread of the server platform is busy during the commit.
+        ExecutorService threadPool = Executors.newSingleThreadExecutor();
+        CountDownLatch busy = new CountDownLatch(1);
+        threadPool.execute(() -> {
+            try {
+                busy.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        ((ServerPlatformBase)getEmulatedSession().getServerPlatform()).setThreadPool(threadPool);
+        try {
+            List<String> statements = commitNewObjects();
+            Assert.assertEquals(statements.toString(), 6, statements.size());
+            Assert.assertSame(Thread.currentThread(), this.threads.get(Item.class));
+            Assert.assertSame(Thread.currentThread(), this.threads.get(Label.class));
+        } finally {
+            busy.countDown();
+            threadPool.shutdown();
+        }
+        // The preparation claimed by the commit does not build the rows once the thread is available.
+        Assert.assertTrue(threadPool.awaitTermination(10, TimeUnit.SECONDS));
+        Assert.assertSame(Thread.currentThread(), this.threads.get(Item.class));
+        Assert.assertSame(Thread.currentThread(), this.threads.get(Label.class));
+    }
+
+    @Test
+    public void rowsPreparedByCommitByDefaultTest() {
+        List<String> statements = commitNewObjects();
+        Assert.assertEquals(statements.toString(), 6, statements.size());
+        Assert.assertNull(getPreparedRowCount());
+        Assert.assertSame(Thread.currentThread(), this.threads.get(Item.class));
+        Assert.assertSame(Thread.currentThread(), this.threads.get(Label.class));
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.sessions.server;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.sessions.Login;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.server.FairConnectionPool;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.tests.junit.failover.Address;
+import org.eclipse.persistence.testing.tests.junit.failover.FailoverBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the FIFO hand off, the acquire time histogram and the prefill of the fair connection pool.
+ */
+public class FairConnectionPoolTest extends FailoverBase<ServerSession> {
+
+    private static final int MAX_CONNECTIONS = 3;
+
+    @Override
+    protected ServerSession createSession(Project p) {
+        ServerSession session = (ServerSession) p.createServerSession();
+        FairConnectionPool pool = new TestFairConnectionPool(ServerSession.DEFAULT_POOL, p.getDatasourceLogin(), 1, 1, MAX_CONNECTIONS, session);
+        pool.setShouldPrefill(true);
+        session.addConnectionPool(pool);
+        session.setReadConnectionPool(pool);
+        return session;
+    }
+
+    private TestFairConnectionPool getPool() {
+        return (TestFairConnectionPool) getEmulatedSession().getDefaultConnectionPool();
+    }
+
+    /**
+     * Exposes the used connections of the pool.
+     */
+    private static final class TestFairConnectionPool extends FairConnectionPool {
+
+        TestFairConnectionPool(String name, Login login, int initialNumberOfConnections, int minNumberOfConnections, int maxNumberOfConnections, ServerSession owner) {
+            super(name, login, initialNumberOfConnections, minNumberOfConnections, maxNumberOfConnections, owner);
+        }
+
+        int getNumberOfConnectionsUsed() {
+            this.lock.lock();
+            try {
+                return getConnectionsUsed().size();
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+
+    @Test
+    public void acquireAndReleaseTest() {
+        FairConnectionPool pool = getPool();
+        long count = pool.getAcquireTimeHistogram().getCount();
+        List<Accessor> connections = new ArrayList<>();
+        for (int i = 0; i < MAX_CONNECTIONS; ++i) {
+            connections.add(pool.acquireConnection());
+        }
+        Assert.assertEquals(MAX_CONNECTIONS, pool.getTotalNumberOfConnections());
+        Assert.assertFalse(pool.hasConnectionAvailable());
+        for (Accessor accessor : connections) {
+            pool.releaseConnection(accessor);
+        }
+        // Connections beyond the minimum are disconnected.
+        Assert.assertEquals(1, pool.getTotalNumberOfConnections());
+        Assert.assertEquals(count + MAX_CONNECTIONS, pool.getAcquireTimeHistogram().getCount());
+        getEmulatedSession().acquireClientSession().readObject(Address.class);
+    }
+
+    @Test
+    public void waitingThreadsAreServedInOrderTest() throws InterruptedException {
+        TestFairConnectionPool pool = getPool();
+        List<Accessor> connections = new ArrayList<>();
+        for (int i = 0; i < MAX_CONNECTIONS; ++i) {
+            connections.add(pool.acquireConnection());
+        }
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; ++i) {
+            final int index = i;
+            Thread thread = new Thread(() -> {
+                Accessor accessor = pool.acquireConnection();
+                order.add(index);
+                pool.releaseConnection(accessor);
+            });
+            threads.add(thread);
+            thread.start();
+            awaitWaitingThreads(pool, i + 1);
+        }
+        // A single connection is handed from each waiting thread to the next one.
+        pool.releaseConnection(connections.remove(0));
+        for (Thread thread : threads) {
+            thread.join(10000);
+        }
+        for (Accessor accessor : connections) {
+            pool.releaseConnection(accessor);
+        }
+        Assert.assertEquals(List.of(0, 1, 2, 3), order);
+        Assert.assertEquals(0, pool.getNumberOfWaitingThreads());
+        // A handed off connection is counted as used once, and all the connections are back in the pool.
+        Assert.assertEquals(0, pool.getNumberOfConnectionsUsed());
+        Assert.assertEquals(1, pool.getTotalNumberOfConnections());
+        // The pool still serves new connections up to its maximum.
+        connections.clear();
+        for (int i = 0; i < MAX_CONNECTIONS; ++i) {
+            connections.add(pool.acquireConnection());
+        }
+        Assert.assertEquals(MAX_CONNECTIONS, pool.getTotalNumberOfConnections());
+        for (Accessor accessor : connections) {
+            pool.releaseConnection(accessor);
+        }
+    }
+
+    @Test
+    public void prefillTest() throws InterruptedException {
+        FairConnectionPool pool = getPool();
+        pool.setMinNumberOfConnections(MAX_CONNECTIONS);
+        pool.shutDown();
+        pool.startUp();
+        long timeout = System.currentTimeMillis() + 10000;
+        while ((pool.getConnectionsAvailable().size() < MAX_CONNECTIONS) && (System.currentTimeMillis() < timeout)) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(MAX_CONNECTIONS, pool.getConnectionsAvailable().size());
+    }
+
+    private static void awaitWaitingThreads(FairConnectionPool pool, int numberOfWaitingThreads) throws InterruptedException {
+        long timeout = System.currentTimeMillis() + 10000;
+        while ((pool.getNumberOfWaitingThreads() < numberOfWaitingThreads) && (System.currentTimeMillis() < timeout)) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(numberOfWaitingThreads, pool.getNumberOfWaitingThreads());
+    }
+}
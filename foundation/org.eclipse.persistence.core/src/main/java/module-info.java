@@ -34,6 +34,8 @@
     requires static jakarta.inject;
     requires static jakarta.transaction;
 
+    requires static jdk.jfr; //flight recorder events
+
     requires static org.objectweb.asm; //AM
     requires static org.objectweb.asm.commons; //AM
 
@@ -123,6 +125,7 @@
     exports org.eclipse.persistence.sessions.server;
     exports org.eclipse.persistence.tools;
     exports org.eclipse.persistence.tools.profiler;
+    exports org.eclipse.persistence.tools.profiler.jfr;
     exports org.eclipse.persistence.tools.schemaframework;
     exports org.eclipse.persistence.tools.tuning;
     exports org.eclipse.persistence.transaction;
@@ -78,6 +78,19 @@ public enum CacheType {
      */
     CACHE,
 
+    /**
+     * Similar to the {@linkplain #CACHE} identity map, it maintains a fixed number of
+     * objects specified by the application, removed on an approximately
+     * least-recently-used basis. Cache reads record their access in striped buffers
+     * that are applied in batches, so concurrent reads do not contend on the
+     * least-recently-used list.
+     * <p>
+     * <strong>WARNING:</strong> Furnishes caching and identity, but does not guarantee
+     * identity. Like {@linkplain #CACHE}, it should normally only be used for objects
+     * that have no relationships to them.
+     */
+    CONCURRENT_CACHE,
+
     /**
      * <strong>WARNING:</strong> Does not preserve object identity and does not cache
      * objects. This cache type is not recommend and should normally not be used.
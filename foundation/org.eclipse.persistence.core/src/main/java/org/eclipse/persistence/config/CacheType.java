@@ -83,6 +83,16 @@ public final class CacheType {
      */
     public static final String  Full = "Full";
 
+    /**
+     * A ConcurrentCache holds a fixed size number of objects read by the application,
+     * and evicts the approximately least recently used objects once the size is exceeded.
+     * Cache reads record their access in buffers instead of locking the whole cache.
+     * This does not guarantee object identity for evicted objects, but scales to many concurrent readers.
+     * <p>WARNING: As for any fixed size cache, this cache type should only be used for objects
+     * that have no relationships to them.
+     */
+    public static final String  ConcurrentCache = "ConcurrentCache";
+
     /**
      * NONE does not cache any objects.
      * It allows any un-referenced objects to be free to garbage collection.
@@ -427,6 +427,45 @@ public final class PersistenceUnitProperties {
      */
     public static final String CONNECTION_POOL_FAILOVER = "failover";
 
+    /**
+     * The {@code fair} property.<br>
+     * This can be appended to any connection pool property,
+     * i.e. {@code eclipselink.connection-pool.default.fair}.<br>
+     * Configures whether the connection pool hands connections to waiting threads in arrival order,
+     * and waits without holding a monitor, so waiting virtual threads do not pin their carrier thread.
+     * <p>
+     * This property is ignored in case external connection pools or a shared read connection pool are used.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>{@code false} (DEFAULT) - indicates the monitor based connection pool is used
+     * <li>{@code true} - indicates the fair connection pool is used
+     * </ul>
+     *
+     * @see #CONNECTION_POOL
+     * @see org.eclipse.persistence.sessions.server.FairConnectionPool
+     */
+    public static final String CONNECTION_POOL_FAIR = "fair";
+
+    /**
+     * The {@code prefill} property.<br>
+     * This can be appended to any connection pool property,
+     * i.e. {@code eclipselink.connection-pool.default.prefill}.<br>
+     * Configures whether a fair connection pool connects its minimum number of connections
+     * in the background after login. Only the initial number of connections are connected during login.
+     * <p>
+     * This property is ignored unless the {@code fair} property is set.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>{@code false} (DEFAULT) - indicates connections are connected on demand
+     * <li>{@code true} - indicates the pool is filled up to its minimum size in the background
+     * </ul>
+     *
+     * @see #CONNECTION_POOL_FAIR
+     */
+    public static final String CONNECTION_POOL_PREFILL = "prefill";
+
     /**
      * Allow configuring a {@code eclipselink.connection-pool.} properties.
      * The name of the connection pool must be appended to configure the pool,
@@ -455,6 +494,8 @@ public final class PersistenceUnitProperties {
      * <li> {@code nonJtaDataSource} - non JTA DataSource name to use for the connection, if different from the default.
      * <li> {@code user} - user to use for the connection, if different from the default.
      * <li> {@code password} - password to use for the connection, if different from the default.
+     * <li> {@code fair} - hands connections to waiting threads in arrival order, without pinning virtual threads.
+     * <li> {@code prefill} - only for fair connection pools, connects the minimum connections in the background.
      * </ul>
      * <p>
      * <b>Persistence XML example:</b>
@@ -476,6 +517,8 @@ public final class PersistenceUnitProperties {
      * @see #CONNECTION_POOL_JTA_DATA_SOURCE
      * @see #CONNECTION_POOL_NON_JTA_DATA_SOURCE
      * @see #CONNECTION_POOL_SHARED
+     * @see #CONNECTION_POOL_FAIR
+     * @see #CONNECTION_POOL_PREFILL
      * @see org.eclipse.persistence.sessions.server.ConnectionPool
      */
     public static final String CONNECTION_POOL = "eclipselink.connection-pool.";
@@ -1085,6 +1128,22 @@ public final class PersistenceUnitProperties {
      */
     public static final String CACHE_STATEMENTS_SIZE = "eclipselink.jdbc.cache-statements.size";
 
+    /**
+     * The {@code eclipselink.jdbc.cache-statements.normalize} property
+     * specifies whether cached statements are keyed on their SQL with its white space normalized,
+     * so SQL strings that only differ in white space, i.e. from different descriptors or native queries,
+     * share a cached statement.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>{@code false} (DEFAULT) - statements are keyed on their exact SQL.
+     * <li>{@code true} - statements are keyed on their normalized SQL.
+     * </ul>
+     *
+     * @see #CACHE_STATEMENTS
+     */
+    public static final String CACHE_STATEMENTS_NORMALIZE = "eclipselink.jdbc.cache-statements.normalize";
+
     /**
      * The {@code eclipselink.jdbc.cache-statements} property specifies
      * whether JDBC statements should be cached. This is recommended when using
@@ -2442,6 +2501,40 @@ public final class PersistenceUnitProperties {
      */
     public static final String SEQUENCING_START_AT_NEXTVAL = "eclipselink.sequencing.start-sequence-at-nextval";
 
+    /**
+     * The {@code eclipselink.sequencing.background-preallocation} property
+     * configures the preallocated sequence values to be refilled in the background
+     * when they drop below the low-water mark, using the sequence connection pool,
+     * so inserting transactions do not wait for new values to be allocated.
+     * The number of values allocated adapts to the rate they are consumed at.
+     * This requires a sequence connection pool to be configured.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>{@code false} - (DEFAULT) values are allocated by the inserting transaction
+     * <li>{@code true}
+     * </ul>
+     *
+     * @see #CONNECTION_POOL_SEQUENCE
+     * @see #SEQUENCING_BACKGROUND_PREALLOCATION_LOW_WATER_MARK
+     * @see org.eclipse.persistence.sequencing.SequencingControl#setShouldPreallocateInBackground(boolean)
+     */
+    public static final String SEQUENCING_BACKGROUND_PREALLOCATION = "eclipselink.sequencing.background-preallocation";
+
+    /**
+     * The {@code eclipselink.sequencing.background-preallocation.low-water-mark} property
+     * configures the percentage of the allocation size of a sequence below which
+     * its preallocated values are refilled in the background.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>an integer percentage, {@code 25} (DEFAULT)
+     * </ul>
+     *
+     * @see #SEQUENCING_BACKGROUND_PREALLOCATION
+     */
+    public static final String SEQUENCING_BACKGROUND_PREALLOCATION_LOW_WATER_MARK = "eclipselink.sequencing.background-preallocation.low-water-mark";
+
     /**
      * The {@code eclipselink.session.customizer} property configures a
      * {@link org.eclipse.persistence.sessions.SessionCustomizer} used to alter the runtime configuration through
@@ -2551,6 +2644,49 @@ public final class PersistenceUnitProperties {
      */
     public static final String BATCH_WRITING_SIZE = "eclipselink.jdbc.batch-writing.size";
 
+    /**
+     * The {@code eclipselink.jdbc.batch-writing.multi-row-insert} property
+     * configures JDBC batch writing to write batched inserts as multi-row inserts.
+     * Consecutive inserts into the same table are grouped, in the commit order,
+     * and each group is written using INSERT statements with several rows in their VALUES clause.
+     * This is only used with {@code JDBC} batch writing, parameter binding,
+     * and a database platform supporting multi-row inserts, such as MySQL, PostgreSQL,
+     * SQL Server, DB2, Derby, H2 and HSQL.
+     * The batch size is the number of multi-row inserts batched.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>{@code false} - (DEFAULT)
+     * <li>{@code true}
+     * </ul>
+     *
+     * @see #BATCH_WRITING
+     * @see #BATCH_WRITING_SIZE
+     */
+    public static final String BATCH_WRITING_MULTI_ROW_INSERT = "eclipselink.jdbc.batch-writing.multi-row-insert";
+
+    /**
+     * The {@code eclipselink.jdbc.batch-fetch.array-binding} property
+     * configures {@code IN} batch fetching to bind the foreign key values as a single array parameter.
+     * The {@code IN} list is replaced by a sub-select of the array, so each batch fetch query has
+     * the same SQL whatever the number of values, and its statement can be cached.
+     * This is only used with parameter binding, singleton foreign keys, and a database platform
+     * supporting array parameters of the type of the values, such as PostgreSQL, H2,
+     * and the Oracle platforms of the Oracle extension.
+     * Otherwise the {@code IN} list is padded to the next power of two, up to the batch size,
+     * to limit the number of distinct batch fetch statements.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>{@code false} - (DEFAULT)
+     * <li>{@code true}
+     * </ul>
+     *
+     * @see #JDBC_BIND_PARAMETERS
+     * @see #CACHE_STATEMENTS
+     */
+    public static final String BATCH_FETCH_ARRAY_BINDING = "eclipselink.jdbc.batch-fetch.array-binding";
+
     /**
      * The {@code jakarta.persistence.bean.manager} property is used to set
      * CDI BeanManager when available
@@ -2648,6 +2784,8 @@ public final class PersistenceUnitProperties {
      * <b>Allowed Values:</b>
      * <ul>
      * <li>{@code java-serialization} - use {@code org.eclipse.persistence.jpa.metadata.FileBasedProjectCache}
+     * <li>{@code compact} - use {@code org.eclipse.persistence.jpa.metadata.CompactProjectCache}, an indexed format
+     * whose descriptors are read concurrently from the memory mapped file
      * <li>the fully qualified name for a class that implements {@code org.eclipse.persistence.jpa.metadata.ProjectCache} interface
      * </ul>
      *
@@ -2661,7 +2799,8 @@ public final class PersistenceUnitProperties {
      * <p>Specifies the name of the metadata repository xml file to read from using classloader to find the resource</p>
      *
      * <p>This property should be used in conjunction with
-     * {@code eclipselink.project-cache} when a project is serialized to a file for caching.</p>
+     * {@code eclipselink.project-cache} when a project is serialized to a file for caching,
+     * with either {@code java-serialization} or {@code compact}.</p>
      *
      * @see #PROJECT_CACHE
      */
@@ -3185,6 +3324,46 @@ public final class PersistenceUnitProperties {
      */
     public static final String PERSISTENCE_CONTEXT_COMMIT_ORDER = "eclipselink.persistence-context.commit-order";
 
+    /**
+     * The {@code eclipselink.persistence-context.commit-sort-inserts} property configures the ordering of inserts
+     * of a set of new entities of the same entity type during a commit or flush operation.
+     * The inserts are sorted by the Id of the entity referenced by their first foreign key, then by their Id,
+     * so the rows of the same parent are inserted together. This can improve batch writing efficiency.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>{@code false} (DEFAULT) - new entities are inserted in the order they were persisted
+     * <li>{@code true}
+     * </ul>
+     *
+     * @see #PERSISTENCE_CONTEXT_COMMIT_ORDER
+     */
+    public static final String PERSISTENCE_CONTEXT_COMMIT_SORT_INSERTS = "eclipselink.persistence-context.commit-sort-inserts";
+
+    /**
+     * The {@code eclipselink.persistence-context.commit-parallel-prepare} property configures
+     * the insert rows of new entities to be built on concurrent threads during a commit or flush operation.
+     * The entity types are partitioned into groups with no foreign key constraints between them,
+     * the rows of each group are built on their own thread while the commit writes the rows in commit order
+     * on its single connection. This can reduce the commit time of large object graphs spanning many tables.
+     * Only the groups of at least 100 new entities are built on their own thread, the commit builds the others.
+     * <p>
+     * This is only done for non JTA transactions, and when the ids of the new entities are assigned before the commit,
+     * so not with {@code IDENTITY} generation.
+     * Only the rows of entities whose relationships are already loaded are built in parallel, as loading
+     * a relationship would use the persistence context concurrently with the commit; custom converters and
+     * attribute accessors of these entities must be thread safe.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>{@code false} (DEFAULT) - rows are built by the committing thread
+     * <li>{@code true}
+     * </ul>
+     *
+     * @see #PERSISTENCE_CONTEXT_COMMIT_ORDER
+     */
+    public static final String PERSISTENCE_CONTEXT_COMMIT_PARALLEL_PREPARE = "eclipselink.persistence-context.commit-parallel-prepare";
+
     /**
      * The {@code eclipselink.profiler} property configures the type of
      * profiler used to capture runtime statistics.
@@ -3193,6 +3372,8 @@ public final class PersistenceUnitProperties {
      * <ul>
      * <li>{@code NoProfiler} (DEFAULT)
      * <li>{@code PerformanceMonitor} - use {@link org.eclipse.persistence.tools.profiler.PerformanceMonitor}
+     * <li>{@code LatencyProfiler} - use {@link org.eclipse.persistence.tools.profiler.LatencyProfiler}
+     * <li>{@code FlightRecorderProfiler} - use {@link org.eclipse.persistence.tools.profiler.FlightRecorderProfiler}
      * <li>{@code PerformanceProfiler} - use {@link org.eclipse.persistence.tools.profiler.PerformanceProfiler}
      * <li>{@code QueryMonitor} - use {@link org.eclipse.persistence.tools.profiler.QueryMonitor}
      * <li>{@code DMSProfiler} - use {@code org.eclipse.persistence.tools.profiler.oracle.DMSPerformanceProfiler}
@@ -3731,13 +3912,59 @@ public final class PersistenceUnitProperties {
      * or integration with other systems.
      * <p>
      * The full class name of the serializer class should be provided.
+     * The {@code org.eclipse.persistence.sessions.serializers.ChangeSetSerializer} writes the change sets
+     * in a compact binary format, and requires all nodes to share the same persistence unit.
      *
      * @see #COORDINATION_PROTOCOL
      * @see org.eclipse.persistence.sessions.serializers.Serializer
+     * @see org.eclipse.persistence.sessions.serializers.ChangeSetSerializer
      * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setSerializer(org.eclipse.persistence.sessions.serializers.Serializer)
      */
     public static final String COORDINATION_SERIALIZER = "eclipselink.cache.coordination.serializer";
 
+    /**
+     * The {@code eclipselink.cache.coordination.coalescing.window}
+     * property configures the time in milliseconds that cache coordination
+     * buffers asynchronously propagated changes to send them together.
+     * <p>
+     * The changes of the units of work committed during the window are merged,
+     * and sent to each node as a single message by a single sender thread.
+     * This reduces the number of messages under a high commit rate,
+     * at the cost of delaying the changes by up to the window.
+     * <p>
+     * The default is 0, the changes of each unit of work are sent on their own.
+     *
+     * @see #COORDINATION_COALESCING_SIZE
+     * @see #COORDINATION_COMPRESSION
+     * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setCommandCoalescingWindow(long)
+     */
+    public static final String COORDINATION_COALESCING_WINDOW = "eclipselink.cache.coordination.coalescing.window";
+
+    /**
+     * The {@code eclipselink.cache.coordination.coalescing.size}
+     * property configures the maximum number of changes that cache coordination sends together,
+     * they are sent before the end of the coalescing window when it is reached.
+     * <p>
+     * The default is 100.
+     *
+     * @see #COORDINATION_COALESCING_WINDOW
+     * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setCommandCoalescingSize(int)
+     */
+    public static final String COORDINATION_COALESCING_SIZE = "eclipselink.cache.coordination.coalescing.size";
+
+    /**
+     * The {@code eclipselink.cache.coordination.compression}
+     * property configures if cache coordination compresses the changes sent together
+     * ({@code true}), or not ({@code false}).
+     * <p>
+     * This only applies when a coalescing window is configured.
+     * The default is {@code false}.
+     *
+     * @see #COORDINATION_COALESCING_WINDOW
+     * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setShouldCompressCommands(boolean)
+     */
+    public static final String COORDINATION_COMPRESSION = "eclipselink.cache.coordination.compression";
+
     /**
      * The {@code eclipselink.cache.coordination.channel} property
      * configures cache coordination for a clustered environment.
@@ -4121,6 +4348,20 @@ public final class PersistenceUnitProperties {
      */
     public static final String CONCURRENCY_MANAGER_ALLOW_STACK_TRACE_READ_LOCK = "eclipselink.concurrency.manager.allow.readlockstacktrace";
 
+    /**
+     * <p>
+     * This property control (enable/disable) the uncontended fast path of the concurrency manager.
+     * When a lock is acquired without having to wait for another thread, the lookups of the dead-lock
+     * diagnostic metadata are skipped, and read locks are not recorded in the read lock manager of the thread.
+     * <p>
+     * <b>Allowed Values</b> (case-sensitive String)<b>:</b>
+     * <ul>
+     * <li>{@code true} (DEFAULT) - record read locks only if their acquisition had to wait
+     * <li>{@code false} - record every read lock acquisition. Has negative impact to the performance.
+     * </ul>
+     */
+    public static final String CONCURRENCY_MANAGER_USE_UNCONTENDED_LOCK_FAST_PATH = "eclipselink.concurrency.manager.uncontended.fast.path";
+
     /**
      * <p>
      * This property control (enable/disable) semaphore in {@link org.eclipse.persistence.internal.descriptors.ObjectBuilder}
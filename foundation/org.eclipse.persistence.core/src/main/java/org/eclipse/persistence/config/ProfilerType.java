@@ -27,12 +27,16 @@
  *
  * @see org.eclipse.persistence.tools.profiler.QueryMonitor
  * @see org.eclipse.persistence.tools.profiler.PerformanceProfiler
+ * @see org.eclipse.persistence.tools.profiler.LatencyProfiler
+ * @see org.eclipse.persistence.tools.profiler.FlightRecorderProfiler
  */
 public final class ProfilerType {
     //A tool used to provide high level performance profiling information
     public static final String PerformanceProfiler = "PerformanceProfiler";
     public static final String QueryMonitor = "QueryMonitor";
     public static final String PerformanceMonitor = "PerformanceMonitor";
+    public static final String LatencyProfiler = "LatencyProfiler";
+    public static final String FlightRecorderProfiler = "FlightRecorderProfiler";
     public static final String DMSProfiler = "DMSProfiler";
     public static final String NoProfiler = "NoProfiler";
 
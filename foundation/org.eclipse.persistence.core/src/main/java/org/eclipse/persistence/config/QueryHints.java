@@ -164,6 +164,17 @@ public final class QueryHints {
      */
     public static final String QUERY_RESULTS_CACHE_INVALIDATE = "eclipselink.query-results-cache.invalidate-on-change";
 
+    /**
+     * "eclipselink.query-results-cache.track-dependencies"
+     * <p>Configures if only the query cache results affected by a change should be invalidated,
+     * instead of all the query cache results on any change.
+     * The results affected are the ones that contain a changed object, or that a changed object now conforms to.
+     * <p>
+     * Valid values are "true" and "false", false is the default.
+     * @see org.eclipse.persistence.queries.QueryResultsCachePolicy#setIsDependencyTracked(boolean)
+     */
+    public static final String QUERY_RESULTS_CACHE_TRACK_DEPENDENCIES = "eclipselink.query-results-cache.track-dependencies";
+
     /**
      * "eclipselink.query-results-cache.type"
      * <p>Configures the cache type of the query's results cache.
@@ -648,6 +659,61 @@ public final class QueryHints {
      */
     public static final String RESULT_SET_CONCURRENCY = "eclipselink.cursor.scrollable.result-set-concurrency";
 
+    /**
+     * "eclipselink.result-stream.release-interval"
+     * <p>Configures the number of results of getResultStream() after which the objects built by the stream
+     * are released from the persistence context.
+     * getResultStream() reads the results through a forward only cursor, building each object when it is consumed,
+     * so releasing the consumed objects lets a large result be processed in constant memory.
+     * Released objects are detached, so changes made to them are not committed.
+     * Entities managed by the persistence context before the stream was read are not released.
+     * The JDBC fetch size of the stream can be configured with JDBC_FETCH_SIZE.
+     * Valid values are Integer or Strings that can be parsed to int values, 0 (the default) does not release the objects.
+     * @see #JDBC_FETCH_SIZE
+     * @see "jakarta.persistence.Query#getResultStream()"
+     */
+    public static final String RESULT_STREAM_RELEASE_INTERVAL = "eclipselink.result-stream.release-interval";
+
+    /**
+     * "eclipselink.parallel-build.chunk-size"
+     * <p>Configures the number of rows built on each thread when the objects of the query are built in parallel.
+     * If the query returns more rows than the chunk size, the rows are split into chunks built on the threads
+     * of the server platform, and the objects are returned in the order of the rows.
+     * This is only done for read-only queries, or queries outside of a persistence context,
+     * without join fetching, batch fetching or query results caching,
+     * and when building the objects does not execute queries (all relationships are lazy).
+     * Valid values are Integer or Strings that can be parsed to int values,
+     * 0 builds the objects on the calling thread, by default the descriptor's chunk size is used (0 unless customized).
+     * @see #READ_ONLY
+     * @see org.eclipse.persistence.descriptors.ClassDescriptor#setParallelBuildChunkSize(int)
+     */
+    public static final String PARALLEL_BUILD_CHUNK_SIZE = "eclipselink.parallel-build.chunk-size";
+
+    /**
+     * "eclipselink.keyset-pagination"
+     * <p>Configures the query to page by the order by key instead of by offset.
+     * The primary key is appended to the order by to make the key unique,
+     * and the page after an entity, set with KEYSET_AFTER, only selects the rows after its key,
+     * so deep pages do not read and skip the rows of the previous pages.
+     * The size of the page is set with setMaxResults.
+     * The order by items must be non null direct attributes of the queried entity, ascending or descending.
+     * Valid values are:  HintValues.FALSE, HintValues.TRUE,
+     * "" could be used instead of default value HintValues.FALSE
+     * @see #KEYSET_AFTER
+     * @see org.eclipse.persistence.queries.ObjectLevelReadQuery#setUsesKeysetPagination(boolean)
+     */
+    public static final String KEYSET_PAGINATION = "eclipselink.keyset-pagination";
+
+    /**
+     * "eclipselink.keyset-pagination.after"
+     * <p>Configures the entity after which the keyset page starts, the last entity of the previous page.
+     * Setting it enables KEYSET_PAGINATION, the first page has no entity.
+     * Valid values are an instance of the query's entity, or "" for the first page.
+     * @see #KEYSET_PAGINATION
+     * @see org.eclipse.persistence.queries.ObjectLevelReadQuery#setKeysetAfter(Object)
+     */
+    public static final String KEYSET_AFTER = "eclipselink.keyset-pagination.after";
+
     /**
      * "eclipselink.fetch-group"
      * <p>Configures the query to use the fetch group object.
@@ -186,6 +186,20 @@ public final class SystemProperties {
      */
     public static final String CONCURRENCY_MANAGER_ALLOW_STACK_TRACE_READ_LOCK = "eclipselink.concurrency.manager.allow.readlockstacktrace";
 
+    /**
+     * <p>
+     * This property control (enable/disable) the uncontended fast path of the concurrency manager.
+     * When a lock is acquired without having to wait for another thread, the lookups of the dead-lock
+     * diagnostic metadata are skipped, and read locks are not recorded in the read lock manager of the thread.
+     * <p>
+     * <b>Allowed Values</b> (case sensitive String)<b>:</b>
+     * <ul>
+     * <li>"{@code true}" (DEFAULT) - record read locks only if their acquisition had to wait
+     * <li>"{@code false}" - record every read lock acquisition. Has negative impact to the performance.
+     * </ul>
+     */
+    public static final String CONCURRENCY_MANAGER_USE_UNCONTENDED_LOCK_FAST_PATH = "eclipselink.concurrency.manager.uncontended.fast.path";
+
     /**
      * <p>
      * This property control (enable/disable) semaphore in {@link org.eclipse.persistence.internal.descriptors.ObjectBuilder}
@@ -1006,6 +1006,18 @@ public boolean isIndexableExpression(Expression expression, ClassDescriptor desc
         return false;
     }
 
+    /**
+     * PUBLIC:
+     * Set the class of identity map to be the concurrent cache identity map.
+     * This map caches a fixed number of instances and evicts them on an approximate LRU basis,
+     * without serializing cache reads on the LRU list.
+     * Note: This map does not guarantee object identity.
+     * The default is the "SoftCacheWeakIdentityMap".
+     */
+    public void useConcurrentCacheIdentityMap() {
+        setIdentityMapClass(ClassConstants.ConcurrentCacheIdentityMap_Class);
+    }
+
     /**
      * PUBLIC:
      * Set the class of identity map to be the full identity map.
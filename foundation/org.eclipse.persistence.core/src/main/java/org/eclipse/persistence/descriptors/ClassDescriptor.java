@@ -194,6 +194,9 @@ public class ClassDescriptor extends CoreDescriptor<AttributeGroup, DescriptorEv
     protected boolean shouldBeReadOnly;
     protected boolean shouldAlwaysConformResultsInUnitOfWork;
 
+    /** The number of rows built on each thread when building read all results in parallel, 0 if built on the calling thread. */
+    protected int parallelBuildChunkSize;
+
     // for bug 2612601 allow ability not to register results in UOW.
     protected boolean shouldRegisterResultsInUnitOfWork = true;
 
@@ -1996,6 +1999,34 @@ public HistoryPolicy getHistoryPolicy() {
         return historyPolicy;
     }
 
+    /**
+     * PUBLIC:
+     * Return the number of rows built on each thread when the objects of a read all query are built in parallel.
+     * 0 (the default) builds the objects on the calling thread.
+     * @see #setParallelBuildChunkSize(int)
+     */
+    public int getParallelBuildChunkSize() {
+        return parallelBuildChunkSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the number of rows built on each thread when the objects of a read all query are built in parallel.
+     * The rows of a read all query returning more rows than the chunk size are split into chunks,
+     * built on the threads of the server platform, and the objects are returned in the order of the rows.
+     * The objects are built through the identity map, so a row read twice still builds a single object.
+     * <p>
+     * Objects are only built in parallel outside of a unit of work (for read-only queries, or queries on the session),
+     * when the query does not use joining, batch fetching or query results caching,
+     * and when building the objects does not execute queries (all relationships use indirection).
+     * Descriptor events are raised on the building threads.
+     * This can be overridden for a query by {@link org.eclipse.persistence.queries.ReadAllQuery#setParallelBuildChunkSize(Integer)}.
+     * 0 (the default) builds the objects on the calling thread.
+     */
+    public void setParallelBuildChunkSize(int parallelBuildChunkSize) {
+        this.parallelBuildChunkSize = parallelBuildChunkSize;
+    }
+
     /**
      * PUBLIC:
      * Return the descriptor's partitioning policy.
@@ -5516,6 +5547,14 @@ public boolean shouldUseCacheIdentityMap() {
         return ClassConstants.CacheIdentityMap_Class.equals(getIdentityMapClass());
     }
 
+    /**
+     * PUBLIC:
+     * Return true if this descriptor is using ConcurrentCacheIdentityMap
+     */
+    public boolean shouldUseConcurrentCacheIdentityMap() {
+        return ClassConstants.ConcurrentCacheIdentityMap_Class.equals(getIdentityMapClass());
+    }
+
     /**
      * PUBLIC:
      * Return true if this descriptor is using FullIdentityMap
@@ -5692,6 +5731,18 @@ public void useCacheIdentityMap() {
         setIdentityMapClass(ClassConstants.CacheIdentityMap_Class);
     }
 
+    /**
+     * PUBLIC:
+     * Set the class of identity map to be the concurrent cache identity map.
+     * This map caches the approximately LRU instances read from the database,
+     * without serializing cache reads on the LRU list.
+     * Note: This map does not guarantee object identity.
+     * The default is the "SoftCacheWeakIdentityMap".
+     */
+    public void useConcurrentCacheIdentityMap() {
+        getCachePolicy().useConcurrentCacheIdentityMap();
+    }
+
     /**
      * PUBLIC:
      * Set the locking policy a changed fields locking policy.
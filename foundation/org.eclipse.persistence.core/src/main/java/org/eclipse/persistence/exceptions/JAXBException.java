@@ -128,6 +128,8 @@ public class JAXBException extends EclipseLinkException {
     public static final int UNKNOWN_PROPERTY_FOR_VARIABLE_MAPPING = 50094;
     public static final int INVALID_TYPE_FOR_VARIABLE_MAPPING = 50095;
     public static final int MUST_MAP_TO_TEXT = 50096;
+    public static final int INVALID_CONTEXT_SNAPSHOT = 50097;
+    public static final int STALE_CONTEXT_SNAPSHOT = 50098;
 
 
     protected JAXBException(String message) {
@@ -1128,4 +1130,24 @@ public static JAXBException mustMapToText(String propName, String typeName, Stri
         return validationException;
     }
 
+    /**
+     * The JAXBContext snapshot could not be read, or was written by a different EclipseLink version.
+     */
+    public static JAXBException invalidContextSnapshot(String version, Exception internalException) {
+        Object[] args = { version };
+        JAXBException exception = new JAXBException(ExceptionMessageGenerator.buildMessage(JAXBException.class, INVALID_CONTEXT_SNAPSHOT, args), internalException);
+        exception.setErrorCode(INVALID_CONTEXT_SNAPSHOT);
+        return exception;
+    }
+
+    /**
+     * A class of the JAXBContext snapshot has changed since the snapshot was written.
+     */
+    public static JAXBException staleContextSnapshot(String className) {
+        Object[] args = { className };
+        JAXBException exception = new JAXBException(ExceptionMessageGenerator.buildMessage(JAXBException.class, STALE_CONTEXT_SNAPSHOT, args));
+        exception.setErrorCode(STALE_CONTEXT_SNAPSHOT);
+        return exception;
+    }
+
 }
@@ -122,7 +122,9 @@ public final class JAXBExceptionResource extends ListResourceBundle {
         {"50093", "The class {0} is not a mapped type in the JAXBContext."},
         {"50094", "The property {0} specified on the XmlVariableNode annotation was not found on the class {1}."},
         {"50095", "The property {0} of type {1} on the class {2} is not valid for a XmlVariableNode.  Only properties of type String or QName are allowed."},
-        {"50096", "The @XmlAttribute property {0} in type {1} must reference a type that maps to text in XML.  {2} cannot be mapped to a text value."}
+        {"50096", "The @XmlAttribute property {0} in type {1} must reference a type that maps to text in XML.  {2} cannot be mapped to a text value."},
+        {"50097", "The JAXBContext snapshot cannot be read by EclipseLink {0}."},
+        {"50098", "The JAXBContext snapshot is stale, the class {0} has changed since the snapshot was written."}
     };
 
     /**
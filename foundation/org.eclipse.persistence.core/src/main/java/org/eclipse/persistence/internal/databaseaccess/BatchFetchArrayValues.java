@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.databaseaccess;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+
+/**
+ * INTERNAL:
+ * The foreign key values of an IN batch fetch query, bound as a single array parameter.
+ * When the call binds its parameters, the IN list is translated to the platform's sub-select of the array,
+ * so the SQL is the same whatever the number of values,
+ * otherwise the values are printed as any IN list.
+ * @see DatabasePlatform#buildBatchFetchINValues(java.util.List, int)
+ */
+public class BatchFetchArrayValues extends ArrayList<Object> {
+
+    /** The SQL type name of the elements of the array. */
+    protected String elementTypeName;
+
+    /** The sub-select of the elements of the array parameter replacing the IN list. */
+    protected String subselect;
+
+    public BatchFetchArrayValues(Collection<?> values, String elementTypeName, String subselect) {
+        super(values);
+        this.elementTypeName = elementTypeName;
+        this.subselect = subselect;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the SQL type name of the elements of the array.
+     */
+    public String getElementTypeName() {
+        return elementTypeName;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the sub-select of the elements of the array parameter replacing the IN list, i.e. "(SELECT * FROM UNNEST(?))".
+     */
+    public String getSubselect() {
+        return subselect;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the parameter binding the values as an array.
+     */
+    public BindCallCustomParameter buildParameter() {
+        return new ArrayParameter(this.elementTypeName, toArray());
+    }
+
+    /**
+     * INTERNAL:
+     * Bind the values as an array created by the platform from the statement's connection.
+     */
+    protected static class ArrayParameter extends BindCallCustomParameter {
+
+        protected String elementTypeName;
+
+        protected ArrayParameter(String elementTypeName, Object[] values) {
+            super(values);
+            this.elementTypeName = elementTypeName;
+        }
+
+        @Override
+        public void set(DatabasePlatform platform, PreparedStatement statement, int parameterIndex, AbstractSession session) throws SQLException {
+            Array array = platform.createArray(this.elementTypeName, (Object[])this.obj, session, statement.getConnection());
+            statement.setArray(parameterIndex, array);
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString((Object[])this.obj);
+        }
+    }
+}
@@ -93,6 +93,14 @@ protected void clearCacheQueryTimeout() {
         queryTimeoutCache = DescriptorQueryManager.NoTimeout;
     }
 
+    /**
+     * INTERNAL:
+     * Record in the platform statistics that the rows were written in a single round trip to the database.
+     */
+    protected void recordRoundTrip(int rows) {
+        this.databaseAccessor.getPlatform().getBatchWritingStatistics().recordRoundTrip(rows);
+    }
+
     /**
      * INTERNAL:
      * Sets the accessor that this mechanism will use
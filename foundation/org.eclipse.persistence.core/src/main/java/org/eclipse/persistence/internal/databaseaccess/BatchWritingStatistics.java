@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.databaseaccess;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * INTERNAL:
+ * Row and round trip counters of the batch writing mechanisms.
+ * One instance is held by the platform, so it is shared by all the accessors of a login,
+ * and gives the rows written per round trip to the database across all the connections of the session.
+ * A row is a batched statement, or a row of a multi-row insert.
+ * @see DatabasePlatform#getBatchWritingStatistics()
+ */
+public class BatchWritingStatistics implements Serializable {
+
+    protected final LongAdder rows;
+    protected final LongAdder roundTrips;
+
+    public BatchWritingStatistics() {
+        this.rows = new LongAdder();
+        this.roundTrips = new LongAdder();
+    }
+
+    /**
+     * Record that the rows were written in a single round trip to the database.
+     */
+    public void recordRoundTrip(int rows) {
+        this.rows.add(rows);
+        this.roundTrips.increment();
+    }
+
+    /**
+     * Return the number of rows written by batch writing.
+     */
+    public long getRowCount() {
+        return this.rows.sum();
+    }
+
+    /**
+     * Return the number of round trips to the database executed by batch writing.
+     */
+    public long getRoundTripCount() {
+        return this.roundTrips.sum();
+    }
+
+    /**
+     * Return the average number of rows written per round trip, or 0 if none were executed.
+     */
+    public double getRowsPerRoundTrip() {
+        long roundTrips = getRoundTripCount();
+        if (roundTrips == 0) {
+            return 0;
+        }
+        return (double)getRowCount() / roundTrips;
+    }
+
+    /**
+     * Reset all counters.
+     */
+    public void reset() {
+        this.rows.reset();
+        this.roundTrips.reset();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(rows=" + getRowCount() + ", roundTrips=" + getRoundTripCount() + ")";
+    }
+}
@@ -32,6 +32,7 @@
 
 // javase imports
 
+import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.QueryException;
 import org.eclipse.persistence.internal.helper.ClassConstants;
@@ -39,6 +40,7 @@
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.helper.LOBValueWriter;
 import org.eclipse.persistence.internal.helper.NonSynchronizedVector;
+import org.eclipse.persistence.internal.helper.RowPipeline;
 import org.eclipse.persistence.internal.helper.ThreadCursoredList;
 import org.eclipse.persistence.internal.localization.ExceptionLocalization;
 import org.eclipse.persistence.internal.localization.ToStringLocalization;
@@ -49,10 +51,13 @@
 import org.eclipse.persistence.mappings.structures.ObjectRelationalDataTypeDescriptor;
 import org.eclipse.persistence.queries.Call;
 import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.ReadAllQuery;
 import org.eclipse.persistence.sessions.DatabaseLogin;
 import org.eclipse.persistence.sessions.DatabaseRecord;
 import org.eclipse.persistence.sessions.Login;
 import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.tools.profiler.jfr.FlightRecorderEvents;
+import org.eclipse.persistence.tools.profiler.jfr.SqlExecutionEvent;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -69,9 +74,9 @@
 import java.sql.SQLWarning;
 import java.sql.Statement;
 import java.sql.Types;
-import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Vector;
@@ -105,7 +110,7 @@ public class DatabaseAccessor extends DatasourceAccessor {
     /** PERF: Backdoor to disabling dynamic statements. Reverts to old prepared statement usage if set. */
     public static boolean shouldUseDynamicStatements = true;
 
-    /** Stores statement handles for common used prepared statements. */
+    /** Stores statement handles for common used prepared statements, in the order they were released. */
     protected Map<String, Statement> statementCache;
 
     /** Cache of the connection's java.sql.DatabaseMetaData */
@@ -589,10 +594,7 @@ public Object basicExecuteCall(Call call, AbstractRecord translationRow, Abstrac
      * @return depending of the type either the row count, row or vector of rows.
      */
     public Object basicExecuteCall(Call call, AbstractRecord translationRow, AbstractSession session, boolean batch) throws DatabaseException {
-        Statement statement = null;
-        Object result = null;
         DatabaseCall dbCall = null;
-        ResultSet resultSet = null;// only used if this is a read query
         try {
             dbCall = (DatabaseCall)call;
         } catch (ClassCastException e) {
@@ -620,6 +622,28 @@ public Object basicExecuteCall(Call call, AbstractRecord translationRow, Abstrac
             }
         }
 
+        SqlExecutionEvent event = FlightRecorderEvents.beginSqlExecution();
+        if (event == null) {
+            return executeStatement(dbCall, translationRow, session, null);
+        }
+        Object result = null;
+        try {
+            result = executeStatement(dbCall, translationRow, session, event);
+            return result;
+        } finally {
+            FlightRecorderEvents.endSqlExecution(event, dbCall, result, session);
+        }
+    }
+
+    /**
+     * Prepare and execute the statement of the call, and process its result.
+     * @param event the flight recorder event of the execution, or null if it is not recorded.
+     * @return depending of the type either the row count, row or vector of rows.
+     */
+    protected Object executeStatement(DatabaseCall dbCall, AbstractRecord translationRow, AbstractSession session, SqlExecutionEvent event) throws DatabaseException {
+        Statement statement = null;
+        Object result = null;
+        ResultSet resultSet = null;// only used if this is a read query
         try {
             incrementCallCount(session);
             if (session.shouldLog(SessionLog.FINE, SessionLog.SQL)) {// Avoid printing if no logging required.
@@ -672,7 +696,13 @@ public Object basicExecuteCall(Call call, AbstractRecord translationRow, Abstrac
                     this.possibleFailure = false;
                     return dbCall;
                 }
-                result = processResultSet(resultSet, dbCall, statement, session);
+                if (event == null) {
+                    result = processResultSet(resultSet, dbCall, statement, session);
+                } else {
+                    long fetchStartTime = System.nanoTime();
+                    result = processResultSet(resultSet, dbCall, statement, session);
+                    event.fetchTime = System.nanoTime() - fetchStartTime;
+                }
             }
             if (result instanceof ThreadCursoredList) {
                 this.possibleFailure = false;
@@ -776,7 +806,14 @@ public Object processResultSet(ResultSet resultSet, DatabaseCall call, Statement
                     boolean hasNext = resultSet.next();
                     // PERF: Optimize out simple empty case.
                     if (hasNext) {
-                        if (session.isConcurrent()) {
+                        Vector<AbstractRecord> pipelinedResult = null;
+                        if (shouldPipelineRows(call, session)) {
+                            pipelinedResult = buildPipelinedResult(call, resultSet, statement, metaData, session);
+                        }
+                        if (pipelinedResult != null) {
+                            // Do not close the result or statement as the rows are being fetched by the thread.
+                            return pipelinedResult;
+                        } else if (session.isConcurrent()) {
                             // If using threading return the cursored list,
                             // do not close the result or statement as the rows are being fetched by the thread.
                             return buildThreadCursoredResult(call, resultSet, statement, metaData, session);
@@ -824,6 +861,109 @@ public Object processResultSet(ResultSet resultSet, DatabaseCall call, Statement
         return result;
     }
 
+    /**
+     * Return if the rows of the call can be fetched through a row pipeline.
+     * The rows of a pipeline can only be iterated once, so this is only done
+     * for read all queries that only iterate over their rows to build their objects,
+     * and read through the server session, so that the queries run while building the objects
+     * do not use the connection fetching the rows.
+     * Batch fetching needs all the rows, and building objects that run queries
+     * could wait on the pool for a connection while the pipeline holds one, so neither is pipelined.
+     */
+    protected boolean shouldPipelineRows(DatabaseCall call, AbstractSession session) {
+        if ((session.getRowPipelineSize() <= 0) || !session.isServerSession() || call.hasMultipleResultSets()) {
+            return false;
+        }
+        DatabaseQuery query = call.getQuery();
+        if ((query == null) || !query.isReadAllQuery() || query.isReportQuery()) {
+            return false;
+        }
+        ReadAllQuery readAllQuery = (ReadAllQuery)query;
+        ClassDescriptor descriptor = readAllQuery.getDescriptor();
+        if (readAllQuery.hasJoining() || readAllQuery.shouldIncludeData() || (readAllQuery.getRedirector() != null)
+                || readAllQuery.hasBatchFetchPolicy() || descriptor.getObjectBuilder().hasBatchFetchedAttributes()
+                || !descriptor.getObjectBuilder().buildsAllObjectsWithoutQueries()
+                || descriptor.getCachePolicy().shouldPrefetchCacheKeys() || descriptor.hasTablePerClassPolicy()
+                || (descriptor.hasInheritance() && descriptor.getInheritancePolicy().requiresMultipleTableSubclassRead())) {
+            return false;
+        }
+        // Conforming needs all the rows.
+        return !(readAllQuery.getSession().isUnitOfWork()
+                && (readAllQuery.shouldConformResultsInUnitOfWork() || descriptor.shouldAlwaysConformResultsInUnitOfWork()));
+    }
+
+    /**
+     * Fetch the rows on a thread of the server platform, concurrently to the objects being built,
+     * through a bounded row pipeline.
+     * Return null if the thread cannot be started, so the rows are fetched by the caller.
+     */
+    protected Vector<AbstractRecord> buildPipelinedResult(final DatabaseCall dbCall, final ResultSet resultSet, final Statement statement, final ResultSetMetaData metaData, final AbstractSession session) {
+        final RowPipeline<AbstractRecord> results = new RowPipeline<>(session.getRowPipelineSize(), session);
+        Runnable runnable = new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    session.startOperationProfile(SessionProfiler.RowFetch, dbCall.getQuery(), SessionProfiler.ALL);
+                    try {
+                        // Initial next was already validated before this method is called.
+                        boolean hasNext = true;
+                        // Stop fetching if the rows are no longer consumed.
+                        while (hasNext && results.add(fetchRow(dbCall.getFields(), dbCall.getFieldsArray(), resultSet, metaData, session))) {
+                            hasNext = resultSet.next();
+                        }
+                        resultSet.close();// This must be closed in case the statement is cached and not closed.
+                    } catch (SQLException exception) {
+                        //If this is a connection from an external pool then closeStatement will close the connection.
+                        //we must test the connection before that happens.
+                        RuntimeException exceptionToThrow = processExceptionForCommError(session, exception, dbCall);
+                        try {// Ensure that the statement is closed, but still ensure that the real exception is thrown.
+                            closeStatement(statement, session, dbCall);
+                        } catch (Exception closeException) {
+                        }
+                        if (exceptionToThrow == null){
+                            exceptionToThrow = DatabaseException.sqlException(exception, dbCall, DatabaseAccessor.this, session, false);
+                        }
+                        results.throwException(exceptionToThrow);
+                        return;
+                    } catch (RuntimeException exception) {
+                        try {// Ensure that the statement is closed, but still ensure that the real exception is thrown.
+                            closeStatement(statement, session, dbCall);
+                        } catch (Exception closeException) {
+                        }
+                        if (exception instanceof DatabaseException) {
+                            ((DatabaseException)exception).setCall(dbCall);
+                        }
+                        results.throwException(exception);
+                        return;
+                    } finally {
+                        session.endOperationProfile(SessionProfiler.RowFetch, dbCall.getQuery(), SessionProfiler.ALL);
+                    }
+
+                    // This is in a separate try block to ensure that the real exception is not masked by the close exception.
+                    try {
+                        // Allow for caching of statement, forced closes are not cache as they failed execution so are most likely bad.
+                        DatabaseAccessor.this.releaseStatement(statement, dbCall.getSQLString(), dbCall, session);
+                    } catch (SQLException exception) {
+                        //With an external connection pool the connection may be null after this call, if it is we will
+                        //be unable to determine if it is a connection based exception so treat it as if it wasn't.
+                        DatabaseException commException = processExceptionForCommError(session, exception, dbCall);
+                        results.throwException((commException != null) ? commException : DatabaseException.sqlException(exception, DatabaseAccessor.this, session, false));
+                    }
+                } finally {
+                    results.setIsComplete(true);
+                    session.releaseReadConnection(DatabaseAccessor.this);
+                }
+            }
+        };
+        try {
+            session.getServerPlatform().launchContainerRunnable(runnable);
+        } catch (RuntimeException exception) {
+            return null;
+        }
+        dbCall.returnCursor();
+        return results;
+    }
+
     /**
      * This allows for the rows to be fetched concurrently to the objects being built.
      * This code is not currently publicly supported.
@@ -1562,14 +1702,66 @@ protected boolean hasStatementCache() {
 
     /**
      * The statement cache stores a fixed sized number of prepared statements.
+     * Statements are removed while in use and put back when released,
+     * so the insertion order of the cache is its least recently used order.
      */
     protected synchronized Map<String, Statement> getStatementCache() {
         if (statementCache == null) {
-            statementCache = new HashMap<>(50);
+            statementCache = new LinkedHashMap<>(50);
         }
         return statementCache;
     }
 
+    /**
+     * Return the key of the statement for the SQL in the statement cache.
+     * Statements prepared differently for the same SQL must not be shared,
+     * and if configured on the platform, SQL strings only differing in white space share a statement.
+     */
+    protected String buildStatementCacheKey(String sql, DatabaseCall call) {
+        String key = sql;
+        if (getPlatform().shouldNormalizeStatementCacheKeys()) {
+            key = normalizeWhiteSpace(sql);
+        }
+        if (call != null) {
+            if (call.isCallableStatementRequired()) {
+                key = key + " /*callable*/";
+            } else if (call.shouldReturnGeneratedKeys()) {
+                key = key + " /*generated keys*/";
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Return the SQL with leading and trailing white space removed,
+     * and any other white space outside of quotes replaced by a single space.
+     */
+    public static String normalizeWhiteSpace(String sql) {
+        int length = sql.length();
+        StringBuilder normalized = new StringBuilder(length);
+        char quote = 0;
+        boolean isSpacePending = false;
+        for (int index = 0; index < length; index++) {
+            char character = sql.charAt(index);
+            if (quote != 0) {
+                if (character == quote) {
+                    quote = 0;
+                }
+            } else if (Character.isWhitespace(character)) {
+                isSpacePending = normalized.length() > 0;
+                continue;
+            } else if ((character == '\'') || (character == '"')) {
+                quote = character;
+            }
+            if (isSpacePending) {
+                normalized.append(' ');
+                isSpacePending = false;
+            }
+            normalized.append(character);
+        }
+        return normalized.toString();
+    }
+
     /**
      * Get a description of tables available in a catalog.
      *
@@ -1710,12 +1902,10 @@ public Statement prepareStatement(DatabaseCall call, AbstractSession session, bo
             // Check the cache by sql string, must synchronize check and removal.
             Map<String, Statement> statementCache = getStatementCache();
             synchronized (statementCache) {
-                statement = statementCache.get(call.getSQLString());
-                if (statement != null) {
-                    // Need to remove to allow concurrent statement execution.
-                    statementCache.remove(call.getSQLString());
-                }
+                // Need to remove to allow concurrent statement execution.
+                statement = statementCache.remove(buildStatementCacheKey(call.getSQLString(), call));
             }
+            recordStatementCacheLookup(statement != null, session);
         }
 
         if (statement == null) {
@@ -1765,12 +1955,10 @@ public PreparedStatement prepareStatement(String sql, AbstractSession session, b
         if (getPlatform().shouldCacheAllStatements()) {
             Map<String, Statement> statementCache = getStatementCache();
             synchronized (statementCache) {
-                statement = (PreparedStatement)statementCache.get(sql);
-                if (statement != null) {
-                    // Need to remove to allow concurrent statement execution.
-                    statementCache.remove(sql);
-                }
+                // Need to remove to allow concurrent statement execution.
+                statement = (PreparedStatement)statementCache.remove(buildStatementCacheKey(sql, null));
             }
+            recordStatementCacheLookup(statement != null, session);
         }
 
         if (statement == null) {
@@ -1828,22 +2016,27 @@ public void releaseStatement(Statement statement, String sqlString, DatabaseCall
         if (((call == null) && getPlatform().shouldCacheAllStatements())
                 || ((call != null) && call.usesBinding(session) && call.shouldCacheStatement(session))) {
             Map<String, Statement> statementCache = getStatementCache();
+            String key = buildStatementCacheKey(sqlString, call);
             synchronized (statementCache) {
                 PreparedStatement preparedStatement = (PreparedStatement)statement;
-                if (!statementCache.containsKey(sqlString)) {// May already be there by other thread.
+                if (!statementCache.containsKey(key)) {// May already be there by other thread.
                     preparedStatement.clearParameters();
                     // Bug 5709179 - reset statement settings on cached statements (dminsky) - inclusion of reset
                     if (call != null) {
                         resetStatementFromCall(preparedStatement, call);
                     }
-                    if (statementCache.size() > getPlatform().getStatementCacheSize()) {
-                        // Currently one is removed at random...
-                        PreparedStatement removedStatement = (PreparedStatement)statementCache.remove(statementCache.keySet().iterator().next());
+                    if (!statementCache.isEmpty() && (statementCache.size() >= getPlatform().getStatementCacheSize())) {
+                        // Remove the least recently used statement, the first in insertion order.
+                        Iterator<Statement> iterator = statementCache.values().iterator();
+                        PreparedStatement removedStatement = (PreparedStatement)iterator.next();
+                        iterator.remove();
+                        getPlatform().getStatementCacheStatistics().recordEviction();
+                        session.incrementProfile(SessionProfiler.StatementCacheEvictions);
                         closeStatement(removedStatement, session, call);
                     } else {
                         decrementCallCount();
                     }
-                    statementCache.put(sqlString, preparedStatement);
+                    statementCache.put(key, preparedStatement);
                 } else {
                     // CR... Must close the statement if not cached.
                     closeStatement(statement, session, call);
@@ -1862,6 +2055,19 @@ public void releaseStatement(Statement statement, String sqlString, DatabaseCall
         }
     }
 
+    /**
+     * Record the statement cache lookup in the platform statistics and the session profiler.
+     */
+    protected void recordStatementCacheLookup(boolean isHit, AbstractSession session) {
+        if (isHit) {
+            getPlatform().getStatementCacheStatistics().recordHit();
+            session.incrementProfile(SessionProfiler.StatementCacheHits);
+        } else {
+            getPlatform().getStatementCacheStatistics().recordMiss();
+            session.incrementProfile(SessionProfiler.StatementCacheMisses);
+        }
+    }
+
     /**
      * Reset the Query Timeout, Max Rows, Resultset fetch size on the Statement
      * if the DatabaseCall has values which differ from the default settings.
@@ -101,6 +101,7 @@
 import java.sql.Statement;
 import java.sql.Struct;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.HashMap;
@@ -156,6 +157,12 @@ public class DatabasePlatform extends DatasourcePlatform {
     /** The statement cache size for prepare parameterized statements. */
     protected int statementCacheSize;
 
+    /** Key cached statements on the SQL with its white space normalized, so equivalent SQL strings share a statement. */
+    protected boolean shouldNormalizeStatementCacheKeys;
+
+    /** Hit, miss and eviction counters shared by the statement caches of all accessors using this platform. */
+    protected StatementCacheStatistics statementCacheStatistics;
+
     /** Can be used if the app expects upper case but the database is not return consistent case, i.e. different databases. */
     protected boolean shouldForceFieldNamesToUpperCase;
 
@@ -186,6 +193,15 @@ public class DatabasePlatform extends DatasourcePlatform {
     /** Allow for a custom batch writing mechanism. **/
     protected BatchWritingMechanism batchWritingMechanism;
 
+    /** Allow parameterized batch writing to write batched inserts as multi-row inserts. **/
+    protected boolean usesMultiRowInsertBatchWriting;
+
+    /** Row and round trip counters shared by the batch writing mechanisms of all accessors using this platform. */
+    protected BatchWritingStatistics batchWritingStatistics;
+
+    /** Bind the values of IN batch fetching as an array, or pad them to a few sizes, so the SQL of each batch is the same. **/
+    protected boolean usesArrayBindingForBatchFetch;
+
     /** Allow configuration option to use Where clause outer joining or From clause joining. **/
     protected Boolean printOuterJoinInWhereClause;
 
@@ -297,9 +313,14 @@ public DatabasePlatform() {
         this.shouldCacheAllStatements = false;
         this.shouldOptimizeDataConversion = true;
         this.statementCacheSize = 50;
+        this.shouldNormalizeStatementCacheKeys = false;
+        this.statementCacheStatistics = new StatementCacheStatistics();
         this.shouldForceFieldNamesToUpperCase = false;
         this.maxBatchWritingSize = 0;
         this.usesJDBCBatchWriting = true;
+        this.usesMultiRowInsertBatchWriting = false;
+        this.batchWritingStatistics = new BatchWritingStatistics();
+        this.usesArrayBindingForBatchFetch = false;
         this.transactionIsolation = -1;
         this.cursorCode = -10;
         this.supportsAutoCommit = true;
@@ -462,6 +483,74 @@ public Expression buildBatchCriteria(ExpressionBuilder builder,Expression field)
                 builder.getParameter(ForeignReferenceMapping.QUERY_BATCH_PARAMETER));
     }
 
+    /**
+     * INTERNAL:
+     * Return the foreign key values bound to the IN batch fetch query, if the platform binds all parameters.
+     * @see #buildBatchFetchINValues(List, int, boolean)
+     */
+    public List<Object> buildBatchFetchINValues(List<Object> values, int batchSize) {
+        return buildBatchFetchINValues(values, batchSize, shouldBindAllParameters());
+    }
+
+    /**
+     * INTERNAL:
+     * Return the foreign key values of the IN batch fetch query.
+     * If array binding is used for batch fetching, and the parameters are bound,
+     * the values are bound as a single array if the platform supports arrays of the values,
+     * otherwise they are padded to the next power of two, or the batch size, by repeating the last value,
+     * so only a few SQL strings exist for each mapping.
+     * Values that are not bound are printed in the SQL, so they are not padded.
+     */
+    public List<Object> buildBatchFetchINValues(List<Object> values, int batchSize, boolean shouldBind) {
+        int size = values.size();
+        if (!this.usesArrayBindingForBatchFetch || !shouldBind || (size == 0)) {
+            return values;
+        }
+        Class<?> elementClass = values.get(0).getClass();
+        String elementTypeName = getBatchFetchArrayTypeName(elementClass);
+        if (elementTypeName != null) {
+            boolean sameClass = true;
+            for (int index = 1; sameClass && (index < size); index++) {
+                sameClass = values.get(index).getClass() == elementClass;
+            }
+            if (sameClass) {
+                return new BatchFetchArrayValues(values, elementTypeName, getBatchFetchArraySubselect());
+            }
+        }
+        int paddedSize = Integer.highestOneBit(size);
+        if (paddedSize < size) {
+            paddedSize = Math.min(paddedSize << 1, Math.max(batchSize, size));
+        }
+        if (paddedSize > size) {
+            Object last = values.get(size - 1);
+            List<Object> paddedValues = new ArrayList<>(paddedSize);
+            paddedValues.addAll(values);
+            for (int index = size; index < paddedSize; index++) {
+                paddedValues.add(last);
+            }
+            return paddedValues;
+        }
+        return values;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the SQL type name of the array used to bind the IN batch fetch values of the class,
+     * or null if the platform does not bind arrays of the values.
+     * Platforms supporting arrays override this method, and {@link #getBatchFetchArraySubselect()}.
+     */
+    public String getBatchFetchArrayTypeName(Class<?> elementClass) {
+        return null;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the sub-select of the elements of the array parameter replacing the IN list of batch fetching.
+     */
+    public String getBatchFetchArraySubselect() {
+        return "(SELECT * FROM UNNEST(?))";
+    }
+
     /**
      * INTERNAL:
      * Return the selection criteria used to IN batch fetching.
@@ -791,6 +880,7 @@ public void copyInto(Platform platform) {
         databasePlatform.shouldBindPartialParameters = this.shouldBindPartialParameters;
         databasePlatform.setShouldCacheAllStatements(shouldCacheAllStatements());
         databasePlatform.setStatementCacheSize(getStatementCacheSize());
+        databasePlatform.setShouldNormalizeStatementCacheKeys(shouldNormalizeStatementCacheKeys());
         databasePlatform.setTransactionIsolation(getTransactionIsolation());
         databasePlatform.setBatchWritingMechanism(getBatchWritingMechanism());
         databasePlatform.setMaxBatchWritingSize(getMaxBatchWritingSize());
@@ -800,6 +890,8 @@ public void copyInto(Platform platform) {
         databasePlatform.setUsesBatchWriting(usesBatchWriting());
         databasePlatform.setUsesJDBCBatchWriting(usesJDBCBatchWriting());
         databasePlatform.setUsesNativeBatchWriting(usesNativeBatchWriting());
+        databasePlatform.setUsesMultiRowInsertBatchWriting(usesMultiRowInsertBatchWriting());
+        databasePlatform.setUsesArrayBindingForBatchFetch(usesArrayBindingForBatchFetch());
         databasePlatform.setUsesStreamsForBinding(usesStreamsForBinding());
         databasePlatform.shouldCreateIndicesOnForeignKeys = this.shouldCreateIndicesOnForeignKeys;
         databasePlatform.printOuterJoinInWhereClause = this.printOuterJoinInWhereClause;
@@ -1406,6 +1498,14 @@ public int getStatementCacheSize() {
         return statementCacheSize;
     }
 
+    /**
+     * INTERNAL:
+     * Return the hit, miss and eviction counters of the statement caches of the accessors using this platform.
+     */
+    public StatementCacheStatistics getStatementCacheStatistics() {
+        return statementCacheStatistics;
+    }
+
     public String getStoredProcedureParameterPrefix() {
         return "";
     }
@@ -1904,6 +2004,44 @@ public void setUsesJDBCBatchWriting(boolean usesJDBCBatchWriting) {
         this.usesJDBCBatchWriting = usesJDBCBatchWriting;
     }
 
+    /**
+     * PUBLIC:
+     * Set if parameterized batch writing should write batched inserts as multi-row inserts.
+     * Consecutive inserts of the same SQL are grouped, and each group is written using INSERT statements
+     * with several rows in their VALUES clause. The statements are written in the commit order,
+     * a group is written before an insert of another SQL or any other statement is batched.
+     * This is only used if the platform supports multi-row inserts, and batch writing uses JDBC batching and binding.
+     * The default is false.
+     * @see #getMaxMultiRowInsertRows(int)
+     */
+    public void setUsesMultiRowInsertBatchWriting(boolean usesMultiRowInsertBatchWriting) {
+        this.usesMultiRowInsertBatchWriting = usesMultiRowInsertBatchWriting;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if IN batch fetching should bind the foreign key values as a single array parameter,
+     * so the SQL of a batch does not depend on the number of values,
+     * and the statement cache and the database's plan cache can be used.
+     * Platforms not supporting arrays of the values pad the values to the next power of two, or the batch size,
+     * so only a few SQL strings exist for each mapping.
+     * Arrays are only bound if parameters are bound, and values with a composite key are always padded.
+     * The default is false.
+     * @see #getBatchFetchArrayTypeName(Class)
+     */
+    public void setUsesArrayBindingForBatchFetch(boolean usesArrayBindingForBatchFetch) {
+        this.usesArrayBindingForBatchFetch = usesArrayBindingForBatchFetch;
+    }
+
+    /**
+     * PUBLIC:
+     * Return if IN batch fetching should bind the foreign key values as a single array parameter,
+     * or pad them to a few sizes.
+     */
+    public boolean usesArrayBindingForBatchFetch() {
+        return usesArrayBindingForBatchFetch;
+    }
+
     /**
      * Advanced:
      * This is used to enable native batch writing on drivers that support it.  Enabling
@@ -2008,6 +2146,23 @@ public boolean shouldCacheAllStatements() {
         return shouldCacheAllStatements;
     }
 
+    /**
+     * Return if cached statements are keyed on the SQL with its white space normalized,
+     * so SQL strings that only differ in white space share a cached statement.
+     */
+    public boolean shouldNormalizeStatementCacheKeys() {
+        return shouldNormalizeStatementCacheKeys;
+    }
+
+    /**
+     * Set if cached statements are keyed on the SQL with its white space normalized,
+     * so SQL strings that only differ in white space share a cached statement.
+     * The default is false, as normalizing the SQL has a cost on every statement.
+     */
+    public void setShouldNormalizeStatementCacheKeys(boolean shouldNormalizeStatementCacheKeys) {
+        this.shouldNormalizeStatementCacheKeys = shouldNormalizeStatementCacheKeys;
+    }
+
     /**
      * Used for table creation. Most databases create an index automatically
      * when a primary key is created. Symfoware does not.
@@ -2879,6 +3034,33 @@ public boolean usesNativeBatchWriting(){
         return usesNativeBatchWriting;
     }
 
+    /**
+     * PUBLIC:
+     * Return if parameterized batch writing should write batched inserts as multi-row inserts.
+     * @see #setUsesMultiRowInsertBatchWriting(boolean)
+     */
+    public boolean usesMultiRowInsertBatchWriting() {
+        return usesMultiRowInsertBatchWriting;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the maximum number of rows of a multi-row insert with the number of parameters per row,
+     * or 1 if the platform does not support INSERT statements with several rows in their VALUES clause.
+     * Platforms supporting them limit the rows by the number of bind parameters the database allows in a statement.
+     */
+    public int getMaxMultiRowInsertRows(int parametersPerRow) {
+        return 1;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the row and round trip counters of the batch writing mechanisms of the accessors using this platform.
+     */
+    public BatchWritingStatistics getBatchWritingStatistics() {
+        return batchWritingStatistics;
+    }
+
     public boolean usesNativeSQL() {
         return usesNativeSQL;
     }
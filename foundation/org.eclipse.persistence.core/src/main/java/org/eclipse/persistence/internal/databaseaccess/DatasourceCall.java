@@ -1367,7 +1367,11 @@ public void translateQueryStringForParameterizedIN(AbstractRecord translationRow
                     // Process next parameter.
                     Object parameter = parameters.get(parameterIndex);
                     // Parameter expressions are used for nesting and correct mapping conversion of the value.
-                    if (parameter instanceof Collection<?> values) {
+                    if (parameter instanceof BatchFetchArrayValues values) {
+                        // PERF: Bind the IN batch fetch values as a single array, so the SQL does not depend on the number of values.
+                        writer.write(values.getSubselect());
+                        parametersValues.add(values.buildParameter());
+                    } else if (parameter instanceof Collection<?> values) {
                         writer.write("(");
                         if ((!values.isEmpty()) && (values.iterator().next() instanceof List)) {
                             // Support nested lists.
@@ -155,6 +155,7 @@ private void executeBatch(AbstractSession session) {
                         throw OptimisticLockException.batchStatementExecutionFailure();
                     }
                 }
+                recordRoundTrip(1);
             } finally {
                 clear();
             }
@@ -184,6 +185,7 @@ private void executeBatch(AbstractSession session) {
                     throw OptimisticLockException.batchStatementExecutionFailure();
                 }
             }
+            recordRoundTrip(this.sqlStrings.size());
         } finally {
             // Reset the batched sql string
             clear();
@@ -36,6 +36,8 @@
  * INTERNAL:
  * <p>ParameterizedSQLBatchWritingMechanism is a private class, used by the DatabaseAccessor. it provides the required
  * behavior for batching statements, for write, with parameter binding turned on.</p>
+ * <p>If the platform uses multi-row insert batch writing, consecutive inserts of the same SQL are grouped,
+ * and each group is written as INSERT statements with several rows in their VALUES clause.</p>
  *
  * @since OracleAS TopLink 10<i>g</i> (9.0.4)
  */
@@ -54,6 +56,11 @@ public class ParameterizedSQLBatchWritingMechanism extends BatchWritingMechanism
     protected List<List> parameters;
     protected DatabaseCall lastCallAppended;
 
+    /**
+     * The consecutive inserts of the same SQL to write as multi-row inserts.
+     */
+    protected List<DatabaseCall> multiRowInserts;
+
     public ParameterizedSQLBatchWritingMechanism() {
         super();
     }
@@ -61,6 +68,7 @@ public ParameterizedSQLBatchWritingMechanism() {
     public ParameterizedSQLBatchWritingMechanism(DatabaseAccessor databaseAccessor) {
         this.databaseAccessor = databaseAccessor;
         this.parameters = new ArrayList<>();
+        this.multiRowInserts = new ArrayList<>();
         this.maxBatchSize = this.databaseAccessor.getLogin().getPlatform().getMaxBatchWritingSize();
         if (this.maxBatchSize == 0) {
             // the max size was not set on the platform - use default
@@ -77,6 +85,14 @@ public ParameterizedSQLBatchWritingMechanism(DatabaseAccessor databaseAccessor)
     @Override
     public void appendCall(AbstractSession session, DatabaseCall dbCall) {
         if (dbCall.hasParameters()) {
+            if (isMultiRowInsert(dbCall)) {
+                appendMultiRowInsert(session, dbCall);
+                return;
+            }
+            if (!this.multiRowInserts.isEmpty()) {
+                // The grouped inserts must be written before any other statement.
+                executeBatchedStatements(session);
+            }
             //make an equality check on the String, because if we are caching statements then
             //we will not have to perform the string comparison multiple times.
             if (this.previousCall == null) {
@@ -107,6 +123,87 @@ public void appendCall(AbstractSession session, DatabaseCall dbCall) {
         }
     }
 
+    /**
+     * INTERNAL:
+     * Return if the call is an insert that can be written as part of a multi-row insert.
+     * The SQL must end with a VALUES clause of only bind parameters, one for each parameter of the call.
+     */
+    protected boolean isMultiRowInsert(DatabaseCall dbCall) {
+        if (!this.databaseAccessor.getPlatform().usesMultiRowInsertBatchWriting()
+                || !dbCall.getQuery().isInsertObjectQuery() || dbCall.hasOptimisticLock()) {
+            return false;
+        }
+        if (!this.multiRowInserts.isEmpty() && this.multiRowInserts.get(0).getSQLString().equals(dbCall.getSQLString())) {
+            return true;
+        }
+        return getValuesIndex(dbCall.getSQLString(), dbCall.getParameters().size()) != -1;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the index of the row of bind parameters of the VALUES clause ending the insert SQL,
+     * or -1 if the SQL does not end with a VALUES clause of the number of bind parameters only.
+     */
+    public static int getValuesIndex(String sql, int numberOfParameters) {
+        int index = sql.lastIndexOf(" VALUES (");
+        if ((index == -1) || !sql.endsWith(")")) {
+            return -1;
+        }
+        index = index + 8;
+        int count = 0;
+        for (int charIndex = index + 1; charIndex < sql.length() - 1; charIndex++) {
+            char character = sql.charAt(charIndex);
+            if (character == '?') {
+                count++;
+            } else if ((character != ',') && (character != ' ')) {
+                return -1;
+            }
+        }
+        if ((count == 0) || (count != numberOfParameters)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the insert SQL with the row of bind parameters of its VALUES clause repeated for the number of rows.
+     */
+    public static String buildMultiRowInsertSQL(String sql, int valuesIndex, int numberOfRows) {
+        String row = sql.substring(valuesIndex);
+        StringBuilder builder = new StringBuilder(valuesIndex + (numberOfRows * (row.length() + 2)));
+        builder.append(sql, 0, valuesIndex);
+        for (int index = 0; index < numberOfRows; index++) {
+            if (index > 0) {
+                builder.append(", ");
+            }
+            builder.append(row);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * INTERNAL:
+     * Add the insert to the group of the previous inserts if it has the same SQL,
+     * otherwise write the previous inserts first, so the statements are written in the commit order.
+     * The group is written once it fills a JDBC batch of multi-row inserts.
+     */
+    protected void appendMultiRowInsert(AbstractSession session, DatabaseCall dbCall) {
+        if ((this.previousCall != null) || (!this.multiRowInserts.isEmpty()
+                && !this.multiRowInserts.get(0).getSQLString().equals(dbCall.getSQLString()))) {
+            // The batched statements, or the inserts of another SQL, must be written before the insert.
+            executeBatchedStatements(session);
+        }
+        this.multiRowInserts.add(dbCall);
+        cacheQueryTimeout(session, dbCall);
+        this.lastCallAppended = dbCall;
+        int rowsPerStatement = this.databaseAccessor.getPlatform().getMaxMultiRowInsertRows(dbCall.getParameters().size());
+        if ((this.multiRowInserts.size() >= ((long)this.maxBatchSize * rowsPerStatement))
+                || ((ModifyQuery) dbCall.getQuery()).forceBatchStatementExecution()) {
+            executeBatchedStatements(session);
+        }
+    }
+
     /**
      * INTERNAL:
      * This method is used to clear the batched statements without the need to execute the statements first
@@ -118,6 +215,7 @@ public void clear() {
         //Bug#419326 : A clone may be holding a reference to this.parameters.
         //So, instead of clearing the parameters, just initialize with a new reference.
         this.parameters = new ArrayList<>();
+        this.multiRowInserts = new ArrayList<>();
         this.statementCount = 0;
         this.executionCount  = 0;
         this.queryTimeoutCache = DescriptorQueryManager.NoTimeout;
@@ -132,7 +230,7 @@ public void clear() {
      */
     @Override
     public void executeBatchedStatements(AbstractSession session) {
-        if (this.parameters.isEmpty()) {
+        if (this.parameters.isEmpty() && this.multiRowInserts.isEmpty()) {
             return;
         }
         //Bug#419326 : Added below clone, clear and clone.executeBatch(session)
@@ -151,6 +249,14 @@ public void executeBatchedStatements(AbstractSession session) {
      * Introduced in fix for bug#419326.
      */
     private void executeBatch(AbstractSession session) {
+        if (!this.multiRowInserts.isEmpty()) {
+            try {
+                executeMultiRowInserts(session, this.multiRowInserts);
+            } finally {
+                clear();
+            }
+            return;
+        }
 
         if (this.parameters.size() == 1) {
             // If only one call, just execute normally.
@@ -168,6 +274,7 @@ private void executeBatch(AbstractSession session) {
                         throw OptimisticLockException.batchStatementExecutionFailureWithParametersList(object, parameters, query.getSQLString());
                     }
                 }
+                recordRoundTrip(1);
             } finally {
                 clear();
             }
@@ -194,6 +301,7 @@ private void executeBatch(AbstractSession session) {
             // += is used as native batch writing can return a row count before execution.
             this.executionCount += this.databaseAccessor.executeJDK12BatchStatement(statement, this.lastCallAppended, session, true);
             this.databaseAccessor.writeStatementsCount++;
+            recordRoundTrip(this.parameters.size());
 
             if (this.previousCall.hasOptimisticLock() && (this.executionCount != this.statementCount)) {
                 int[] rowCounts = this.databaseAccessor.getPlatform().getExecuteBatchRowCounts();
@@ -219,6 +327,58 @@ private void executeBatch(AbstractSession session) {
         }
     }
 
+    /**
+     * INTERNAL:
+     * Write the group of inserts of the same SQL as multi-row inserts.
+     * The rows are split in statements of the maximum rows of the platform, batched in a single JDBC batch,
+     * and a last statement of the remaining rows.
+     */
+    protected void executeMultiRowInserts(AbstractSession session, List<DatabaseCall> group) {
+        DatabaseCall firstCall = group.get(0);
+        int parametersPerRow = firstCall.getParameters().size();
+        int valuesIndex = getValuesIndex(firstCall.getSQLString(), parametersPerRow);
+        int rowsPerStatement = Math.min(group.size(), this.databaseAccessor.getPlatform().getMaxMultiRowInsertRows(parametersPerRow));
+        int index = 0;
+        while (index < group.size()) {
+            int remaining = group.size() - index;
+            if ((remaining == 1) || (rowsPerStatement == 1)) {
+                // A single row is written as is.
+                this.databaseAccessor.basicExecuteCall(group.get(index), null, session, false);
+                recordRoundTrip(1);
+                index++;
+                continue;
+            }
+            int numberOfRows = Math.min(rowsPerStatement, remaining);
+            int numberOfStatements = Math.max(1, Math.min(this.maxBatchSize, remaining / numberOfRows));
+            DatabaseCall multiRowCall = (DatabaseCall)firstCall.clone();
+            multiRowCall.setSQLStringInternal(buildMultiRowInsertSQL(firstCall.getSQLString(), valuesIndex, numberOfRows));
+            this.previousCall = multiRowCall;
+            this.parameters = new ArrayList<>(numberOfStatements);
+            for (int statementIndex = 0; statementIndex < numberOfStatements; statementIndex++) {
+                List<Object> statementParameters = new ArrayList<>(numberOfRows * parametersPerRow);
+                for (int rowIndex = 0; rowIndex < numberOfRows; rowIndex++) {
+                    statementParameters.addAll(group.get(index++).getParameters());
+                }
+                this.parameters.add(statementParameters);
+            }
+            this.databaseAccessor.incrementCallCount(session);// Decrement occurs in close.
+            if (session.shouldLog(SessionLog.FINE, SessionLog.SQL)) {
+                session.log(SessionLog.FINER, SessionLog.SQL, "begin_batch_statements", null, this.databaseAccessor);
+                session.log(SessionLog.FINE, SessionLog.SQL, multiRowCall.getSQLString(), null, this.databaseAccessor, false);
+                for (List callParameters : this.parameters) {
+                    StringWriter writer = new StringWriter();
+                    DatabaseCall.appendLogParameters(callParameters, this.databaseAccessor, writer, session);
+                    session.log(SessionLog.FINE, SessionLog.SQL, writer.toString(), null, this.databaseAccessor, false);
+                }
+                session.log(SessionLog.FINER, SessionLog.SQL, "end_batch_statements", null, this.databaseAccessor);
+            }
+            PreparedStatement statement = prepareBatchStatements(session);
+            this.databaseAccessor.executeJDK12BatchStatement(statement, multiRowCall, session, true);
+            this.databaseAccessor.writeStatementsCount++;
+            recordRoundTrip(numberOfStatements * numberOfRows);
+        }
+    }
+
     /**
      * INTERNAL:
      * Swaps out the Mechanism for the other Mechanism
@@ -310,4 +470,8 @@ public DatabaseCall getLastCallAppended() {
     public void setLastCallAppended(DatabaseCall lastCallAppended) {
         this.lastCallAppended = lastCallAppended;
     }
+
+    public List<DatabaseCall> getMultiRowInserts() {
+        return multiRowInserts;
+    }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.databaseaccess;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * INTERNAL:
+ * Hit, miss and eviction counters of the prepared statement caches.
+ * One instance is held by the platform, so it is shared by all the accessors of a login,
+ * and gives the hit rate across all the connections of the session.
+ * @see DatabasePlatform#getStatementCacheStatistics()
+ */
+public class StatementCacheStatistics implements Serializable {
+
+    protected final LongAdder hits;
+    protected final LongAdder misses;
+    protected final LongAdder evictions;
+
+    public StatementCacheStatistics() {
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    /**
+     * Record that a cached statement was reused.
+     */
+    public void recordHit() {
+        this.hits.increment();
+    }
+
+    /**
+     * Record that a cacheable statement was not in the cache and had to be prepared.
+     */
+    public void recordMiss() {
+        this.misses.increment();
+    }
+
+    /**
+     * Record that the least recently used statement was closed to make room in a full cache.
+     */
+    public void recordEviction() {
+        this.evictions.increment();
+    }
+
+    /**
+     * Return the number of cached statements reused.
+     */
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Return the number of cacheable statements that had to be prepared.
+     */
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Return the number of statements closed because the cache was full.
+     */
+    public long getEvictionCount() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * Return the fraction of cacheable statements found in the cache, or 0 if none were requested.
+     */
+    public double getHitRatio() {
+        long hits = getHitCount();
+        long requests = hits + getMissCount();
+        if (requests == 0) {
+            return 0;
+        }
+        return (double)hits / requests;
+    }
+
+    /**
+     * Reset all counters.
+     */
+    public void reset() {
+        this.hits.reset();
+        this.misses.reset();
+        this.evictions.reset();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(hits=" + getHitCount() + ", misses=" + getMissCount() + ", evictions=" + getEvictionCount() + ")";
+    }
+}
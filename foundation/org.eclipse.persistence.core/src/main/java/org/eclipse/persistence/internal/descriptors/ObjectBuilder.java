@@ -40,6 +40,7 @@
 import org.eclipse.persistence.descriptors.InheritancePolicy;
 import org.eclipse.persistence.descriptors.changetracking.ChangeTracker;
 import org.eclipse.persistence.descriptors.changetracking.ObjectChangePolicy;
+import org.eclipse.persistence.exceptions.ConcurrencyException;
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.DescriptorException;
 import org.eclipse.persistence.exceptions.QueryException;
@@ -62,6 +63,7 @@
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.helper.IdentityHashSet;
 import org.eclipse.persistence.internal.helper.InvalidObject;
+import org.eclipse.persistence.internal.helper.RowPipeline;
 import org.eclipse.persistence.internal.helper.ThreadCursoredList;
 import org.eclipse.persistence.internal.identitymaps.CacheId;
 import org.eclipse.persistence.internal.identitymaps.CacheKey;
@@ -131,7 +133,10 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.Vector;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -175,6 +180,8 @@ public class ObjectBuilder extends CoreObjectBuilder<AbstractRecord, AbstractSes
     protected List<DatabaseMapping> relationshipMappings;
     /** PERF: Cache if is a simple mapping, all direct. */
     protected boolean isSimple;
+    /** PERF: Cache the columns of the mappings of the last call building objects directly from the result set. */
+    protected transient volatile ResultSetPlan resultSetPlan;
     /** PERF: Cache if has a wrapper policy. */
     protected boolean hasWrapperPolicy;
     /** PERF: Cache sequence mappings. */
@@ -1486,6 +1493,12 @@ public Object buildObjectsInto(ReadAllQuery query, List databaseRows, Object dom
                     }
                     query.setPrefetchedCacheKeys(session.getIdentityMapAccessorInstance().getAllCacheKeysFromIdentityMapWithEntityPK(pkList, descriptor));
                 }
+                // The objects built in parallel in the order of the rows, or null if built while iterating the rows.
+                Object[] builtObjects = null;
+                int chunkSize = getParallelBuildChunkSize(query);
+                if ((chunkSize > 0) && (size > chunkSize) && shouldBuildObjectsInParallel(query, session)) {
+                    builtObjects = buildObjectsInParallel(query, databaseRows, chunkSize, session, inheritancePolicy, shouldUseWrapperPolicy);
+                }
                 ContainerPolicy policy = query.getContainerPolicy();
                 if (policy.shouldAddAll()) {
                     List domainObjectsIn = new ArrayList(size);
@@ -1494,8 +1507,12 @@ public Object buildObjectsInto(ReadAllQuery query, List databaseRows, Object dom
                         AbstractRecord databaseRow = (AbstractRecord)databaseRows.get(index);
                         // PERF: 1-m joining nulls out duplicate rows.
                         if (databaseRow != null) {
-                            domainObjectsIn.add(buildObject(query, databaseRow, joinManager, session, this.descriptor, inheritancePolicy,
-                                    isUnitOfWork, shouldCacheQueryResults, shouldUseWrapperPolicy));
+                            if (builtObjects == null) {
+                                domainObjectsIn.add(buildObject(query, databaseRow, joinManager, session, this.descriptor, inheritancePolicy,
+                                        isUnitOfWork, shouldCacheQueryResults, shouldUseWrapperPolicy));
+                            } else {
+                                domainObjectsIn.add(builtObjects[index]);
+                            }
                             databaseRowsIn.add(databaseRow);
                         }
                     }
@@ -1506,8 +1523,13 @@ public Object buildObjectsInto(ReadAllQuery query, List databaseRows, Object dom
                         AbstractRecord databaseRow = (AbstractRecord)databaseRows.get(index);
                         // PERF: 1-m joining nulls out duplicate rows.
                         if (databaseRow != null) {
-                            Object domainObject = buildObject(query, databaseRow, joinManager, session, this.descriptor, inheritancePolicy,
-                                    isUnitOfWork, shouldCacheQueryResults, shouldUseWrapperPolicy);
+                            Object domainObject;
+                            if (builtObjects == null) {
+                                domainObject = buildObject(query, databaseRow, joinManager, session, this.descriptor, inheritancePolicy,
+                                        isUnitOfWork, shouldCacheQueryResults, shouldUseWrapperPolicy);
+                            } else {
+                                domainObject = builtObjects[index];
+                            }
                             if (quickAdd) {
                                 ((Collection)domainObjects).add(domainObject);
                             } else {
@@ -1524,6 +1546,134 @@ public Object buildObjectsInto(ReadAllQuery query, List databaseRows, Object dom
         return domainObjects;
     }
 
+    /**
+     * Return the number of rows built on each thread when building the objects of the query in parallel,
+     * the query's chunk size if set, otherwise the descriptor's, 0 if the objects are not built in parallel.
+     */
+    protected int getParallelBuildChunkSize(ReadAllQuery query) {
+        Integer chunkSize = query.getParallelBuildChunkSize();
+        if (chunkSize != null) {
+            return chunkSize;
+        }
+        return this.descriptor.getParallelBuildChunkSize();
+    }
+
+    /**
+     * Return if the objects of the query can be built on concurrent threads.
+     * The building threads only share the identity map, so this is not done in a unit of work,
+     * or for queries sharing state between the objects they build: joining, batch fetching, or query results caching.
+     * Building the objects must not execute queries, as the session's connection may not be used concurrently.
+     */
+    protected boolean shouldBuildObjectsInParallel(ReadAllQuery query, AbstractSession session) {
+        if (session.isUnitOfWork()) {
+            return false;
+        }
+        if (query.hasJoining() || query.hasBatchFetchPolicy() || query.shouldCacheQueryResults()
+                || (query.getRedirector() != null) || query.isLockQuery()) {
+            return false;
+        }
+        if (this.descriptor.hasInheritance() && this.descriptor.getInheritancePolicy().requiresMultipleTableSubclassRead()) {
+            return false;
+        }
+        return buildsAllObjectsWithoutQueries();
+    }
+
+    /**
+     * Return if building the objects of the descriptor, and of its child descriptors, does not execute queries.
+     */
+    public boolean buildsAllObjectsWithoutQueries() {
+        if (this.descriptor.hasInheritance()) {
+            for (ClassDescriptor child : this.descriptor.getInheritancePolicy().getAllChildDescriptors()) {
+                if (!child.getObjectBuilder().buildsObjectsWithoutQueries()) {
+                    return false;
+                }
+            }
+        }
+        return buildsObjectsWithoutQueries();
+    }
+
+    /**
+     * Return if building the objects of the descriptor does not execute queries,
+     * if all its relationships, and the relationships of its aggregates, use indirection,
+     * and are not batch fetched, as batch fetching reads the targets of all the rows of the query.
+     */
+    protected boolean buildsObjectsWithoutQueries() {
+        for (DatabaseMapping mapping : this.relationshipMappings) {
+            if (mapping.isForeignReferenceMapping()) {
+                if (!((ForeignReferenceMapping)mapping).usesIndirection() || ((ForeignReferenceMapping)mapping).shouldUseBatchReading()) {
+                    return false;
+                }
+            } else if (mapping.isAggregateObjectMapping()) {
+                ClassDescriptor referenceDescriptor = mapping.getReferenceDescriptor();
+                if ((referenceDescriptor == null) || !referenceDescriptor.getObjectBuilder().buildsObjectsWithoutQueries()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Build the objects of the rows in chunks of rows on the threads of the server platform,
+     * and return them in the order of the rows.
+     * The calling thread also builds chunks, so all chunks are built even if no thread can be launched.
+     * The objects are built through the identity map, so rows with the same primary key build the same object.
+     */
+    protected Object[] buildObjectsInParallel(final ReadAllQuery query, final List databaseRows, final int chunkSize, final AbstractSession session,
+            final InheritancePolicy inheritancePolicy, final boolean shouldUseWrapperPolicy) {
+        final int size = databaseRows.size();
+        final int chunks = ((size - 1) / chunkSize) + 1;
+        final Object[] domainObjects = new Object[size];
+        final AtomicInteger nextChunk = new AtomicInteger();
+        final CountDownLatch built = new CountDownLatch(chunks);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        Runnable builder = () -> {
+            for (int chunk = nextChunk.getAndIncrement(); chunk < chunks; chunk = nextChunk.getAndIncrement()) {
+                try {
+                    // Stop building once a chunk failed, the exception is thrown by the calling thread.
+                    if (failure.get() == null) {
+                        int end = Math.min(size, (chunk + 1) * chunkSize);
+                        for (int index = chunk * chunkSize; index < end; index++) {
+                            AbstractRecord databaseRow = (AbstractRecord)databaseRows.get(index);
+                            if (databaseRow != null) {
+                                domainObjects[index] = buildObject(query, databaseRow, null, session, this.descriptor, inheritancePolicy,
+                                        false, false, shouldUseWrapperPolicy);
+                            }
+                        }
+                    }
+                } catch (RuntimeException | Error exception) {
+                    failure.compareAndSet(null, exception);
+                } finally {
+                    built.countDown();
+                }
+            }
+        };
+        int threads = Math.min(chunks, Runtime.getRuntime().availableProcessors()) - 1;
+        for (int index = 0; index < threads; index++) {
+            try {
+                session.getServerPlatform().launchContainerRunnable(builder);
+            } catch (RuntimeException exception) {
+                // The calling thread builds the remaining chunks.
+                break;
+            }
+        }
+        builder.run();
+        try {
+            built.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw ConcurrencyException.waitWasInterrupted(exception.getMessage());
+        }
+        Throwable exception = failure.get();
+        if (exception instanceof RuntimeException) {
+            throw (RuntimeException)exception;
+        } else if (exception != null) {
+            throw (Error)exception;
+        }
+        session.incrementProfile(SessionProfiler.ParallelObjectBuilds, query);
+        return domainObjects;
+    }
+
     /**
      * Version of buildObjectsInto method that takes call instead of rows.
      * Return a container which contains the instances of the receivers javaClass.
@@ -1651,6 +1801,10 @@ public Object buildObjectsFromCursorInto(ReadAllQuery query, List databaseRows,
                 }
             }
         } finally {
+            if (databaseRows instanceof RowPipeline) {
+                // Stop fetching the rows if the building failed.
+                ((RowPipeline)databaseRows).cancel();
+            }
             session.endOperationProfile(SessionProfiler.ObjectBuilding, query, SessionProfiler.ALL);
         }
         return domainObjects;
@@ -2478,13 +2632,13 @@ public Object buildObjectFromResultSet(ObjectBuildingQuery query, JoinedAttribut
     private Object buildObjectFromResultSetInternal(ObjectBuildingQuery query, JoinedAttributeManager joinManager, ResultSet resultSet, AbstractSession executionSession, DatabaseAccessor accessor, ResultSetMetaData metaData, DatabasePlatform platform, Vector fieldsList, DatabaseField[] fieldsArray) throws SQLException {
         ClassDescriptor descriptor = this.descriptor;
         int pkFieldsSize = descriptor.getPrimaryKeyFields().size();
-        DatabaseMapping primaryKeyMapping = null;
+        ResultSetPlan plan = getResultSetPlan(query, fieldsArray);
+        DatabaseMapping primaryKeyMapping = plan.getPrimaryKeyMapping();
         AbstractRecord row = null;
         Object[] values = null;
         Object primaryKey;
-        if (isSimple && pkFieldsSize == 1) {
-            primaryKeyMapping = this.primaryKeyMappings.get(0);
-            primaryKey = primaryKeyMapping.valueFromResultSet(resultSet, query, executionSession, accessor, metaData, 1, platform);
+        if (primaryKeyMapping != null) {
+            primaryKey = primaryKeyMapping.valueFromResultSet(resultSet, query, executionSession, accessor, metaData, plan.getPrimaryKeyColumn(), platform);
         } else {
             values = new Object[fieldsArray.length];
             row = new ArrayRecord(fieldsList, fieldsArray, values);
@@ -2530,37 +2684,31 @@ private Object buildObjectFromResultSetInternal(ObjectBuildingQuery query, Joine
                     }
                 }
 
-                List<DatabaseMapping> mappings = descriptor.getMappings();
-                int size = mappings.size();
-
-                if (isSimple) {
-                    int shift = descriptor.getTables().size() * pkFieldsSize;
-                    if (primaryKeyMapping != null) {
-                        // simple primary key - set pk directly through the mapping
-                        primaryKeyMapping.setAttributeValueInObject(object, primaryKey);
-                    } else {
-                        // composite primary key - set pk using pkRow
-                        boolean isTargetProtected = session.isProtectedSession();
-                        for (int index = 0; index < pkFieldsSize; index++) {
-                            DatabaseMapping mapping = mappings.get(index);
-                            mapping.readFromRowIntoObject(row, joinManager, object, cacheKeyToUse, query, session, isTargetProtected);
-                        }
-                    }
-                    // set the rest using mappings directly
-                    for (int index = pkFieldsSize; index < size; index++) {
-                        DatabaseMapping mapping = mappings.get(index);
-                        mapping.readFromResultSetIntoObject(resultSet, object, query, session, accessor, metaData, index + shift, platform);
+                DatabaseMapping[] directMappings = plan.getDirectMappings();
+                int[] directIndexes = plan.getDirectIndexes();
+                if (primaryKeyMapping != null) {
+                    // PERF: Only direct mappings, read the values by column from the result set without a row.
+                    primaryKeyMapping.setAttributeValueInObject(object, primaryKey);
+                    for (int index = 0; index < directMappings.length; index++) {
+                        directMappings[index].readFromResultSetIntoObject(resultSet, object, query, session, accessor, metaData, directIndexes[index] + 1, platform);
                     }
                 } else {
-                    boolean isTargetProtected = session.isProtectedSession();
                     accessor.populateRow(fieldsArray, values, resultSet, metaData, session, pkFieldsSize, fieldsArray.length);
-                    for (int index = 0; index < size; index++) {
-                        DatabaseMapping mapping = mappings.get(index);
-                        mapping.readFromRowIntoObject(row, joinManager, object, cacheKeyToUse, query, session, isTargetProtected);
+                    // PERF: Read the direct mappings from the values by index, only the other mappings from the row.
+                    for (int index = 0; index < directMappings.length; index++) {
+                        AbstractDirectMapping mapping = (AbstractDirectMapping)directMappings[index];
+                        mapping.setAttributeValueInObject(object, mapping.getObjectValue(values[directIndexes[index]], session));
+                    }
+                    DatabaseMapping[] rowMappings = plan.getRowMappings();
+                    boolean isTargetProtected = session.isProtectedSession();
+                    for (int index = 0; index < rowMappings.length; index++) {
+                        rowMappings[index].readFromRowIntoObject(row, joinManager, object, cacheKeyToUse, query, session, isTargetProtected);
                     }
                 }
 
-                ((PersistenceEntity)object)._persistence_setId(primaryKey);
+                if (object instanceof PersistenceEntity) {
+                    ((PersistenceEntity)object)._persistence_setId(primaryKey);
+                }
                 if ((unitOfWork != null) && isolated) {
                     ObjectChangePolicy policy = descriptor.getObjectChangePolicy();
                     policy.setChangeListener(object, unitOfWork, descriptor);
@@ -2572,7 +2720,9 @@ private Object buildObjectFromResultSetInternal(ObjectBuildingQuery query, Joine
                 // With one setup (jpa2.performance tests) produces a shallow clone (which is good enough for isSimple==true case only),
                 // in other (jpa.advanced tests) - just a brand new empty object.
                 Object clone = instantiateWorkingCopyClone(object, unitOfWork);
-                ((PersistenceEntity)clone)._persistence_setId(cacheKey.getKey());
+                if (clone instanceof PersistenceEntity) {
+                    ((PersistenceEntity)clone)._persistence_setId(cacheKey.getKey());
+                }
                 unitOfWork.getCloneMapping().put(clone, clone);
                 unitOfWork.getCloneToOriginals().put(clone, object);
                 cacheKey.setObject(clone);
@@ -2590,6 +2740,38 @@ private Object buildObjectFromResultSetInternal(ObjectBuildingQuery query, Joine
         return object;
     }
 
+    /**
+     * INTERNAL:
+     * Return the plan of the columns of the mappings for the fields selected by the call.
+     * The plan is cached in the executing query for the next rows,
+     * and in the builder for the next executions of the same call, as the clones of the call share the fields.
+     */
+    protected ResultSetPlan getResultSetPlan(ObjectBuildingQuery query, DatabaseField[] fieldsArray) {
+        ResultSetPlan plan = null;
+        if (query.isObjectLevelReadQuery()) {
+            plan = ((ObjectLevelReadQuery)query).getResultSetPlan();
+        }
+        if ((plan == null) || !plan.appliesTo(fieldsArray)) {
+            plan = this.resultSetPlan;
+            if ((plan == null) || !plan.appliesTo(fieldsArray)) {
+                plan = new ResultSetPlan(this.descriptor, fieldsArray);
+                this.resultSetPlan = plan;
+            }
+            if (query.isObjectLevelReadQuery()) {
+                ((ObjectLevelReadQuery)query).setResultSetPlan(plan);
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the plan of the columns of the mappings of the last call building objects directly from the result set.
+     */
+    public ResultSetPlan getResultSetPlan() {
+        return this.resultSetPlan;
+    }
+
     /**
      * Returns a clone of itself.
      */
@@ -2613,6 +2795,7 @@ public Object clone() {
         objectBuilder.cloningMappings = new ArrayList(this.cloningMappings);
         objectBuilder.eagerMappings = new ArrayList(this.eagerMappings);
         objectBuilder.relationshipMappings = new ArrayList(this.relationshipMappings);
+        objectBuilder.resultSetPlan = null;
 
         return objectBuilder;
     }
@@ -3889,6 +4072,7 @@ public void initialize(AbstractSession session) throws DescriptorException {
             }
         }
         this.isSimple = getRelationshipMappings().isEmpty();
+        this.resultSetPlan = null;
 
         initializePrimaryKey(session);
         initializeJoinedAttributes();
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.descriptors;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+
+/**
+ * INTERNAL:
+ * The columns of the result set of a query shape that the object builder reads the mappings from,
+ * when building objects directly from the result set.
+ * <p>
+ * PERF: The column of the field of each direct mapping is resolved once for the fields selected by the call,
+ * so the values are read by column number from the result set into the new object, without building a row.
+ * If the descriptor has mappings other than direct mappings, or a composite primary key,
+ * the values are fetched into a row, the direct mappings are read from the row values by index,
+ * and the other mappings are read from the row.
+ * @see ObjectBuilder#buildObjectFromResultSet
+ */
+public class ResultSetPlan {
+
+    /** The fields selected by the call, compared by identity to find if the plan applies to a call. */
+    protected final DatabaseField[] fields;
+
+    /** The direct mapping of the singleton primary key read from the result set, or null if the row is required. */
+    protected final DatabaseMapping primaryKeyMapping;
+
+    /** The column number of the primary key field in the result set. */
+    protected final int primaryKeyColumn;
+
+    /** The direct mappings, other than the primary key mapping if read from the result set. */
+    protected final DatabaseMapping[] directMappings;
+
+    /** The index of the field of each direct mapping in the selected fields. */
+    protected final int[] directIndexes;
+
+    /** The other mappings read from the row. */
+    protected final DatabaseMapping[] rowMappings;
+
+    /**
+     * INTERNAL:
+     * Resolve the columns of the mappings of the descriptor in the fields selected by a call.
+     */
+    public ResultSetPlan(ClassDescriptor descriptor, DatabaseField[] fields) {
+        this.fields = fields;
+        ObjectBuilder builder = descriptor.getObjectBuilder();
+        List<DatabaseMapping> mappings = descriptor.getMappings();
+        List<DatabaseMapping> directMappings = new ArrayList<>(mappings.size());
+        List<Integer> directIndexes = new ArrayList<>(mappings.size());
+        List<DatabaseMapping> rowMappings = new ArrayList<>();
+        for (DatabaseMapping mapping : mappings) {
+            int index = -1;
+            if (mapping.isDirectToFieldMapping()) {
+                index = indexOf(fields, mapping.getField());
+            }
+            if (index < 0) {
+                rowMappings.add(mapping);
+            } else {
+                directMappings.add(mapping);
+                directIndexes.add(index);
+            }
+        }
+        DatabaseMapping primaryKeyMapping = null;
+        int primaryKeyColumn = 0;
+        if (rowMappings.isEmpty() && (descriptor.getPrimaryKeyFields().size() == 1) && (builder.getPrimaryKeyMappings().size() == 1)) {
+            DatabaseMapping mapping = builder.getPrimaryKeyMappings().get(0);
+            int position = directMappings.indexOf(mapping);
+            if (position >= 0) {
+                primaryKeyMapping = mapping;
+                primaryKeyColumn = directIndexes.get(position) + 1;
+                directMappings.remove(position);
+                directIndexes.remove(position);
+            }
+        }
+        this.primaryKeyMapping = primaryKeyMapping;
+        this.primaryKeyColumn = primaryKeyColumn;
+        this.directMappings = directMappings.toArray(new DatabaseMapping[directMappings.size()]);
+        this.directIndexes = new int[directIndexes.size()];
+        for (int index = 0; index < this.directIndexes.length; index++) {
+            this.directIndexes[index] = directIndexes.get(index);
+        }
+        this.rowMappings = rowMappings.toArray(new DatabaseMapping[rowMappings.size()]);
+    }
+
+    /**
+     * Return the index of the field in the selected fields, or -1 if not selected.
+     */
+    protected static int indexOf(DatabaseField[] fields, DatabaseField field) {
+        for (int index = 0; index < fields.length; index++) {
+            if (fields[index] == field) {
+                return index;
+            }
+        }
+        for (int index = 0; index < fields.length; index++) {
+            if (field.equals(fields[index])) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the plan was built for the fields selected by the call.
+     */
+    public boolean appliesTo(DatabaseField[] fields) {
+        return this.fields == fields;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the values must be fetched into a row,
+     * because the primary key or some mappings cannot be read directly from the result set.
+     */
+    public boolean requiresRow() {
+        return this.primaryKeyMapping == null;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the direct mapping of the singleton primary key, or null if the row is required.
+     */
+    public DatabaseMapping getPrimaryKeyMapping() {
+        return this.primaryKeyMapping;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the column number of the primary key field in the result set.
+     */
+    public int getPrimaryKeyColumn() {
+        return this.primaryKeyColumn;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the direct mappings read by column.
+     */
+    public DatabaseMapping[] getDirectMappings() {
+        return this.directMappings;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the index of the field of each direct mapping in the selected fields,
+     * the column number in the result set is the index plus one.
+     */
+    public int[] getDirectIndexes() {
+        return this.directIndexes;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the mappings read from the row.
+     */
+    public DatabaseMapping[] getRowMappings() {
+        return this.rowMappings;
+    }
+}
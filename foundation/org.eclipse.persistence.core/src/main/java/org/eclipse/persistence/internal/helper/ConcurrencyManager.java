@@ -22,6 +22,8 @@
 import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
 import org.eclipse.persistence.logging.AbstractSessionLog;
 import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.tools.profiler.jfr.FlightRecorderEvents;
+import org.eclipse.persistence.tools.profiler.jfr.LockWaitEvent;
 
 import java.io.Serializable;
 import java.io.StringWriter;
@@ -73,6 +75,18 @@ public class ConcurrencyManager implements Serializable {
     protected boolean lockedByMergeManager;
     protected Exception stack;
 
+    /**
+     * PERF: Number of readers that acquired the read lock through the uncontended fast path,
+     * so are not recorded in a {@link ReadLockManager}. Guarded by the instance lock.
+     */
+    protected int numberOfUntrackedReaders;
+
+    /**
+     * PERF: The untracked read locks held by the current thread,
+     * so that releasing a read lock does not have to look it up in the thread's {@link ReadLockManager}.
+     */
+    private static final ThreadLocal<UntrackedReadLocks> UNTRACKED_READ_LOCKS = ThreadLocal.withInitial(UntrackedReadLocks::new);
+
     // Extended logging info fields
     // Unique ID assigned each time when a new instance of a concurrency manager is created
     private final long concurrencyManagerId = CONCURRENCY_MANAGER_ID.incrementAndGet();
@@ -131,6 +145,9 @@ public void acquire() throws ConcurrencyException {
      * called with true from the merge process, if true then the refresh will not refresh the object
      */
     public void acquire(boolean forMerge) throws ConcurrencyException {
+        if (tryAcquireUncontended(forMerge)) {
+            return;
+        }
         instanceLock.lock();
         try {
             //Flag the time when we start the while loop
@@ -143,8 +160,10 @@ public void acquire(boolean forMerge) throws ConcurrencyException {
             // NOTE: this step bares no influence in acquiring or not acquiring locks
             // is just storing debug metadata that we can use when we detect the system is frozen in a dead lock
             final boolean currentThreadWillEnterTheWhileWait = ((this.activeThread != null) || (this.numberOfReaders.get() > 0)) && (this.activeThread != currentThread);
+            LockWaitEvent lockWaitEvent = null;
             if (currentThreadWillEnterTheWhileWait) {
                 putThreadAsWaitingToAcquireLockForWriting(currentThread, ACQUIRE_METHOD_NAME);
+                lockWaitEvent = FlightRecorderEvents.beginLockWait(this.activeThread);
             }
             while (((this.activeThread != null) || (this.numberOfReaders.get() > 0)) && (this.activeThread != Thread.currentThread())) {
                 // This must be in a while as multiple threads may be released, or another thread may rush the acquire after one is released.
@@ -172,6 +191,7 @@ public void acquire(boolean forMerge) throws ConcurrencyException {
             // Waiting to acquire cahe key is is over
             if (currentThreadWillEnterTheWhileWait) {
                 removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
+                FlightRecorderEvents.endLockWait(lockWaitEvent, this, LockWaitEvent.WRITE);
             }
             if (this.activeThread == null) {
                 this.activeThread = Thread.currentThread();
@@ -186,6 +206,38 @@ public void acquire(boolean forMerge) throws ConcurrencyException {
         }
     }
 
+    /**
+     * PERF: Acquire the lock if neither the instance lock nor the lock itself is held by another thread.
+     * This avoids the lookups and the dead-lock diagnostic metadata of the waiting path,
+     * as this thread will not wait.
+     * @return true if the lock was acquired, false if the caller must go through the waiting path.
+     */
+    protected boolean tryAcquireUncontended(boolean forMerge) {
+        if (!ConcurrencyUtil.SINGLETON.isUseUncontendedLockFastPath() || !instanceLock.tryLock()) {
+            return false;
+        }
+        try {
+            final Thread currentThread = Thread.currentThread();
+            if (this.activeThread == currentThread) {
+                this.lockedByMergeManager = forMerge;
+                this.depth.incrementAndGet();
+                return true;
+            }
+            if ((this.activeThread == null) && (this.numberOfReaders.get() == 0)) {
+                this.activeThread = currentThread;
+                if (shouldTrackStack) {
+                    this.stack = new Exception();
+                }
+                this.lockedByMergeManager = forMerge;
+                this.depth.incrementAndGet();
+                return true;
+            }
+            return false;
+        } finally {
+            instanceLock.unlock();
+        }
+    }
+
     /**
      * If the lock is not acquired already acquire it and return true.
      * If it has been acquired already return false
@@ -289,8 +341,10 @@ public void acquireDeferredLock() throws ConcurrencyException {
         try {
             final long whileStartTimeMillis = System.currentTimeMillis();
             final boolean currentThreadWillEnterTheWhileWait = this.numberOfReaders.get() != 0;
+            LockWaitEvent lockWaitEvent = null;
             if(currentThreadWillEnterTheWhileWait) {
                 putThreadAsWaitingToAcquireLockForWriting(currentThread, ACQUIRE_DEFERRED_LOCK_METHOD_NAME); 
+                lockWaitEvent = FlightRecorderEvents.beginLockWait(null);
             }
             while (this.numberOfReaders.get() != 0) {
                 // There are readers of this object, wait until they are done before determining if
@@ -316,6 +370,7 @@ public void acquireDeferredLock() throws ConcurrencyException {
             }
             if (currentThreadWillEnterTheWhileWait) {
                 removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
+                FlightRecorderEvents.endLockWait(lockWaitEvent, this, LockWaitEvent.DEFERRED);
             }
             if ((this.activeThread == currentThread) || (!isAcquired())) {
                 lockManager.addActiveLock(this);
@@ -362,6 +417,9 @@ public void checkReadLock() throws ConcurrencyException {
      * Allow concurrent reads.
      */
     public void acquireReadLock() throws ConcurrencyException {
+        if (tryAcquireReadLockUncontended()) {
+            return;
+        }
         instanceLock.lock();
         try {
             final Thread currentThread = Thread.currentThread();
@@ -369,8 +427,10 @@ public void acquireReadLock() throws ConcurrencyException {
             DeferredLockManager lockManager = getDeferredLockManager(currentThread);
             ReadLockManager readLockManager = getReadLockManager(currentThread);
             final boolean currentThreadWillEnterTheWhileWait = (this.activeThread != null) && (this.activeThread != currentThread);
+            LockWaitEvent lockWaitEvent = null;
             if (currentThreadWillEnterTheWhileWait) {
                 putThreadAsWaitingToAcquireLockForReading(currentThread, ACQUIRE_READ_LOCK_METHOD_NAME);
+                lockWaitEvent = FlightRecorderEvents.beginLockWait(this.activeThread);
             }
             // Cannot check for starving writers as will lead to deadlocks.
             while ((this.activeThread != null) && (this.activeThread != Thread.currentThread())) {
@@ -387,6 +447,7 @@ public void acquireReadLock() throws ConcurrencyException {
             }
             if (currentThreadWillEnterTheWhileWait) {
                 removeThreadNoLongerWaitingToAcquireLockForReading(currentThread);
+                FlightRecorderEvents.endLockWait(lockWaitEvent, this, LockWaitEvent.READ);
             }
             try {
                 addReadLockToReadLockManager();
@@ -399,6 +460,35 @@ public void acquireReadLock() throws ConcurrencyException {
         }
     }
 
+    /**
+     * PERF: Acquire a read lock if neither the instance lock nor a write lock is held by another thread.
+     * The read lock is not recorded in the thread's {@link ReadLockManager}, which avoids the allocation
+     * of its acquisition metadata, it is only counted as an untracked reader.
+     * @return true if the read lock was acquired, false if the caller must go through the waiting path.
+     */
+    protected boolean tryAcquireReadLockUncontended() {
+        if (!ConcurrencyUtil.SINGLETON.isUseUncontendedLockFastPath()) {
+            return false;
+        }
+        UntrackedReadLocks untrackedReadLocks = UNTRACKED_READ_LOCKS.get();
+        // A thread holding many read locks records the others in its read lock manager.
+        if (untrackedReadLocks.isFull() || !instanceLock.tryLock()) {
+            return false;
+        }
+        try {
+            if ((this.activeThread == null) || (this.activeThread == Thread.currentThread())) {
+                this.numberOfUntrackedReaders++;
+                untrackedReadLocks.add(this);
+                this.numberOfReaders.incrementAndGet();
+                this.totalNumberOfKeysAcquiredForReading.incrementAndGet();
+                return true;
+            }
+            return false;
+        } finally {
+            instanceLock.unlock();
+        }
+    }
+
     /**
      * If this is acquired return false otherwise acquire readlock and return true
      */
@@ -747,6 +837,11 @@ public void releaseReadLock() throws ConcurrencyException {
                     AbstractSessionLog.getLog().logThrowable(SessionLog.SEVERE, SessionLog.CACHE, e);
                 }
                 throw ConcurrencyException.signalAttemptedBeforeWait();
+            } else if ((this.numberOfUntrackedReaders > 0) && releaseUntrackedReadLock()) {
+                // The read lock was acquired through the uncontended fast path.
+                this.numberOfUntrackedReaders--;
+                this.numberOfReaders.decrementAndGet();
+                this.totalNumberOfKeysReleasedForReading.incrementAndGet();
             } else {
                 try {
                     removeReadLockFromReadLockManager();
@@ -763,6 +858,14 @@ public void releaseReadLock() throws ConcurrencyException {
         }
     }
 
+    /**
+     * PERF: Release a read lock the current thread acquired through the uncontended fast path.
+     * @return false if the current thread holds no untracked read lock on this concurrency manager.
+     */
+    protected boolean releaseUntrackedReadLock() {
+        return UNTRACKED_READ_LOCKS.get().remove(this);
+    }
+
     /**
      * Remove the deferred lock manager for the thread
      */
@@ -1109,4 +1212,49 @@ public Lock getInstanceLock() {
     public Condition getInstanceLockCondition() {
         return this.instanceLockCondition;
     }
+
+    /**
+     * PERF: The concurrency managers a thread holds untracked read locks on, with the number of read locks on each.
+     * The read locks are usually released in the reverse order of their acquisition, so are looked up from the end.
+     * The capacity is fixed, so that acquiring and releasing a read lock allocates nothing.
+     */
+    private static final class UntrackedReadLocks {
+
+        private static final int CAPACITY = 16;
+
+        private final ConcurrencyManager[] managers = new ConcurrencyManager[CAPACITY];
+        private final int[] counts = new int[CAPACITY];
+        private int size;
+
+        boolean isFull() {
+            return this.size == CAPACITY;
+        }
+
+        void add(ConcurrencyManager manager) {
+            for (int index = this.size - 1; index >= 0; index--) {
+                if (this.managers[index] == manager) {
+                    this.counts[index]++;
+                    return;
+                }
+            }
+            this.managers[this.size] = manager;
+            this.counts[this.size] = 1;
+            this.size++;
+        }
+
+        boolean remove(ConcurrencyManager manager) {
+            for (int index = this.size - 1; index >= 0; index--) {
+                if (this.managers[index] == manager) {
+                    if (--this.counts[index] == 0) {
+                        this.size--;
+                        this.managers[index] = this.managers[this.size];
+                        this.counts[index] = this.counts[this.size];
+                        this.managers[this.size] = null;
+                    }
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
 }
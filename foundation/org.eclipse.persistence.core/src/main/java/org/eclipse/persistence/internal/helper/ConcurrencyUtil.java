@@ -53,6 +53,7 @@ public class ConcurrencyUtil {
     private static final boolean DEFAULT_INTERRUPTED_EXCEPTION_FIRED = true;
     private static final boolean DEFAULT_CONCURRENCY_EXCEPTION_FIRED = true;
     private static final boolean DEFAULT_TAKING_STACKTRACE_DURING_READ_LOCK_ACQUISITION = false;
+    private static final boolean DEFAULT_USE_UNCONTENDED_LOCK_FAST_PATH = true;
     public static final boolean DEFAULT_USE_SEMAPHORE_TO_SLOW_DOWN_OBJECT_BUILDING_CONCURRENCY = false;
     public static final boolean DEFAULT_USE_SEMAPHORE_TO_SLOW_DOWN_WRITE_LOCK_MANAGER_ACQUIRE_REQUIRED_LOCKS = false;
     public static final int DEFAULT_CONCURRENCY_MANAGER_OBJECT_BUILDING_NO_THREADS = 10;
@@ -68,6 +69,7 @@ public class ConcurrencyUtil {
     private boolean allowInterruptedExceptionFired = getBooleanProperty(SystemProperties.CONCURRENCY_MANAGER_ALLOW_INTERRUPTED_EXCEPTION, DEFAULT_INTERRUPTED_EXCEPTION_FIRED);
     private boolean allowConcurrencyExceptionToBeFiredUp = getBooleanProperty(SystemProperties.CONCURRENCY_MANAGER_ALLOW_CONCURRENCY_EXCEPTION, DEFAULT_CONCURRENCY_EXCEPTION_FIRED);
     private boolean allowTakingStackTraceDuringReadLockAcquisition = getBooleanProperty(SystemProperties.CONCURRENCY_MANAGER_ALLOW_STACK_TRACE_READ_LOCK, DEFAULT_TAKING_STACKTRACE_DURING_READ_LOCK_ACQUISITION);
+    private boolean useUncontendedLockFastPath = getBooleanProperty(SystemProperties.CONCURRENCY_MANAGER_USE_UNCONTENDED_LOCK_FAST_PATH, DEFAULT_USE_UNCONTENDED_LOCK_FAST_PATH);
 
     private boolean useSemaphoreInObjectBuilder  = getBooleanProperty(SystemProperties.CONCURRENCY_MANAGER_USE_SEMAPHORE_TO_SLOW_DOWN_OBJECT_BUILDING, DEFAULT_USE_SEMAPHORE_TO_SLOW_DOWN_OBJECT_BUILDING_CONCURRENCY);
     private boolean useSemaphoreToLimitConcurrencyOnWriteLockManagerAcquireRequiredLocks  = getBooleanProperty(SystemProperties.CONCURRENCY_MANAGER_USE_SEMAPHORE_TO_SLOW_DOWN_WRITE_LOCK_MANAGER_ACQUIRE_REQUIRED_LOCKS, DEFAULT_USE_SEMAPHORE_TO_SLOW_DOWN_WRITE_LOCK_MANAGER_ACQUIRE_REQUIRED_LOCKS);
@@ -300,6 +302,18 @@ public void setAllowTakingStackTraceDuringReadLockAcquisition(boolean allowTakin
         this.allowTakingStackTraceDuringReadLockAcquisition = allowTakingStackTraceDuringReadLockAcquisition;
     }
 
+    /**
+     * @return true if uncontended lock acquisitions skip the dead lock diagnostic bookkeeping,
+     *         false if every acquisition goes through the diagnostic-rich path.
+     */
+    public boolean isUseUncontendedLockFastPath() {
+        return this.useUncontendedLockFastPath;
+    }
+
+    public void setUseUncontendedLockFastPath(boolean useUncontendedLockFastPath) {
+        this.useUncontendedLockFastPath = useUncontendedLockFastPath;
+    }
+
     public boolean isUseSemaphoreInObjectBuilder() {
         return useSemaphoreInObjectBuilder;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -15,20 +15,73 @@
 package org.eclipse.persistence.internal.helper;
 
 import java.io.Serializable;
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Provide a concurrent fixed size caching mechanism.
  * This is used for caching EJBQL parsed queries, Update calls,
  * and other places a fixed size cache is needed.
  * The default fixed size is 100.
+ * <p>
+ * The cache is frequency aware (TinyLFU): every lookup, hit or miss, is counted in a small
+ * count-min sketch of the key hashes, which is halved periodically so old popularity fades.
+ * When the cache is full, the least frequently used entry of a small sample of the cached entries
+ * is evicted, unless the new entry is used less frequently, in which case the new entry is not kept.
+ * So a burst of queries used only once does not evict the frequently used ones.
+ * The sample is taken from the head of a queue of the cached keys, and the sampled keys that are kept
+ * go back to its tail, so all the entries are sampled in turn and an eviction does not scan the cache.
+ * <p>
+ * Hits, misses, evictions and the time saved by hits are counted per cache.
  */
 public class ConcurrentFixedCache<K, V> implements Serializable {
+
+    /** Frequencies saturate at this count, so a formerly popular key fades after a few halvings. */
+    protected static final int MAX_FREQUENCY = 15;
+
+    /** Number of counters of the sketch each key is counted in. */
+    protected static final int SKETCH_DEPTH = 4;
+
+    /** Number of cached entries the eviction victim is chosen from. */
+    protected static final int EVICTION_SAMPLE_SIZE = 8;
+
     protected int maxSize;
     protected Map<K, V> cache;
 
+    /**
+     * The cached keys, in the order they are sampled for eviction.
+     * Keys not kept, or removed, are dropped when they reach the head of the queue, or when the queue is purged.
+     */
+    protected final Queue<K> keys;
+
+    /** Number of keys removed since the key queue was last purged of them. */
+    protected final AtomicInteger removedKeys;
+
+    /** Count-min sketch of the lookup frequency of the key hashes. */
+    protected byte[] frequencies;
+    /** Number of lookups since the frequencies were last halved, updated without synchronization. */
+    protected int numberOfLookups;
+    /** Number of lookups after which the frequencies are halved. */
+    protected int agingPeriod;
+
+    /** Guards the eviction, so concurrent puts do not evict more than required. */
+    protected final ReentrantLock evictionLock;
+
+    protected final LongAdder hits;
+    protected final LongAdder misses;
+    protected final LongAdder evictions;
+    protected final LongAdder builds;
+    protected final LongAdder buildTime;
+
     /**
      * Create a new concurrent cache, with a fixed size of 100.
      */
@@ -42,7 +95,15 @@ public ConcurrentFixedCache() {
     public ConcurrentFixedCache(int maxSize) {
         // PERF: Use a concurrent map to allow concurrent gets.
         this.cache = new ConcurrentHashMap<>(maxSize);
-        this.maxSize = maxSize;
+        this.keys = new ConcurrentLinkedQueue<>();
+        this.removedKeys = new AtomicInteger();
+        this.evictionLock = new ReentrantLock();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+        this.builds = new LongAdder();
+        this.buildTime = new LongAdder();
+        setMaxSize(maxSize);
     }
 
     /**
@@ -54,11 +115,17 @@ public int getMaxSize() {
 
     /**
      * Set the fixed size of the parse cache.
-     * When the size is exceeded, subsequent EJBQL will not be cached.
+     * When the size is exceeded, the least frequently used EJBQL is removed from the cache.
      * The default size is 100;
      */
     public void setMaxSize(int maxSize) {
         this.maxSize = maxSize;
+        // Use 16 counters per entry, and age them every ten lookups per entry,
+        // so the counters of the keys looked up once stay low despite collisions.
+        int sketchedSize = Math.max(1, Math.min(maxSize, 1 << 16));
+        this.frequencies = new byte[Integer.highestOneBit((sketchedSize * 16) - 1) << 1];
+        this.agingPeriod = sketchedSize * 10;
+        this.numberOfLookups = 0;
     }
 
     /**
@@ -66,45 +133,173 @@ public void setMaxSize(int maxSize) {
      * If the EJBQL has not been cached, null is returned.
      */
     public V get(Object key) {
-        return this.cache.get(key);
+        V value = this.cache.get(key);
+        if (value == null) {
+            this.misses.increment();
+        } else {
+            this.hits.increment();
+        }
+        recordLookup(key);
+        return value;
     }
 
     public void clear(){
         this.cache.clear();
+        this.keys.clear();
+        this.removedKeys.set(0);
     }
 
     /**
      * Add the value to the cache.
-     * Remove the
+     * If the cache is full, the least frequently used of a sample of the entries is removed,
+     * or the value is not kept if it is used less frequently than that entry.
      */
     public void put(K key, V value) {
         if (this.maxSize == 0) {
             return;
         }
-        this.cache.put(key, value);
-        // Currently just removes the first one encountered, not LRU,
-        // this is not ideal, but the most concurrent and quickest way to ensure fixed size.
+        if (this.cache.put(key, value) == null) {
+            this.keys.add(key);
+        }
         if (this.cache.size() > this.maxSize) {
-            Iterator<K> iterator = this.cache.keySet().iterator();
-            try {
-                while ((this.cache.size() > this.maxSize) && iterator.hasNext()) {
-                    K next = iterator.next();
-                    // Do not remove what was just put in.
-                    if (next != key) {
-                        this.cache.remove(next);
+            evict(key);
+        }
+    }
+
+    /**
+     * Add the value to the cache, and record the time it took to build it.
+     * The average build time estimates the time saved by each hit.
+     * @param buildTime the time in nanoseconds taken to build the value.
+     */
+    public void put(K key, V value, long buildTime) {
+        this.builds.increment();
+        this.buildTime.add(buildTime);
+        put(key, value);
+    }
+
+    /**
+     * Remove entries until the cache is back to its max size.
+     * The candidate just put competes with the least frequently used entry of a sample
+     * taken from the head of the key queue; the sampled entries that are kept go back to its tail.
+     */
+    protected void evict(K candidate) {
+        this.evictionLock.lock();
+        try {
+            int candidateFrequency = frequency(candidate);
+            List<K> sample = new ArrayList<>(EVICTION_SAMPLE_SIZE);
+            while (this.cache.size() > this.maxSize) {
+                sample.clear();
+                K victim = null;
+                int victimFrequency = Integer.MAX_VALUE;
+                K key;
+                while ((sample.size() < EVICTION_SAMPLE_SIZE) && ((key = this.keys.poll()) != null)) {
+                    if (!this.cache.containsKey(key)) {
+                        // Not kept as a candidate, or removed through the cache map.
+                        continue;
+                    }
+                    sample.add(key);
+                    if (key.equals(candidate)) {
+                        continue;
+                    }
+                    int keyFrequency = frequency(key);
+                    if (keyFrequency < victimFrequency) {
+                        victim = key;
+                        victimFrequency = keyFrequency;
+                    }
+                }
+                if ((candidate != null) && ((victim == null) || (candidateFrequency < victimFrequency))) {
+                    // The candidate is used less than the sampled entries, do not keep it.
+                    if (this.cache.remove(candidate) != null) {
+                        this.evictions.increment();
                     }
+                    candidate = null;
+                } else if (victim == null) {
+                    this.keys.addAll(sample);
+                    return;
+                } else {
+                    if (this.cache.remove(victim) != null) {
+                        this.evictions.increment();
+                    }
+                    sample.remove(victim);
                 }
-            } catch (Exception alreadyGone) {
-                // Ignore.
+                this.keys.addAll(sample);
+            }
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Count the lookup of the key in the frequency sketch, and halve the sketch periodically.
+     * The counters are updated without synchronization, as lost updates only make the estimate less precise.
+     */
+    protected void recordLookup(Object key) {
+        byte[] frequencies = this.frequencies;
+        int mask = frequencies.length - 1;
+        int hash = spread(key.hashCode());
+        int step = spread(hash) | 1;
+        for (int index = 0; index < SKETCH_DEPTH; index++) {
+            int counter = (hash + (index * step)) & mask;
+            if (frequencies[counter] < MAX_FREQUENCY) {
+                frequencies[counter]++;
+            }
+        }
+        if (++this.numberOfLookups >= this.agingPeriod) {
+            this.numberOfLookups = 0;
+            for (int index = 0; index < frequencies.length; index++) {
+                frequencies[index] = (byte)(frequencies[index] >>> 1);
             }
         }
     }
 
+    /**
+     * Return the estimated number of recent lookups of the key.
+     */
+    protected int frequency(Object key) {
+        byte[] frequencies = this.frequencies;
+        int mask = frequencies.length - 1;
+        int hash = spread(key.hashCode());
+        int step = spread(hash) | 1;
+        int frequency = MAX_FREQUENCY;
+        for (int index = 0; index < SKETCH_DEPTH; index++) {
+            frequency = Math.min(frequency, frequencies[(hash + (index * step)) & mask]);
+        }
+        return frequency;
+    }
+
+    /**
+     * Mix the bits of the hash, so close hash codes use unrelated counters.
+     */
+    protected static int spread(int hash) {
+        hash = (hash ^ (hash >>> 16)) * 0x45d9f3b;
+        hash = (hash ^ (hash >>> 16)) * 0x45d9f3b;
+        return hash ^ (hash >>> 16);
+    }
+
     /**
      * Remove from cache.
+     * The key is left in the key queue and dropped when sampled for eviction,
+     * the queue is only purged once more keys than the max size were removed.
      */
     public void remove(Object key) {
-        this.cache.remove(key);
+        if ((this.cache.remove(key) != null) && (this.removedKeys.incrementAndGet() > this.maxSize)) {
+            purgeRemovedKeys();
+        }
+    }
+
+    /**
+     * Drop the keys no longer cached, and the duplicates of keys removed then put again, from the key queue,
+     * so it does not grow while the cache is not full enough to evict.
+     */
+    protected void purgeRemovedKeys() {
+        this.evictionLock.lock();
+        try {
+            this.removedKeys.set(0);
+            Set<K> cachedKeys = new HashSet<>();
+            this.keys.removeIf(key -> !this.cache.containsKey(key) || !cachedKeys.add(key));
+        } finally {
+            this.evictionLock.unlock();
+        }
     }
 
     /**
@@ -113,4 +308,48 @@ public void remove(Object key) {
     public Map<K, V> getCache() {
         return cache;
     }
+
+    /**
+     * Return the number of lookups that found a cached value.
+     */
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Return the number of lookups that did not find a cached value.
+     */
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Return the number of entries removed, or not kept, because the cache was full.
+     */
+    public long getEvictionCount() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * Return the estimated time in nanoseconds saved by the hits,
+     * based on the average time taken to build the values put with their build time.
+     */
+    public long getEstimatedTimeSaved() {
+        long builds = this.builds.sum();
+        if (builds == 0) {
+            return 0;
+        }
+        return (this.buildTime.sum() / builds) * getHitCount();
+    }
+
+    /**
+     * Reset the hit, miss, eviction and build time statistics.
+     */
+    public void resetStatistics() {
+        this.hits.reset();
+        this.misses.reset();
+        this.evictions.reset();
+        this.builds.reset();
+        this.buildTime.reset();
+    }
 }
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.helper;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * INTERNAL:
+ * Lock-free histogram of non-negative values, typically durations in nanoseconds.
+ * <p>
+ * Values are counted in logarithmic buckets, each power of two is split into
+ * {@value #SUB_BUCKETS} linear sub buckets, so a percentile is reported with a
+ * relative error below 12.5%. Recording a value is a few atomic increments and never allocates.
+ */
+public class LatencyHistogram {
+
+    /** Number of bits of a value kept below its highest one bit. */
+    protected static final int SUB_BUCKET_BITS = 3;
+
+    /** Number of linear sub buckets each power of two is split into. */
+    protected static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /** Enough buckets for any non-negative long value. */
+    protected static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    protected final AtomicLongArray counts;
+    protected final AtomicLong count;
+    protected final AtomicLong total;
+    protected final AtomicLong max;
+
+    public LatencyHistogram() {
+        this.counts = new AtomicLongArray(BUCKETS);
+        this.count = new AtomicLong();
+        this.total = new AtomicLong();
+        this.max = new AtomicLong();
+    }
+
+    /**
+     * Record the value, negative values are recorded as 0.
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        this.counts.incrementAndGet(bucketIndex(value));
+        this.count.incrementAndGet();
+        this.total.addAndGet(value);
+        long currentMax = this.max.get();
+        while ((value > currentMax) && !this.max.compareAndSet(currentMax, value)) {
+            currentMax = this.max.get();
+        }
+    }
+
+    /**
+     * Return the number of recorded values.
+     */
+    public long getCount() {
+        return this.count.get();
+    }
+
+    /**
+     * Return the sum of the recorded values.
+     */
+    public long getTotal() {
+        return this.total.get();
+    }
+
+    /**
+     * Return the largest recorded value.
+     */
+    public long getMax() {
+        return this.max.get();
+    }
+
+    /**
+     * Return the average of the recorded values, or 0 if none were recorded.
+     */
+    public long getMean() {
+        long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+        return getTotal() / count;
+    }
+
+    /**
+     * Return the value below or equal to which the percentile (between 0 and 100) of the recorded values fall.
+     * The value is the upper bound of its bucket, but never more than the largest recorded value.
+     */
+    public long getPercentile(double percentile) {
+        long count = 0;
+        long[] counts = new long[BUCKETS];
+        for (int index = 0; index < BUCKETS; index++) {
+            counts[index] = this.counts.get(index);
+            count = count + counts[index];
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long)Math.ceil((Math.min(Math.max(percentile, 0), 100) / 100) * count);
+        if (rank == 0) {
+            rank = 1;
+        }
+        long seen = 0;
+        for (int index = 0; index < BUCKETS; index++) {
+            seen = seen + counts[index];
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(index), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Return the number of values recorded in each bucket.
+     * @see #bucketUpperBound(int)
+     */
+    public long[] getBucketCounts() {
+        long[] counts = new long[BUCKETS];
+        for (int index = 0; index < BUCKETS; index++) {
+            counts[index] = this.counts.get(index);
+        }
+        return counts;
+    }
+
+    /**
+     * Add the values recorded by the other histogram to this histogram.
+     */
+    public void add(LatencyHistogram other) {
+        for (int index = 0; index < BUCKETS; index++) {
+            long count = other.counts.get(index);
+            if (count > 0) {
+                this.counts.addAndGet(index, count);
+            }
+        }
+        this.count.addAndGet(other.getCount());
+        this.total.addAndGet(other.getTotal());
+        long value = other.getMax();
+        long currentMax = this.max.get();
+        while ((value > currentMax) && !this.max.compareAndSet(currentMax, value)) {
+            currentMax = this.max.get();
+        }
+    }
+
+    /**
+     * Remove all recorded values.
+     * Values recorded concurrently with the reset may be partially lost.
+     */
+    public void reset() {
+        for (int index = 0; index < BUCKETS; index++) {
+            this.counts.set(index, 0);
+        }
+        this.count.set(0);
+        this.total.set(0);
+        this.max.set(0);
+    }
+
+    /**
+     * Return the index of the bucket that counts the value.
+     */
+    public static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int)value;
+        }
+        int exponent = (Long.SIZE - 1) - Long.numberOfLeadingZeros(value);
+        int subBucket = (int)(value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return ((exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS) + subBucket;
+    }
+
+    /**
+     * Return the largest value counted by the bucket.
+     */
+    public static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index / SUB_BUCKETS) - 1;
+        long lowerBound = ((long)(SUB_BUCKETS + (index % SUB_BUCKETS))) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(count=" + getCount() + ", mean=" + getMean()
+                + ", p50=" + getPercentile(50) + ", p99=" + getPercentile(99) + ", max=" + getMax() + ")";
+    }
+}
@@ -0,0 +1,353 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.helper;
+
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sessions.SessionProfiler;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: Pass the rows of a read all query from the thread fetching them
+ * to the thread building their objects, through a bounded ring buffer.<p>
+ * Unlike its superclass the rows are not kept, so no more than the capacity of rows are held in memory.
+ * There is a single producer, that fetches the rows, and a single consumer, that iterates over them.
+ * The buffer is lock free, the producer only writes its index and the consumer its own.
+ * When the buffer is full the producer waits for the consumer to take a row,
+ * and when the buffer is empty the consumer waits for the producer.
+ * Each wait is counted as a stall in the session's profiler.
+ * <p>
+ * The rows can only be iterated once.
+ * If the list is accessed otherwise before it is iterated, such as by index or for its size,
+ * the remaining rows are taken into the list and kept, as in its superclass.
+ * The consumer must cancel the pipeline if it stops iterating before the last row,
+ * so the producer stops fetching and releases its connection.
+ *
+ * @see org.eclipse.persistence.internal.sessions.AbstractSession#setRowPipelineSize(int)
+ * @since EclipseLink 5.0
+ */
+public class RowPipeline<E> extends ThreadCursoredList<E> {
+
+    /** The longest a waiting thread parks before checking the buffer again. */
+    protected static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /** The ring buffer of rows, its length is a power of two. */
+    protected final Object[] buffer;
+
+    /** The mask of an index into the buffer. */
+    protected final int mask;
+
+    /** The number of rows added by the producer. */
+    protected final AtomicLong producerIndex = new AtomicLong();
+
+    /** The number of rows taken by the consumer. */
+    protected final AtomicLong consumerIndex = new AtomicLong();
+
+    /** Set by the consumer if it stops before the last row. */
+    protected volatile boolean isCancelled;
+
+    /** The threads waiting on the buffer, to be unparked when it changes. */
+    protected volatile Thread waitingProducer;
+    protected volatile Thread waitingConsumer;
+
+    /** The session whose profiler counts the stalls. */
+    protected final AbstractSession session;
+
+    /** If the consumer has started iterating. */
+    protected boolean isIterated;
+
+    /** If the rows have been taken into the list, so are kept. */
+    protected boolean isMaterialized;
+
+    public RowPipeline(int capacity, AbstractSession session) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.buffer = new Object[size];
+        this.mask = size - 1;
+        this.session = session;
+    }
+
+    /**
+     * Return the number of rows the buffer can hold.
+     */
+    public int getCapacity() {
+        return this.buffer.length;
+    }
+
+    /**
+     * Add the next row, waiting for the consumer if the buffer is full.
+     * Return false if the consumer has cancelled the pipeline, and the producer should stop.
+     */
+    @Override
+    public boolean add(E row) {
+        long index = this.producerIndex.get();
+        if ((index - this.consumerIndex.get()) >= this.buffer.length) {
+            this.session.incrementProfile(SessionProfiler.RowPipelineProducerStalls);
+            this.waitingProducer = Thread.currentThread();
+            try {
+                while (((index - this.consumerIndex.get()) >= this.buffer.length) && !this.isCancelled) {
+                    LockSupport.parkNanos(this, MAX_PARK_NANOS);
+                }
+            } finally {
+                this.waitingProducer = null;
+            }
+        }
+        if (this.isCancelled) {
+            return false;
+        }
+        this.buffer[(int)index & this.mask] = row;
+        this.producerIndex.lazySet(index + 1);
+        unpark(this.waitingConsumer);
+        return true;
+    }
+
+    /**
+     * Set the pipeline complete and unpark the consumer.
+     */
+    @Override
+    public synchronized void setIsComplete(boolean isComplete) {
+        super.setIsComplete(isComplete);
+        unpark(this.waitingConsumer);
+    }
+
+    /**
+     * Stop the producer, the consumer will not take any more rows.
+     */
+    public void cancel() {
+        this.isCancelled = true;
+        unpark(this.waitingProducer);
+    }
+
+    /**
+     * Return if the producer has been cancelled.
+     */
+    public boolean isCancelled() {
+        return this.isCancelled;
+    }
+
+    /**
+     * Return if there is a next row, waiting for the producer if the buffer is empty.
+     * If the producer failed its exception is thrown.
+     */
+    protected boolean hasNextRow() {
+        long index = this.consumerIndex.get();
+        if (index < this.producerIndex.get()) {
+            return true;
+        }
+        boolean hasStalled = false;
+        try {
+            while (!isComplete()) {
+                if (!hasStalled) {
+                    hasStalled = true;
+                    this.session.incrementProfile(SessionProfiler.RowPipelineConsumerStalls);
+                    this.waitingConsumer = Thread.currentThread();
+                }
+                if (index < this.producerIndex.get()) {
+                    return true;
+                }
+                LockSupport.parkNanos(this, MAX_PARK_NANOS);
+            }
+        } finally {
+            if (hasStalled) {
+                this.waitingConsumer = null;
+            }
+        }
+        // The last row is added before the pipeline is complete.
+        return index < this.producerIndex.get();
+    }
+
+    /**
+     * Take the next row.
+     */
+    @SuppressWarnings("unchecked")
+    protected E nextRow() {
+        if (!hasNextRow()) {
+            throw new NoSuchElementException();
+        }
+        long index = this.consumerIndex.get();
+        int slot = (int)index & this.mask;
+        E row = (E)this.buffer[slot];
+        this.buffer[slot] = null;
+        this.consumerIndex.lazySet(index + 1);
+        unpark(this.waitingProducer);
+        return row;
+    }
+
+    protected void unpark(Thread thread) {
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Take all the remaining rows into the list, so it can be accessed as a list.
+     * The rows are then kept, this is only possible before the rows are iterated.
+     */
+    protected void materialize() {
+        if (this.isMaterialized) {
+            return;
+        }
+        if (this.isIterated) {
+            throw new IllegalStateException("The rows of a pipeline cannot be accessed once iterated.");
+        }
+        this.isMaterialized = true;
+        while (hasNextRow()) {
+            super.add(nextRow());
+        }
+    }
+
+    /**
+     * Return if the rows have been taken into the list.
+     */
+    public boolean isMaterialized() {
+        return this.isMaterialized;
+    }
+
+    /**
+     * Iterate over the rows as they are fetched, this can only be done once,
+     * unless the rows have been taken into the list.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        if (this.isMaterialized) {
+            return super.iterator();
+        }
+        if (this.isIterated) {
+            throw new IllegalStateException("The rows of a pipeline can only be iterated once.");
+        }
+        this.isIterated = true;
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return hasNextRow();
+            }
+
+            @Override
+            public E next() {
+                return nextRow();
+            }
+        };
+    }
+
+    /**
+     * Return if there are no more rows, waiting for the producer if the buffer is empty.
+     */
+    @Override
+    public boolean isEmpty() {
+        if (this.isMaterialized) {
+            return super.isEmpty();
+        }
+        return !hasNextRow();
+    }
+
+    @Override
+    public E get(int index) {
+        materialize();
+        return super.get(index);
+    }
+
+    @Override
+    public E elementAt(int index) {
+        materialize();
+        return super.elementAt(index);
+    }
+
+    @Override
+    public E firstElement() {
+        materialize();
+        return super.firstElement();
+    }
+
+    @Override
+    public E lastElement() {
+        materialize();
+        return super.lastElement();
+    }
+
+    @Override
+    public int size() {
+        materialize();
+        return super.size();
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        materialize();
+        return super.contains(element);
+    }
+
+    @Override
+    public int indexOf(Object element, int index) {
+        materialize();
+        return super.indexOf(element, index);
+    }
+
+    @Override
+    public int lastIndexOf(Object element) {
+        materialize();
+        return super.lastIndexOf(element);
+    }
+
+    @Override
+    public int lastIndexOf(Object element, int index) {
+        materialize();
+        return super.lastIndexOf(element, index);
+    }
+
+    @Override
+    public Enumeration<E> elements() {
+        materialize();
+        return super.elements();
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        materialize();
+        return super.listIterator(index);
+    }
+
+    @Override
+    public List<E> subList(int fromIndex, int toIndex) {
+        materialize();
+        return super.subList(fromIndex, toIndex);
+    }
+
+    @Override
+    public Object[] toArray() {
+        materialize();
+        return super.toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] array) {
+        materialize();
+        return super.toArray(array);
+    }
+
+    @Override
+    public String toString() {
+        if (this.isMaterialized) {
+            return super.toString();
+        }
+        return getClass().getSimpleName() + "(" + this.consumerIndex.get() + "/" + this.producerIndex.get() + (this.isComplete ? ", complete)" : ")");
+    }
+}
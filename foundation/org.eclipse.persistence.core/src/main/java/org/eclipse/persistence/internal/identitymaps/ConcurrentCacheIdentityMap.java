@@ -0,0 +1,366 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+
+/**
+ * <p><b>Purpose</b>: A fixed size, approximately LRU cache that does not serialize reads.<p>
+ * Like the {@link CacheIdentityMap} the map holds at most maxSize objects and evicts
+ * the least recently used ones. Unlike the {@link CacheIdentityMap} the LRU order is not
+ * updated under a global monitor on every get. Instead reads are recorded into striped,
+ * lossy ring buffers and writes into a lock-free queue; both are replayed against the
+ * LRU list in batches by whichever thread manages to obtain the eviction lock
+ * (amortized draining). Reads never block on the eviction lock, they only try it once
+ * their read buffer stripe is half full.
+ * <p>
+ * Because read buffers are lossy under heavy contention, and because the map may briefly
+ * hold a few more entries than maxSize until the next drain, the eviction order is an
+ * approximation of LRU. Objects that are locked by another thread are never evicted,
+ * they are moved to the most recently used end of the list instead.
+ * <p><b>Responsibilities</b>:<ul>
+ *    <li> Guarantees identity through primary key values
+ *    <li> Keeps an approximate LRU linked list updated.
+ * </ul>
+ * @see CacheIdentityMap
+ * @since EclipseLink 5.0
+ */
+public class ConcurrentCacheIdentityMap extends FullIdentityMap {
+
+    /** Number of entries in each read buffer stripe, must be a power of two. */
+    protected static final int READ_BUFFER_SIZE = 16;
+
+    /** Mask used to compute the slot index inside a read buffer stripe. */
+    protected static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+
+    /** Number of pending reads in a stripe that triggers an attempt to drain the buffers. */
+    protected static final int READ_BUFFER_DRAIN_THRESHOLD = READ_BUFFER_SIZE / 2;
+
+    /** Maximum number of read buffer stripes. */
+    protected static final int MAX_STRIPES = 64;
+
+    /** Number of read buffer stripes, a power of two derived from the number of processors. */
+    protected static final int STRIPES = stripes();
+
+    /** Head of the LRU list, its next element is the least recently used key. */
+    protected LinkedCacheKey first;
+
+    /** Tail of the LRU list, its previous element is the most recently used key. */
+    protected LinkedCacheKey last;
+
+    /** Guards the LRU list. Only ever acquired with tryLock by readers. */
+    protected ReentrantLock evictionLock;
+
+    /** Striped lossy ring buffers of recently read keys. */
+    protected AtomicReferenceArray<LinkedCacheKey> readBuffer;
+
+    /** Per stripe count of reads recorded into the read buffer. */
+    protected AtomicLongArray readBufferWrites;
+
+    /** Per stripe count of reads drained from the read buffer. */
+    protected AtomicLongArray readBufferReads;
+
+    /** Keys added to or removed from the map that have not yet been applied to the LRU list. */
+    protected Queue<LinkedCacheKey> writeBuffer;
+
+    public ConcurrentCacheIdentityMap(int size, ClassDescriptor descriptor, AbstractSession session, boolean isolated) {
+        super(size, descriptor, session, isolated);
+        initializeEvictionStructures();
+    }
+
+    /**
+     * Return the number of read buffer stripes to use, the smallest power of two
+     * not lower than the number of available processors.
+     */
+    private static int stripes() {
+        int processors = Math.min(Runtime.getRuntime().availableProcessors(), MAX_STRIPES);
+        int stripes = 1;
+        while (stripes < processors) {
+            stripes <<= 1;
+        }
+        return stripes;
+    }
+
+    /**
+     * Build the LRU list and the access buffers.
+     */
+    protected void initializeEvictionStructures() {
+        this.first = new LinkedCacheKey(CacheId.EMPTY, null, null, 0, isIsolated);
+        this.last = new LinkedCacheKey(CacheId.EMPTY, null, null, 0, isIsolated);
+        this.first.setNext(this.last);
+        this.last.setPrevious(this.first);
+        this.evictionLock = new ReentrantLock();
+        this.readBuffer = new AtomicReferenceArray<>(STRIPES * READ_BUFFER_SIZE);
+        this.readBufferWrites = new AtomicLongArray(STRIPES);
+        this.readBufferReads = new AtomicLongArray(STRIPES);
+        this.writeBuffer = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * INTERNAL:
+     * Clones itself, the clone gets its own LRU list built from the cloned keys.
+     */
+    @Override
+    public IdentityMap clone() {
+        ConcurrentCacheIdentityMap clone = (ConcurrentCacheIdentityMap)super.clone();
+        clone.initializeEvictionStructures();
+        for (CacheKey key : clone.getCacheKeys().values()) {
+            LinkedCacheKey linkedKey = (LinkedCacheKey)key;
+            linkedKey.setPrevious(null);
+            linkedKey.setNext(null);
+            clone.insertLink(linkedKey);
+        }
+        return clone;
+    }
+
+    @Override
+    public CacheKey createCacheKey(Object primaryKey, Object object, Object writeLockValue, long readTime) {
+        return new LinkedCacheKey(primaryKey, object, writeLockValue, readTime, isIsolated);
+    }
+
+    /**
+     * Access the object within the table for the given primaryKey.
+     * The access is recorded in the read buffer and applied to the LRU list later.
+     * @param primaryKeys is the primary key for the object to search for.
+     * @return the LinkedCacheKey or null if none found for primaryKey
+     */
+    @Override
+    public CacheKey getCacheKey(Object primaryKeys, boolean forMerge) {
+        CacheKey cacheKey = super.getCacheKey(primaryKeys, forMerge);
+        if (cacheKey != null) {
+            if (recordRead((LinkedCacheKey)cacheKey)) {
+                tryDrainBuffers();
+            }
+        }
+        return cacheKey;
+    }
+
+    /**
+     * Record the read of the key in the read buffer stripe of the current thread.
+     * The read is dropped if the stripe is full or contended, which only affects the LRU accuracy.
+     * @return true if the stripe reached the drain threshold.
+     */
+    protected boolean recordRead(LinkedCacheKey key) {
+        int stripe = stripeIndex();
+        long reads = this.readBufferReads.get(stripe);
+        long writes = this.readBufferWrites.get(stripe);
+        long pending = writes - reads;
+        if (pending >= READ_BUFFER_SIZE) {
+            return true;
+        }
+        if (this.readBufferWrites.compareAndSet(stripe, writes, writes + 1)) {
+            this.readBuffer.lazySet((stripe * READ_BUFFER_SIZE) + (int)(writes & READ_BUFFER_MASK), key);
+            return pending + 1 >= READ_BUFFER_DRAIN_THRESHOLD;
+        }
+        return false;
+    }
+
+    /**
+     * Return the read buffer stripe of the current thread.
+     */
+    protected int stripeIndex() {
+        long id = Thread.currentThread().getId();
+        int hash = (int)(id ^ (id >>> 32)) * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+
+    /**
+     * Also record the added cacheKey, so it is linked into the LRU list.
+     * If the map grew beyond its maximum size the caller waits for the eviction lock,
+     * this is safe as the lock owner never blocks while holding it.
+     */
+    @Override
+    protected CacheKey putCacheKeyIfAbsent(CacheKey searchKey) {
+        CacheKey cacheKey = super.putCacheKeyIfAbsent(searchKey);
+        if (cacheKey == null) {
+            this.writeBuffer.add((LinkedCacheKey)searchKey);
+            if ((getMaxSize() > 0) && (getSize() > getMaxSize())) {
+                drainBuffers();
+            } else {
+                tryDrainBuffers();
+            }
+        }
+        return cacheKey;
+    }
+
+    /**
+     * Remove the LinkedCacheKey from the cache, it is unlinked from the LRU list on the next drain.
+     * @return the object held within the CacheKey or null if no object cached for given cacheKey.
+     */
+    @Override
+    public Object remove(CacheKey key) {
+        Object object = super.remove(key);
+        // The key may be null if was missing, just null should be returned in this case.
+        if (key != null) {
+            this.writeBuffer.add((LinkedCacheKey)key);
+            tryDrainBuffers();
+        }
+        return object;
+    }
+
+    /**
+     * Apply the buffered accesses to the LRU list and evict, if the eviction lock is free.
+     */
+    protected void tryDrainBuffers() {
+        if (this.evictionLock.tryLock()) {
+            try {
+                drainBuffersUnderLock();
+            } finally {
+                this.evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Apply the buffered accesses to the LRU list and evict, waiting for the eviction lock.
+     */
+    protected void drainBuffers() {
+        this.evictionLock.lock();
+        try {
+            drainBuffersUnderLock();
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Replay the read and write buffers against the LRU list then reduce the map to its maxSize.
+     * Callers of this method must hold the eviction lock.
+     */
+    protected void drainBuffersUnderLock() {
+        drainReadBuffer();
+        drainWriteBuffer();
+        ensureFixedSize();
+    }
+
+    /**
+     * Move each buffered read key to the most recently used end of the list.
+     * Keys not currently linked (pending add or already removed) are ignored.
+     */
+    protected void drainReadBuffer() {
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            long reads = this.readBufferReads.get(stripe);
+            long writes = this.readBufferWrites.get(stripe);
+            int offset = stripe * READ_BUFFER_SIZE;
+            while (reads < writes) {
+                int index = offset + (int)(reads & READ_BUFFER_MASK);
+                LinkedCacheKey key = this.readBuffer.get(index);
+                if (key == null) {
+                    // The slot was claimed but not yet published, finish on the next drain.
+                    break;
+                }
+                this.readBuffer.lazySet(index, null);
+                reads++;
+                if (key.getNext() != null) {
+                    removeLink(key);
+                    insertLink(key);
+                }
+            }
+            this.readBufferReads.lazySet(stripe, reads);
+        }
+    }
+
+    /**
+     * Link added keys and unlink removed keys.
+     * The map itself is the source of truth, so the order of the buffered events does not matter.
+     */
+    protected void drainWriteBuffer() {
+        LinkedCacheKey key;
+        while ((key = this.writeBuffer.poll()) != null) {
+            boolean isInMap = this.cacheKeys.get(key.getKey()) == key;
+            boolean isLinked = key.getNext() != null;
+            if (isInMap && !isLinked) {
+                insertLink(key);
+            } else if (!isInMap && isLinked) {
+                removeLink(key);
+            }
+        }
+    }
+
+    /**
+     * Reduces the size of the receiver down to the maxSize removing objects from the
+     * least recently used end of the linked list.
+     * Keys locked by other threads are skipped, as the eviction lock owner must never block.
+     * Callers of this method must hold the eviction lock.
+     */
+    protected void ensureFixedSize() {
+        // Bound the number of attempts, in case all remaining keys are locked.
+        int attempts = getSize();
+        while ((getMaxSize() > 0) && (getSize() > getMaxSize()) && (attempts-- > 0)) {
+            LinkedCacheKey victim = this.first.getNext();
+            if (victim == this.last) {
+                // Remaining keys are pending in the write buffer.
+                return;
+            }
+            removeLink(victim);
+            if (victim.acquireNoWait()) {
+                this.cacheKeys.remove(victim.getKey(), victim);
+                victim.setOwningMap(null);
+                victim.setInvalidationState(CacheKey.CACHE_KEY_INVALID);
+                victim.release();
+            } else {
+                insertLink(victim);
+            }
+        }
+    }
+
+    /**
+     * Insert a new element as the most recently used element of the linked list.
+     * Callers of this method must hold the eviction lock.
+     * @return the added LinkedCacheKey
+     */
+    protected LinkedCacheKey insertLink(LinkedCacheKey key) {
+        LinkedCacheKey previous = this.last.getPrevious();
+        previous.setNext(key);
+        key.setPrevious(previous);
+        key.setNext(this.last);
+        this.last.setPrevious(key);
+        return key;
+    }
+
+    /**
+     * Remove the LinkedCacheKey from the linked list.
+     * Callers of this method must hold the eviction lock.
+     * @return the removed LinkedCacheKey.
+     */
+    protected LinkedCacheKey removeLink(LinkedCacheKey key) {
+        if (key.getPrevious() == null || key.getNext() == null) {
+            return key;
+        }
+        key.getPrevious().setNext(key.getNext());
+        key.getNext().setPrevious(key.getPrevious());
+        key.setNext(null);
+        key.setPrevious(null);
+        return key;
+    }
+
+    /**
+     * INTERNAL:
+     * This method will be used to update the max cache size, any objects exceeding the max cache size will
+     * be remove from the cache.
+     */
+    @Override
+    public void updateMaxSize(int maxSize) {
+        setMaxSize(maxSize);
+        drainBuffers();
+    }
+}
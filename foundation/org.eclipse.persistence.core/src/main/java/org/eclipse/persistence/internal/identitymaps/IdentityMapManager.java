@@ -41,6 +41,8 @@
 import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
 import org.eclipse.persistence.internal.sessions.AbstractRecord;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
 import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
 import org.eclipse.persistence.logging.SessionLog;
 import org.eclipse.persistence.queries.InMemoryQueryIndirectionPolicy;
@@ -88,6 +90,9 @@ public class IdentityMapManager implements Serializable, Cloneable {
     /** A map of class to list of queries that need to be invalidated when that class changes. */
     protected Map<Class<?>, Set<Object>> queryResultsInvalidationsByClass;
 
+    /** A map of query to the dependencies of its cached results, for queries that only invalidate the results affected by a change. */
+    protected Map<Object, QueryResultsDependencies> queryResultsDependencies;
+
     /** A map of indexes on the cache. */
     protected Map<CacheIndex, IdentityMap> cacheIndexes;
 
@@ -119,11 +124,13 @@ public IdentityMapManager(AbstractSession session) {
             this.identityMaps = new HashMap<>();
             this.queryResults = new HashMap<>();
             this.queryResultsInvalidationsByClass = new HashMap<>();
+            this.queryResultsDependencies = new HashMap<>();
             this.cacheIndexes = new HashMap<>();
         } else {
             this.identityMaps = new ConcurrentHashMap<>();
             this.queryResults = new ConcurrentHashMap<>();
             this.queryResultsInvalidationsByClass = new ConcurrentHashMap<>();
+            this.queryResultsDependencies = new ConcurrentHashMap<>();
             this.cacheIndexes = new ConcurrentHashMap<>();
         }
         checkIsCacheAccessPreCheckRequired();
@@ -385,6 +392,8 @@ protected <T extends IdentityMap> IdentityMap buildNewIdentityMap(
                 return new FullIdentityMap(size, descriptor, this.session, isIsolated);
             } else if (identityMapClass == ClassConstants.CacheIdentityMap_Class) {
                 return new CacheIdentityMap(size, descriptor, this.session, isIsolated);
+            } else if (identityMapClass == ClassConstants.ConcurrentCacheIdentityMap_Class) {
+                return new ConcurrentCacheIdentityMap(size, descriptor, this.session, isIsolated);
             }
         }
         final Class<?>[] parameters = new Class<?>[]{ClassConstants.PINT, ClassDescriptor.class, AbstractSession.class, boolean.class};
@@ -443,6 +452,7 @@ public IdentityMapManager clone() {
     public void clearQueryCache() {
         this.queryResults = new ConcurrentHashMap<>();
         this.queryResultsInvalidationsByClass = new ConcurrentHashMap<>();
+        this.queryResultsDependencies = new ConcurrentHashMap<>();
     }
 
     /**
@@ -465,6 +475,7 @@ public void clearQueryCache(ReadQuery query) {
                 queryKey = query;
             }
             this.queryResults.remove(queryKey);
+            this.queryResultsDependencies.remove(queryKey);
         }
     }
 
@@ -480,6 +491,7 @@ public void invalidateQueryCache(Class<?> classThatChanged) {
         if (invalidations != null) {
             for (Object queryKey : invalidations) {
                 this.queryResults.remove(queryKey);
+                this.queryResultsDependencies.remove(queryKey);
             }
         }
         Class<?> superClass = classThatChanged.getSuperclass();
@@ -488,6 +500,66 @@ public void invalidateQueryCache(Class<?> classThatChanged) {
         }
     }
 
+    /**
+     * Invalidate/remove the results for the class from the query cache affected by the committed changes.
+     * The results of queries that track their dependencies are only removed if the changed objects
+     * are part of the results or conform to the query, other results are removed on any change.
+     * The changes must have been merged into the cache.
+     * @see QueryResultsDependencies
+     */
+    public void invalidateQueryCache(Class<?> classThatChanged, UnitOfWorkChangeSet changeSet) {
+        if ((changeSet == null) || (this.queryResultsDependencies == null) || this.queryResultsDependencies.isEmpty()) {
+            invalidateQueryCache(classThatChanged);
+            return;
+        }
+        List<ObjectChangeSet> changes = null;
+        List<ObjectChangeSet> deletions = null;
+        for (Class<?> invalidatedClass = classThatChanged; (invalidatedClass != null) && (invalidatedClass != ClassConstants.OBJECT); invalidatedClass = invalidatedClass.getSuperclass()) {
+            Set<Object> invalidations = this.queryResultsInvalidationsByClass.get(invalidatedClass);
+            if (invalidations == null) {
+                continue;
+            }
+            for (Object queryKey : invalidations) {
+                QueryResultsDependencies dependencies = this.queryResultsDependencies.get(queryKey);
+                if (dependencies == null) {
+                    this.queryResults.remove(queryKey);
+                    continue;
+                }
+                IdentityMap results = this.queryResults.get(queryKey);
+                if (results == null) {
+                    this.queryResultsDependencies.remove(queryKey);
+                    continue;
+                }
+                if (changes == null) {
+                    changes = new ArrayList<>();
+                    deletions = new ArrayList<>();
+                    Map<ObjectChangeSet, ObjectChangeSet> deletedObjects = changeSet.getDeletedObjects();
+                    for (ObjectChangeSet deletion : deletedObjects.values()) {
+                        if ((deletion.getId() != null) && (deletion.getClassType(this.session) == classThatChanged)) {
+                            deletions.add(deletion);
+                        }
+                    }
+                    for (ObjectChangeSet change : changeSet.getAllChangeSets().values()) {
+                        if ((change.getId() != null) && (change.getClassType(this.session) == classThatChanged) && !deletedObjects.containsKey(change)) {
+                            changes.add(change);
+                        }
+                    }
+                }
+                Enumeration<CacheKey> cacheKeys = results.cloneKeys();
+                while (cacheKeys.hasMoreElements()) {
+                    CacheKey cacheKey = cacheKeys.nextElement();
+                    if (dependencies.isAffected(cacheKey.getKey(), classThatChanged, changes, deletions, this.session)) {
+                        results.remove(cacheKey);
+                        dependencies.removeResults(cacheKey.getKey());
+                        this.session.incrementProfile(SessionProfiler.QueryResultsCacheInvalidations);
+                    } else {
+                        this.session.incrementProfile(SessionProfiler.QueryResultsCacheInvalidationsAvoided);
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Return true if an CacheKey with the primary key is in the map.
      * User API.
@@ -1446,6 +1518,15 @@ public void putQueryResult(ReadQuery query, List parameters, Object results) {
         if (results == null) {
             results = InvalidObject.instance();
         }
+        if (query.getQueryResultsCachePolicy().isDependencyTracked() && query.getQueryResultsCachePolicy().getInvalidateOnChange()
+                && query.isObjectLevelReadQuery() && !query.isReportQuery()) {
+            QueryResultsDependencies dependencies = this.queryResultsDependencies.computeIfAbsent(queryKey, key -> new QueryResultsDependencies((ObjectLevelReadQuery)query));
+            dependencies.addResults(lookupParameters, results, this.session);
+            // Results evicted from the full cache are not notified, so remove their dependencies from time to time.
+            if (dependencies.size() > (2 * query.getQueryResultsCachePolicy().getMaximumCachedResults())) {
+                dependencies.removeUncachedResults(map);
+            }
+        }
         map.put(lookupParameters, results, null, queryTime);
     }
 
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.exceptions.QueryException;
+import org.eclipse.persistence.expressions.Expression;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.helper.InvalidObject;
+import org.eclipse.persistence.internal.queries.ContainerPolicy;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.queries.InMemoryQueryIndirectionPolicy;
+import org.eclipse.persistence.queries.ObjectLevelReadQuery;
+import org.eclipse.persistence.queries.ReadAllQuery;
+
+/**
+ * <p><b>Purpose</b>: Record what the cached result sets of a query depend on,
+ * so a change only invalidates the result sets it affects.<p>
+ * For each result set, cached by its parameters, the primary keys of its results are recorded.
+ * A committed change affects a result set if a changed or deleted object is one of its results,
+ * or if a new or changed object now conforms to the query's selection criteria with the result set's parameters.
+ * Whenever this cannot be decided, for a change to another class used by the query,
+ * criteria that cannot be conformed in memory, or an object no longer in the cache,
+ * the result set is considered affected.
+ *
+ * @see org.eclipse.persistence.queries.QueryResultsCachePolicy#setIsDependencyTracked(boolean)
+ * @since EclipseLink 5.0
+ */
+public class QueryResultsDependencies {
+
+    /** The query whose results are cached. */
+    protected final ObjectLevelReadQuery query;
+
+    /** The primary keys of the results of each cached result set, by the result set's parameters. */
+    protected final Map<Object, Set<Object>> primaryKeysByParameters;
+
+    public QueryResultsDependencies(ObjectLevelReadQuery query) {
+        this.query = query;
+        this.primaryKeysByParameters = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Return the query whose results are cached.
+     */
+    public ObjectLevelReadQuery getQuery() {
+        return query;
+    }
+
+    /**
+     * Record the primary keys of the results cached for the parameters.
+     * If a result has no primary key, nothing is recorded so the result set is affected by any change.
+     */
+    public void addResults(Object parameters, Object results, AbstractSession session) {
+        Set<Object> primaryKeys = new HashSet<>();
+        if (this.query.isReadAllQuery()) {
+            ContainerPolicy policy = ((ReadAllQuery)this.query).getContainerPolicy();
+            for (Object iterator = policy.iteratorFor(results); policy.hasNext(iterator);) {
+                if (!addPrimaryKey(policy.next(iterator, session), primaryKeys, session)) {
+                    this.primaryKeysByParameters.remove(parameters);
+                    return;
+                }
+            }
+        } else if ((results != null) && (results != InvalidObject.instance())) {
+            if (!addPrimaryKey(results, primaryKeys, session)) {
+                this.primaryKeysByParameters.remove(parameters);
+                return;
+            }
+        }
+        this.primaryKeysByParameters.put(parameters, primaryKeys);
+    }
+
+    /**
+     * Add the primary key of the result, return false if it has none.
+     */
+    protected boolean addPrimaryKey(Object result, Set<Object> primaryKeys, AbstractSession session) {
+        if (result == null) {
+            return true;
+        }
+        ClassDescriptor descriptor = session.getDescriptor(result);
+        if (descriptor == null) {
+            return false;
+        }
+        Object primaryKey = descriptor.getObjectBuilder().extractPrimaryKeyFromObject(result, session, true);
+        if (primaryKey == null) {
+            return false;
+        }
+        primaryKeys.add(primaryKey);
+        return true;
+    }
+
+    /**
+     * Remove the dependencies of the result set of the parameters.
+     */
+    public void removeResults(Object parameters) {
+        this.primaryKeysByParameters.remove(parameters);
+    }
+
+    /**
+     * Remove the dependencies of the result sets no longer in the query results cache.
+     */
+    public void removeUncachedResults(IdentityMap results) {
+        this.primaryKeysByParameters.keySet().removeIf(parameters -> results.getCacheKey(parameters, false) == null);
+    }
+
+    /**
+     * Return the number of result sets with dependencies.
+     */
+    public int size() {
+        return this.primaryKeysByParameters.size();
+    }
+
+    /**
+     * Return if the changes to the objects of the class affect the result set of the parameters.
+     * The objects have been merged into the session cache.
+     */
+    public boolean isAffected(Object parameters, Class<?> classThatChanged, List<ObjectChangeSet> changes, List<ObjectChangeSet> deletions, AbstractSession session) {
+        Set<Object> primaryKeys = this.primaryKeysByParameters.get(parameters);
+        // The class is only used in the selection criteria, changing it may change any result.
+        if ((primaryKeys == null) || !this.query.getReferenceClass().isAssignableFrom(classThatChanged)) {
+            return true;
+        }
+        for (ObjectChangeSet deletion : deletions) {
+            if (primaryKeys.contains(deletion.getId())) {
+                return true;
+            }
+        }
+        AbstractRecord translationRow = null;
+        for (ObjectChangeSet change : changes) {
+            if (primaryKeys.contains(change.getId())) {
+                return true;
+            }
+            if (translationRow == null) {
+                translationRow = buildTranslationRow(parameters, session);
+                if (translationRow == null) {
+                    return true;
+                }
+            }
+            if (conforms(change, translationRow, session)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Return the query's arguments row of the parameters, or null if the parameters are not the query's arguments.
+     */
+    protected AbstractRecord buildTranslationRow(Object parameters, AbstractSession session) {
+        if (!(parameters instanceof CacheId)) {
+            return null;
+        }
+        try {
+            return this.query.rowFromArguments(Arrays.asList(((CacheId)parameters).getPrimaryKey()), session);
+        } catch (QueryException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Return if the changed object may conform to the query's selection criteria.
+     */
+    protected boolean conforms(ObjectChangeSet change, AbstractRecord translationRow, AbstractSession session) {
+        Expression selectionCriteria = this.query.getSelectionCriteria();
+        if (selectionCriteria == null) {
+            // Either all objects are selected, or the query uses custom SQL.
+            return true;
+        }
+        // PERF: Avoid clone of expression.
+        ExpressionBuilder builder = selectionCriteria.getBuilder();
+        if ((builder != null) && (builder.getSession() == null)) {
+            builder.setSession(session.getRootSession(null));
+            builder.setQueryClass(this.query.getReferenceClass());
+        }
+        Class<?> changedClass = change.getClassType(session);
+        Object object = session.getIdentityMapAccessorInstance().getFromIdentityMap(change.getId(), changedClass, session.getDescriptor(changedClass));
+        if (object == null) {
+            return true;
+        }
+        try {
+            return selectionCriteria.doesConform(object, session, translationRow, InMemoryQueryIndirectionPolicy.SHOULD_IGNORE_EXCEPTION_RETURN_CONFORMED);
+        } catch (QueryException exception) {
+            return true;
+        }
+    }
+}
@@ -379,6 +379,7 @@ Current thread (id: {3} name: {4}) stack trace:
         { "resource_local_persistence_init_info_ignores_jta_data_source", "PersistenceUnitInfo {0} has transactionType RESOURCE_LOCAL and therefore jtaDataSource will be ignored"},
         { "deprecated_property", "property {1} is deprecated, property {0} should be used instead."},
         { "persistence_unit_processor_error_loading_class", "{0}: {1} was thrown on attempt of PersistenceLoadProcessor to load class {2}. The class is ignored."},
+        { "persistence_unit_index_out_of_date", "The persistence unit index {0} does not match the classes of the archive [{1}] and is ignored, all the classes of the archive are scanned. Regenerate the index when the archive is rebuilt."},
 
         { "attempted_to_open_url_as_jar", "{1} was thrown on attempt to open {0} as a jar."},
         { "attempted_to_open_url_as_directory", "{1} was thrown on attempt to open {0} as a directory."},
@@ -448,6 +449,7 @@ Current thread (id: {3} name: {4}) stack trace:
         { "jaxb_metadata_warning_invalid_package_level_xml_java_type_adapter", "An invalid XmlJavaTypeAdapter [{0}] was specified for package [{1}], and will be ignored."},
         { "jaxb_metadata_warning_invalid_type_level_xml_java_type_adapter", "An invalid XmlJavaTypeAdapter [{0}] was specified for class [{1}], and will be ignored."},
         { "jaxb_metadata_warning_invalid_property_level_xml_java_type_adapter", "An invalid XmlJavaTypeAdapter [{0}] was specified for field/property [{1}] on class [{2}], and will be ignored."},
+        { "moxy_context_snapshot_not_used", "JAXBContext snapshot {0} is not used, the JAXBContext is generated: {1}"},
         // 316513: JMX implementation for JBoss, WebSphere and Glassfish as well as WebLogic
         { "jmx_mbean_runtime_services_registration_encountered_multiple_mbeanserver_instances", "Multiple JMX MBeanServer instances [{0}] exist, we will use the server at index [{1}] : [{2}]." },
         { "jmx_mbean_runtime_services_registration_mbeanserver_print", "JMX MBeanServer instance found: [{0}], # of beans: [{1}], domain: [{2}] at index: [{3}]." },
@@ -79,25 +79,27 @@ public class ToStringLocalizationResource extends ListResourceBundle {
                                            { "staticweave_processor_dir_not_created", "The {0} directory cannot be created."},
                                            { "staticweave_processor_file_not_created", "The {0} file cannot be created." },
 
-                                           { "staticweave_commandline_help_message_1of19", "  Usage: StaticWeave [options] source target" },
-                                           { "staticweave_commandline_help_message_2of19", "  Options:" },
-                                           { "staticweave_commandline_help_message_3of19", "    -classpath classpath" },
-                                           { "staticweave_commandline_help_message_4of19", "           Set the user class path.  Use \";\" as delimiter in Windows and \":\" in Unix." },
-                                           { "staticweave_commandline_help_message_5of19", "    -persistenceinfo" },
-                                           { "staticweave_commandline_help_message_6of19", "           Explicitly identify where META-INF/persistence.xml is stored.  It must be the root of META-INF/persistence.xml." },
-                                           { "staticweave_commandline_help_message_7of19", "           This option is typically used to specify the main jar when weaving files referenced by <jar-file> in persistence.xml." },
-                                           { "staticweave_commandline_help_message_8of19", "    -persistencexml" },
-                                           { "staticweave_commandline_help_message_9of19", "           Identify the location of the persistence.xml relative to the root of the persistence unit if it is somewhere other that META-INF/persistence.xml" },
-                                           { "staticweave_commandline_help_message_10of19", "    -log" },
-                                           { "staticweave_commandline_help_message_11of19", "           Specify logging file." },
-                                           { "staticweave_commandline_help_message_12of19", "    -loglevel" },
-                                           { "staticweave_commandline_help_message_13of19", "           Specify the integer value of the logging level (8=OFF,7=SEVERE,6=WARNING,5=INFO,4=CONFIG,3=FINE,2=FINER(default),1=FINEST,0=ALL)." },
-                                           { "staticweave_commandline_help_message_14of19", "    The classpath must contain all the classes necessary to load the classes in the source." },
-                                           { "staticweave_commandline_help_message_15of19", "    The weaving will be performed in place if source and target point to the same location.  Weaving in place is ONLY applicable for directory-based sources." },
-                                           { "staticweave_commandline_help_message_16of19", "  Example:" },
-                                           { "staticweave_commandline_help_message_17of19", "    To weave all entites contained in C:\\foo-source.jar with its persistence.xml contained within the C:\\foo-containing-persistence-xml.jar," },
-                                           { "staticweave_commandline_help_message_18of19", "    and output to C:\\foo-target.jar:" },
-                                           { "staticweave_commandline_help_message_19of19", "    StaticWeave -persistenceinfo C:\\foo-containing-persistence-xml.jar -classpath C:\\classpath1;C:\\classpath2 C:\\foo-source.jar C:\\foo-target.jar"},
+                                           { "staticweave_commandline_help_message_1of21", "  Usage: StaticWeave [options] source target" },
+                                           { "staticweave_commandline_help_message_2of21", "  Options:" },
+                                           { "staticweave_commandline_help_message_3of21", "    -classpath classpath" },
+                                           { "staticweave_commandline_help_message_4of21", "           Set the user class path.  Use \";\" as delimiter in Windows and \":\" in Unix." },
+                                           { "staticweave_commandline_help_message_5of21", "    -persistenceinfo" },
+                                           { "staticweave_commandline_help_message_6of21", "           Explicitly identify where META-INF/persistence.xml is stored.  It must be the root of META-INF/persistence.xml." },
+                                           { "staticweave_commandline_help_message_7of21", "           This option is typically used to specify the main jar when weaving files referenced by <jar-file> in persistence.xml." },
+                                           { "staticweave_commandline_help_message_8of21", "    -persistencexml" },
+                                           { "staticweave_commandline_help_message_9of21", "           Identify the location of the persistence.xml relative to the root of the persistence unit if it is somewhere other that META-INF/persistence.xml" },
+                                           { "staticweave_commandline_help_message_10of21", "    -log" },
+                                           { "staticweave_commandline_help_message_11of21", "           Specify logging file." },
+                                           { "staticweave_commandline_help_message_12of21", "    -loglevel" },
+                                           { "staticweave_commandline_help_message_13of21", "           Specify the integer value of the logging level (8=OFF,7=SEVERE,6=WARNING,5=INFO,4=CONFIG,3=FINE,2=FINER(default),1=FINEST,0=ALL)." },
+                                           { "staticweave_commandline_help_message_14of21", "    -index" },
+                                           { "staticweave_commandline_help_message_15of21", "           Write a persistence unit index of the source classes into the target, so that deployment does not scan all the classes of the target." },
+                                           { "staticweave_commandline_help_message_16of21", "    The classpath must contain all the classes necessary to load the classes in the source." },
+                                           { "staticweave_commandline_help_message_17of21", "    The weaving will be performed in place if source and target point to the same location.  Weaving in place is ONLY applicable for directory-based sources." },
+                                           { "staticweave_commandline_help_message_18of21", "  Example:" },
+                                           { "staticweave_commandline_help_message_19of21", "    To weave all entites contained in C:\\foo-source.jar with its persistence.xml contained within the C:\\foo-containing-persistence-xml.jar," },
+                                           { "staticweave_commandline_help_message_20of21", "    and output to C:\\foo-target.jar:" },
+                                           { "staticweave_commandline_help_message_21of21", "    StaticWeave -persistenceinfo C:\\foo-containing-persistence-xml.jar -classpath C:\\classpath1;C:\\classpath2 C:\\foo-source.jar C:\\foo-target.jar"},
 
                                            { "sdo_classgenerator_usage_help_1of8", "{0} Usage: org.eclipse.persistence.sdo.helper.{0} [-options]" },
                                            { "sdo_classgenerator_usage_help_2of8", "Options:" },
@@ -370,6 +370,7 @@ The thread is working in the context of (CacheKey) = ({2}) .\s
         { "sequencing_afterTransactionCommitted", "local sequencing preallocation is copied to preallocation after transaction commit" },
         { "sequencing_afterTransactionRolledBack", "local sequencing preallocation is discarded after transaction roll back" },
         { "sequencing_preallocation", "sequencing preallocation for {0}: objects: {1} , first: {2}, last: {3}" },
+        { "sequencing_backgroundPreallocation", "background sequencing preallocation for {0}: objects: {1} , first: {2}, last: {3}" },
         { "starting_rcm", "Starting Remote Command Manager {0}" },
         { "stopping_rcm", "Stopping Remote Command Manager {0}" },
         { "initializing_discovery_resources", "Initializing discovery resources - group={0} port={1}" },
@@ -593,6 +594,8 @@ The thread is working in the context of (CacheKey) = ({2}) .\s
         { "moxy_set_marshaller_property", "Setting marshaller property (name/value): {0}/{1}"},
         { "moxy_set_unmarshaller_property", "Setting unmarshaller property (name/value): {0}/{1}"},
         { "moxy_set_jaxb_context_property", "Setting JAXBContext property (name/value): {0}/{1}"},
+        { "moxy_context_snapshot_restored", "JAXBContext restored from the snapshot {0}."},
+        { "moxy_context_snapshot_not_found", "JAXBContext snapshot {0} was not found, the JAXBContext is generated."},
         { "invalid_tzone", "Invalid timezone conversion property {0} value: {1}.  Will attempt to resolve default." },
         { "invalid_default_tzone", "Invalid timezone conversion property {0} value: {1}.  Defaulting to UTC." },
         { "using_conversion_tzone", "ConversionManager using default zone offset: {1}."},
@@ -19,6 +19,7 @@
 import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.Iterator;
@@ -57,14 +58,14 @@
  *  @see org.eclipse.persistence.eis.EISDescriptor
  *
  */
-public class NamespaceResolver implements XMLNamespaceResolver {
+public class NamespaceResolver implements XMLNamespaceResolver, Serializable {
     private static final String BASE_PREFIX = "ns";
     private static final Vector<Namespace> EMPTY_VECTOR = VectorUtils.emptyVector();
 
     private String defaultNamespaceURI;
     private NamespaceResolverStorage prefixesToNamespaces;
     private int prefixCounter;
-    private Node dom;
+    private transient Node dom;
 
     /**
      * Default constructor, creates a new NamespaceResolver.
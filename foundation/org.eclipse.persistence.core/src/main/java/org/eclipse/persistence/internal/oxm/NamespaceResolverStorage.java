@@ -12,6 +12,8 @@
 
 package org.eclipse.persistence.internal.oxm;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serial;
 import java.util.Collection;
 import java.util.Collections;
@@ -38,6 +40,13 @@ public NamespaceResolverStorage(int initialCapacity) {
         super(initialCapacity);
     }
 
+    @Serial
+    private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        namespaces = emptyVector();
+        setModified();
+    }
+
     @Override
     public String put(String key, String value) {
         String response = super.put(key, value);
@@ -35,6 +35,9 @@
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -51,13 +54,20 @@
  */
 public class TreeObjectBuilder extends XMLObjectBuilder implements ObjectBuilder<AbstractRecord, AbstractSession, ClassDescriptor, XMLMarshaller> {
 
-    private XPathObjectBuilder xPathObjectBuilder;
+    /** The tree of XPathNodes is built lazily from the mappings, so it is not serialized. */
+    private transient XPathObjectBuilder xPathObjectBuilder;
 
     public TreeObjectBuilder(ClassDescriptor descriptor) {
         super(descriptor);
         xPathObjectBuilder = new XPathObjectBuilder(descriptor);
     }
 
+    @Serial
+    private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        xPathObjectBuilder = new XPathObjectBuilder(descriptor);
+    }
+
     @Override
     protected void initialize(ClassDescriptor descriptor) {
         int descriptorMappingsSize = descriptor.getMappings().size();
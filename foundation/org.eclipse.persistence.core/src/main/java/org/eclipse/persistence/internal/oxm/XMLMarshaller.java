@@ -34,6 +34,7 @@
 import org.eclipse.persistence.oxm.record.FormattedOutputStreamRecord;
 import org.eclipse.persistence.oxm.record.FormattedWriterRecord;
 import org.eclipse.persistence.oxm.record.JSONFormattedWriterRecord;
+import org.eclipse.persistence.oxm.record.JSONOutputStreamRecord;
 import org.eclipse.persistence.oxm.record.JSONWriterRecord;
 import org.eclipse.persistence.oxm.record.MarshalRecord;
 import org.eclipse.persistence.oxm.record.NodeRecord;
@@ -142,6 +143,7 @@
     private Schema schema;
     private String schemaLocation;
     protected XMLTransformer transformer;
+    private boolean utf8Output;
     private String valueWrapper;
     private boolean wrapperAsCollectionName = false;
     private String xmlHeader;
@@ -177,6 +179,7 @@ protected XMLMarshaller(XMLMarshaller xmlMarshaller) {
         }
 
         schemaLocation = xmlMarshaller.getSchemaLocation();
+        utf8Output = xmlMarshaller.isUTF8Output();
         valueWrapper = xmlMarshaller.getValueWrapper();
         wrapperAsCollectionName = xmlMarshaller.isWrapperAsCollectionName();
         xmlHeader = xmlMarshaller.getXmlHeader();
@@ -485,6 +488,15 @@ public boolean isWrapperAsCollectionName() {
         return wrapperAsCollectionName;
     }
 
+    /**
+     * Property to determine if unformatted JSON marshalled to an OutputStream
+     * in UTF-8 should be written with a JSONOutputStreamRecord.
+     * Ignored marshalling XML.
+     */
+    public boolean isUTF8Output() {
+        return utf8Output;
+    }
+
     protected boolean isSimpleXMLRoot(Root xmlRoot) {
         Class<?> xmlRootObjectClass = xmlRoot.getObject().getClass();
 
@@ -940,7 +952,11 @@ private void marshal(Object object, OutputStream outputStream, ABSTRACT_SESSION
             }
         } else {
             if(isApplicationJSON()) {
-                marshalRecord = new JSONWriterRecord(outputStream, callbackName);
+                if(isUTF8Output()) {
+                    marshalRecord = new JSONOutputStreamRecord(outputStream, callbackName);
+                } else {
+                    marshalRecord = new JSONWriterRecord(outputStream, callbackName);
+                }
             } else {
                 marshalRecord = new OutputStreamRecord();
                 ((OutputStreamRecord)marshalRecord).setOutputStream(outputStream);
@@ -1366,6 +1382,15 @@ public void setWrapperAsCollectionName(boolean wrapperAsCollectionName) {
         this.wrapperAsCollectionName = wrapperAsCollectionName;
     }
 
+    /**
+     * Property to determine if unformatted JSON marshalled to an OutputStream
+     * in UTF-8 should be written with a JSONOutputStreamRecord.
+     * Ignored marshalling XML.
+     */
+    public void setUTF8Output(boolean utf8Output) {
+        this.utf8Output = utf8Output;
+    }
+
     /**
      * Name of the property to marshal/unmarshal as a wrapper on the text() mappings
      * Ignored marshalling XML.
@@ -17,6 +17,7 @@
 import org.eclipse.persistence.internal.oxm.mappings.Field;
 
 import javax.xml.namespace.QName;
+import java.io.Serializable;
 import java.nio.charset.Charset;
 import java.util.HashSet;
 import java.util.Set;
@@ -34,7 +35,7 @@
  * b[2] would have an index value of 2.</li>
  * </ul>
  */
-public class XPathFragment<XML_FIELD extends Field> {
+public class XPathFragment<XML_FIELD extends Field> implements Serializable {
 
     public static final XPathFragment TEXT_FRAGMENT = new XPathFragment(Constants.TEXT);
     public static final String SELF_XPATH = ".";
@@ -56,6 +57,7 @@
     private byte[] prefixBytes;
     private String localName;
     private byte[] localNameBytes;
+    private byte[] jsonKeyBytes;
     private String namespaceURI;
     protected boolean nameIsText = false;
     protected boolean isSelfFragment = false;
@@ -228,6 +230,22 @@ public byte[] getLocalNameBytes() {
         return localNameBytes;
     }
 
+    /**
+     * INTERNAL:
+     * The escaped local name of a JSON key followed by the closing quote and
+     * the separator, encoded in UTF-8.  Null until set by the marshal record.
+     */
+    public byte[] getJsonKeyBytes() {
+        return jsonKeyBytes;
+    }
+
+    /**
+     * INTERNAL:
+     */
+    public void setJsonKeyBytes(byte[] jsonKeyBytes) {
+        this.jsonKeyBytes = jsonKeyBytes;
+    }
+
     public void setLocalName(String localName) {
         this.localName = localName;
         resetShortName();
@@ -424,6 +442,7 @@ private void resetShortName(){
         shortName = null;
     prefixBytes = null;
     localNameBytes = null;
+    jsonKeyBytes = null;
     }
 
     /**
@@ -15,22 +15,34 @@
 package org.eclipse.persistence.internal.oxm.record.json;
 
 import jakarta.json.Json;
+import jakarta.json.JsonArray;
 import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
-import jakarta.json.JsonStructure;
 import jakarta.json.JsonValue;
+import jakarta.json.JsonValue.ValueType;
+import jakarta.json.spi.JsonProvider;
 import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
 import org.eclipse.persistence.exceptions.XMLMarshalException;
 import org.eclipse.persistence.internal.oxm.Constants;
 import org.eclipse.persistence.internal.oxm.ConversionManager;
+import org.eclipse.persistence.internal.oxm.MappingNodeValue;
 import org.eclipse.persistence.internal.oxm.MediaType;
+import org.eclipse.persistence.internal.oxm.NodeValue;
 import org.eclipse.persistence.internal.oxm.Unmarshaller;
+import org.eclipse.persistence.internal.oxm.XPathNode;
 import org.eclipse.persistence.internal.oxm.mappings.Field;
+import org.eclipse.persistence.internal.oxm.mappings.Mapping;
 import org.eclipse.persistence.internal.oxm.record.AbstractUnmarshalRecord;
 import org.eclipse.persistence.internal.oxm.record.ExtendedContentHandler;
+import org.eclipse.persistence.internal.oxm.record.SAXUnmarshallerHandler;
+import org.eclipse.persistence.internal.oxm.record.UnmarshalRecord;
 import org.eclipse.persistence.internal.oxm.record.XMLReaderAdapter;
+import org.eclipse.persistence.internal.oxm.record.json.JsonStructureReader.JsonPair;
 import org.eclipse.persistence.oxm.mappings.nullpolicy.AbstractNullPolicy;
+import org.xml.sax.Attributes;
 import org.xml.sax.ContentHandler;
 import org.xml.sax.ErrorHandler;
 import org.xml.sax.InputSource;
@@ -40,15 +52,20 @@
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.math.BigDecimal;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Reader for JSR-353 stream (StAX) parser.
  * <p>
+ * The parser events are reported to the content handler as they are read, without building the document,
+ * so the memory used by the unmarshalling does not depend on the size of the document.
+ * Only the leading members of an object with simple values, that hold the attributes of its element,
+ * are read before the element is reported, the other members are reported as they are read.
+ * <p>
  * Could be instantiated with {@link JsonParserReader.JsonParserReaderBuilder#build()};
  */
 public final class JsonParserReader extends XMLReaderAdapter {
@@ -57,9 +74,9 @@ public final class JsonParserReader extends XMLReaderAdapter {
     private final JsonStructureReader structureReader;
 
     /**
-     * Parsing stack
+     * Creates the values read from the parser
      */
-    private final Deque<JsonStructureBuilder> stack = new ArrayDeque<>();
+    private final JsonProvider provider = JsonProvider.provider();
 
     /**
      * Private constructor
@@ -121,67 +138,287 @@ public void parse(String systemId) {
         }
     }
 
-    private void doParsing(JsonParser parser) throws SAXException, IOException {
-        JsonStructureBuilder builder = null;
-        while (parser.hasNext()) {
-            builder = parseEvent(parser);
+    private void doParsing(JsonParser parser) throws SAXException {
+        if (parser.hasNext()) {
+            parseRoot(parser, parser.next());
         }
-        assert builder != null;
-        JsonStructure jsonStructure = builder.build();
-        structureReader.parseRoot(jsonStructure);
     }
 
-    private JsonStructureBuilder parseEvent(JsonParser jp) throws SAXException {
-        JsonParser.Event e = jp.next();
+    private void parseRoot(JsonParser parser, Event event) throws SAXException {
+        structureReader.startPrefixMappings();
 
-        JsonStructureBuilder top = stack.peek();
-        switch (e) {
-            case START_ARRAY: {
-                JsonStructureBuilder b = new ArrayBuilder(Json.createArrayBuilder());
-                stack.push(b);
-                break;
-            }
+        switch (event) {
             case START_OBJECT: {
-                JsonStructureBuilder b = new ObjectBuilder(Json.createObjectBuilder());
-                stack.push(b);
+                getContentHandler().startDocument();
+                event = parser.next();
+                if (event == Event.END_OBJECT && structureReader.getUnmarshalClass() == null) {
+                    return;
+                }
+                if (structureReader.isIncludeRoot()) {
+                    if (event != Event.END_OBJECT) {
+                        parsePair(parser, parser.getString(), parser.next());
+                        // only the first pair is the root
+                        while (parser.next() != Event.END_OBJECT) {
+                            skipValue(parser, parser.next());
+                        }
+                    }
+                } else {
+                    parseObject(parser, event, attributes -> getContentHandler().startElement(Constants.EMPTY_STRING, Constants.EMPTY_STRING, null, attributes), false);
+                    getContentHandler().endElement(Constants.EMPTY_STRING, Constants.EMPTY_STRING, null);
+                }
+                getContentHandler().endDocument();
                 break;
             }
-            case KEY_NAME: {
-                top.setKey(jp.getString());
+            case START_ARRAY: {
+                SAXUnmarshallerHandler rootContentHandler = structureReader.getRootContentHandler();
+                List<Object> list = new ArrayList<>();
+                while ((event = parser.next()) != Event.END_ARRAY) {
+                    parseRoot(parser, event);
+                    structureReader.addRootObject(list);
+                }
+                structureReader.setRootObjects(list, rootContentHandler);
                 break;
             }
-            case VALUE_STRING: {
-                top.add(jp.getString());
-                break;
+            default: {
+                getContentHandler().startDocument();
+                structureReader.parseValue(readValue(parser, event));
             }
-            case VALUE_NUMBER: {
-                top.add(jp.getBigDecimal());
-                break;
+        }
+    }
+
+    /**
+     * Parse the members of an object, from the event following its start up to its end.
+     * If the object is reported as an element, its leading simple members are read first, as they are
+     * the attributes of the element, and the element is started before the first member with an object
+     * value, or an array value of objects.
+     * The following members are parsed as they are read, simple members are also reported as
+     * attributes of the element, so the memory used does not depend on the size of the object.
+     */
+    private void parseObject(JsonParser parser, Event event, ElementStart elementStart, boolean isTextWrapperLast) throws SAXException {
+        JsonObjectBuilder leadingMembers = (elementStart == null) ? null : provider.createObjectBuilder();
+        String textWrapper = isTextWrapperLast ? structureReader.getTextWrapper() : null;
+        JsonValue textWrapperValue = null;
+        boolean reportsAttributes = false;
+        while (event != Event.END_OBJECT) {
+            String name = parser.getString();
+            event = parser.next();
+            if (textWrapper != null && textWrapper.equals(name)) {
+                // JSON value mapped to @XmlValue property is proceeded as a last
+                textWrapperValue = readValue(parser, event);
+                if (leadingMembers != null) {
+                    leadingMembers.add(name, textWrapperValue);
+                }
+            } else if (leadingMembers != null) {
+                Event firstItem = (event == Event.START_ARRAY) ? parser.next() : null;
+                if (event == Event.START_OBJECT || (firstItem == Event.START_OBJECT || firstItem == Event.START_ARRAY)) {
+                    reportsAttributes = startElement(leadingMembers.build(), elementStart, textWrapper);
+                    leadingMembers = null;
+                    if (firstItem == null) {
+                        parseObjectPair(parser, name);
+                    } else {
+                        parseArrayPair(parser, name, firstItem);
+                    }
+                } else {
+                    leadingMembers.add(name, (firstItem == null) ? readValue(parser, event) : readArray(parser, firstItem));
+                }
+            } else if (event == Event.START_OBJECT) {
+                parseObjectPair(parser, name);
+            } else if (event == Event.START_ARRAY) {
+                Event firstItem = parser.next();
+                if (reportsAttributes && isAttribute(name)) {
+                    JsonValue value = readArray(parser, firstItem);
+                    parseAttribute(name, value);
+                    structureReader.parsePair(name, value);
+                } else {
+                    parseArrayPair(parser, name, firstItem);
+                }
+            } else {
+                JsonValue value = readValue(parser, event);
+                if (reportsAttributes) {
+                    parseAttribute(name, value);
+                }
+                structureReader.parsePair(name, value);
             }
-            case VALUE_TRUE: {
-                top.add(Boolean.TRUE);
-                break;
+            event = parser.next();
+        }
+        if (leadingMembers != null) {
+            startElement(leadingMembers.build(), elementStart, textWrapper);
+        }
+        if (textWrapperValue != null) {
+            structureReader.parsePair(textWrapper, textWrapperValue);
+        }
+    }
+
+    /**
+     * Start the element with the attributes of the leading members of its object, and parse them.
+     * Return if the element is mapped, so the attributes of the following members are reported to its unmarshal record.
+     */
+    private boolean startElement(JsonObject leadingMembers, ElementStart elementStart, String textWrapper) throws SAXException {
+        UnmarshalRecord parentRecord = structureReader.getUnmarshalRecord();
+        XPathNode parentNode = (parentRecord == null) ? null : parentRecord.getXPathNode();
+        boolean isRoot = (parentRecord == null) || (parentRecord.getLevelIndex() == 0);
+        elementStart.start(structureReader.getAttributes(leadingMembers));
+        UnmarshalRecord unmarshalRecord = structureReader.getUnmarshalRecord();
+        // an unmapped element leaves the unmarshal record on the node of its parent
+        boolean isMapped = (unmarshalRecord != null) && (isRoot || unmarshalRecord != parentRecord || unmarshalRecord.getXPathNode() != parentNode);
+        for (Map.Entry<String, JsonValue> member : leadingMembers.entrySet()) {
+            if (textWrapper == null || !textWrapper.equals(member.getKey())) {
+                structureReader.parsePair(member.getKey(), member.getValue());
             }
-            case VALUE_FALSE: {
-                top.add(Boolean.FALSE);
-                break;
+        }
+        return isMapped;
+    }
+
+    private void parseObjectPair(JsonParser parser, String name) throws SAXException {
+        JsonPair pair = structureReader.startValuePair(name, ValueType.OBJECT);
+        if (pair == null) {
+            skipValue(parser, Event.START_OBJECT);
+        } else if (pair.isTextValue) {
+            parseObject(parser, parser.next(), null, true);
+        } else {
+            parseObject(parser, parser.next(), attributes -> structureReader.startPairElement(pair, ValueType.OBJECT, attributes), true);
+            structureReader.endPairElement(pair);
+        }
+    }
+
+    private void parseArrayPair(JsonParser parser, String name, Event event) throws SAXException {
+        JsonPair pair = structureReader.startArrayPair(name, event == Event.END_ARRAY);
+        while (event != Event.END_ARRAY) {
+            if (pair == null || !pair.parsesItems) {
+                skipValue(parser, event);
+            } else if (event == Event.START_OBJECT) {
+                if (pair.isTextValue) {
+                    parseObject(parser, parser.next(), null, true);
+                } else {
+                    parseObject(parser, parser.next(), attributes -> structureReader.startArrayItem(pair, ValueType.OBJECT, attributes), true);
+                    structureReader.endArrayItem(pair);
+                }
+            } else {
+                JsonValue item = readValue(parser, event);
+                structureReader.startArrayItem(pair, item.getValueType(), structureReader.getAttributes(item));
+                //Internally store each nested array it as JsonObject with name: "item"
+                if (event == Event.START_ARRAY) {
+                    item = provider.createObjectBuilder().add("item", item).build();
+                }
+                structureReader.parseValue(item);
+                structureReader.endArrayItem(pair);
             }
-            case VALUE_NULL: {
-                top.addNull();
-                break;
+            event = parser.next();
+        }
+        if (pair != null) {
+            structureReader.endArrayPair(pair);
+        }
+    }
+
+    private void parsePair(JsonParser parser, String name, Event event) throws SAXException {
+        if (event == Event.START_OBJECT) {
+            parseObjectPair(parser, name);
+        } else if (event == Event.START_ARRAY) {
+            parseArrayPair(parser, name, parser.next());
+        } else {
+            structureReader.parsePair(name, readValue(parser, event));
+        }
+    }
+
+    /**
+     * Return if the member read after the start of the element of its object is an attribute of the element.
+     */
+    private boolean isAttribute(String name) {
+        UnmarshalRecord unmarshalRecord = structureReader.getUnmarshalRecord();
+        if (unmarshalRecord == null || unmarshalRecord.getXPathNode() == null) {
+            return false;
+        }
+        Attributes attributes = structureReader.getAttributes(provider.createObjectBuilder().add(name, JsonValue.NULL).build());
+        return attributes.getLength() > 0
+                && (unmarshalRecord.getXPathNode().getAnyAttributeNodeValue() != null
+                    || unmarshalRecord.getAttributeChildNodeValue(attributes.getURI(0), attributes.getLocalName(0)) != null);
+    }
+
+    /**
+     * Report the member read after the start of the element of its object as an attribute of the element,
+     * as it is reported by the unmarshal record when the attributes are known at the start of the element.
+     */
+    private void parseAttribute(String name, JsonValue value) {
+        UnmarshalRecord unmarshalRecord = structureReader.getUnmarshalRecord();
+        if (unmarshalRecord == null || unmarshalRecord.getXPathNode() == null) {
+            return;
+        }
+        Attributes attributes = structureReader.getAttributes(provider.createObjectBuilder().add(name, value).build());
+        for (int index = 0, length = attributes.getLength(); index < length; index++) {
+            String uri = attributes.getURI(index);
+            String localName = attributes.getLocalName(index);
+            NodeValue attributeNodeValue = unmarshalRecord.getAttributeChildNodeValue(uri, localName);
+            if (attributeNodeValue != null) {
+                if (attributeNodeValue.isMappingNodeValue()) {
+                    Mapping mapping = ((MappingNodeValue) attributeNodeValue).getMapping();
+                    if (!unmarshalRecord.getUnmarshalAttributeGroup().containsAttributeInternal(mapping.getAttributeName())) {
+                        continue;
+                    }
+                }
+                attributeNodeValue.attribute(unmarshalRecord, uri, localName, attributes.getValue(index));
+            } else if (unmarshalRecord.getXPathNode().getAnyAttributeNodeValue() != null) {
+                unmarshalRecord.getXPathNode().getAnyAttributeNodeValue().attribute(unmarshalRecord, uri, localName, attributes.getValue(index));
             }
-            case END_ARRAY:
-            case END_OBJECT: { // adding build element to the upper one
-                JsonStructureBuilder b = stack.pop();
-                top = stack.peek();
-                if (top != null)
-                    top.add(b.build());
-                return b;
+        }
+    }
+
+    /**
+     * Read the value starting with the event.
+     */
+    private JsonValue readValue(JsonParser parser, Event event) {
+        switch (event) {
+            case START_OBJECT: {
+                JsonObjectBuilder builder = provider.createObjectBuilder();
+                while (parser.next() != Event.END_OBJECT) {
+                    String name = parser.getString();
+                    builder.add(name, readValue(parser, parser.next()));
+                }
+                return builder.build();
             }
+            case START_ARRAY:
+                return readArray(parser, parser.next());
+            case VALUE_STRING:
+                return provider.createValue(parser.getString());
+            case VALUE_NUMBER:
+                return provider.createValue(parser.getBigDecimal());
+            case VALUE_TRUE:
+                return JsonValue.TRUE;
+            case VALUE_FALSE:
+                return JsonValue.FALSE;
+            case VALUE_NULL:
+                return JsonValue.NULL;
             default:
-                throw new IllegalStateException("Unhandled event: " + e);
+                throw new IllegalStateException("Unhandled event: " + event);
+        }
+    }
+
+    /**
+     * Read the array from its first item event.
+     */
+    private JsonArray readArray(JsonParser parser, Event event) {
+        JsonArrayBuilder builder = provider.createArrayBuilder();
+        while (event != Event.END_ARRAY) {
+            builder.add(readValue(parser, event));
+            event = parser.next();
+        }
+        return builder.build();
+    }
+
+    /**
+     * Skip the value starting with the event.
+     */
+    private static void skipValue(JsonParser parser, Event event) {
+        if (event == Event.START_OBJECT || event == Event.START_ARRAY) {
+            int depth = 1;
+            while (depth > 0) {
+                event = parser.next();
+                if (event == Event.START_OBJECT || event == Event.START_ARRAY) {
+                    depth++;
+                } else if (event == Event.END_OBJECT || event == Event.END_ARRAY) {
+                    depth--;
+                }
+            }
         }
-        return null;
     }
 
     // ******************************** Redirecting requests to JsonStructureReader *******************************
@@ -232,22 +469,11 @@ public boolean isNamespaceAware() {
     // ************************************************************************************************************
 
     /**
-     * JsonStructure builder
+     * Start of the element of an object, with the attributes read from its leading members.
      */
-    private interface JsonStructureBuilder {
-        JsonStructure build();
-
-        void add(JsonValue value);
-
-        void add(String value);
-
-        void add(BigDecimal value);
-
-        void add(boolean value);
-
-        void addNull();
-
-        void setKey(String key);
+    @FunctionalInterface
+    private interface ElementStart {
+        void start(Attributes attributes) throws SAXException;
     }
 
     /**
@@ -278,91 +504,4 @@ public JsonParserReader build() {
             return new JsonParserReader(this);
         }
     }
-
-    private static final class ObjectBuilder implements JsonStructureBuilder {
-        private final JsonObjectBuilder b;
-        private String key;
-
-        public ObjectBuilder(JsonObjectBuilder b) {
-            this.b = b;
-        }
-
-        @Override
-        public JsonStructure build() {
-            return b.build();
-        }
-
-        @Override
-        public void add(JsonValue value) {
-            b.add(key, value);
-        }
-
-        @Override
-        public void add(String value) {
-            b.add(key, value);
-        }
-
-        @Override
-        public void add(BigDecimal value) {
-            b.add(key, value);
-        }
-
-        @Override
-        public void add(boolean value) {
-            b.add(key, value);
-        }
-
-        @Override
-        public void addNull() {
-            b.addNull(key);
-        }
-
-        @Override
-        public void setKey(String key) {
-            this.key = key;
-        }
-    }
-
-    private static final class ArrayBuilder implements JsonStructureBuilder {
-        private final JsonArrayBuilder b;
-
-        public ArrayBuilder(JsonArrayBuilder b) {
-            this.b = b;
-        }
-
-        @Override
-        public JsonStructure build() {
-            return b.build();
-        }
-
-        @Override
-        public void add(JsonValue value) {
-            b.add(value);
-        }
-
-        @Override
-        public void add(String value) {
-            b.add(value);
-        }
-
-        @Override
-        public void add(BigDecimal value) {
-            b.add(value);
-        }
-
-        @Override
-        public void add(boolean value) {
-            b.add(value);
-        }
-
-        @Override
-        public void addNull() {
-            b.addNull();
-        }
-
-        @Override
-        public void setKey(String key) {
-            // noop
-        }
-    }
 }
@@ -47,6 +47,7 @@
 import org.eclipse.persistence.internal.oxm.record.deferred.DeferredContentHandler;
 import org.eclipse.persistence.oxm.mappings.nullpolicy.AbstractNullPolicy;
 import org.eclipse.persistence.oxm.record.XMLRootRecord;
+import org.xml.sax.Attributes;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.AttributesImpl;
@@ -160,12 +161,7 @@ public void parse(String systemId) {
     }
 
     public void parseRoot(JsonValue jsonValue) throws SAXException {
-        if (namespaces != null) {
-            Map<String, String> namespacePairs = namespaces.getPrefixesToNamespaces();
-            for (Entry<String, String> namespacePair : namespacePairs.entrySet()) {
-                contentHandler.startPrefixMapping(namespacePair.getKey(), namespacePair.getValue());
-            }
-        }
+        startPrefixMappings();
 
         if (jsonValue.getValueType() == ValueType.OBJECT) {
             contentHandler.startDocument();
@@ -197,47 +193,15 @@ public void parseRoot(JsonValue jsonValue) throws SAXException {
             contentHandler.endDocument();
         } else if (jsonValue.getValueType() == ValueType.ARRAY) {
 
-            SAXUnmarshallerHandler rootContentHandler = null;
-            if (getContentHandler() instanceof SAXUnmarshallerHandler) {
-                rootContentHandler = (SAXUnmarshallerHandler) getContentHandler();
-            }
+            SAXUnmarshallerHandler rootContentHandler = getRootContentHandler();
             JsonArray jsonArray = (JsonArray) jsonValue;
 
             List<Object> list = new ArrayList<>(jsonArray.size());
             for (JsonValue aJsonArray : jsonArray) {
                 parseRoot(aJsonArray);
-                if (getContentHandler() instanceof SAXUnmarshallerHandler) {
-                    SAXUnmarshallerHandler saxUnmarshallerHandler = (SAXUnmarshallerHandler) contentHandler;
-                    list.add(saxUnmarshallerHandler.getObject());
-                    saxUnmarshallerHandler.setObject(null);
-                } else if (getContentHandler() instanceof UnmarshalRecord) {
-                    UnmarshalRecord unmarshalRecord = (UnmarshalRecord) contentHandler;
-                    Object unmarshalledObject = unmarshalRecord.getCurrentObject();
-                    if (includeRoot && unmarshalClass != null) {
-                        if (!(unmarshalledObject instanceof Root)) {
-                            Root xmlRoot = unmarshalRecord.createRoot();
-                            xmlRoot.setNamespaceURI(unmarshalRecord.getRootElementNamespaceUri());
-                            xmlRoot.setLocalName(unmarshalRecord.getLocalName());
-                            xmlRoot.setObject(unmarshalledObject);
-                            unmarshalledObject = xmlRoot;
-                        }
-                    }
-                    list.add(unmarshalledObject);
-                    unmarshalRecord.setCurrentObject(null);
-                    unmarshalRecord.setRootElementName(null);
-                    unmarshalRecord.setLocalName(null);
-                }
-            }
-            if (getContentHandler() instanceof SAXUnmarshallerHandler) {
-                ((SAXUnmarshallerHandler) getContentHandler()).setObject(list);
-            } else if (getContentHandler() instanceof UnmarshalRecord) {
-                ((UnmarshalRecord) getContentHandler()).setCurrentObject(list);
-                ((UnmarshalRecord) getContentHandler()).setRootElementName(Constants.EMPTY_STRING);
-                ((UnmarshalRecord) getContentHandler()).setLocalName(Constants.EMPTY_STRING);
-                if (rootContentHandler != null) {
-                    rootContentHandler.setObject(list);
-                }
+                addRootObject(list);
             }
+            setRootObjects(list, rootContentHandler);
 
         } else {
             getContentHandler().startDocument();
@@ -245,7 +209,66 @@ public void parseRoot(JsonValue jsonValue) throws SAXException {
         }
     }
 
-    private void parseValue(JsonValue jsonValue) throws SAXException {
+    void startPrefixMappings() throws SAXException {
+        if (namespaces != null) {
+            Map<String, String> namespacePairs = namespaces.getPrefixesToNamespaces();
+            for (Entry<String, String> namespacePair : namespacePairs.entrySet()) {
+                contentHandler.startPrefixMapping(namespacePair.getKey(), namespacePair.getValue());
+            }
+        }
+    }
+
+    SAXUnmarshallerHandler getRootContentHandler() {
+        if (getContentHandler() instanceof SAXUnmarshallerHandler) {
+            return (SAXUnmarshallerHandler) getContentHandler();
+        }
+        return null;
+    }
+
+    /**
+     * Add the object unmarshalled from an item of the root array to the list of root objects.
+     */
+    void addRootObject(List<Object> list) {
+        if (getContentHandler() instanceof SAXUnmarshallerHandler) {
+            SAXUnmarshallerHandler saxUnmarshallerHandler = (SAXUnmarshallerHandler) contentHandler;
+            list.add(saxUnmarshallerHandler.getObject());
+            saxUnmarshallerHandler.setObject(null);
+        } else if (getContentHandler() instanceof UnmarshalRecord) {
+            UnmarshalRecord unmarshalRecord = (UnmarshalRecord) contentHandler;
+            Object unmarshalledObject = unmarshalRecord.getCurrentObject();
+            if (includeRoot && unmarshalClass != null) {
+                if (!(unmarshalledObject instanceof Root)) {
+                    Root xmlRoot = unmarshalRecord.createRoot();
+                    xmlRoot.setNamespaceURI(unmarshalRecord.getRootElementNamespaceUri());
+                    xmlRoot.setLocalName(unmarshalRecord.getLocalName());
+                    xmlRoot.setObject(unmarshalledObject);
+                    unmarshalledObject = xmlRoot;
+                }
+            }
+            list.add(unmarshalledObject);
+            unmarshalRecord.setCurrentObject(null);
+            unmarshalRecord.setRootElementName(null);
+            unmarshalRecord.setLocalName(null);
+        }
+    }
+
+    /**
+     * Set the objects unmarshalled from the items of the root array as the result.
+     */
+    void setRootObjects(List<Object> list, SAXUnmarshallerHandler rootContentHandler) {
+        if (getContentHandler() instanceof SAXUnmarshallerHandler) {
+            ((SAXUnmarshallerHandler) getContentHandler()).setObject(list);
+        } else if (getContentHandler() instanceof UnmarshalRecord) {
+            ((UnmarshalRecord) getContentHandler()).setCurrentObject(list);
+            ((UnmarshalRecord) getContentHandler()).setRootElementName(Constants.EMPTY_STRING);
+            ((UnmarshalRecord) getContentHandler()).setLocalName(Constants.EMPTY_STRING);
+            if (rootContentHandler != null) {
+                rootContentHandler.setObject(list);
+            }
+        }
+    }
+
+    void parseValue(JsonValue jsonValue) throws SAXException {
         switch (jsonValue.getValueType()) {
             case STRING: {
                 String string = ((JsonString) jsonValue).getString();
@@ -295,7 +318,7 @@ private void parseValue(JsonValue jsonValue) throws SAXException {
         }
     }
 
-    private void parsePair(String name, JsonValue jsonValue) throws SAXException {
+    void parsePair(String name, JsonValue jsonValue) throws SAXException {
         if (jsonValue == null) {
             return;
         }
@@ -303,96 +326,13 @@ private void parsePair(String name, JsonValue jsonValue) throws SAXException {
 
         if (valueType == ValueType.ARRAY) {
             JsonArray jsonArray = (JsonArray) jsonValue;
-            String parentLocalName = name;
-
-            if (attributePrefix != null && parentLocalName.startsWith(attributePrefix)) {
-                // do nothing;
+            JsonPair pair = startArrayPair(name, jsonArray.isEmpty());
+            if (pair == null) {
                 return;
             }
-            String uri = Constants.EMPTY_STRING;
-            if (isNamespaceAware() && namespaces != null) {
-                if (parentLocalName.length() > 2) {
-                    int nsIndex = parentLocalName.indexOf(getNamespaceSeparator(), 1);
-                    if (nsIndex > -1) {
-                        String prefix = parentLocalName.substring(0, nsIndex);
-                        uri = namespaces.resolveNamespacePrefix(prefix);
-                    }
-                    if (uri == null || uri == Constants.EMPTY_STRING) {
-                        uri = namespaces.getDefaultNamespaceURI();
-                    } else {
-                        parentLocalName = parentLocalName.substring(nsIndex + 1);
-                    }
-                } else {
-                    uri = namespaces.getDefaultNamespaceURI();
-                }
-            }
-
-            boolean isTextValue;
-            int arraySize = jsonArray.size();
-            if (arraySize == 0) {
-                if (contentHandler instanceof UnmarshalRecord || isUnmarshalRecordWithinAdapter()) {
-                    final UnmarshalRecord ur = this.contentHandler instanceof UnmarshalRecord ? (UnmarshalRecord) this.contentHandler : getUnmarshalRecordFromAdapter();
-                    XPathNode node = ur.getNonAttributeXPathNode(uri, parentLocalName, parentLocalName, null);
-                    if (node != null) {
-                        NodeValue nv = node.getNodeValue();
-                        if (nv == null && node.getTextNode() != null) {
-                            nv = node.getTextNode().getUnmarshalNodeValue();
-                        }
-                        if (nv != null && nv.isContainerValue()) {
-                            ur.getContainerInstance(((ContainerValue) nv));
-                        }
-                    }
-                }
-            }
-            startCollection();
-
-            XPathFragment groupingXPathFragment = null;
-            XPathFragment itemXPathFragment = null;
-            if (contentHandler instanceof UnmarshalRecord || isUnmarshalRecordWithinAdapter()) {
-                final UnmarshalRecord contentHandler_ = contentHandler instanceof UnmarshalRecord ? (UnmarshalRecord) contentHandler : getUnmarshalRecordFromAdapter();
-                isTextValue = isTextValue(parentLocalName, contentHandler_);
-                UnmarshalRecord unmarshalRecord = contentHandler_;
-                if (unmarshalRecord.getUnmarshaller().isWrapperAsCollectionName()) {
-                    XPathNode unmarshalRecordXPathNode = unmarshalRecord.getXPathNode();
-                    if (null != unmarshalRecordXPathNode) {
-                        XPathFragment currentFragment = new XPathFragment();
-                        currentFragment.setLocalName(parentLocalName);
-                        currentFragment.setNamespaceURI(uri);
-                        currentFragment.setNamespaceAware(isNamespaceAware());
-                        XPathNode groupingXPathNode = unmarshalRecordXPathNode.getNonAttributeChildrenMap().get(currentFragment);
-                        if (groupingXPathNode != null) {
-                            if (groupingXPathNode.getUnmarshalNodeValue() instanceof CollectionGroupingElementNodeValue) {
-                                groupingXPathFragment = groupingXPathNode.getXPathFragment();
-                                contentHandler_.startElement(uri, parentLocalName, parentLocalName, new AttributesImpl());
-                                XPathNode itemXPathNode = groupingXPathNode.getNonAttributeChildren().get(0);
-                                itemXPathFragment = itemXPathNode.getXPathFragment();
-                            } else if (groupingXPathNode.getUnmarshalNodeValue() == null) {
-                                XPathNode itemXPathNode = groupingXPathNode.getNonAttributeChildren().get(0);
-                                if (itemXPathNode != null) {
-                                    if ((itemXPathNode.getUnmarshalNodeValue()).isContainerValue()) {
-                                        groupingXPathFragment = groupingXPathNode.getXPathFragment();
-                                        contentHandler_.startElement(uri, parentLocalName, parentLocalName, new AttributesImpl());
-                                        itemXPathFragment = itemXPathNode.getXPathFragment();
-                                    }
-                                }
-                            }
-                        }
-                    }
-                }
-
+            if (pair.parsesItems) {
                 for (JsonValue nextArrayValue : jsonArray) {
-                    if (nextArrayValue.getValueType() == ValueType.NULL) {
-                        contentHandler.setNil(true);
-                    }
-
-                    if (!isTextValue) {
-                        if (null != itemXPathFragment) {
-                            contentHandler.startElement(itemXPathFragment.getNamespaceURI(), itemXPathFragment.getLocalName(), itemXPathFragment.getLocalName(), attributes.setValue(nextArrayValue, attributePrefix, namespaces, getNamespaceSeparator(), isNamespaceAware()));
-                        } else {
-                            contentHandler.startElement(uri, parentLocalName, parentLocalName, attributes.setValue(nextArrayValue, attributePrefix, namespaces, getNamespaceSeparator(), isNamespaceAware()));
-                        }
-
-                    }
+                    startArrayItem(pair, nextArrayValue.getValueType(), getAttributes(nextArrayValue));
                     //Internally store each nested array it as JsonObject with name: "item"
                     if (valueType == nextArrayValue.getValueType()) {
                         JsonBuilderFactory factory = Json.createBuilderFactory(null);
@@ -401,101 +341,269 @@ private void parsePair(String name, JsonValue jsonValue) throws SAXException {
                         nextArrayValue = jsonObjectBuilder.build();
                     }
                     parseValue(nextArrayValue);
-                    if (!isTextValue) {
-                        if (null != itemXPathFragment) {
-                            contentHandler.endElement(itemXPathFragment.getNamespaceURI(), itemXPathFragment.getLocalName(), itemXPathFragment.getLocalName());
-                        } else {
-                            contentHandler.endElement(uri, parentLocalName, parentLocalName);
-                        }
-                    }
+                    endArrayItem(pair);
                 }
             }
-            if (null != groupingXPathFragment) {
-                contentHandler.endElement(uri, groupingXPathFragment.getLocalName(), groupingXPathFragment.getLocalName());
-            }
-            endCollection();
+            endArrayPair(pair);
         } else {
-            if (attributePrefix != null && name.startsWith(attributePrefix)) {
+            JsonPair pair = startValuePair(name, valueType);
+            if (pair == null) {
                 return;
             }
-            String localName = name;
-            String uri = Constants.EMPTY_STRING;
-            if (isNamespaceAware() && namespaces != null) {
-                if (localName.length() > 2) {
-                    int nsIndex = localName.indexOf(getNamespaceSeparator(), 1);
-                    String prefix = Constants.EMPTY_STRING;
-                    if (nsIndex > -1) {
-                        prefix = localName.substring(0, nsIndex);
-                    }
-                    uri = namespaces.resolveNamespacePrefix(prefix);
-                    if (uri == null || uri == Constants.EMPTY_STRING) {
-                        uri = namespaces.getDefaultNamespaceURI();
-                    } else {
-                        localName = localName.substring(nsIndex + 1);
-                    }
+            if (pair.isTextValue) {
+                parseValue(jsonValue);
+                return;
+            }
+            startPairElement(pair, valueType, getAttributes(jsonValue));
+            parseValue(jsonValue);
+            endPairElement(pair);
+        }
 
-                    if (localName.equals(Constants.SCHEMA_TYPE_ATTRIBUTE) && uri != null && uri.equals(javax.xml.XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI)) {
-                        return;
-                    }
-                } else {
+    }
+
+    /**
+     * Start the collection of the pair with an array value,
+     * return null if the pair is not unmarshalled.
+     * The items are reported with startArrayItem and endArrayItem if the pair parses its items.
+     */
+    JsonPair startArrayPair(String name, boolean isEmpty) throws SAXException {
+        String parentLocalName = name;
+
+        if (attributePrefix != null && parentLocalName.startsWith(attributePrefix)) {
+            // do nothing;
+            return null;
+        }
+        String uri = Constants.EMPTY_STRING;
+        if (isNamespaceAware() && namespaces != null) {
+            if (parentLocalName.length() > 2) {
+                int nsIndex = parentLocalName.indexOf(getNamespaceSeparator(), 1);
+                if (nsIndex > -1) {
+                    String prefix = parentLocalName.substring(0, nsIndex);
+                    uri = namespaces.resolveNamespacePrefix(prefix);
+                }
+                if (uri == null || uri == Constants.EMPTY_STRING) {
                     uri = namespaces.getDefaultNamespaceURI();
+                } else {
+                    parentLocalName = parentLocalName.substring(nsIndex + 1);
                 }
+            } else {
+                uri = namespaces.getDefaultNamespaceURI();
             }
-            if (contentHandler instanceof XMLRootRecord || contentHandler instanceof DeferredContentHandler) {
-                if (jsonTypeCompatibility) {
-                    // if its not namespaceAware don't report the "type" child as it
-                    // is will be read by the xsi:type lookup
-                    if (!isNamespaceAware() && localName.equals(Constants.SCHEMA_TYPE_ATTRIBUTE)) {
-                        return;
+        }
+
+        if (isEmpty) {
+            if (contentHandler instanceof UnmarshalRecord || isUnmarshalRecordWithinAdapter()) {
+                final UnmarshalRecord ur = this.contentHandler instanceof UnmarshalRecord ? (UnmarshalRecord) this.contentHandler : getUnmarshalRecordFromAdapter();
+                XPathNode node = ur.getNonAttributeXPathNode(uri, parentLocalName, parentLocalName, null);
+                if (node != null) {
+                    NodeValue nv = node.getNodeValue();
+                    if (nv == null && node.getTextNode() != null) {
+                        nv = node.getTextNode().getUnmarshalNodeValue();
+                    }
+                    if (nv != null && nv.isContainerValue()) {
+                        ur.getContainerInstance(((ContainerValue) nv));
                     }
                 }
-                if (textWrapper != null && textWrapper.equals(localName)) {
-                    parseValue(jsonValue);
-                    return;
-                }
-            } else if (contentHandler instanceof UnmarshalRecord && ((UnmarshalRecord) contentHandler).getXPathNode() != null) {
-                if (jsonTypeCompatibility) {
-                    if (!isNamespaceAware() && localName.equals(Constants.SCHEMA_TYPE_ATTRIBUTE) && !((UnmarshalRecord) contentHandler).getXPathNode().hasTypeChild()) {
-                        return;
+            }
+        }
+        startCollection();
+
+        JsonPair pair = new JsonPair(uri, parentLocalName);
+        if (contentHandler instanceof UnmarshalRecord || isUnmarshalRecordWithinAdapter()) {
+            final UnmarshalRecord contentHandler_ = contentHandler instanceof UnmarshalRecord ? (UnmarshalRecord) contentHandler : getUnmarshalRecordFromAdapter();
+            pair.parsesItems = true;
+            pair.isTextValue = isTextValue(parentLocalName, contentHandler_);
+            UnmarshalRecord unmarshalRecord = contentHandler_;
+            if (unmarshalRecord.getUnmarshaller().isWrapperAsCollectionName()) {
+                XPathNode unmarshalRecordXPathNode = unmarshalRecord.getXPathNode();
+                if (null != unmarshalRecordXPathNode) {
+                    XPathFragment currentFragment = new XPathFragment();
+                    currentFragment.setLocalName(parentLocalName);
+                    currentFragment.setNamespaceURI(uri);
+                    currentFragment.setNamespaceAware(isNamespaceAware());
+                    XPathNode groupingXPathNode = unmarshalRecordXPathNode.getNonAttributeChildrenMap().get(currentFragment);
+                    if (groupingXPathNode != null) {
+                        if (groupingXPathNode.getUnmarshalNodeValue() instanceof CollectionGroupingElementNodeValue) {
+                            pair.groupingXPathFragment = groupingXPathNode.getXPathFragment();
+                            contentHandler_.startElement(uri, parentLocalName, parentLocalName, new AttributesImpl());
+                            XPathNode itemXPathNode = groupingXPathNode.getNonAttributeChildren().get(0);
+                            pair.itemXPathFragment = itemXPathNode.getXPathFragment();
+                        } else if (groupingXPathNode.getUnmarshalNodeValue() == null) {
+                            XPathNode itemXPathNode = groupingXPathNode.getNonAttributeChildren().get(0);
+                            if (itemXPathNode != null) {
+                                if ((itemXPathNode.getUnmarshalNodeValue()).isContainerValue()) {
+                                    pair.groupingXPathFragment = groupingXPathNode.getXPathFragment();
+                                    contentHandler_.startElement(uri, parentLocalName, parentLocalName, new AttributesImpl());
+                                    pair.itemXPathFragment = itemXPathNode.getXPathFragment();
+                                }
+                            }
+                        }
                     }
                 }
-                boolean isTextValue = isTextValue(localName, (UnmarshalRecord) contentHandler);
-                if (isTextValue) {
-                    parseValue(jsonValue);
-                    return;
+            }
+        }
+        return pair;
+    }
+
+    /**
+     * Start the element of an item of the array of the pair, unless the items are text values.
+     */
+    void startArrayItem(JsonPair pair, ValueType itemValueType, Attributes itemAttributes) throws SAXException {
+        if (itemValueType == ValueType.NULL) {
+            contentHandler.setNil(true);
+        }
+
+        if (!pair.isTextValue) {
+            if (null != pair.itemXPathFragment) {
+                contentHandler.startElement(pair.itemXPathFragment.getNamespaceURI(), pair.itemXPathFragment.getLocalName(), pair.itemXPathFragment.getLocalName(), itemAttributes);
+            } else {
+                contentHandler.startElement(pair.uri, pair.localName, pair.localName, itemAttributes);
+            }
+        }
+    }
+
+    void endArrayItem(JsonPair pair) throws SAXException {
+        if (!pair.isTextValue) {
+            if (null != pair.itemXPathFragment) {
+                contentHandler.endElement(pair.itemXPathFragment.getNamespaceURI(), pair.itemXPathFragment.getLocalName(), pair.itemXPathFragment.getLocalName());
+            } else {
+                contentHandler.endElement(pair.uri, pair.localName, pair.localName);
+            }
+        }
+    }
+
+    void endArrayPair(JsonPair pair) throws SAXException {
+        if (null != pair.groupingXPathFragment) {
+            contentHandler.endElement(pair.uri, pair.groupingXPathFragment.getLocalName(), pair.groupingXPathFragment.getLocalName());
+        }
+        endCollection();
+    }
+
+    /**
+     * Return the element of the pair with an object or simple value,
+     * null if the pair is not unmarshalled.
+     * The value is parsed without an element if the pair is a text value.
+     */
+    JsonPair startValuePair(String name, ValueType valueType) throws SAXException {
+        if (attributePrefix != null && name.startsWith(attributePrefix)) {
+            return null;
+        }
+        String localName = name;
+        String uri = Constants.EMPTY_STRING;
+        if (isNamespaceAware() && namespaces != null) {
+            if (localName.length() > 2) {
+                int nsIndex = localName.indexOf(getNamespaceSeparator(), 1);
+                String prefix = Constants.EMPTY_STRING;
+                if (nsIndex > -1) {
+                    prefix = localName.substring(0, nsIndex);
+                }
+                uri = namespaces.resolveNamespacePrefix(prefix);
+                if (uri == null || uri == Constants.EMPTY_STRING) {
+                    uri = namespaces.getDefaultNamespaceURI();
+                } else {
+                    localName = localName.substring(nsIndex + 1);
                 }
-                NodeValue nv = ((UnmarshalRecord) contentHandler).getAttributeChildNodeValue(uri, localName);
-                if (attributePrefix == null && nv != null) {
-                    return;
+
+                if (localName.equals(Constants.SCHEMA_TYPE_ATTRIBUTE) && uri != null && uri.equals(javax.xml.XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI)) {
+                    return null;
                 }
-            } else if (isUnmarshalRecordWithinAdapter()) {
-                @SuppressWarnings("rawtypes") final UnmarshalRecord contentHandler_ = getUnmarshalRecordFromAdapter();
-                if (jsonTypeCompatibility) {
-                    if (!isNamespaceAware() && localName.equals(Constants.SCHEMA_TYPE_ATTRIBUTE) && !contentHandler_.getXPathNode().hasTypeChild()) {
-                        return;
-                    }
+            } else {
+                uri = namespaces.getDefaultNamespaceURI();
+            }
+        }
+        JsonPair pair = new JsonPair(uri, localName);
+        if (contentHandler instanceof XMLRootRecord || contentHandler instanceof DeferredContentHandler) {
+            if (jsonTypeCompatibility) {
+                // if its not namespaceAware don't report the "type" child as it
+                // is will be read by the xsi:type lookup
+                if (!isNamespaceAware() && localName.equals(Constants.SCHEMA_TYPE_ATTRIBUTE)) {
+                    return null;
                 }
-                boolean isTextValue = isTextValue(localName, contentHandler_);
-                if (isTextValue) {
-                    parseValue(jsonValue);
-                    return;
+            }
+            if (textWrapper != null && textWrapper.equals(localName)) {
+                pair.isTextValue = true;
+                return pair;
+            }
+        } else if (contentHandler instanceof UnmarshalRecord && ((UnmarshalRecord) contentHandler).getXPathNode() != null) {
+            if (jsonTypeCompatibility) {
+                if (!isNamespaceAware() && localName.equals(Constants.SCHEMA_TYPE_ATTRIBUTE) && !((UnmarshalRecord) contentHandler).getXPathNode().hasTypeChild()) {
+                    return null;
                 }
-                NodeValue nv = contentHandler_.getAttributeChildNodeValue(uri, localName);
-                if (attributePrefix == null && nv != null) {
-                    return;
+            }
+            boolean isTextValue = isTextValue(localName, (UnmarshalRecord) contentHandler);
+            if (isTextValue) {
+                pair.isTextValue = true;
+                return pair;
+            }
+            NodeValue nv = ((UnmarshalRecord) contentHandler).getAttributeChildNodeValue(uri, localName);
+            if (attributePrefix == null && nv != null) {
+                return null;
+            }
+        } else if (isUnmarshalRecordWithinAdapter()) {
+            @SuppressWarnings("rawtypes") final UnmarshalRecord contentHandler_ = getUnmarshalRecordFromAdapter();
+            if (jsonTypeCompatibility) {
+                if (!isNamespaceAware() && localName.equals(Constants.SCHEMA_TYPE_ATTRIBUTE) && !contentHandler_.getXPathNode().hasTypeChild()) {
+                    return null;
                 }
             }
-
-            if (jsonValue.getValueType() == ValueType.NULL) {
-                contentHandler.setNil(true);
+            boolean isTextValue = isTextValue(localName, contentHandler_);
+            if (isTextValue) {
+                pair.isTextValue = true;
+                return pair;
+            }
+            NodeValue nv = contentHandler_.getAttributeChildNodeValue(uri, localName);
+            if (attributePrefix == null && nv != null) {
+                return null;
             }
+        }
+        return pair;
+    }
 
-            contentHandler.startElement(uri, localName, localName, attributes.setValue(jsonValue, attributePrefix, namespaces, getNamespaceSeparator(), isNamespaceAware()));
-            parseValue(jsonValue);
-            contentHandler.endElement(uri, localName, localName);
+    void startPairElement(JsonPair pair, ValueType valueType, Attributes attributes) throws SAXException {
+        if (valueType == ValueType.NULL) {
+            contentHandler.setNil(true);
+        }
+
+        contentHandler.startElement(pair.uri, pair.localName, pair.localName, attributes);
+    }
+
+    void endPairElement(JsonPair pair) throws SAXException {
+        contentHandler.endElement(pair.uri, pair.localName, pair.localName);
+    }
+
+    /**
+     * Return the attributes of the element of the value, the simple values of the members of an object value.
+     */
+    Attributes getAttributes(JsonValue jsonValue) {
+        return attributes.setValue(jsonValue, attributePrefix, namespaces, getNamespaceSeparator(), isNamespaceAware());
+    }
 
+    /**
+     * Return the unmarshal record the events are reported to, null if the content handler is not an unmarshal record.
+     */
+    UnmarshalRecord getUnmarshalRecord() {
+        if (contentHandler instanceof UnmarshalRecord) {
+            return (UnmarshalRecord) contentHandler;
+        } else if (isUnmarshalRecordWithinAdapter()) {
+            return getUnmarshalRecordFromAdapter();
         }
+        return null;
+    }
+
+    String getAttributePrefix() {
+        return attributePrefix;
+    }
+
+    String getTextWrapper() {
+        return textWrapper;
+    }
+
+    boolean isIncludeRoot() {
+        return includeRoot;
+    }
 
+    Class<?> getUnmarshalClass() {
+        return unmarshalClass;
     }
 
     private UnmarshalRecord getUnmarshalRecordFromAdapter() {
@@ -585,6 +693,29 @@ public MediaType getMediaType() {
         return Constants.APPLICATION_JSON;
     }
 
+    /**
+     * The element a pair of a JSON object is reported as.
+     */
+    static final class JsonPair {
+
+        final String uri;
+        final String localName;
+
+        /** The value is reported as the text of the current element instead of as an element. */
+        boolean isTextValue;
+
+        /** The items of an array value are reported to an unmarshal record. */
+        boolean parsesItems;
+
+        XPathFragment groupingXPathFragment;
+        XPathFragment itemXPathFragment;
+
+        JsonPair(String uri, String localName) {
+            this.uri = uri;
+            this.localName = localName;
+        }
+    }
+
     private static class JsonAttributes extends IndexedAttributeList {
 
         private JsonValue value;
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.queries;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.persistence.internal.descriptors.DescriptorIterator;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.queries.Cursor;
+import org.eclipse.persistence.queries.CursoredStream;
+import org.eclipse.persistence.sessions.Session;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: Stream the results of a cursor query,
+ * building each object only when the stream consumes it.<p>
+ * The cursor is closed, releasing its statement and connection,
+ * when the last result has been consumed or the stream is closed.
+ * The objects already consumed are not kept by the cursor, and if a release interval is set,
+ * the objects built in a unit of work are unregistered from it after each interval of results,
+ * so the unit of work does not grow with the size of the result.
+ * Released objects are detached, so changes made to them are not committed.
+ * The objects the unit of work managed before the cursor was executed are not released.
+ *
+ * @see #stream(Cursor, int, Set)
+ * @since EclipseLink 5.0
+ */
+public class CursorSpliterator extends Spliterators.AbstractSpliterator<Object> {
+
+    /** The number of objects read from a cursored stream after which they are released from it. */
+    protected static final int STREAM_RELEASE_SIZE = 100;
+
+    /** The cursor of the results. */
+    protected final Cursor cursor;
+
+    /** The number of results after which the objects built are released from the unit of work, or 0 to keep them. */
+    protected final int releaseInterval;
+
+    /** The objects built since the last release. */
+    protected List<Object> builtObjects;
+
+    /** The objects managed by the unit of work before the cursor was executed, which are not released. */
+    protected Set<Object> managedObjects;
+
+    /**
+     * Create a spliterator of the results of the cursor.
+     * @param managedObjects the objects managed by the unit of work of the cursor before it was executed,
+     * see {@link #getManagedObjects(Session)}, or null if no object is released.
+     */
+    public CursorSpliterator(Cursor cursor, int releaseInterval, Set<Object> managedObjects) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.cursor = cursor;
+        this.releaseInterval = releaseInterval;
+        if ((releaseInterval > 0) && (managedObjects != null) && cursor.getSession().isUnitOfWork()) {
+            this.builtObjects = new ArrayList<>(releaseInterval);
+            this.managedObjects = managedObjects;
+        }
+    }
+
+    /**
+     * Return a sequential stream of the results of the cursor, that closes the cursor when it is closed.
+     * @param managedObjects the objects managed by the unit of work of the cursor before it was executed,
+     * see {@link #getManagedObjects(Session)}, or null if no object is released.
+     */
+    public static Stream<Object> stream(Cursor cursor, int releaseInterval, Set<Object> managedObjects) {
+        CursorSpliterator spliterator = new CursorSpliterator(cursor, releaseInterval, managedObjects);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    /**
+     * Return the objects currently managed by the unit of work, to be given to the stream of a cursor
+     * executed next in the unit of work, or null if the session is not a unit of work.
+     */
+    public static Set<Object> getManagedObjects(Session session) {
+        if (!session.isUnitOfWork()) {
+            return null;
+        }
+        Set<Object> managedObjects = Collections.newSetFromMap(new IdentityHashMap<>());
+        UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl)session;
+        if (unitOfWork.hasCloneMapping()) {
+            managedObjects.addAll(unitOfWork.getCloneMapping().keySet());
+        }
+        return managedObjects;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Object> action) {
+        Object next;
+        try {
+            if ((this.builtObjects != null) && (this.builtObjects.size() >= this.releaseInterval)) {
+                release();
+            }
+            if (!this.cursor.hasNext()) {
+                close();
+                return false;
+            }
+            next = this.cursor.next();
+            if (this.cursor instanceof CursoredStream stream) {
+                // The stream is read once, so the objects read are not kept.
+                if (stream.getPosition() >= STREAM_RELEASE_SIZE) {
+                    stream.releasePrevious();
+                }
+            }
+        } catch (RuntimeException exception) {
+            close();
+            throw exception;
+        }
+        if (this.builtObjects != null) {
+            this.builtObjects.add(next);
+        }
+        action.accept(next);
+        return true;
+    }
+
+    /**
+     * Unregister the objects built since the last release from the unit of work.
+     * Results that are not objects of a descriptor, new objects,
+     * and objects managed before the cursor was executed, are not released.
+     */
+    protected void release() {
+        UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl)this.cursor.getSession();
+        for (Object object : this.builtObjects) {
+            if (!this.managedObjects.contains(object) && (unitOfWork.getDescriptor(object) != null) && !unitOfWork.isCloneNewObject(object)) {
+                unitOfWork.unregisterObject(object, DescriptorIterator.NoCascading, true);
+            }
+        }
+        this.builtObjects.clear();
+    }
+
+    /**
+     * Close the cursor, releasing its statement and connection.
+     */
+    public void close() {
+        this.builtObjects = null;
+        this.managedObjects = null;
+        this.cursor.close();
+    }
+
+    /**
+     * Return the cursor of the results.
+     */
+    public Cursor getCursor() {
+        return this.cursor;
+    }
+}
@@ -314,12 +314,12 @@ public Object executeWriteWithChangeSet() throws DatabaseException, OptimisticLo
         // If there are no changes then there is no work required
         // Check for forcedUpdate Version and Optimistic read lock (hasForcedChanges() set in ObjectChangePolicy)
         if (!objectChangeSet.hasChanges() && !objectChangeSet.hasForcedChanges()) {
-            commitManager.markCommitCompleted(object);
+            commitManager.markCommitCompleted(object, objectChangeSet);
             return object;
         }
         // If the object has already been committed, no work is required
         // need to check for the object to ensure insert wasn't completed already.
-        if (commitManager.isCommitCompletedInPostOrIgnore(object)) {
+        if (commitManager.isCommitCompletedInPostOrIgnore(object, objectChangeSet)) {
             return object;
         }
         try {
@@ -331,12 +331,12 @@ public Object executeWriteWithChangeSet() throws DatabaseException, OptimisticLo
             }
 
             // Notify the commit manager of the completion to the commit.
-            commitManager.markCommitCompleted(object);
+            commitManager.markCommitCompleted(object, objectChangeSet);
 
             return object;
 
         } catch (RuntimeException exception) {
-            commitManager.markCommitCompleted(object);
+            commitManager.markCommitCompleted(object, objectChangeSet);
             throw exception;
         }
     }
@@ -448,7 +448,7 @@ && isExpressionQueryMechanism()) {// this is not a hand-coded call (custom SQL e
         DescriptorEventManager eventManager = descriptor.getEventManager();
 
         // This must be done after the custom query check, otherwise it will be done twice.
-        commitManager.markPreModifyCommitInProgress(object);
+        commitManager.markPreModifyCommitInProgress(object, changeSet);
 
         if (changeSet == null) {
             // PERF: Avoid events if no listeners.
@@ -473,7 +473,12 @@ && isExpressionQueryMechanism()) {// this is not a hand-coded call (custom SQL e
             AbstractRecord modifyRow = writeQuery.getModifyRow();
             if (modifyRow == null) {// Maybe have been passed in as in aggregate collection.
                 if (writeQuery.shouldCascadeParts()) {
-                    writeQuery.setModifyRow(descriptor.getObjectBuilder().buildRow(object, session, WriteType.INSERT));
+                    // The row may have been built in parallel while the commit was writing other objects.
+                    AbstractRecord preparedRow = commitManager.removePreparedInsertRow(descriptor, object);
+                    if (preparedRow == null) {
+                        preparedRow = descriptor.getObjectBuilder().buildRow(object, session, WriteType.INSERT);
+                    }
+                    writeQuery.setModifyRow(preparedRow);
                 } else {
                     writeQuery.setModifyRow(descriptor.getObjectBuilder().buildRowForShallowInsert(object, session));
                 }
@@ -517,7 +522,7 @@ && isExpressionQueryMechanism()) {// this is not a hand-coded call (custom SQL e
             registerObjectInIdentityMap(object, descriptor, session);
         }
 
-        commitManager.markPostModifyCommitInProgress(object);
+        commitManager.markPostModifyCommitInProgress(object, changeSet);
         // Verify if deep shallow modify is turned on.
         if (writeQuery.shouldCascadeParts()) {
             queryManager.postInsert(writeQuery);
@@ -1069,12 +1074,12 @@ public void updateObjectForWriteWithChangeSet() {
                  && queryManager.hasUpdateQuery()// there is a user-defined query
                  && isExpressionQueryMechanism()) {// this is not a hand-coded call (custom SQL etc.)
             // This must be done here because the user defined update does not use a changeset so it will not be set otherwise
-            commitManager.markPreModifyCommitInProgress(object);
+            commitManager.markPreModifyCommitInProgress(object, changeSet);
             performUserDefinedUpdate();
             return;
         }
         // This must be done after the custom query check, otherwise it will be done twice.
-        commitManager.markPreModifyCommitInProgress(object);
+        commitManager.markPreModifyCommitInProgress(object, changeSet);
         DescriptorEventManager eventManager = descriptor.getEventManager();
 
         if (changeSet.hasChanges()) {
@@ -1169,7 +1174,7 @@ && isExpressionQueryMechanism()) {// this is not a hand-coded call (custom SQL e
             }
         }
 
-        commitManager.markPostModifyCommitInProgress(object);
+        commitManager.markPostModifyCommitInProgress(object, changeSet);
 
         // Verify if deep shallow modify is turned on
         if (writeQuery.shouldCascadeParts()) {
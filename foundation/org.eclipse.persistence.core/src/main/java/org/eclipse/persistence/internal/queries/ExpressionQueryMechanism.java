@@ -199,6 +199,14 @@ public Expression buildBaseSelectionCriteria(boolean isSubSelect, Map clonedExpr
             expression.resetPlaceHolderBuilder(builder);
         }
 
+        // The seek predicate of the keyset page is copied on the same builder as the selection criteria.
+        if ((!isSubSelect) && (expression != null) && getQuery().isObjectLevelReadQuery()) {
+            Expression keysetExpression = ((ObjectLevelReadQuery)getQuery()).getKeysetExpression();
+            if (keysetExpression != null) {
+                expression = expression.and(keysetExpression.copiedVersionFrom(clonedExpressions));
+            }
+        }
+
         // Leaf inheritance and multiple table join.
         if (getDescriptor().shouldUseAdditionalJoinExpression()) {
             DescriptorQueryManager queryManager = getDescriptor().getQueryManager();
@@ -261,7 +269,9 @@ public SQLSelectStatement buildBaseSelectStatement(boolean isSubSelect, Map clon
         //For bug 5900782, the clone of the OrderBy expressions needs to be used to ensure they are normalized
         //every time when select SQL statement gets re-prepared, which will further guarantee the calculation
         //of table alias always be correct
-        if (query.hasOrderByExpressions()) {
+        if (query.getKeysetOrderByExpressions() != null) {
+            selectStatement.setOrderByExpressions(cloneExpressions(query.getKeysetOrderByExpressions(), clonedExpressions));
+        } else if (query.hasOrderByExpressions()) {
             selectStatement.setOrderByExpressions(cloneExpressions(query.getOrderByExpressions(), clonedExpressions));
         }
         if (query.hasNonFetchJoinedAttributeExpressions()) {
@@ -28,6 +28,7 @@
 import org.eclipse.persistence.sequencing.Sequence;
 import org.eclipse.persistence.sequencing.SequencingControl;
 import org.eclipse.persistence.sessions.Login;
+import org.eclipse.persistence.sessions.SessionProfiler;
 import org.eclipse.persistence.sessions.server.ConnectionPool;
 import org.eclipse.persistence.sessions.server.ExternalConnectionPool;
 import org.eclipse.persistence.sessions.server.ServerSession;
@@ -39,6 +40,8 @@
 import java.util.Queue;
 import java.util.Vector;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * SequencingManager is private to EclipseLink.
@@ -127,6 +130,16 @@ class SequencingManager implements SequencingHome, SequencingServer, SequencingC
     private int maxPoolSize = -1;
     private int initialPoolSize = -1;
     private ConnectionPool connectionPool;
+    private boolean shouldPreallocateInBackground;
+    private int preallocationLowWaterMark = 25;
+    private Map<String, BackgroundPreallocation> backgroundPreallocations;
+    private final LongAdder preallocationStalls = new LongAdder();
+    private final LongAdder preallocationStallsAvoided = new LongAdder();
+
+    /** Background refills allocate enough values for about this time, in nanoseconds, at the observed consumption rate. */
+    private static final long BACKGROUND_PREALLOCATION_INTERVAL = 1000000000L;
+    /** Background refills allocate at most this many times the preallocation size. */
+    private static final int MAX_BACKGROUND_PREALLOCATION_BLOCKS = 32;
 
     public SequencingManager(DatabaseSessionImpl ownerSession) {
         this.ownerSession = ownerSession;
@@ -225,6 +238,36 @@ public void setShouldUseSeparateConnection(boolean shouldUseSeparateConnection)
         this.shouldUseSeparateConnection = shouldUseSeparateConnection;
     }
 
+    @Override
+    public boolean shouldPreallocateInBackground() {
+        return shouldPreallocateInBackground;
+    }
+
+    @Override
+    public void setShouldPreallocateInBackground(boolean shouldPreallocateInBackground) {
+        this.shouldPreallocateInBackground = shouldPreallocateInBackground;
+    }
+
+    @Override
+    public int getPreallocationLowWaterMark() {
+        return preallocationLowWaterMark;
+    }
+
+    @Override
+    public void setPreallocationLowWaterMark(int percentage) {
+        this.preallocationLowWaterMark = percentage;
+    }
+
+    @Override
+    public long getPreallocationStallCount() {
+        return preallocationStalls.sum();
+    }
+
+    @Override
+    public long getPreallocationStallsAvoidedCount() {
+        return preallocationStallsAvoided.sum();
+    }
+
     @Override
     public boolean isConnectedUsingSeparateConnection() {
         return isConnected() && (getConnectionHandler() != null);
@@ -362,6 +405,154 @@ protected void logDebugLocalPreallocation(AbstractSession writeSession, String s
         }
     }
 
+    /**
+     * Return the background refill of the sequence, or null if the preallocated values
+     * of the context are not refilled in the background.
+     * Only the default context is refilled, as the values of a tenant must be allocated by its own session.
+     */
+    protected BackgroundPreallocation getBackgroundPreallocation(String context, String seqName) {
+        Map<String, BackgroundPreallocation> preallocations = this.backgroundPreallocations;
+        if ((preallocations == null) || !"default".equals(context)) {
+            return null;
+        }
+        return preallocations.computeIfAbsent(seqName, name -> new BackgroundPreallocation());
+    }
+
+    /**
+     * Record that an inserting thread found no preallocated value and must allocate values itself.
+     */
+    protected void stalled() {
+        this.preallocationStalls.increment();
+        getOwnerSession().incrementProfile(SessionProfiler.SequencePreallocationStalls);
+    }
+
+    /**
+     * Launch the background refill of the sequence if the polled value is its low-water mark.
+     */
+    protected void checkLowWaterMark(Sequence sequence, Object sequenceValue, PreallocationHandler handler, BackgroundPreallocation preallocation) {
+        if ((preallocation != null) && sequenceValue.equals(preallocation.lowWaterMarkValue)
+                && preallocation.isRefilling.compareAndSet(false, true)) {
+            SequencingConnectionHandler connectionHandler = getConnectionHandler();
+            try {
+                getOwnerSession().getServerPlatform().launchContainerRunnable(() -> {
+                    try {
+                        refill(sequence, handler, preallocation, connectionHandler);
+                    } catch (RuntimeException exception) {
+                        // The inserting threads allocate the values themselves if the refill fails.
+                        getOwnerSession().logThrowable(SessionLog.WARNING, SessionLog.SEQUENCING, exception);
+                    } finally {
+                        preallocation.isRefilling.set(false);
+                    }
+                });
+            } catch (RuntimeException exception) {
+                preallocation.isRefilling.set(false);
+                throw exception;
+            }
+        }
+    }
+
+    /**
+     * Allocate the next values of the sequence using the sequencing connection, and add them to the preallocated values.
+     * Executed by a background thread, unless the queue has been refilled by an inserting thread in the meantime.
+     */
+    protected void refill(Sequence sequence, PreallocationHandler handler, BackgroundPreallocation preallocation, SequencingConnectionHandler connectionHandler) {
+        String seqName = sequence.getName();
+        ConcurrencyManager lock = acquireLock(seqName);
+        try {
+            Queue<Object> sequencesForName = handler.getPreallocated(seqName);
+            // Sequencing may have been disconnected, or an inserting thread may have allocated new values.
+            if ((connectionHandler != getConnectionHandler()) || (sequencesForName.size() > getLowWaterMark(sequence))) {
+                return;
+            }
+            int numberOfBlocks = preallocation.numberOfBlocks;
+            Vector<Object> sequences = new Vector<>(numberOfBlocks * sequence.getPreallocationSize());
+            Accessor accessor = connectionHandler.acquireAccessor();
+            try {
+                if (sequence.shouldUseTransaction()) {
+                    // A table sequence allocates any number of values in one update.
+                    accessor.beginTransaction(getOwnerSession());
+                    try {
+                        sequences.addAll(sequence.getGeneratedVector(accessor, getOwnerSession(), seqName, numberOfBlocks * sequence.getPreallocationSize()));
+                        accessor.commitTransaction(getOwnerSession());
+                    } catch (RuntimeException ex) {
+                        try {
+                            // make sure to rollback the transaction we've begun
+                            accessor.rollbackTransaction(getOwnerSession());
+                        } catch (Exception rollbackException) {
+                            // ignore rollback exception
+                        }
+                        // don't eat the original exception
+                        throw ex;
+                    }
+                } else {
+                    // A sequence object increments by the preallocation size, so allocate one block at a time.
+                    for (int block = 0; block < numberOfBlocks; block++) {
+                        sequences.addAll(sequence.getGeneratedVector(accessor, getOwnerSession()));
+                    }
+                }
+            } finally {
+                connectionHandler.releaseAccessor(accessor);
+            }
+            if (!sequencesForName.isEmpty()) {
+                // The inserting threads did not have to wait for these values.
+                this.preallocationStallsAvoided.increment();
+                getOwnerSession().incrementProfile(SessionProfiler.SequencePreallocationStallsAvoided);
+            }
+            preallocated(sequence, sequences, preallocation);
+            handler.setPreallocated(seqName, sequences);
+            if (getOwnerSession().shouldLog(SessionLog.FINEST, SessionLog.SEQUENCING)) {
+                Object[] args = { seqName, sequences.size(), sequences.get(0), sequences.lastElement() };
+                getOwnerSession().log(SessionLog.FINEST, SessionLog.SEQUENCING, "sequencing_backgroundPreallocation", args);
+            }
+        } finally {
+            lock.release();
+        }
+    }
+
+    /**
+     * Record the values just allocated for the sequence: set the low-water mark of the new values,
+     * and adapt the number of values allocated by the next background refill to the rate the previous ones were consumed at.
+     * The lock of the sequence must be held.
+     */
+    protected void preallocated(Sequence sequence, Vector<?> sequences, BackgroundPreallocation preallocation) {
+        if ((preallocation == null) || sequences.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (preallocation.lastPreallocationTime != 0) {
+            // The previous values have been consumed down to the low-water mark since they were allocated.
+            long elapsed = Math.max(1, now - preallocation.lastPreallocationTime);
+            double consumed = (double)preallocation.lastPreallocationSize * BACKGROUND_PREALLOCATION_INTERVAL / elapsed;
+            int numberOfBlocks = (int)Math.ceil(consumed / sequence.getPreallocationSize());
+            preallocation.numberOfBlocks = Math.max(1, Math.min(MAX_BACKGROUND_PREALLOCATION_BLOCKS, numberOfBlocks));
+        }
+        preallocation.lastPreallocationTime = now;
+        preallocation.lastPreallocationSize = sequences.size();
+        preallocation.lowWaterMarkValue = sequences.get(Math.max(0, sequences.size() - getLowWaterMark(sequence)));
+    }
+
+    /**
+     * Return the number of preallocated values of the sequence below which they are refilled in the background.
+     */
+    protected int getLowWaterMark(Sequence sequence) {
+        return Math.max(1, (sequence.getPreallocationSize() * getPreallocationLowWaterMark()) / 100);
+    }
+
+    /**
+     * The background refill state of the preallocated values of a sequence.
+     */
+    static final class BackgroundPreallocation {
+        /** Set while a refill is launched, so only one refill runs at a time. */
+        final AtomicBoolean isRefilling = new AtomicBoolean();
+        /** The value whose poll launches the refill. */
+        volatile Object lowWaterMarkValue;
+        /** The number of preallocation size blocks allocated by the next refill. */
+        volatile int numberOfBlocks = 1;
+        /** When and how many values were last allocated, guarded by the lock of the sequence. */
+        long lastPreallocationTime;
+        int lastPreallocationSize;
+    }
+
     static abstract class State {
         abstract Object getNextValue(Sequence sequence, AbstractSession writeSession);
 
@@ -600,11 +791,14 @@ class Preallocation_Transaction_Accessor_State extends State {
         public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
             String seqName = sequence.getName();
             if(sequence.getPreallocationSize() > 1) {
-                PreallocationHandler handler = getPreallocationHandler(getContext(writeSession));
+                String context = getContext(writeSession);
+                PreallocationHandler handler = getPreallocationHandler(context);
+                BackgroundPreallocation preallocation = getBackgroundPreallocation(context, seqName);
                 Queue<Object> sequencesForName = handler.getPreallocated(seqName);
                 // First try to get the next sequence value without locking.
                 Object sequenceValue = sequencesForName.poll();
                 if (sequenceValue != null) {
+                    checkLowWaterMark(sequence, sequenceValue, handler, preallocation);
                     return sequenceValue;
                 }
                 // Sequences are empty, so must lock and allocate next batch of sequences.
@@ -612,8 +806,10 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
                 try {
                     sequenceValue = sequencesForName.poll();
                     if (sequenceValue != null) {
+                        checkLowWaterMark(sequence, sequenceValue, handler, preallocation);
                         return sequenceValue;
                     }
+                    stalled();
                     // note that accessor.getLogin().shouldUseExternalTransactionController()
                     // should be set to false
                     Accessor accessor = getConnectionHandler().acquireAccessor();
@@ -624,6 +820,7 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
                             accessor.commitTransaction(writeSession);
                             // Remove the first value before adding to the global cache to ensure this thread gets one.
                             sequenceValue = sequences.remove(0);
+                            preallocated(sequence, sequences, preallocation);
                             // copy remaining values to global cache.
                             handler.setPreallocated(seqName, sequences);
                             logDebugPreallocation(seqName, sequenceValue, sequences);
@@ -682,11 +879,14 @@ class Preallocation_NoTransaction_State extends State {
         public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
             String seqName = sequence.getName();
             if(sequence.getPreallocationSize() > 1) {
-                PreallocationHandler handler = getPreallocationHandler(getContext(writeSession));
+                String context = getContext(writeSession);
+                PreallocationHandler handler = getPreallocationHandler(context);
+                BackgroundPreallocation preallocation = getBackgroundPreallocation(context, seqName);
                 Queue<Object> sequencesForName = handler.getPreallocated(seqName);
                 // First try to get the next sequence value without locking.
                 Object sequenceValue = sequencesForName.poll();
                 if (sequenceValue != null) {
+                    checkLowWaterMark(sequence, sequenceValue, handler, preallocation);
                     return sequenceValue;
                 }
                 // Sequences are empty, so must lock and allocate next batch of sequences.
@@ -694,11 +894,14 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
                 try {
                     sequenceValue = sequencesForName.poll();
                     if (sequenceValue != null) {
+                        checkLowWaterMark(sequence, sequenceValue, handler, preallocation);
                         return sequenceValue;
                     }
+                    stalled();
                     Vector<?> sequences = sequence.getGeneratedVector(null, writeSession);
                     // Remove the first value before adding to the global cache to ensure this thread gets one.
                     sequenceValue = sequences.remove(0);
+                    preallocated(sequence, sequences, preallocation);
                     // copy remaining values to global cache.
                     handler.setPreallocated(seqName, sequences);
                     logDebugPreallocation(seqName, sequenceValue, sequences);
@@ -814,7 +1017,7 @@ protected void onConnectInternal(Collection<ClassDescriptor> descriptors) {
             if (!hasConnectionHandler) {
                 if (!shouldUseSeparateConnection()) {
                     setConnectionHandler(null);
-                } else if (atLeastOneSequenceShouldUseTransaction) {
+                } else if (atLeastOneSequenceShouldUseTransaction || (shouldPreallocateInBackground() && atLeastOneSequenceShouldUsePreallocation)) {
                     if (getConnectionHandler() == null) {
                         createConnectionHandler();
                     }
@@ -867,6 +1070,10 @@ protected void onConnectInternal(Collection<ClassDescriptor> descriptors) {
         if (atLeastOneSequenceShouldUsePreallocation && getLocks() == null) {
             setLocks(new ConcurrentHashMap<>(20));
         }
+        // Preallocated values are refilled in the background using the sequencing connection.
+        if (shouldPreallocateInBackground() && atLeastOneSequenceShouldUsePreallocation && (getConnectionHandler() != null) && (this.backgroundPreallocations == null)) {
+            this.backgroundPreallocations = new ConcurrentHashMap<>(20);
+        }
         // In AddDescriptors case the factory may have been already created and listeners initialized.
         boolean hasSequencingCallbackFactory = isSequencingCallbackRequired();
         if (!hasSequencingCallbackFactory) {
@@ -898,6 +1105,7 @@ public void onDisconnect() {
             getOwnerSession().getExternalTransactionController().clearSequencingListeners();
         }
         setLocks(null);
+        this.backgroundPreallocations = null;
         clearStates();
 
         if (getConnectionHandler() != null) {
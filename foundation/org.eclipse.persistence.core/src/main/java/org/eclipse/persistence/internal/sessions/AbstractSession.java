@@ -306,6 +306,9 @@ public abstract class AbstractSession extends CoreAbstractSession<ClassDescripto
     /** Allow a session to enable concurrent processing. */
     protected boolean isConcurrent;
 
+    /** The number of rows buffered between fetching and building the objects of a read all query, 0 if not pipelined. */
+    protected int rowPipelineSize;
+
     /**
      * This map will hold onto class to static metamodel class references from JPA.
      */
@@ -5255,6 +5258,30 @@ public void setIsConcurrent(boolean isConcurrent) {
        this.isConcurrent = isConcurrent;
    }
 
+   /**
+    * ADVANCED:
+    * Return the number of rows buffered between the thread fetching the rows of a read all query
+    * and the thread building its objects, or 0 if the rows are fetched before the objects are built.
+    */
+   public int getRowPipelineSize() {
+       return this.rowPipelineSize;
+   }
+
+   /**
+    * ADVANCED:
+    * Set the number of rows buffered between the thread fetching the rows of a read all query
+    * and the thread building its objects.
+    * If set, the rows of a read all query are fetched from the server session's read connection
+    * on a thread of the server platform, concurrently to its objects being built.
+    * The fetching thread waits when the buffer is full, so at most this number of rows is held in memory.
+    * Queries that need all of their rows, such as queries joining to many relationships, fetch their rows first.
+    * Default is 0, the rows are not pipelined.
+    * @see org.eclipse.persistence.platform.server.ServerPlatformBase#setThreadPool(java.util.concurrent.ExecutorService)
+    */
+   public void setRowPipelineSize(int rowPipelineSize) {
+       this.rowPipelineSize = rowPipelineSize;
+   }
+
    /**
     * ADVANCED:
     * Set to indicate whether ObjectLevelReadQuery should by default use ResultSet Access optimization.
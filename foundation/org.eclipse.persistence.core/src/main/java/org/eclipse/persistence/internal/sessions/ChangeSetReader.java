@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.persistence.internal.helper.CustomObjectInputStream;
+import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Read a unit of work change set written in the binary change set format.
+ * </p><p>
+ * <b>Description</b>: The change sets are rebuilt as they would be by their Java deserialization,
+ * the class and attribute names being resolved from their indexes in the {@link ChangeSetSchema}.
+ * A {@link StreamCorruptedException} is thrown if the message was written with a different schema.
+ * A reader is only used for a single message.
+ * </p>
+ * @see ChangeSetWriter
+ * @since EclipseLink 5.0
+ */
+public class ChangeSetReader {
+
+    protected ChangeSetSchema schema;
+
+    protected DataInputStream input;
+
+    /** The session used to load the classes of the Java serialized values */
+    protected Session session;
+
+    /** The object change sets already read, by index */
+    protected List<ObjectChangeSet> references;
+
+    public ChangeSetReader(ChangeSetSchema schema, InputStream input, Session session) {
+        this.schema = schema;
+        this.input = new DataInputStream(input);
+        this.session = session;
+        this.references = new ArrayList<>();
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the bytes were written in the binary change set format.
+     * Java serialized bytes start with the stream magic number, so they are never confused with it.
+     */
+    public static boolean isChangeSetFormat(byte[] bytes) {
+        return (bytes.length > 0) && ((bytes[0] == ChangeSetWriter.MERGE_COMMAND) || (bytes[0] == ChangeSetWriter.CHANGE_SET));
+    }
+
+    /**
+     * INTERNAL:
+     * Read the merge change set command or the change set.
+     */
+    public Object readMessage() throws IOException {
+        int format = this.input.readByte();
+        int fingerprint = this.input.readInt();
+        if (fingerprint != this.schema.getFingerprint()) {
+            throw new StreamCorruptedException("The change set was written with a different project, schema fingerprint "
+                    + fingerprint + " instead of " + this.schema.getFingerprint());
+        }
+        if (format == ChangeSetWriter.CHANGE_SET) {
+            return readChangeSetBody();
+        }
+        if (format != ChangeSetWriter.MERGE_COMMAND) {
+            throw new StreamCorruptedException("Unknown change set format " + format);
+        }
+        MergeChangeSetCommand command = new MergeChangeSetCommand();
+        if (this.input.readBoolean()) {
+            String channel = (String)readValue();
+            String id = (String)readValue();
+            String url = (String)readValue();
+            command.setServiceId(new ServiceId(channel, id, url));
+        }
+        command.setChangeSet(readChangeSetBody());
+        return command;
+    }
+
+    /**
+     * INTERNAL:
+     * Read the changed and deleted objects of the change set.
+     */
+    protected UnitOfWorkChangeSet readChangeSetBody() throws IOException {
+        int flags = this.input.readUnsignedByte();
+        if ((flags & ChangeSetWriter.CHANGE_SET_PRESENT) == 0) {
+            return null;
+        }
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        changeSet.hasChanges = (flags & ChangeSetWriter.HAS_CHANGES) != 0;
+        changeSet.hasForcedChanges = (flags & ChangeSetWriter.HAS_FORCED_CHANGES) != 0;
+        changeSet.isChangeSetFromOutsideUOW = (flags & ChangeSetWriter.OUTSIDE_UNIT_OF_WORK) != 0;
+        changeSet.allChangeSets = readObjectChangeSets();
+        changeSet.deletedObjects = readObjectChangeSets();
+        return changeSet;
+    }
+
+    /**
+     * INTERNAL:
+     * Read the object change sets of an identity set.
+     */
+    protected Map<ObjectChangeSet, ObjectChangeSet> readObjectChangeSets() throws IOException {
+        int size = readVarInt();
+        if (size == 0) {
+            return null;
+        }
+        Map<ObjectChangeSet, ObjectChangeSet> changeSets = new IdentityHashMap<>(size - 1);
+        for (int index = 1; index < size; index++) {
+            ObjectChangeSet changeSet = readObjectChangeSet();
+            changeSets.put(changeSet, changeSet);
+        }
+        return changeSets;
+    }
+
+    /**
+     * INTERNAL:
+     * Read an object change set, or return the one already read for its index.
+     */
+    protected ObjectChangeSet readObjectChangeSet() throws IOException {
+        int reference = readVarInt();
+        if (reference == ChangeSetWriter.NULL_REFERENCE) {
+            return null;
+        }
+        if (reference != ChangeSetWriter.NEW_REFERENCE) {
+            return this.references.get(reference - 2);
+        }
+        int flags = this.input.readUnsignedByte();
+        ObjectChangeSet changeSet = ((flags & ChangeSetWriter.AGGREGATE_CHANGE_SET) != 0) ? new AggregateObjectChangeSet() : new ObjectChangeSet();
+        this.references.add(changeSet);
+        changeSet.shouldBeDeleted = (flags & ChangeSetWriter.DELETED) != 0;
+        changeSet.isInvalid = (flags & ChangeSetWriter.INVALID) != 0;
+        changeSet.isNew = (flags & ChangeSetWriter.NEW) != 0;
+        changeSet.isAggregate = (flags & ChangeSetWriter.AGGREGATE) != 0;
+        changeSet.hasVersionChange = (flags & ChangeSetWriter.VERSION_CHANGE) != 0;
+        if ((flags & ChangeSetWriter.MODIFY_VERSION) != 0) {
+            changeSet.shouldModifyVersionField = Boolean.TRUE;
+        } else if ((flags & ChangeSetWriter.NOT_MODIFY_VERSION) != 0) {
+            changeSet.shouldModifyVersionField = Boolean.FALSE;
+        }
+        changeSet.cacheSynchronizationType = this.input.readUnsignedByte();
+        int classIndex = readVarInt();
+        changeSet.className = this.schema.getClassName(classIndex);
+        changeSet.id = readValue();
+        changeSet.writeLockValue = readValue();
+        changeSet.initialWriteLockValue = readValue();
+        if (!ChangeSetWriter.isIdentityOnly(changeSet.shouldBeDeleted, changeSet.cacheSynchronizationType)) {
+            changeSet.changes = readChanges(changeSet, classIndex);
+            changeSet.oldKey = readValue();
+            changeSet.newKey = readValue();
+            changeSet.protectedForeignKeys = (AbstractRecord)readValue();
+        }
+        return changeSet;
+    }
+
+    /**
+     * INTERNAL:
+     * Read the change records of the object change set.
+     */
+    protected List<org.eclipse.persistence.sessions.changesets.ChangeRecord> readChanges(ObjectChangeSet changeSet, int classIndex) throws IOException {
+        int size = readVarInt();
+        if (size == 0) {
+            return null;
+        }
+        List<org.eclipse.persistence.sessions.changesets.ChangeRecord> changes = new ArrayList<>(size - 1);
+        for (int index = 1; index < size; index++) {
+            int type = this.input.readUnsignedByte();
+            String attribute = this.schema.getAttributeName(classIndex, readVarInt());
+            ChangeRecord record;
+            switch (type) {
+                case ChangeSetWriter.DIRECT_TO_FIELD:
+                    DirectToFieldChangeRecord directRecord = new DirectToFieldChangeRecord();
+                    directRecord.newValue = readValue();
+                    record = directRecord;
+                    break;
+                case ChangeSetWriter.OBJECT_REFERENCE:
+                    ObjectReferenceChangeRecord referenceRecord = new ObjectReferenceChangeRecord();
+                    referenceRecord.newValue = readObjectChangeSet();
+                    record = referenceRecord;
+                    break;
+                case ChangeSetWriter.AGGREGATE_OBJECT:
+                    AggregateChangeRecord aggregateRecord = new AggregateChangeRecord();
+                    aggregateRecord.changedObject = readObjectChangeSet();
+                    record = aggregateRecord;
+                    break;
+                case ChangeSetWriter.COLLECTION:
+                    CollectionChangeRecord collectionRecord = new CollectionChangeRecord();
+                    int flags = this.input.readUnsignedByte();
+                    collectionRecord.isDeferred = (flags & ChangeSetWriter.DEFERRED) != 0;
+                    collectionRecord.orderHasBeenRepaired = (flags & ChangeSetWriter.ORDER_REPAIRED) != 0;
+                    collectionRecord.addObjectList = readObjectChangeSets();
+                    collectionRecord.removeObjectList = readObjectChangeSets();
+                    record = collectionRecord;
+                    break;
+                default:
+                    throw new StreamCorruptedException("Unknown change record type " + type);
+            }
+            record.attribute = attribute;
+            record.owner = changeSet;
+            changes.add(record);
+        }
+        return changes;
+    }
+
+    /**
+     * INTERNAL:
+     * Read the type and value of an attribute, primary key or lock value.
+     */
+    public Object readValue() throws IOException {
+        int type = this.input.readUnsignedByte();
+        switch (type) {
+            case ChangeSetWriter.NULL:
+                return null;
+            case ChangeSetWriter.STRING:
+                return new String(readBytes(), StandardCharsets.UTF_8);
+            case ChangeSetWriter.INTEGER:
+                return (int)readVarLong();
+            case ChangeSetWriter.LONG:
+                return readVarLong();
+            case ChangeSetWriter.BIG_DECIMAL:
+                return BigDecimal.valueOf(readVarLong());
+            case ChangeSetWriter.SCALED_BIG_DECIMAL:
+                int scale = (int)readVarLong();
+                return new BigDecimal(new BigInteger(readBytes()), scale);
+            case ChangeSetWriter.BIG_INTEGER:
+                return new BigInteger(readBytes());
+            case ChangeSetWriter.TRUE:
+                return Boolean.TRUE;
+            case ChangeSetWriter.FALSE:
+                return Boolean.FALSE;
+            case ChangeSetWriter.DOUBLE:
+                return this.input.readDouble();
+            case ChangeSetWriter.FLOAT:
+                return this.input.readFloat();
+            case ChangeSetWriter.SHORT:
+                return (short)readVarLong();
+            case ChangeSetWriter.BYTE:
+                return this.input.readByte();
+            case ChangeSetWriter.CHARACTER:
+                return this.input.readChar();
+            case ChangeSetWriter.SQL_DATE:
+                return new java.sql.Date(readVarLong());
+            case ChangeSetWriter.SQL_TIME:
+                return new Time(readVarLong());
+            case ChangeSetWriter.TIMESTAMP:
+                Timestamp timestamp = new Timestamp(readVarLong());
+                timestamp.setNanos(readVarInt());
+                return timestamp;
+            case ChangeSetWriter.DATE:
+                return new Date(readVarLong());
+            case ChangeSetWriter.BYTES:
+                return readBytes();
+            case ChangeSetWriter.CACHE_ID:
+                Object[] primaryKey = new Object[readVarInt()];
+                for (int index = 0; index < primaryKey.length; index++) {
+                    primaryKey[index] = readValue();
+                }
+                return new CacheId(primaryKey);
+            case ChangeSetWriter.SERIALIZED:
+                ByteArrayInputStream bytes = new ByteArrayInputStream(readBytes());
+                try (ObjectInputStream objectInput = (this.session == null) ? new ObjectInputStream(bytes) : new CustomObjectInputStream(bytes, this.session)) {
+                    return objectInput.readObject();
+                } catch (ClassNotFoundException exception) {
+                    throw new IOException(exception);
+                }
+            default:
+                throw new StreamCorruptedException("Unknown value type " + type);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Read the length and the bytes.
+     */
+    protected byte[] readBytes() throws IOException {
+        byte[] bytes = new byte[readVarInt()];
+        this.input.readFully(bytes);
+        return bytes;
+    }
+
+    /**
+     * INTERNAL:
+     * Read a positive value written in groups of 7 bits.
+     */
+    protected int readVarInt() throws IOException {
+        int value = 0;
+        int shift = 0;
+        int next;
+        do {
+            next = this.input.readUnsignedByte();
+            value |= (next & 0x7F) << shift;
+            shift += 7;
+        } while ((next & 0x80) != 0);
+        return value;
+    }
+
+    /**
+     * INTERNAL:
+     * Read a zigzag encoded signed value.
+     */
+    protected long readVarLong() throws IOException {
+        long zigzag = 0;
+        int shift = 0;
+        int next;
+        do {
+            next = this.input.readUnsignedByte();
+            zigzag |= (long)(next & 0x7F) << shift;
+            shift += 7;
+        } while ((next & 0x80) != 0);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+}
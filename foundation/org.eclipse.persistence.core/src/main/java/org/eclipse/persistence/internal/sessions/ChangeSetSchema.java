@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.sessions.Project;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Index the descriptors and mappings of a project for the binary change set format.
+ * </p><p>
+ * <b>Description</b>: The descriptors are numbered in the order of their class names,
+ * and the mappings of each descriptor in the order of their attribute names,
+ * so every node sharing the same project computes the same indexes without exchanging them.
+ * The fingerprint of the names is written in each message, so a node with a different
+ * project rejects the message instead of merging the changes into the wrong attributes.
+ * </p>
+ * @see ChangeSetWriter
+ * @see ChangeSetReader
+ * @since EclipseLink 5.0
+ */
+public class ChangeSetSchema {
+
+    /** The class names of the descriptors, by index */
+    protected String[] classNames;
+
+    /** The indexes of the descriptors, by class name */
+    protected Map<String, Integer> classIndexes;
+
+    /** The attribute names of the mappings of each descriptor, by index */
+    protected String[][] attributeNames;
+
+    /** The indexes of the mappings of each descriptor, by attribute name */
+    protected List<Map<String, Integer>> attributeIndexes;
+
+    /** The hash of the class and attribute names */
+    protected int fingerprint;
+
+    public ChangeSetSchema(Project project) {
+        Map<String, ClassDescriptor> descriptors = new TreeMap<>();
+        for (ClassDescriptor descriptor : project.getOrderedDescriptors()) {
+            String className = descriptor.getJavaClassName();
+            if (className != null) {
+                descriptors.putIfAbsent(className, descriptor);
+            }
+        }
+        int size = descriptors.size();
+        this.classNames = new String[size];
+        this.classIndexes = new HashMap<>(size * 2);
+        this.attributeNames = new String[size][];
+        this.attributeIndexes = new ArrayList<>(size);
+        int hash = 1;
+        int classIndex = 0;
+        for (Map.Entry<String, ClassDescriptor> entry : descriptors.entrySet()) {
+            String className = entry.getKey();
+            this.classNames[classIndex] = className;
+            this.classIndexes.put(className, classIndex);
+            hash = 31 * hash + className.hashCode();
+            // The inherited mappings are only copied to the child descriptors on initialization.
+            TreeSet<String> attributes = new TreeSet<>();
+            ClassDescriptor descriptor = entry.getValue();
+            while (descriptor != null) {
+                for (DatabaseMapping mapping : descriptor.getMappings()) {
+                    if (mapping.getAttributeName() != null) {
+                        attributes.add(mapping.getAttributeName());
+                    }
+                }
+                descriptor = descriptor.hasInheritance() ? descriptor.getInheritancePolicy().getParentDescriptor() : null;
+            }
+            String[] names = attributes.toArray(new String[attributes.size()]);
+            Map<String, Integer> indexes = new HashMap<>(names.length * 2);
+            for (int attributeIndex = 0; attributeIndex < names.length; attributeIndex++) {
+                indexes.put(names[attributeIndex], attributeIndex);
+                hash = 31 * hash + names[attributeIndex].hashCode();
+            }
+            this.attributeNames[classIndex] = names;
+            this.attributeIndexes.add(indexes);
+            classIndex++;
+        }
+        this.fingerprint = hash;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the hash of the class and attribute names.
+     */
+    public int getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the index of the descriptor of the class, or -1 if the class has no descriptor.
+     */
+    public int getClassIndex(String className) {
+        Integer index = this.classIndexes.get(className);
+        return (index == null) ? -1 : index;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the class name of the descriptor index.
+     */
+    public String getClassName(int classIndex) {
+        return this.classNames[classIndex];
+    }
+
+    /**
+     * INTERNAL:
+     * Return the index of the mapping of the attribute, or -1 if the descriptor has no such mapping.
+     */
+    public int getAttributeIndex(int classIndex, String attributeName) {
+        Integer index = this.attributeIndexes.get(classIndex).get(attributeName);
+        return (index == null) ? -1 : index;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the attribute name of the mapping index of the descriptor.
+     */
+    public String getAttributeName(int classIndex, int attributeIndex) {
+        return this.attributeNames[classIndex][attributeIndex];
+    }
+}
@@ -0,0 +1,461 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Write a unit of work change set in the binary change set format.
+ * </p><p>
+ * <b>Description</b>: The classes and attributes are written as their indexes in the {@link ChangeSetSchema},
+ * the integral values as variable length integers, and each object change set only once,
+ * later references being written as the index of the first occurrence.
+ * Only the values sent by the Java serialization of the change sets are written.
+ * A {@link NotSerializableException} is thrown if the change set contains changes
+ * that the format does not support, so the caller can fall back to Java serialization.
+ * A writer is only used for a single message.
+ * </p>
+ * @see ChangeSetReader
+ * @since EclipseLink 5.0
+ */
+public class ChangeSetWriter {
+
+    /** The format of a merge change set command */
+    public static final byte MERGE_COMMAND = 1;
+    /** The format of a unit of work change set */
+    public static final byte CHANGE_SET = 2;
+
+    // Unit of work change set flags.
+    static final int CHANGE_SET_PRESENT = 1;
+    static final int HAS_CHANGES = 2;
+    static final int HAS_FORCED_CHANGES = 4;
+    static final int OUTSIDE_UNIT_OF_WORK = 8;
+
+    // Object change set references.
+    static final int NULL_REFERENCE = 0;
+    static final int NEW_REFERENCE = 1;
+
+    // Object change set flags.
+    static final int DELETED = 1;
+    static final int INVALID = 2;
+    static final int NEW = 4;
+    static final int AGGREGATE = 8;
+    static final int VERSION_CHANGE = 16;
+    static final int AGGREGATE_CHANGE_SET = 32;
+    static final int MODIFY_VERSION = 64;
+    static final int NOT_MODIFY_VERSION = 128;
+
+    // Change record types.
+    static final int DIRECT_TO_FIELD = 1;
+    static final int OBJECT_REFERENCE = 2;
+    static final int AGGREGATE_OBJECT = 3;
+    static final int COLLECTION = 4;
+
+    // Collection change record flags.
+    static final int DEFERRED = 1;
+    static final int ORDER_REPAIRED = 2;
+
+    // Value types.
+    static final int NULL = 0;
+    static final int STRING = 1;
+    static final int INTEGER = 2;
+    static final int LONG = 3;
+    static final int BIG_DECIMAL = 4;
+    static final int SCALED_BIG_DECIMAL = 5;
+    static final int BIG_INTEGER = 6;
+    static final int TRUE = 7;
+    static final int FALSE = 8;
+    static final int DOUBLE = 9;
+    static final int FLOAT = 10;
+    static final int SHORT = 11;
+    static final int BYTE = 12;
+    static final int CHARACTER = 13;
+    static final int SQL_DATE = 14;
+    static final int SQL_TIME = 15;
+    static final int TIMESTAMP = 16;
+    static final int DATE = 17;
+    static final int BYTES = 18;
+    static final int CACHE_ID = 19;
+    static final int SERIALIZED = 20;
+
+    protected ChangeSetSchema schema;
+
+    protected DataOutputStream output;
+
+    /** The index of each object change set already written */
+    protected Map<ObjectChangeSet, Integer> references;
+
+    public ChangeSetWriter(ChangeSetSchema schema, OutputStream output) {
+        this.schema = schema;
+        this.output = new DataOutputStream(output);
+        this.references = new IdentityHashMap<>();
+    }
+
+    /**
+     * INTERNAL:
+     * Write the service id and the change set of the command.
+     */
+    public void writeCommand(MergeChangeSetCommand command) throws IOException {
+        this.output.writeByte(MERGE_COMMAND);
+        this.output.writeInt(this.schema.getFingerprint());
+        ServiceId serviceId = command.getServiceId();
+        if (serviceId == null) {
+            this.output.writeBoolean(false);
+        } else {
+            this.output.writeBoolean(true);
+            writeValue(serviceId.getChannel());
+            writeValue(serviceId.getId());
+            writeValue(serviceId.getURL());
+        }
+        writeChangeSetBody(command.getChangeSet(null));
+        this.output.flush();
+    }
+
+    /**
+     * INTERNAL:
+     * Write the change set.
+     */
+    public void writeChangeSet(UnitOfWorkChangeSet changeSet) throws IOException {
+        this.output.writeByte(CHANGE_SET);
+        this.output.writeInt(this.schema.getFingerprint());
+        writeChangeSetBody(changeSet);
+        this.output.flush();
+    }
+
+    /**
+     * INTERNAL:
+     * Write the changed and deleted objects of the change set.
+     * Only the change sets built for cache coordination are supported,
+     * a commit change set also references the clones of the unit of work.
+     */
+    protected void writeChangeSetBody(UnitOfWorkChangeSet changeSet) throws IOException {
+        if (changeSet == null) {
+            this.output.writeByte(0);
+            return;
+        }
+        if (!isEmpty(changeSet.objectChanges) || !isEmpty(changeSet.newObjectChangeSets) || !isEmpty(changeSet.cloneToObjectChangeSet)
+                || !isEmpty(changeSet.objectChangeSetToUOWClone) || !isEmpty(changeSet.aggregateChangeSets)) {
+            throw new NotSerializableException(changeSet.getClass().getName());
+        }
+        int flags = CHANGE_SET_PRESENT;
+        if (changeSet.hasChanges) {
+            flags |= HAS_CHANGES;
+        }
+        if (changeSet.hasForcedChanges) {
+            flags |= HAS_FORCED_CHANGES;
+        }
+        if (changeSet.isChangeSetFromOutsideUOW) {
+            flags |= OUTSIDE_UNIT_OF_WORK;
+        }
+        this.output.writeByte(flags);
+        writeObjectChangeSets(changeSet.allChangeSets);
+        writeObjectChangeSets(changeSet.deletedObjects);
+    }
+
+    /**
+     * INTERNAL:
+     * Write the object change sets of an identity set, preserving null.
+     */
+    protected void writeObjectChangeSets(Map<ObjectChangeSet, ObjectChangeSet> changeSets) throws IOException {
+        if (changeSets == null) {
+            writeVarInt(0);
+            return;
+        }
+        writeVarInt(changeSets.size() + 1);
+        for (Map.Entry<ObjectChangeSet, ObjectChangeSet> entry : changeSets.entrySet()) {
+            if (entry.getKey() != entry.getValue()) {
+                throw new NotSerializableException(changeSets.getClass().getName());
+            }
+            writeObjectChangeSet(entry.getKey());
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Write the object change set, or the index of the object change set if already written.
+     * The index is assigned before writing the changes, so the change sets can reference each other.
+     */
+    protected void writeObjectChangeSet(ObjectChangeSet changeSet) throws IOException {
+        if (changeSet == null) {
+            writeVarInt(NULL_REFERENCE);
+            return;
+        }
+        Integer reference = this.references.get(changeSet);
+        if (reference != null) {
+            writeVarInt(reference + 2);
+            return;
+        }
+        if ((changeSet.getClass() != ObjectChangeSet.class) && (changeSet.getClass() != AggregateObjectChangeSet.class)) {
+            throw new NotSerializableException(changeSet.getClass().getName());
+        }
+        int classIndex = this.schema.getClassIndex(changeSet.className);
+        if (classIndex < 0) {
+            throw new NotSerializableException(changeSet.className);
+        }
+        this.references.put(changeSet, this.references.size());
+        writeVarInt(NEW_REFERENCE);
+        int flags = 0;
+        if (changeSet.shouldBeDeleted) {
+            flags |= DELETED;
+        }
+        if (changeSet.isInvalid) {
+            flags |= INVALID;
+        }
+        if (changeSet.isNew) {
+            flags |= NEW;
+        }
+        if (changeSet.isAggregate) {
+            flags |= AGGREGATE;
+        }
+        if (changeSet.hasVersionChange) {
+            flags |= VERSION_CHANGE;
+        }
+        if (changeSet.getClass() == AggregateObjectChangeSet.class) {
+            flags |= AGGREGATE_CHANGE_SET;
+        }
+        if (changeSet.shouldModifyVersionField != null) {
+            flags |= changeSet.shouldModifyVersionField ? MODIFY_VERSION : NOT_MODIFY_VERSION;
+        }
+        this.output.writeByte(flags);
+        this.output.writeByte(changeSet.cacheSynchronizationType);
+        writeVarInt(classIndex);
+        writeValue(changeSet.id);
+        writeValue(changeSet.writeLockValue);
+        writeValue(changeSet.initialWriteLockValue);
+        // Same as the Java serialization, only the identity is sent with some cache synchronization types.
+        if (!isIdentityOnly(changeSet.shouldBeDeleted, changeSet.cacheSynchronizationType)) {
+            writeChanges(changeSet, classIndex);
+            writeValue(changeSet.oldKey);
+            writeValue(changeSet.newKey);
+            writeValue(changeSet.protectedForeignKeys);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return if only the identity of the object change set is sent.
+     */
+    static boolean isIdentityOnly(boolean shouldBeDeleted, int cacheSynchronizationType) {
+        return shouldBeDeleted || (cacheSynchronizationType == ClassDescriptor.DO_NOT_SEND_CHANGES)
+                || (cacheSynchronizationType == ClassDescriptor.INVALIDATE_CHANGED_OBJECTS);
+    }
+
+    /**
+     * INTERNAL:
+     * Write the change records of the object change set, with the index of their attribute.
+     */
+    protected void writeChanges(ObjectChangeSet changeSet, int classIndex) throws IOException {
+        List<org.eclipse.persistence.sessions.changesets.ChangeRecord> changes = changeSet.changes;
+        if (changes == null) {
+            writeVarInt(0);
+            return;
+        }
+        writeVarInt(changes.size() + 1);
+        for (org.eclipse.persistence.sessions.changesets.ChangeRecord change : changes) {
+            ChangeRecord record = (ChangeRecord)change;
+            int attributeIndex = this.schema.getAttributeIndex(classIndex, record.attribute);
+            if ((attributeIndex < 0) || (record.owner != changeSet)) {
+                throw new NotSerializableException(record.getClass().getName());
+            }
+            Class<?> recordClass = record.getClass();
+            if (recordClass == DirectToFieldChangeRecord.class) {
+                this.output.writeByte(DIRECT_TO_FIELD);
+                writeVarInt(attributeIndex);
+                writeValue(((DirectToFieldChangeRecord)record).newValue);
+            } else if (recordClass == ObjectReferenceChangeRecord.class) {
+                this.output.writeByte(OBJECT_REFERENCE);
+                writeVarInt(attributeIndex);
+                writeObjectChangeSet(((ObjectReferenceChangeRecord)record).newValue);
+            } else if ((recordClass == AggregateChangeRecord.class)
+                    && ((((AggregateChangeRecord)record).changedObject == null) || (((AggregateChangeRecord)record).changedObject instanceof ObjectChangeSet))) {
+                this.output.writeByte(AGGREGATE_OBJECT);
+                writeVarInt(attributeIndex);
+                writeObjectChangeSet((ObjectChangeSet)((AggregateChangeRecord)record).changedObject);
+            } else if ((recordClass == CollectionChangeRecord.class) && !isOrdered((CollectionChangeRecord)record)) {
+                CollectionChangeRecord collectionRecord = (CollectionChangeRecord)record;
+                this.output.writeByte(COLLECTION);
+                writeVarInt(attributeIndex);
+                int flags = 0;
+                if (collectionRecord.isDeferred) {
+                    flags |= DEFERRED;
+                }
+                if (collectionRecord.orderHasBeenRepaired) {
+                    flags |= ORDER_REPAIRED;
+                }
+                this.output.writeByte(flags);
+                writeObjectChangeSets(collectionRecord.addObjectList);
+                writeObjectChangeSets(collectionRecord.removeObjectList);
+            } else {
+                throw new NotSerializableException(recordClass.getName());
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the collection change record has changes of an ordered list.
+     */
+    protected boolean isOrdered(CollectionChangeRecord record) {
+        return ((record.orderedAddObjects != null) && !record.orderedAddObjects.isEmpty())
+                || !isEmpty(record.orderedAddObjectIndices)
+                || ((record.orderedChangeObjectList != null) && !record.orderedChangeObjectList.isEmpty())
+                || !isEmpty(record.orderedRemoveObjects);
+    }
+
+    /**
+     * INTERNAL:
+     * Write the type and value of the attribute, primary key or lock value.
+     * The values of other types are written with Java serialization.
+     */
+    public void writeValue(Object value) throws IOException {
+        if (value == null) {
+            this.output.writeByte(NULL);
+            return;
+        }
+        Class<?> valueClass = value.getClass();
+        if (valueClass == String.class) {
+            this.output.writeByte(STRING);
+            writeBytes(((String)value).getBytes(StandardCharsets.UTF_8));
+        } else if (valueClass == Integer.class) {
+            this.output.writeByte(INTEGER);
+            writeVarLong((Integer)value);
+        } else if (valueClass == Long.class) {
+            this.output.writeByte(LONG);
+            writeVarLong((Long)value);
+        } else if (valueClass == BigDecimal.class) {
+            BigDecimal decimal = (BigDecimal)value;
+            if ((decimal.scale() == 0) && (decimal.unscaledValue().bitLength() < 64)) {
+                this.output.writeByte(BIG_DECIMAL);
+                writeVarLong(decimal.longValue());
+            } else {
+                this.output.writeByte(SCALED_BIG_DECIMAL);
+                writeVarLong(decimal.scale());
+                writeBytes(decimal.unscaledValue().toByteArray());
+            }
+        } else if (valueClass == BigInteger.class) {
+            this.output.writeByte(BIG_INTEGER);
+            writeBytes(((BigInteger)value).toByteArray());
+        } else if (valueClass == Boolean.class) {
+            this.output.writeByte((Boolean)value ? TRUE : FALSE);
+        } else if (valueClass == Double.class) {
+            this.output.writeByte(DOUBLE);
+            this.output.writeDouble((Double)value);
+        } else if (valueClass == Float.class) {
+            this.output.writeByte(FLOAT);
+            this.output.writeFloat((Float)value);
+        } else if (valueClass == Short.class) {
+            this.output.writeByte(SHORT);
+            writeVarLong((Short)value);
+        } else if (valueClass == Byte.class) {
+            this.output.writeByte(BYTE);
+            this.output.writeByte((Byte)value);
+        } else if (valueClass == Character.class) {
+            this.output.writeByte(CHARACTER);
+            this.output.writeChar((Character)value);
+        } else if (valueClass == java.sql.Date.class) {
+            this.output.writeByte(SQL_DATE);
+            writeVarLong(((Date)value).getTime());
+        } else if (valueClass == Time.class) {
+            this.output.writeByte(SQL_TIME);
+            writeVarLong(((Date)value).getTime());
+        } else if (valueClass == Timestamp.class) {
+            this.output.writeByte(TIMESTAMP);
+            writeVarLong(((Timestamp)value).getTime());
+            writeVarInt(((Timestamp)value).getNanos());
+        } else if (valueClass == Date.class) {
+            this.output.writeByte(DATE);
+            writeVarLong(((Date)value).getTime());
+        } else if (valueClass == byte[].class) {
+            this.output.writeByte(BYTES);
+            writeBytes((byte[])value);
+        } else if (valueClass == CacheId.class) {
+            Object[] primaryKey = ((CacheId)value).getPrimaryKey();
+            this.output.writeByte(CACHE_ID);
+            writeVarInt(primaryKey.length);
+            for (Object keyValue : primaryKey) {
+                writeValue(keyValue);
+            }
+        } else {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream objectOutput = new ObjectOutputStream(bytes)) {
+                objectOutput.writeObject(value);
+            }
+            this.output.writeByte(SERIALIZED);
+            writeBytes(bytes.toByteArray());
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Write the length and the bytes.
+     */
+    protected void writeBytes(byte[] bytes) throws IOException {
+        writeVarInt(bytes.length);
+        this.output.write(bytes);
+    }
+
+    /**
+     * INTERNAL:
+     * Write the positive value in groups of 7 bits, the high bit set on all but the last group.
+     */
+    protected void writeVarInt(int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            this.output.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        this.output.writeByte(value);
+    }
+
+    /**
+     * INTERNAL:
+     * Write the signed value zigzag encoded, so small negative values are also short.
+     */
+    protected void writeVarLong(long value) throws IOException {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            this.output.writeByte((int)((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        this.output.writeByte((int)zigzag);
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the map is null or empty.
+     */
+    static boolean isEmpty(Map<?, ?> map) {
+        return (map == null) || map.isEmpty();
+    }
+}
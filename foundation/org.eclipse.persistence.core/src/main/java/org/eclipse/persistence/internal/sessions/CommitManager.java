@@ -26,6 +26,7 @@
 import org.eclipse.persistence.internal.localization.ToStringLocalization;
 import org.eclipse.persistence.internal.queries.DatabaseQueryMechanism;
 import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.ObjectReferenceMapping;
 import org.eclipse.persistence.queries.DeleteObjectQuery;
 import org.eclipse.persistence.queries.InsertObjectQuery;
 import org.eclipse.persistence.queries.UpdateObjectQuery;
@@ -34,8 +35,10 @@
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -66,6 +69,9 @@ public class CommitManager {
     /** This object should be ignored. */
     protected static final Integer IGNORE = 4;
 
+    /** The default minimum number of new objects of a component for their insert rows to be built on another thread. */
+    public static final int DEFAULT_PARALLEL_PREPARE_MINIMUM_SIZE = 100;
+
     /** Set of objects that had partial row written to resolve constraints. */
     protected Map shallowCommits;
 
@@ -89,6 +95,33 @@ public class CommitManager {
     /** Counter used to keep track of commit depth for non-UOW writes. */
     protected int commitDepth;
 
+    /**
+     * Index of the component of the commit order graph of each class.
+     * Classes in different components have no constraint dependencies between them.
+     */
+    protected Map<Class<?>, Integer> commitOrderComponents;
+
+    /** Allow the insert rows of independent components to be built on concurrent threads during the commit. */
+    protected boolean shouldPrepareInParallel;
+
+    /** The minimum number of new objects of a component for their insert rows to be built on another thread. */
+    protected int parallelPrepareMinimumSize = DEFAULT_PARALLEL_PREPARE_MINIMUM_SIZE;
+
+    /** Sort the inserts of the new objects of each class by the id of the object referenced by their first foreign key. */
+    protected boolean shouldSortNewObjects;
+
+    /** The insert rows being built on concurrent threads for the current commit. */
+    protected CommitPreparation preparation;
+
+    /** PERF: The index of each class in the commit order, used to plan commits over only the classes changed. */
+    protected Map<Class<?>, Integer> commitOrderIndexes;
+
+    /** The change set of the unit of work commit in progress, whose object change sets hold the commit state of their objects. */
+    protected UnitOfWorkChangeSet commitChangeSet;
+
+    /** Identifies the commit state of the current commit on the object change sets. */
+    protected Object commit;
+
     /**
      * Create the commit manager on the session.
      * It must be initialized later on after the descriptors have been added.
@@ -134,10 +167,15 @@ public void addObjectToDelete(Object objectToDelete) {
      * This should commit the object in the correct order to maintain referential integrity.
      */
     public void commitAllObjectsWithChangeSet(UnitOfWorkChangeSet uowChangeSet) throws RuntimeException, DatabaseException, OptimisticLockException {
+        this.commitChangeSet = uowChangeSet;
         reinitialize();
         this.isActive = true;
         this.session.beginTransaction();
         try {
+            // JTA commits may complete on the transaction manager's thread, so only prepare in parallel for local transactions.
+            if (this.shouldPrepareInParallel && !this.session.hasExternalTransactionController()) {
+                this.preparation = CommitPreparation.start(uowChangeSet, getCommitOrder(), this.commitOrderComponents, this.parallelPrepareMinimumSize, this.session);
+            }
             // PERF: if the number of classes in the project is large this loop can be a perf issue.
             // If only one class types changed, then avoid loop.
             if ((uowChangeSet.getObjectChanges().size() + uowChangeSet.getNewObjectChangeSets().size()) <= 1) {
@@ -154,10 +192,18 @@ public void commitAllObjectsWithChangeSet(UnitOfWorkChangeSet uowChangeSet) thro
             } else {
                 // The commit order is all of the classes ordered by dependencies, this is done for deadlock avoidance.
                 List<Class<?>> commitOrder = getCommitOrder();
-                int size = commitOrder.size();
-                for (int index = 0; index < size; index++) {
-                    Class<?> theClass = commitOrder.get(index);
-                    commitAllObjectsForClassWithChangeSet(uowChangeSet, theClass);
+                // PERF: Only visit the classes in the change set, instead of every class of the project.
+                BitSet plan = buildCommitPlan(uowChangeSet);
+                if (plan != null) {
+                    for (int index = plan.nextSetBit(0); index >= 0; index = plan.nextSetBit(index + 1)) {
+                        commitAllObjectsForClassWithChangeSet(uowChangeSet, commitOrder.get(index));
+                    }
+                } else {
+                    int size = commitOrder.size();
+                    for (int index = 0; index < size; index++) {
+                        Class<?> theClass = commitOrder.get(index);
+                        commitAllObjectsForClassWithChangeSet(uowChangeSet, theClass);
+                    }
                 }
             }
 
@@ -199,11 +245,40 @@ public void commitAllObjectsWithChangeSet(UnitOfWorkChangeSet uowChangeSet) thro
             this.session.rollbackTransaction();
             throw exception;
         } finally {
+            if (this.preparation != null) {
+                this.preparation.cancel();
+                this.preparation = null;
+            }
+            this.commitChangeSet = null;
             reinitialize();
             this.isActive = false;
         }
     }
 
+    /**
+     * Return the indexes in the commit order of the classes with changed or new objects in the change set,
+     * or null if a class is not in the commit order.
+     */
+    public BitSet buildCommitPlan(UnitOfWorkChangeSet uowChangeSet) {
+        Map<Class<?>, Integer> indexes = getCommitOrderIndexes();
+        BitSet plan = new BitSet(indexes.size());
+        for (Class<?> theClass : uowChangeSet.getObjectChanges().keySet()) {
+            Integer index = indexes.get(theClass);
+            if (index == null) {
+                return null;
+            }
+            plan.set(index);
+        }
+        for (Class<?> theClass : uowChangeSet.getNewObjectChangeSets().keySet()) {
+            Integer index = indexes.get(theClass);
+            if (index == null) {
+                return null;
+            }
+            plan.set(index);
+        }
+        return plan;
+    }
+
     /**
      * Commit all of the objects of the class type in the change set.
      * This allows for the order of the classes to be processed optimally.
@@ -226,10 +301,13 @@ protected void commitNewObjectsForClassWithChangeSet(UnitOfWorkChangeSet uowChan
             ClassDescriptor descriptor = session.getDescriptor(theClass);
             List<ObjectChangeSet> newChangeSets = new ArrayList(newObjectChangesList.values());
             int size = newChangeSets.size();
+            if ((size > 1) && this.shouldSortNewObjects) {
+                sortNewObjects(newChangeSets, descriptor, session);
+            }
             for (int index = 0; index < size; index++) {
                 ObjectChangeSet changeSetToWrite = newChangeSets.get(index);
                 Object objectToWrite = changeSetToWrite.getUnitOfWorkClone();
-                if (!isProcessedCommit(objectToWrite)) {
+                if (!isProcessedCommit(objectToWrite, changeSetToWrite)) {
                     // PERF: Get the descriptor query, to avoid extra query creation.
                     InsertObjectQuery commitQuery = descriptor.getQueryManager().getInsertQuery();
                     if (commitQuery == null) {
@@ -252,6 +330,61 @@ protected void commitNewObjectsForClassWithChangeSet(UnitOfWorkChangeSet uowChan
         }
     }
 
+    /**
+     * Sort the new objects by the id of the object referenced by their first foreign key, then by their id.
+     * This keeps the rows of the same parent together, and gives a deterministic insert order.
+     */
+    protected void sortNewObjects(List<ObjectChangeSet> newChangeSets, ClassDescriptor descriptor, AbstractSession session) {
+        ObjectReferenceMapping foreignKeyMapping = null;
+        for (DatabaseMapping mapping : descriptor.getMappings()) {
+            if (mapping.isObjectReferenceMapping() && mapping.hasConstraintDependency()) {
+                foreignKeyMapping = (ObjectReferenceMapping)mapping;
+                break;
+            }
+        }
+        if (foreignKeyMapping == null) {
+            Collections.sort(newChangeSets);
+            return;
+        }
+        // New object change sets do not record their references, so the ids of the references are extracted once from the objects.
+        Map<ObjectChangeSet, Object> foreignKeys = new IdentityHashMap<>(newChangeSets.size());
+        for (ObjectChangeSet changeSet : newChangeSets) {
+            foreignKeys.put(changeSet, extractReferenceId(foreignKeyMapping, changeSet.getUnitOfWorkClone(), session));
+        }
+        newChangeSets.sort((left, right) -> {
+            Object leftKey = foreignKeys.get(left);
+            Object rightKey = foreignKeys.get(right);
+            if (leftKey != rightKey) {
+                if (leftKey == null) {
+                    return -1;
+                } else if (rightKey == null) {
+                    return 1;
+                } else if ((leftKey instanceof Comparable) && (leftKey.getClass() == rightKey.getClass())) {
+                    int compare = ((Comparable)leftKey).compareTo(rightKey);
+                    if (compare != 0) {
+                        return compare;
+                    }
+                }
+            }
+            return left.compareTo(right);
+        });
+    }
+
+    /**
+     * Return the id of the object referenced by the mapping, or null if there is none or it is not instantiated.
+     */
+    protected Object extractReferenceId(ObjectReferenceMapping mapping, Object object, AbstractSession session) {
+        Object attributeValue = mapping.getAttributeValueFromObject(object);
+        if ((attributeValue == null) || !mapping.getIndirectionPolicy().objectIsInstantiated(attributeValue)) {
+            return null;
+        }
+        Object reference = mapping.getRealAttributeValueFromAttribute(attributeValue, object, session);
+        if (reference == null) {
+            return null;
+        }
+        return mapping.getReferenceDescriptor().getObjectBuilder().extractPrimaryKeyFromObject(reference, session, true);
+    }
+
     /**
      * Commit changed of the objects of the class type in the change set.
      * This allows for the order of the classes to be processed optimally.
@@ -276,7 +409,7 @@ protected void commitChangedObjectsForClassWithChangeSet(UnitOfWorkChangeSet uow
                 if (descriptor == null) {
                     descriptor = session.getDescriptor(objectToWrite);
                 }
-                if (!isProcessedCommit(objectToWrite)) {
+                if (!isProcessedCommit(objectToWrite, changeSetToWrite)) {
                     // Commit and resume on failure can cause a new change set to be in existing, so need to check here.
                     WriteObjectQuery commitQuery = null;
                     if (changeSetToWrite.isNew()) {
@@ -408,6 +541,45 @@ protected Map<Object, Integer> getCommitState() {
         return this.commitState;
     }
 
+    /**
+     * Return the commit state of the object, or null if its commit has not started.
+     * PERF: In a unit of work commit the state is held by the object's change set, if it has one.
+     * The change set is looked up from the object if the caller does not have it.
+     */
+    protected Integer getObjectCommitState(Object object, ObjectChangeSet changeSet) {
+        if (this.commitChangeSet != null) {
+            if (changeSet == null) {
+                changeSet = (ObjectChangeSet)this.commitChangeSet.getObjectChangeSetForClone(object);
+            }
+            if (changeSet != null) {
+                Integer state = changeSet.getCommitState(this.commit);
+                if (state != null) {
+                    return state;
+                }
+            }
+        }
+        if (this.commitState == null) {
+            return null;
+        }
+        return this.commitState.get(object);
+    }
+
+    /**
+     * Set the commit state of the object, on its change set in a unit of work commit.
+     */
+    protected void setObjectCommitState(Object object, ObjectChangeSet changeSet, Integer state) {
+        if (this.commitChangeSet != null) {
+            if (changeSet == null) {
+                changeSet = (ObjectChangeSet)this.commitChangeSet.getObjectChangeSetForClone(object);
+            }
+            if (changeSet != null) {
+                changeSet.setCommitState(this.commit, state);
+                return;
+            }
+        }
+        getCommitState().put(object, state);
+    }
+
     protected boolean hasDataModifications() {
         return ((this.dataModifications != null) && (!this.dataModifications.isEmpty()));
     }
@@ -499,12 +671,145 @@ public void initializeCommitOrder() {
         calculator.orderCommits();
         descriptors = calculator.getOrderedDescriptors();
 
+        CommitOrderCalculator mappingCalculator = calculator;
         calculator = new CommitOrderCalculator(getSession());
         calculator.addNodes(descriptors);
         calculator.calculateSpecifiedDependencies();
         calculator.orderCommits();
 
         setCommitOrder(calculator.getOrderedClasses());
+        initializeCommitOrderComponents(mappingCalculator, calculator);
+    }
+
+    /**
+     * Partition the classes of the commit order into components connected by the dependencies of the calculators.
+     * The components are numbered in commit order of their first class.
+     */
+    protected void initializeCommitOrderComponents(CommitOrderCalculator... calculators) {
+        Map<Class<?>, Class<?>> parents = new HashMap<>();
+        for (CommitOrderCalculator calculator : calculators) {
+            for (CommitOrderDependencyNode node : calculator.getNodes()) {
+                Class<?> root = findComponentRoot(parents, node.getDescriptor().getJavaClass());
+                for (Object relatedNode : node.getRelatedNodes()) {
+                    Class<?> relatedRoot = findComponentRoot(parents, ((CommitOrderDependencyNode)relatedNode).getDescriptor().getJavaClass());
+                    if (relatedRoot != root) {
+                        parents.put(relatedRoot, root);
+                    }
+                }
+            }
+        }
+        Map<Class<?>, Integer> components = new HashMap<>();
+        Map<Class<?>, Integer> indexes = new HashMap<>();
+        for (Class<?> theClass : getCommitOrder()) {
+            Class<?> root = findComponentRoot(parents, theClass);
+            Integer index = indexes.get(root);
+            if (index == null) {
+                index = indexes.size();
+                indexes.put(root, index);
+            }
+            components.put(theClass, index);
+        }
+        this.commitOrderComponents = components;
+    }
+
+    /**
+     * Return the class representing the component of the class.
+     */
+    private static Class<?> findComponentRoot(Map<Class<?>, Class<?>> parents, Class<?> theClass) {
+        Class<?> root = theClass;
+        Class<?> parent = parents.get(root);
+        while (parent != null) {
+            root = parent;
+            parent = parents.get(root);
+        }
+        if (root != theClass) {
+            parents.put(theClass, root);
+        }
+        return root;
+    }
+
+    /**
+     * Return the index of the component of the commit order graph of each class.
+     * Classes in different components have no constraint dependencies between them.
+     */
+    public Map<Class<?>, Integer> getCommitOrderComponents() {
+        return commitOrderComponents;
+    }
+
+    /**
+     * Set the index of the component of the commit order graph of each class.
+     */
+    public void setCommitOrderComponents(Map<Class<?>, Integer> commitOrderComponents) {
+        this.commitOrderComponents = commitOrderComponents;
+    }
+
+    /**
+     * Return if the insert rows of independent components are built on concurrent threads during the commit.
+     */
+    public boolean shouldPrepareInParallel() {
+        return shouldPrepareInParallel;
+    }
+
+    /**
+     * Set if the insert rows of independent components should be built on concurrent threads during the commit.
+     * The components are groups of classes with no constraint dependencies between them,
+     * the rows of each component are built on their own thread while the commit writes, on a single connection in commit order.
+     * This is only done for local transactions, when the ids of the new objects are assigned before the commit.
+     * <p>
+     * The rows are built with the unit of work being committed, which is not thread safe.
+     * So only the rows that need no attribute instantiation, and so no query, are built in parallel:
+     * objects with direct and aggregate mappings, and relationships that are already instantiated.
+     * Their mappings, converters and accessors must support being read by the building thread while the commit
+     * uses the unit of work, which is the case of the mappings and converters provided by EclipseLink.
+     */
+    public void setShouldPrepareInParallel(boolean shouldPrepareInParallel) {
+        this.shouldPrepareInParallel = shouldPrepareInParallel;
+    }
+
+    /**
+     * Return if the inserts of the new objects of each class are sorted by the id of the object referenced
+     * by their first foreign key, then by their id.
+     */
+    public boolean shouldSortNewObjects() {
+        return shouldSortNewObjects;
+    }
+
+    /**
+     * Set if the inserts of the new objects of each class should be sorted by the id of the object referenced
+     * by their first foreign key, then by their id.
+     * This keeps the rows of the same parent together and gives a deterministic insert order,
+     * but changes the order the new objects were registered in. By default the inserts are not sorted.
+     */
+    public void setShouldSortNewObjects(boolean shouldSortNewObjects) {
+        this.shouldSortNewObjects = shouldSortNewObjects;
+    }
+
+    /**
+     * Return the minimum number of new objects of a component for their insert rows to be built on another thread.
+     */
+    public int getParallelPrepareMinimumSize() {
+        return parallelPrepareMinimumSize;
+    }
+
+    /**
+     * Set the minimum number of new objects of a component for their insert rows to be built on another thread,
+     * when the rows are built in parallel. The rows of smaller components are built by the commit,
+     * so small commits do not pay the cost of launching threads. The default is 100.
+     * @see #setShouldPrepareInParallel(boolean)
+     */
+    public void setParallelPrepareMinimumSize(int parallelPrepareMinimumSize) {
+        this.parallelPrepareMinimumSize = parallelPrepareMinimumSize;
+    }
+
+    /**
+     * Return the insert row of the object built in parallel for the current commit, or null if it was not.
+     * This waits for the rows of the object's component to be built.
+     */
+    public AbstractRecord removePreparedInsertRow(ClassDescriptor descriptor, Object object) {
+        if (this.preparation == null) {
+            return null;
+        }
+        return this.preparation.removeRow(descriptor, object);
     }
 
     /**
@@ -520,7 +825,15 @@ public boolean isActive() {
      * if true the query should not write the object.
      */
     public boolean isProcessedCommit(Object object) {
-        return getCommitState().get(object) != null;
+        return getObjectCommitState(object, null) != null;
+    }
+
+    /**
+     * Return if the object has been processed.
+     * PERF: The object's change set in the unit of work commit avoids looking it up, it can be null.
+     */
+    public boolean isProcessedCommit(Object object, ObjectChangeSet changeSet) {
+        return getObjectCommitState(object, changeSet) != null;
     }
 
     /**
@@ -529,7 +842,7 @@ public boolean isProcessedCommit(Object object) {
      * if true the query should not write the object.
      */
     public boolean isCommitCompleted(Object object) {
-        return getCommitState().get(object) == COMPLETE;
+        return getObjectCommitState(object, null) == COMPLETE;
     }
 
     /**
@@ -538,7 +851,15 @@ public boolean isCommitCompleted(Object object) {
      * if true the query should not write the object.
      */
     public boolean isCommitCompletedInPostOrIgnore(Object object) {
-        Integer state = getCommitState().get(object);
+        return isCommitCompletedInPostOrIgnore(object, null);
+    }
+
+    /**
+     * Return if the object has been committed.
+     * PERF: The object's change set in the unit of work commit avoids looking it up, it can be null.
+     */
+    public boolean isCommitCompletedInPostOrIgnore(Object object, ObjectChangeSet changeSet) {
+        Integer state = getObjectCommitState(object, changeSet);
         return (state == COMPLETE) || (state == POST) || (state == IGNORE);
     }
 
@@ -547,7 +868,7 @@ public boolean isCommitCompletedInPostOrIgnore(Object object) {
      * This should be called by any query that is writing an object.
      */
     public boolean isCommitInPostModify(Object object) {
-        return getCommitState().get(object) == POST;
+        return getObjectCommitState(object, null) == POST;
     }
 
     /**
@@ -556,7 +877,15 @@ public boolean isCommitInPostModify(Object object) {
      * if true the query must force a shallow insert of the object if it is new.
      */
     public boolean isCommitInPreModify(Object objectOrChangeSet) {
-        return getCommitState().get(objectOrChangeSet) == PRE;
+        return getObjectCommitState(objectOrChangeSet, null) == PRE;
+    }
+
+    /**
+     * Return if the object is being in progress of being pre modify commit.
+     * PERF: The object's change set in the unit of work commit avoids looking it up, it can be null.
+     */
+    public boolean isCommitInPreModify(Object object, ObjectChangeSet changeSet) {
+        return getObjectCommitState(object, changeSet) == PRE;
     }
 
     /**
@@ -575,8 +904,16 @@ public boolean isShallowCommitted(Object object) {
      * This should be called by any query that has finished writing an object.
      */
     public void markCommitCompleted(Object object) {
+        markCommitCompleted(object, null);
+    }
+
+    /**
+     * Mark the commit of the object as being fully completed.
+     * PERF: The object's change set in the unit of work commit avoids looking it up, it can be null.
+     */
+    public void markCommitCompleted(Object object, ObjectChangeSet changeSet) {
         this.commitDepth --;
-        getCommitState().put(object, COMPLETE);
+        setObjectCommitState(object, changeSet, COMPLETE);
         // If not in a unit of work commit and the commit of this object is done reset the commit manager.
         if ((!this.isActive) && (this.commitDepth == 0)) {
             reinitialize();
@@ -585,7 +922,7 @@ public void markCommitCompleted(Object object) {
     }
 
     public void markIgnoreCommit(Object object){
-        getCommitState().put(object, IGNORE);
+        setObjectCommitState(object, null, IGNORE);
     }
 
     /**
@@ -593,7 +930,15 @@ public void markIgnoreCommit(Object object){
      * This should be called by any query that is writing an object.
      */
     public void markPostModifyCommitInProgress(Object object) {
-        getCommitState().put(object, POST);
+        setObjectCommitState(object, null, POST);
+    }
+
+    /**
+     * Add an object as being in progress of being committed.
+     * PERF: The object's change set in the unit of work commit avoids looking it up, it can be null.
+     */
+    public void markPostModifyCommitInProgress(Object object, ObjectChangeSet changeSet) {
+        setObjectCommitState(object, changeSet, POST);
     }
 
     /**
@@ -601,8 +946,16 @@ public void markPostModifyCommitInProgress(Object object) {
      * This should be called by any query that is writing an object.
      */
     public void markPreModifyCommitInProgress(Object object) {
+        markPreModifyCommitInProgress(object, null);
+    }
+
+    /**
+     * Add an object as being in progress of being committed.
+     * PERF: The object's change set in the unit of work commit avoids looking it up, it can be null.
+     */
+    public void markPreModifyCommitInProgress(Object object, ObjectChangeSet changeSet) {
         this.commitDepth ++;
-        getCommitState().put(object, PRE);
+        setObjectCommitState(object, changeSet, PRE);
     }
 
     /**
@@ -619,6 +972,7 @@ public void markShallowCommit(Object object) {
      */
     public void reinitialize() {
         this.commitState = null;
+        this.commit = (this.commitChangeSet == null) ? null : new Object();
         this.commitDepth = 0;
         this.shallowCommits = null;
         this.objectsToDelete = null;
@@ -634,6 +988,29 @@ public void reinitialize() {
      */
     public void setCommitOrder(List<Class<?>> commitOrder) {
         this.commitOrder = commitOrder;
+        this.commitOrderIndexes = null;
+    }
+
+    /**
+     * Return the index of each class in the commit order.
+     */
+    public Map<Class<?>, Integer> getCommitOrderIndexes() {
+        if (this.commitOrderIndexes == null) {
+            List<Class<?>> commitOrder = getCommitOrder();
+            Map<Class<?>, Integer> indexes = new HashMap<>(commitOrder.size() * 2);
+            for (int index = 0; index < commitOrder.size(); index++) {
+                indexes.put(commitOrder.get(index), index);
+            }
+            this.commitOrderIndexes = indexes;
+        }
+        return this.commitOrderIndexes;
+    }
+
+    /**
+     * Set the index of each class in the commit order, this must match the commit order.
+     */
+    public void setCommitOrderIndexes(Map<Class<?>, Integer> commitOrderIndexes) {
+        this.commitOrderIndexes = commitOrderIndexes;
     }
 
     /**
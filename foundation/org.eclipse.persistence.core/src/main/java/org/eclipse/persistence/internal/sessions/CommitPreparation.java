@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.mappings.AggregateObjectMapping;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.DatabaseMapping.WriteType;
+import org.eclipse.persistence.sessions.SessionProfiler;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: Build the insert rows of the new objects of a commit on concurrent threads,
+ * while the commit writes the objects in commit order on the connection.<p>
+ * The classes of the commit order are partitioned into components with no constraint dependencies between them.
+ * The rows of each component with enough new objects are built on their own thread,
+ * the first component in commit order on the committing thread.
+ * When the commit reaches the insert of an object it waits for the object's component to be prepared,
+ * so the rows of later components are built while the earlier ones are written.
+ * If the preparation of the component has not started yet, the commit claims the component and builds its rows,
+ * so the commit does not depend on the threads of the server platform being available.
+ * If the row of an object was not prepared, or its preparation failed, the commit builds it as usual.
+ * <p>
+ * The rows are built before any object of the commit is written, so this is only done
+ * if the primary keys of all the new objects have been assigned before the commit.
+ * <p>
+ * The rows are built with the unit of work, which is not thread safe, while the commit uses it.
+ * So only the rows that can be built without instantiating an attribute or running a query are prepared:
+ * the rows of objects whose mappings are direct, aggregate, or relationships already instantiated.
+ * The commit builds the rows of the other objects as usual.
+ *
+ * @see CommitManager#setShouldPrepareInParallel(boolean)
+ * @since EclipseLink 5.0
+ */
+public class CommitPreparation {
+
+    /**
+     * The new objects of a component and their prepared rows.
+     * The rows are only read by the committing thread once the component is prepared.
+     */
+    protected static class Component {
+        protected final List<ClassDescriptor> descriptors = new ArrayList<>();
+        protected final List<List<Object>> objects = new ArrayList<>();
+        protected final Map<Object, AbstractRecord> rows = new IdentityHashMap<>();
+        protected final CountDownLatch prepared = new CountDownLatch(1);
+        /** Set by the thread preparing the rows, or by the commit if it reaches the component first. */
+        protected final AtomicBoolean claimed = new AtomicBoolean();
+        protected volatile boolean hasFailed;
+        protected int size;
+    }
+
+    /** The unit of work being committed. */
+    protected final AbstractSession session;
+
+    /** The component of each class with new objects. */
+    protected final Map<Class<?>, Component> componentsByClass;
+
+    /** Set once the commit is complete, so the remaining rows are not prepared. */
+    protected volatile boolean isCancelled;
+
+    protected CommitPreparation(AbstractSession session) {
+        this.session = session;
+        this.componentsByClass = new HashMap<>();
+    }
+
+    /**
+     * Start preparing the insert rows of the new objects of the change set.
+     * Return null if the new objects are not in at least two independent components,
+     * if no component but the first has the minimum number of new objects,
+     * or if any of their primary keys is assigned by the insert.
+     */
+    public static CommitPreparation start(UnitOfWorkChangeSet uowChangeSet, List<Class<?>> commitOrder, Map<Class<?>, Integer> commitOrderComponents, int minimumSize, AbstractSession session) {
+        Map<Class<?>, Map<ObjectChangeSet, ObjectChangeSet>> newObjectChangeSets = uowChangeSet.getNewObjectChangeSets();
+        if ((commitOrderComponents == null) || (newObjectChangeSets.size() < 2)) {
+            return null;
+        }
+        CommitPreparation preparation = new CommitPreparation(session);
+        // The components in commit order of their first class.
+        Map<Integer, Component> components = new HashMap<>();
+        List<Component> orderedComponents = new ArrayList<>();
+        for (Class<?> theClass : commitOrder) {
+            Map<ObjectChangeSet, ObjectChangeSet> newObjects = newObjectChangeSets.get(theClass);
+            if ((newObjects == null) || newObjects.isEmpty()) {
+                continue;
+            }
+            ClassDescriptor descriptor = session.getDescriptor(theClass);
+            Integer index = commitOrderComponents.get(theClass);
+            if ((descriptor == null) || (index == null)) {
+                return null;
+            }
+            // Rows referencing an object whose id is assigned by its insert cannot be built in advance.
+            if (descriptor.usesSequenceNumbers() && (descriptor.getSequence() != null) && descriptor.getSequence().shouldAcquireValueAfterInsert()) {
+                return null;
+            }
+            // Aggregate collection inserts are given their rows by their owner.
+            if (descriptor.isAggregateCollectionDescriptor()) {
+                continue;
+            }
+            Component component = components.get(index);
+            if (component == null) {
+                component = new Component();
+                components.put(index, component);
+                orderedComponents.add(component);
+            }
+            List<Object> objects = new ArrayList<>(newObjects.size());
+            for (ObjectChangeSet changeSet : newObjects.values()) {
+                Object object = changeSet.getUnitOfWorkClone();
+                if (canPrepareRow(descriptor, object, session)) {
+                    objects.add(object);
+                }
+            }
+            if (objects.isEmpty()) {
+                continue;
+            }
+            component.descriptors.add(descriptor);
+            component.objects.add(objects);
+            component.size = component.size + objects.size();
+        }
+        // PERF: Only launch a thread for the components with enough rows to outweigh its cost,
+        // the commit builds the rows of the others as usual.
+        List<Component> launchedComponents = new ArrayList<>();
+        for (int index = 1; index < orderedComponents.size(); index++) {
+            Component component = orderedComponents.get(index);
+            if (component.size >= minimumSize) {
+                launchedComponents.add(component);
+            }
+        }
+        if (launchedComponents.isEmpty()) {
+            return null;
+        }
+        Component firstComponent = orderedComponents.get(0);
+        preparation.register(firstComponent);
+        for (Component component : launchedComponents) {
+            preparation.register(component);
+            try {
+                session.getServerPlatform().launchContainerRunnable(() -> preparation.prepare(component));
+            } catch (RuntimeException exception) {
+                // The commit builds the rows when it reaches the component.
+            }
+        }
+        preparation.prepare(firstComponent);
+        return preparation;
+    }
+
+    /**
+     * Register the component as the component of its classes.
+     */
+    protected void register(Component component) {
+        for (ClassDescriptor descriptor : component.descriptors) {
+            this.componentsByClass.put(descriptor.getJavaClass(), component);
+        }
+    }
+
+    /**
+     * Return if the insert row of the object can be built on another thread than the committing thread.
+     * This is the case if building the row does not instantiate an attribute, which could run a query
+     * through the unit of work, so only direct mappings, aggregates whose mappings can be built,
+     * and instantiated relationships are allowed.
+     * This is checked on the committing thread, before the rows are built.
+     */
+    protected static boolean canPrepareRow(ClassDescriptor descriptor, Object object, AbstractSession session) {
+        List<DatabaseMapping> mappings = descriptor.getMappings();
+        for (int index = 0; index < mappings.size(); index++) {
+            DatabaseMapping mapping = mappings.get(index);
+            if (mapping.isReadOnly() || mapping.isAbstractDirectMapping()) {
+                continue;
+            }
+            if (mapping.isAggregateObjectMapping()) {
+                Object aggregate = mapping.getAttributeValueFromObject(object);
+                if ((aggregate == null)
+                        || canPrepareRow(((AggregateObjectMapping)mapping).getReferenceDescriptor(aggregate.getClass(), session), aggregate, session)) {
+                    continue;
+                }
+                return false;
+            }
+            if (!mapping.isForeignReferenceMapping() || !mapping.isAttributeValueFromObjectInstantiated(object)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Build the insert rows of the new objects of the component.
+     */
+    protected void prepare(Component component) {
+        if (!component.claimed.compareAndSet(false, true)) {
+            // The commit reached the component first, and builds its rows.
+            return;
+        }
+        try {
+            for (int index = 0; index < component.descriptors.size(); index++) {
+                ClassDescriptor descriptor = component.descriptors.get(index);
+                for (Object object : component.objects.get(index)) {
+                    if (this.isCancelled) {
+                        return;
+                    }
+                    component.rows.put(object, descriptor.getObjectBuilder().buildRow(object, this.session, WriteType.INSERT));
+                }
+            }
+        } catch (RuntimeException exception) {
+            // The commit builds the rows, and reports the error if it occurs again.
+            component.hasFailed = true;
+        } finally {
+            component.prepared.countDown();
+        }
+    }
+
+    /**
+     * Return the prepared insert row of the object, waiting for its component to be prepared
+     * if its preparation has started.
+     * Return null if the row was not prepared.
+     */
+    public AbstractRecord removeRow(ClassDescriptor descriptor, Object object) {
+        Component component = this.componentsByClass.get(descriptor.getJavaClass());
+        if (component == null) {
+            return null;
+        }
+        if (component.claimed.compareAndSet(false, true)) {
+            // The preparation of the component has not started, so the commit builds its rows.
+            component.hasFailed = true;
+            component.prepared.countDown();
+            return null;
+        }
+        try {
+            component.prepared.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        if (component.hasFailed) {
+            return null;
+        }
+        AbstractRecord row = component.rows.remove(object);
+        if (row != null) {
+            this.session.incrementProfile(SessionProfiler.CommitRowsPreparedInParallel);
+        }
+        return row;
+    }
+
+    /**
+     * Stop preparing rows, the commit is complete.
+     */
+    public void cancel() {
+        this.isCancelled = true;
+    }
+}
@@ -879,6 +879,15 @@ public void invalidateQueryCache(Class<?> classThatChanged) {
         getIdentityMapManager().invalidateQueryCache(classThatChanged);
     }
 
+    /**
+     * INTERNAL:
+     * Invalidate/remove the results for the class from the query cache affected by the committed changes.
+     * This is used to invalidate the query cache after a merge.
+     */
+    public void invalidateQueryCache(Class<?> classThatChanged, UnitOfWorkChangeSet changeSet) {
+        getIdentityMapManager().invalidateQueryCache(classThatChanged, changeSet);
+    }
+
     /**
      * ADVANCED:
      * Set all of the objects from all identity maps to be invalid in the cache.
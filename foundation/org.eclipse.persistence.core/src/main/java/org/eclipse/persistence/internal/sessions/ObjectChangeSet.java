@@ -137,6 +137,12 @@ public int compare(Object object1, Object object2) {
     /** return whether this change set should be recalculated after an event changes the object */
     protected transient boolean shouldRecalculateAfterUpdateEvent = true;
 
+    /** PERF: The state of the object in the commit of its unit of work, avoids a commit state map lookup. */
+    protected transient Integer commitState;
+
+    /** The commit the commit state belongs to, the state of any other commit is not set. */
+    protected transient Object commitStateOwner;
+
     //This controls how long the thread can wait for other thread to put Entity instance in cache
     //This is not final to allow a way for the value to be changed without supporting API
     public static final int MAX_TRIES = 18000;
@@ -1334,5 +1340,27 @@ public boolean hasProtectedForeignKeys() {
         return (this.protectedForeignKeys != null) && (!this.protectedForeignKeys.isEmpty());
     }
 
+    /**
+     * INTERNAL:
+     * Return the state of the object in the commit, or null if it is not set for the commit.
+     * @see CommitManager
+     */
+    public Integer getCommitState(Object commit) {
+        if (this.commitStateOwner != commit) {
+            return null;
+        }
+        return this.commitState;
+    }
+
+    /**
+     * INTERNAL:
+     * Set the state of the object in the commit.
+     * @see CommitManager
+     */
+    public void setCommitState(Object commit, Integer commitState) {
+        this.commitStateOwner = commit;
+        this.commitState = commitState;
+    }
+
 }
 
@@ -640,6 +640,7 @@ protected static class CacheTypeProp extends Prop {
                 {CacheType.SoftWeak, pcg + "SoftCacheWeakIdentityMap"},
                 {CacheType.HardWeak, pcg + "HardCacheWeakIdentityMap"},
                 {CacheType.Full, pcg + "FullIdentityMap"},
+                {CacheType.ConcurrentCache, pcg + "ConcurrentCacheIdentityMap"},
                 {CacheType.NONE, pcg + "NoIdentityMap"}
             };
         }
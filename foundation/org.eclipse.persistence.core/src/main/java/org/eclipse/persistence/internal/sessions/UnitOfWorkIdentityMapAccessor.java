@@ -59,6 +59,16 @@ public void invalidateQueryCache(Class<?> classThatChanged) {
         this.session.getParent().getIdentityMapAccessor().invalidateQueryCache(classThatChanged);
     }
 
+    /**
+     * INTERNAL:
+     * Invalidate/remove the results for the class from the query cache affected by the committed changes.
+     * This is used to invalidate the query cache after a merge.
+     */
+    @Override
+    public void invalidateQueryCache(Class<?> classThatChanged, UnitOfWorkChangeSet changeSet) {
+        this.session.getParent().getIdentityMapAccessorInstance().invalidateQueryCache(classThatChanged, changeSet);
+    }
+
     /**
      * ADVANCED:
      * Clear the query class associated with the passed-in read query
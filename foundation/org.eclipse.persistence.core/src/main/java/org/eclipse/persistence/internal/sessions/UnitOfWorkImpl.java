@@ -94,6 +94,8 @@
 import org.eclipse.persistence.sessions.Session;
 import org.eclipse.persistence.sessions.SessionProfiler;
 import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.tools.profiler.jfr.FlightRecorderEvents;
+import org.eclipse.persistence.tools.profiler.jfr.UnitOfWorkCommitEvent;
 
 import java.io.StringWriter;
 import java.util.ArrayList;
@@ -1427,7 +1429,9 @@ protected void commitNestedUnitOfWork() {
     public void commitRootUnitOfWork() throws DatabaseException, OptimisticLockException {
         commitToDatabaseWithChangeSet(true);
         // Merge after commit
+        UnitOfWorkCommitEvent event = FlightRecorderEvents.beginCommitPhase();
         mergeChangesIntoParent();
+        FlightRecorderEvents.endCommitPhase(event, this, UnitOfWorkCommitEvent.MERGE_CHANGES);
         this.changeTrackedHardList = null;
 
     }
@@ -1587,7 +1591,9 @@ protected void commitToDatabaseWithChangeSet(boolean commitTransaction) throws D
                         this.unitOfWorkChangeSet = new UnitOfWorkChangeSet(this);
                     }
                     // PERF: clone is faster than new.
+                    UnitOfWorkCommitEvent event = FlightRecorderEvents.beginCommitPhase();
                     calculateChanges(getCloneMapping(), this.unitOfWorkChangeSet, true, true);
+                    FlightRecorderEvents.endCommitPhase(event, this, UnitOfWorkCommitEvent.CALCULATE_CHANGES);
 
                 } catch (RuntimeException exception){
                     // The number of SQL statements been prepared need be stored into UOW
@@ -1602,7 +1608,9 @@ protected void commitToDatabaseWithChangeSet(boolean commitTransaction) throws D
             if (hasChanges) {
                 // Also must first set the commit manager active.
                 getCommitManager().setIsActive(true);
+                UnitOfWorkCommitEvent event = FlightRecorderEvents.beginCommitPhase();
                 commitToDatabase(commitTransaction);
+                FlightRecorderEvents.endCommitPhase(event, this, UnitOfWorkCommitEvent.COMMIT_TO_DATABASE);
             } else {
                 try {
                     // CR#... need to commit the transaction if begun early.
@@ -1971,6 +1979,11 @@ public CommitManager getCommitManager() {
             this.commitManager = new CommitManager(this);
             // Initialize the commit manager
             this.commitManager.setCommitOrder(this.parent.getCommitManager().getCommitOrder());
+            this.commitManager.setCommitOrderIndexes(this.parent.getCommitManager().getCommitOrderIndexes());
+            this.commitManager.setCommitOrderComponents(this.parent.getCommitManager().getCommitOrderComponents());
+            this.commitManager.setShouldPrepareInParallel(this.parent.getCommitManager().shouldPrepareInParallel());
+            this.commitManager.setShouldSortNewObjects(this.parent.getCommitManager().shouldSortNewObjects());
+            this.commitManager.setParallelPrepareMinimumSize(this.parent.getCommitManager().getParallelPrepareMinimumSize());
         }
         return this.commitManager;
     }
@@ -3461,7 +3474,7 @@ protected void mergeChangesIntoParent() {
                 postMergeChanges(classesChanged);
 
                 for (Class<?> changedClass : classesChanged) {
-                    this.parent.getIdentityMapAccessorInstance().invalidateQueryCache(changedClass);
+                    this.parent.getIdentityMapAccessorInstance().invalidateQueryCache(changedClass, uowChangeSet);
                 }
                 // If change propagation enabled through RemoteCommandManager then go for it
                 if (this.parent.shouldPropagateChanges() && (this.parent.getCommandManager() != null)) {
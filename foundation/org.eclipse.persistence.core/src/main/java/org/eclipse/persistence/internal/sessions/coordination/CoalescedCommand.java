@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions.coordination;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.eclipse.persistence.exceptions.RemoteCommandManagerException;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Carry the commands propagated during a coalescing window in a single message.
+ * </p><p>
+ * <b>Description</b>: The commands are serialized one after the other with the serializer of the
+ * command manager, each preceded by its length, and the whole payload is optionally deflated.
+ * On the receiving side each command is deserialized and processed in order,
+ * as if it had been received on its own.
+ * </p>
+ * @see CommandCoalescer
+ * @since EclipseLink 5.0
+ */
+public class CoalescedCommand extends RCMCommand {
+
+    /** The serialized commands */
+    protected byte[] commands;
+
+    /** The number of commands */
+    protected int size;
+
+    /** If the serialized commands are deflated */
+    protected boolean isCompressed;
+
+    public CoalescedCommand() {
+        super();
+    }
+
+    public CoalescedCommand(byte[] commands, int size, boolean isCompressed) {
+        this.commands = commands;
+        this.size = size;
+        this.isCompressed = isCompressed;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the serialized commands.
+     */
+    public byte[] getCommands() {
+        return commands;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of commands.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the serialized commands are deflated.
+     */
+    public boolean isCompressed() {
+        return isCompressed;
+    }
+
+    /**
+     * INTERNAL:
+     * Deserialize and process each of the commands with the command manager.
+     */
+    @Override
+    public void executeWithRCM(RemoteCommandManager rcm) {
+        InputStream input = new ByteArrayInputStream(this.commands);
+        if (this.isCompressed) {
+            input = new InflaterInputStream(input);
+        }
+        try (DataInputStream data = new DataInputStream(input)) {
+            int count = data.readInt();
+            for (int index = 0; index < count; index++) {
+                byte[] command = new byte[data.readInt()];
+                data.readFully(command);
+                rcm.processCommandFromRemoteConnection(command);
+            }
+        } catch (IOException exception) {
+            throw RemoteCommandManagerException.errorSerializeOrDeserialzeCommand(exception);
+        }
+    }
+
+    @Override
+    public void executeWithSession(AbstractSession session) {
+        // Internal RCM commands do not implement this method
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions.coordination;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DeflaterOutputStream;
+
+import org.eclipse.persistence.exceptions.RemoteCommandManagerException;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+import org.eclipse.persistence.sessions.serializers.Serializer;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Coalesce the commands propagated asynchronously by a command manager.
+ * </p><p>
+ * <b>Description</b>: Instead of sending each command from its own container runnable,
+ * the commands are buffered until the coalescing window of the command manager has elapsed
+ * since the first buffered command, or until the maximum number of commands is buffered.
+ * A single long-lived sender then merges the change sets of the buffered commands,
+ * and sends them to each connection as one {@link CoalescedCommand}, optionally compressed.
+ * <p>
+ * The change sets of consecutive {@link MergeChangeSetCommand}s are merged into one change set
+ * as long as they do not change the same objects, as the changes of an object committed
+ * by different units of work cannot be combined once committed.
+ * Other commands are sent in order between the merged change sets.
+ * </p>
+ * @see RemoteCommandManager#setCommandCoalescingWindow(long)
+ * @since EclipseLink 5.0
+ */
+public class CommandCoalescer implements Runnable {
+
+    /** Reference to manager to get connections, serializer, etc. */
+    protected RemoteCommandManager rcm;
+
+    /** The commands buffered since the last send */
+    protected List<Command> commands;
+
+    /** The time the first buffered command was added, in nanoseconds */
+    protected long firstCommandTime;
+
+    /** If the sender has been launched */
+    protected boolean isStarted;
+
+    /** If the sender should send the remaining commands and stop */
+    protected boolean isStopped;
+
+    /** The number of messages saved by sending commands together */
+    protected long commandsCoalesced;
+
+    /** The number of bytes saved by compressing the commands */
+    protected long bytesSaved;
+
+    public CommandCoalescer(RemoteCommandManager rcm) {
+        this.rcm = rcm;
+        this.commands = new ArrayList<>();
+    }
+
+    /**
+     * INTERNAL:
+     * Buffer the command until the end of the coalescing window,
+     * launching the sender on the first command.
+     */
+    public synchronized void addCommand(Command command) {
+        if (!this.isStarted) {
+            this.rcm.getServerPlatform().launchContainerRunnable(this);
+            this.isStarted = true;
+        }
+        if (this.commands.isEmpty()) {
+            this.firstCommandTime = System.nanoTime();
+            notifyAll();
+        }
+        this.commands.add(command);
+        if (this.commands.size() >= this.rcm.getCommandCoalescingSize()) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Stop the sender, and wait for the buffered commands to be sent.
+     */
+    public synchronized void stop() {
+        this.isStopped = true;
+        notifyAll();
+        try {
+            while (this.isStarted) {
+                wait();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of messages saved by sending commands together.
+     */
+    public synchronized long getCommandsCoalesced() {
+        return commandsCoalesced;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of bytes saved by compressing the commands.
+     */
+    public synchronized long getBytesSaved() {
+        return bytesSaved;
+    }
+
+    /**
+     * INTERNAL:
+     * Wait for the end of the coalescing window, and return the buffered commands,
+     * or null if the sender is stopped and there are no more commands.
+     */
+    protected synchronized List<Command> nextCommands() throws InterruptedException {
+        while (true) {
+            if (this.commands.isEmpty()) {
+                if (this.isStopped) {
+                    this.isStarted = false;
+                    notifyAll();
+                    return null;
+                }
+                wait();
+            } else {
+                long remaining = TimeUnit.MILLISECONDS.toNanos(this.rcm.getCommandCoalescingWindow()) - (System.nanoTime() - this.firstCommandTime);
+                if (this.isStopped || (remaining <= 0) || (this.commands.size() >= this.rcm.getCommandCoalescingSize())) {
+                    List<Command> nextCommands = this.commands;
+                    this.commands = new ArrayList<>();
+                    return nextCommands;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * This is the execution method of the sender.
+     * It sends the commands of each coalescing window until stopped.
+     */
+    @Override
+    public void run() {
+        try {
+            List<Command> nextCommands = nextCommands();
+            while (nextCommands != null) {
+                this.rcm.getCommandProcessor().startOperationProfile(SessionProfiler.CacheCoordination);
+                try {
+                    send(nextCommands);
+                } catch (RuntimeException exception) {
+                    // The sender must keep running for the next commands, nobody can catch it on this thread.
+                    Object[] args = { this.rcm.getChannel(), exception };
+                    this.rcm.logWarning("failed_command_propagation", args);
+                } finally {
+                    this.rcm.getCommandProcessor().endOperationProfile(SessionProfiler.CacheCoordination);
+                }
+                nextCommands = nextCommands();
+            }
+        } catch (InterruptedException exception) {
+            synchronized (this) {
+                this.isStarted = false;
+                notifyAll();
+            }
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Merge the change sets of the commands and send them to each connection as a single message.
+     */
+    protected void send(List<Command> nextCommands) {
+        List<Command> mergedCommands = mergeChangeSets(nextCommands);
+        Command command;
+        if ((mergedCommands.size() == 1) && !this.rcm.shouldCompressCommands()) {
+            command = mergedCommands.get(0);
+        } else {
+            command = buildCoalescedCommand(mergedCommands);
+        }
+        synchronized (this) {
+            this.commandsCoalesced = this.commandsCoalesced + nextCommands.size() - 1;
+        }
+        for (int index = 1; index < nextCommands.size(); index++) {
+            this.rcm.getCommandProcessor().incrementProfile(SessionProfiler.RcmCommandsCoalesced);
+        }
+        byte[] commandBytes = null;
+        Serializer serializer = this.rcm.getSerializer();
+        if (serializer != null) {
+            this.rcm.getCommandProcessor().startOperationProfile(SessionProfiler.CacheCoordinationSerialize);
+            try {
+                commandBytes = (byte[])serializer.serialize(command, (AbstractSession)this.rcm.getCommandProcessor());
+            } finally {
+                this.rcm.getCommandProcessor().endOperationProfile(SessionProfiler.CacheCoordinationSerialize);
+            }
+        }
+        new CommandPropagator(this.rcm, command, commandBytes).synchronousPropagateCommand();
+    }
+
+    /**
+     * INTERNAL:
+     * Merge the change sets of consecutive merge change set commands that do not change the same objects.
+     * The change sets are merged into new change sets, as the change sets of the commands
+     * are still referenced by the units of work that committed them.
+     */
+    protected List<Command> mergeChangeSets(List<Command> nextCommands) {
+        if (!this.rcm.isCommandProcessorASession()) {
+            return nextCommands;
+        }
+        AbstractSession session = (AbstractSession)this.rcm.getCommandProcessor();
+        List<Command> mergedCommands = new ArrayList<>(nextCommands.size());
+        UnitOfWorkChangeSet mergedChangeSet = null;
+        Set<ObjectChangeSet> changedObjects = null;
+        for (Command command : nextCommands) {
+            if (command.getClass() != MergeChangeSetCommand.class) {
+                mergedCommands.add(command);
+                mergedChangeSet = null;
+                continue;
+            }
+            UnitOfWorkChangeSet changeSet = ((MergeChangeSetCommand)command).getChangeSet(session);
+            if ((mergedChangeSet == null) || isChangingSameObjects(changedObjects, changeSet)) {
+                MergeChangeSetCommand mergedCommand = new MergeChangeSetCommand();
+                mergedCommand.setServiceId(command.getServiceId());
+                mergedChangeSet = new UnitOfWorkChangeSet();
+                mergedCommand.setChangeSet(mergedChangeSet);
+                mergedCommands.add(mergedCommand);
+                changedObjects = new HashSet<>();
+            }
+            mergedChangeSet.getAllChangeSets().putAll(changeSet.getAllChangeSets());
+            changedObjects.addAll(changeSet.getAllChangeSets().keySet());
+            if (changeSet.hasDeletedObjects()) {
+                mergedChangeSet.getDeletedObjects().putAll(changeSet.getDeletedObjects());
+                changedObjects.addAll(changeSet.getDeletedObjects().keySet());
+            }
+        }
+        return mergedCommands;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the change set changes or deletes any of the objects.
+     */
+    protected boolean isChangingSameObjects(Set<ObjectChangeSet> changedObjects, UnitOfWorkChangeSet changeSet) {
+        for (ObjectChangeSet objectChangeSet : changeSet.getAllChangeSets().keySet()) {
+            if (changedObjects.contains(objectChangeSet)) {
+                return true;
+            }
+        }
+        if (changeSet.hasDeletedObjects()) {
+            for (ObjectChangeSet objectChangeSet : changeSet.getDeletedObjects().keySet()) {
+                if (changedObjects.contains(objectChangeSet)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * INTERNAL:
+     * Serialize the commands, each preceded by its length, into a coalesced command,
+     * and deflate them if the command manager compresses commands.
+     */
+    protected CoalescedCommand buildCoalescedCommand(List<Command> mergedCommands) {
+        Serializer serializer = this.rcm.getSerializer();
+        if (serializer == null) {
+            serializer = JavaSerializer.instance;
+        }
+        boolean isCompressed = this.rcm.shouldCompressCommands();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        OutputStream output = isCompressed ? new DeflaterOutputStream(bytes) : bytes;
+        long size = 4;
+        this.rcm.getCommandProcessor().startOperationProfile(SessionProfiler.CacheCoordinationSerialize);
+        try (DataOutputStream data = new DataOutputStream(output)) {
+            data.writeInt(mergedCommands.size());
+            for (Command command : mergedCommands) {
+                byte[] commandBytes = (byte[])serializer.serialize(command, (AbstractSession)this.rcm.getCommandProcessor());
+                data.writeInt(commandBytes.length);
+                data.write(commandBytes);
+                size = size + 4 + commandBytes.length;
+            }
+        } catch (IOException exception) {
+            throw RemoteCommandManagerException.errorSerializeOrDeserialzeCommand(exception);
+        } finally {
+            this.rcm.getCommandProcessor().endOperationProfile(SessionProfiler.CacheCoordinationSerialize);
+        }
+        if (isCompressed) {
+            long totalBytesSaved;
+            synchronized (this) {
+                this.bytesSaved = this.bytesSaved + size - bytes.size();
+                totalBytesSaved = this.bytesSaved;
+            }
+            this.rcm.getCommandProcessor().updateProfile(SessionProfiler.RcmBytesSaved, totalBytesSaved);
+        }
+        CoalescedCommand command = new CoalescedCommand(bytes.toByteArray(), mergedCommands.size(), isCompressed);
+        command.setServiceId(this.rcm.getServiceId());
+        return command;
+    }
+}
@@ -37,6 +37,8 @@
 import org.eclipse.persistence.history.AsOfClause;
 import org.eclipse.persistence.indirection.ValueHolder;
 import org.eclipse.persistence.indirection.ValueHolderInterface;
+import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
+import org.eclipse.persistence.internal.databaseaccess.Platform;
 import org.eclipse.persistence.internal.descriptors.DescriptorIterator;
 import org.eclipse.persistence.internal.descriptors.InstanceVariableAttributeAccessor;
 import org.eclipse.persistence.internal.descriptors.MethodAttributeAccessor;
@@ -637,7 +639,16 @@ public Object extractResultFromBatchQuery(ReadQuery batchQuery, CacheKey parentC
                 }
                 originalPolicy.setDataResults(this, remainingParentRows);
                 translationRow = translationRow.clone();
-                translationRow.put(QUERY_BATCH_PARAMETER, foreignKeyValues);
+                // If bound, the platform may bind the values as an array, or pad them, so the SQL is the same for most batches.
+                // Other platforms, such as EIS, use the values.
+                Object batchValues = foreignKeyValues;
+                Platform platform = session.getPlatform(this.descriptor.getJavaClass());
+                if (platform instanceof DatabasePlatform) {
+                    boolean shouldBind = batchQuery.shouldIgnoreBindAllParameters()
+                            ? ((DatabasePlatform)platform).shouldBindAllParameters() : batchQuery.shouldBindAllParameters();
+                    batchValues = ((DatabasePlatform)platform).buildBatchFetchINValues(foreignKeyValues, originalPolicy.getSize(), shouldBind);
+                }
+                translationRow.put(QUERY_BATCH_PARAMETER, batchValues);
                 // Register each id as null, in case it has no relationship.
                 for (Object foreignKey : foreignKeys) {
                     batchedObjects.put(foreignKey, Helper.NULL_VALUE);
@@ -14,6 +14,8 @@
 //     Oracle - initial API and implementation from Oracle TopLink
 package org.eclipse.persistence.oxm.mappings;
 
+import java.io.Serializable;
+
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.internal.oxm.XPathFragment;
 import org.eclipse.persistence.mappings.DatabaseMapping;
@@ -32,7 +34,7 @@
  *  @see XMLBinaryDataMapping
  *  @see XMLBinaryDataCollectionMapping
  */
-public class FixedMimeTypePolicy implements MimeTypePolicy {
+public class FixedMimeTypePolicy implements MimeTypePolicy, Serializable {
 
     private boolean initialized = false;
     private String aMimeType;
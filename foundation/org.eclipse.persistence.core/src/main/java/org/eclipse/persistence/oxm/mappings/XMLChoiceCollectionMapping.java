@@ -62,6 +62,7 @@
 import org.eclipse.persistence.sessions.remote.DistributedSession;
 
 import javax.xml.namespace.QName;
+import java.io.Serial;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.util.ArrayList;
@@ -115,7 +116,7 @@ public class XMLChoiceCollectionMapping extends DatabaseMapping implements Choic
 
     private boolean isAny;
     private boolean isWriteOnly;
-    private static final AttributeAccessor temporaryAccessor = new InstanceVariableAttributeAccessor();
+    private static final AttributeAccessor temporaryAccessor = new TemporaryAttributeAccessor();
     private boolean reuseContainer;
     private Converter converter;
     private XMLCompositeDirectCollectionMapping mixedContentMapping;
@@ -1061,4 +1062,17 @@ public Object convertDataValueToObjectValue(Object fieldValue, Session session,
         }
         return fieldValue;
     }
+
+    /**
+     * Marks the nested mappings that take the accessor of this mapping when it is initialized.
+     */
+    private static final class TemporaryAttributeAccessor extends InstanceVariableAttributeAccessor {
+
+        // Preserves singleton property
+        @Serial
+        private Object readResolve() {
+            return temporaryAccessor;
+        }
+    }
+
 }
@@ -58,6 +58,7 @@
 import org.eclipse.persistence.sessions.remote.DistributedSession;
 
 import javax.xml.namespace.QName;
+import java.io.Serial;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.util.ArrayList;
@@ -108,7 +109,7 @@ public class XMLChoiceObjectMapping extends DatabaseMapping implements ChoiceObj
     private Converter converter;
     private boolean isWriteOnly;
 
-    private static final AttributeAccessor temporaryAccessor = new InstanceVariableAttributeAccessor();
+    private static final AttributeAccessor temporaryAccessor = new TemporaryAttributeAccessor();
 
     private static final String DATA_HANDLER = "jakarta.activation.DataHandler";
     private static final String MIME_MULTIPART = "jakarta.mail.internet.MimeMultipart";
@@ -885,4 +886,16 @@ public Object convertDataValueToObjectValue(Object fieldValue, Session session,
         return fieldValue;
     }
 
+    /**
+     * Marks the nested mappings that take the accessor of this mapping when it is initialized.
+     */
+    private static final class TemporaryAttributeAccessor extends InstanceVariableAttributeAccessor {
+
+        // Preserves singleton property
+        @Serial
+        private Object readResolve() {
+            return temporaryAccessor;
+        }
+    }
+
 }
@@ -0,0 +1,457 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.oxm.record;
+
+import org.eclipse.persistence.exceptions.XMLMarshalException;
+import org.eclipse.persistence.internal.core.helper.CoreClassConstants;
+import org.eclipse.persistence.internal.oxm.CharacterEscapeHandler;
+import org.eclipse.persistence.internal.oxm.Constants;
+import org.eclipse.persistence.internal.oxm.XMLMarshaller;
+import org.eclipse.persistence.internal.oxm.XPathFragment;
+
+import javax.xml.namespace.QName;
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>Use this type of MarshalRecord when the marshal target is an OutputStream, the
+ * JSON should not be formatted with carriage returns or indenting and the encoding
+ * is UTF-8.</p>
+ * <p>The JSON is encoded directly into a byte buffer that is written to the
+ * OutputStream in large chunks.  The escaped names of the keys are encoded once
+ * and kept on the XPathFragments of the mappings, and numbers, booleans and
+ * ASCII strings are written without intermediate Strings or byte arrays.  The
+ * output is the same as the output of a JSONWriterRecord, except that special
+ * characters in key names are escaped.</p>
+ * <p><code>
+ * XMLContext xmlContext = new XMLContext("session-name");<br>
+ * XMLMarshaller xmlMarshaller = xmlContext.createMarshaller();<br>
+ * JSONOutputStreamRecord record = new JSONOutputStreamRecord(myOutputStream);<br>
+ * xmlMarshaller.marshal(myObject, record);<br>
+ * </code></p>
+ * <p>If the marshal(OutputStream) method is called on an XMLMarshaller with the
+ * media type application/json, no formatted output, UTF-8 encoding and
+ * setUTF8Output(true), then the OutputStream is automatically wrapped in a
+ * JSONOutputStreamRecord.</p>
+ * @see org.eclipse.persistence.oxm.XMLMarshaller
+ */
+public class JSONOutputStreamRecord extends JSONWriterRecord {
+
+    /**
+     * The character written after a backslash to escape each ASCII character,
+     * 'u' for a unicode escape, or 0 if the character is written as is.
+     */
+    private static final byte[] ASCII_ESCAPES = new byte[0x80];
+
+    static {
+        for (int character = 0; character < 0x20; character++) {
+            ASCII_ESCAPES[character] = 'u';
+        }
+        ASCII_ESCAPES[0x7F] = 'u';
+        ASCII_ESCAPES['"'] = '"';
+        ASCII_ESCAPES['\\'] = '\\';
+        ASCII_ESCAPES['\b'] = 'b';
+        ASCII_ESCAPES['\f'] = 'f';
+        ASCII_ESCAPES['\n'] = 'n';
+        ASCII_ESCAPES['\r'] = 'r';
+        ASCII_ESCAPES['\t'] = 't';
+    }
+
+    private UTF8Output output;
+
+    public JSONOutputStreamRecord() {
+        super();
+    }
+
+    public JSONOutputStreamRecord(OutputStream outputStream) {
+        this();
+        setOutputStream(outputStream);
+    }
+
+    public JSONOutputStreamRecord(OutputStream outputStream, String callbackName) {
+        this(outputStream);
+        setCallbackName(callbackName);
+    }
+
+    /**
+     * Return the OutputStream that the object will be marshalled to.
+     * @return The marshal target.
+     */
+    public OutputStream getOutputStream() {
+        return writer.getOutputStream();
+    }
+
+    /**
+     * Set the OutputStream that the object will be marshalled to.  The buffer
+     * of this record is reused for the new OutputStream.
+     * @param outputStream The marshal target.
+     */
+    public void setOutputStream(OutputStream outputStream) {
+        if (null == output) {
+            output = new UTF8Output();
+        }
+        output.outputStream = outputStream;
+        output.bufferIndex = 0;
+        writer = output;
+    }
+
+    @Override
+    public void characters(QName schemaType, Object value, String mimeType, boolean isCDATA, boolean isAttribute) {
+        if (charactersAllowed && null == mimeType && writer == output) {
+            Class<?> valueClass = value.getClass();
+            if (valueClass == CoreClassConstants.STRING) {
+                if (null == schemaType) {
+                    level.setNeedToOpenComplex(false);
+                    output.write((byte) '"');
+                    writeValue((String) value, false);
+                    output.write((byte) '"');
+                    charactersAllowed = false;
+                    return;
+                }
+            } else if (valueClass == CoreClassConstants.INTEGER || valueClass == CoreClassConstants.LONG
+                    || valueClass == CoreClassConstants.SHORT || valueClass == CoreClassConstants.BYTE) {
+                if (null == schemaType || isIntegralType(schemaType)) {
+                    level.setNeedToOpenComplex(false);
+                    output.writeLong(((Number) value).longValue());
+                    charactersAllowed = false;
+                    return;
+                }
+            } else if (valueClass == CoreClassConstants.BOOLEAN) {
+                if (null == schemaType || Constants.BOOLEAN_QNAME.equals(schemaType)) {
+                    level.setNeedToOpenComplex(false);
+                    output.writeASCII((Boolean) value ? "true" : "false");
+                    charactersAllowed = false;
+                    return;
+                }
+            }
+        }
+        super.characters(schemaType, value, mimeType, isCDATA, isAttribute);
+    }
+
+    private static boolean isIntegralType(QName schemaType) {
+        return schemaType.equals(Constants.INT_QNAME)
+            || schemaType.equals(Constants.LONG_QNAME)
+            || schemaType.equals(Constants.SHORT_QNAME)
+            || schemaType.equals(Constants.BYTE_QNAME)
+            || schemaType.equals(Constants.INTEGER_QNAME);
+    }
+
+    /**
+     * INTERNAL:
+     * Write the key name encoded once for the XPathFragment.
+     */
+    @Override
+    protected void writeKeyLocalName(XPathFragment xPathFragment) throws IOException {
+        if (writer != output) {
+            super.writeKeyLocalName(xPathFragment);
+            return;
+        }
+        byte[] keyBytes = xPathFragment.getJsonKeyBytes();
+        if (null == keyBytes) {
+            StringBuilder key = new StringBuilder();
+            appendEscaped(key, xPathFragment.getLocalName());
+            keyBytes = key.append('"').append(Constants.COLON).toString().getBytes(StandardCharsets.UTF_8);
+            xPathFragment.setJsonKeyBytes(keyBytes);
+        }
+        output.write(keyBytes);
+    }
+
+    /**
+     * INTERNAL:
+     */
+    @Override
+    protected void writeValue(String value, boolean isAttribute) {
+        if (null != characterEscapeHandler || writer != output) {
+            super.writeValue(value, isAttribute);
+            return;
+        }
+        output.writeEscaped(value);
+    }
+
+    /**
+     * Append the value escaped as the value of a JSONWriterRecord.  Characters
+     * outside of ASCII are escaped if they are control characters or surrogates.
+     */
+    private static void appendEscaped(StringBuilder builder, String value) {
+        for (int x = 0, length = value.length(); x < length; x++) {
+            char character = value.charAt(x);
+            byte escape = character < 0x80 ? ASCII_ESCAPES[character] : needsUnicodeEscape(character) ? (byte) 'u' : 0;
+            if (0 == escape) {
+                builder.append(character);
+            } else if ('u' == escape) {
+                String hex = Integer.toHexString(character).toUpperCase();
+                builder.append("\\u");
+                for (int i = hex.length(); i < 4; i++) {
+                    builder.append('0');
+                }
+                builder.append(hex);
+            } else {
+                builder.append('\\').append((char) escape);
+            }
+        }
+    }
+
+    private static boolean needsUnicodeEscape(char character) {
+        return Character.isISOControl(character) || Character.isSurrogate(character);
+    }
+
+    /**
+     * The output of a JSONOutputStreamRecord, encoding the JSON in UTF-8 into a
+     * buffer that is written to the OutputStream when it is full.
+     */
+    private static class UTF8Output implements Output {
+
+        private static final int BUFFER_SIZE = 8192;
+        private static final byte[] HEX_DIGITS = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+        private byte[] attributePrefix;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int bufferIndex = 0;
+        private CharacterEscapeHandler characterEscapeHandler;
+        private final byte[] cr = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+        private XMLMarshaller marshaller;
+        private char namespaceSeparator;
+        private OutputStream outputStream;
+
+        @Override
+        public void flush() throws IOException {
+            outputStream.write(buffer, 0, bufferIndex);
+            bufferIndex = 0;
+            outputStream.flush();
+        }
+
+        @Override
+        public XMLMarshaller getMarshaller() {
+            return marshaller;
+        }
+
+        @Override
+        public OutputStream getOutputStream() {
+            return outputStream;
+        }
+
+        @Override
+        public Writer getWriter() {
+            return null;
+        }
+
+        @Override
+        public void setMarshaller(XMLMarshaller marshaller) {
+            this.marshaller = marshaller;
+            String attributePrefix = marshaller.getAttributePrefix();
+            if (null != attributePrefix) {
+                this.attributePrefix = attributePrefix.getBytes(StandardCharsets.UTF_8);
+            }
+            this.characterEscapeHandler = marshaller.getCharacterEscapeHandler();
+            this.namespaceSeparator = marshaller.getNamespaceSeparator();
+        }
+
+        /**
+         * Make room in the buffer for the given number of bytes.
+         */
+        private void ensureCapacity(int length) {
+            if (bufferIndex + length > BUFFER_SIZE) {
+                try {
+                    outputStream.write(buffer, 0, bufferIndex);
+                    bufferIndex = 0;
+                } catch (IOException e) {
+                    throw XMLMarshalException.marshalException(e);
+                }
+            }
+        }
+
+        private void write(byte b) {
+            ensureCapacity(1);
+            buffer[bufferIndex++] = b;
+        }
+
+        private void write(byte[] bytes) {
+            int length = bytes.length;
+            if (length > BUFFER_SIZE) {
+                try {
+                    outputStream.write(buffer, 0, bufferIndex);
+                    bufferIndex = 0;
+                    outputStream.write(bytes);
+                } catch (IOException e) {
+                    throw XMLMarshalException.marshalException(e);
+                }
+                return;
+            }
+            ensureCapacity(length);
+            System.arraycopy(bytes, 0, buffer, bufferIndex, length);
+            bufferIndex += length;
+        }
+
+        @Override
+        public void write(char character) {
+            if (character < 0x80) {
+                write((byte) character);
+            } else {
+                writeNonASCII(character);
+            }
+        }
+
+        /**
+         * Encode a character outside of ASCII.  A surrogate is only a half of a
+         * character, so it is replaced like String.getBytes replaces it.
+         */
+        private void writeNonASCII(char character) {
+            ensureCapacity(3);
+            if (character < 0x800) {
+                buffer[bufferIndex++] = (byte) (0xC0 | (character >> 6));
+            } else if (Character.isSurrogate(character)) {
+                buffer[bufferIndex++] = (byte) '?';
+                return;
+            } else {
+                buffer[bufferIndex++] = (byte) (0xE0 | (character >> 12));
+                buffer[bufferIndex++] = (byte) (0x80 | ((character >> 6) & 0x3F));
+            }
+            buffer[bufferIndex++] = (byte) (0x80 | (character & 0x3F));
+        }
+
+        @Override
+        public void write(String text) {
+            for (int x = 0, length = text.length(); x < length; x++) {
+                char character = text.charAt(x);
+                if (character < 0x80) {
+                    write((byte) character);
+                } else if (Character.isHighSurrogate(character) && x + 1 < length && Character.isLowSurrogate(text.charAt(x + 1))) {
+                    writeCodePoint(Character.toCodePoint(character, text.charAt(++x)));
+                } else {
+                    writeNonASCII(character);
+                }
+            }
+        }
+
+        private void writeCodePoint(int codePoint) {
+            ensureCapacity(4);
+            buffer[bufferIndex++] = (byte) (0xF0 | (codePoint >> 18));
+            buffer[bufferIndex++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+            buffer[bufferIndex++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            buffer[bufferIndex++] = (byte) (0x80 | (codePoint & 0x3F));
+        }
+
+        /**
+         * Write a String known to contain only ASCII characters.
+         */
+        private void writeASCII(String text) {
+            int length = text.length();
+            ensureCapacity(length);
+            for (int x = 0; x < length; x++) {
+                buffer[bufferIndex++] = (byte) text.charAt(x);
+            }
+        }
+
+        /**
+         * Write the decimal digits of the value without creating a String.
+         */
+        private void writeLong(long value) {
+            if (value == Long.MIN_VALUE) {
+                writeASCII(Long.toString(value));
+                return;
+            }
+            ensureCapacity(20);
+            if (value < 0) {
+                buffer[bufferIndex++] = '-';
+                value = -value;
+            }
+            int start = bufferIndex;
+            do {
+                buffer[bufferIndex++] = (byte) ('0' + (value % 10));
+                value /= 10;
+            } while (value != 0);
+            for (int low = start, high = bufferIndex - 1; low < high; low++, high--) {
+                byte digit = buffer[low];
+                buffer[low] = buffer[high];
+                buffer[high] = digit;
+            }
+        }
+
+        /**
+         * Write the value escaped as the value of a JSONWriterRecord.  Runs of
+         * ASCII characters that need no escaping are copied straight into the buffer.
+         */
+        private void writeEscaped(String value) {
+            for (int x = 0, length = value.length(); x < length; x++) {
+                char character = value.charAt(x);
+                if (character < 0x80) {
+                    byte escape = ASCII_ESCAPES[character];
+                    if (0 == escape) {
+                        if (bufferIndex == BUFFER_SIZE) {
+                            ensureCapacity(1);
+                        }
+                        buffer[bufferIndex++] = (byte) character;
+                    } else if ('u' == escape) {
+                        writeUnicodeEscape(character);
+                    } else {
+                        ensureCapacity(2);
+                        buffer[bufferIndex++] = '\\';
+                        buffer[bufferIndex++] = escape;
+                    }
+                } else if (needsUnicodeEscape(character)) {
+                    writeUnicodeEscape(character);
+                } else {
+                    writeNonASCII(character);
+                }
+            }
+        }
+
+        private void writeUnicodeEscape(char character) {
+            ensureCapacity(6);
+            buffer[bufferIndex++] = '\\';
+            buffer[bufferIndex++] = 'u';
+            buffer[bufferIndex++] = HEX_DIGITS[(character >> 12) & 0xF];
+            buffer[bufferIndex++] = HEX_DIGITS[(character >> 8) & 0xF];
+            buffer[bufferIndex++] = HEX_DIGITS[(character >> 4) & 0xF];
+            buffer[bufferIndex++] = HEX_DIGITS[character & 0xF];
+        }
+
+        @Override
+        public void writeAttributePrefix() {
+            write(attributePrefix);
+        }
+
+        @Override
+        public void writeCR() {
+            write(cr);
+        }
+
+        @Override
+        public void writeLocalName(XPathFragment xPathFragment) {
+            write(xPathFragment.getLocalNameBytes());
+        }
+
+        @Override
+        public void writeNamespaceSeparator() {
+            write(namespaceSeparator);
+        }
+
+        @Override
+        public void writeResultFromCharEscapeHandler(String value, boolean isAttribute) {
+            try {
+                CharArrayWriter out = new CharArrayWriter();
+                characterEscapeHandler.escape(value.toCharArray(), 0, value.length(), isAttribute, out);
+                write(out.toString());
+            } catch (IOException e) {
+                throw XMLMarshalException.marshalException(e);
+            }
+        }
+
+    }
+
+}
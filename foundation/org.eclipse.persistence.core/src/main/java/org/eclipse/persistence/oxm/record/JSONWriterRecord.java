@@ -664,13 +664,21 @@ protected void writeKey(XPathFragment xPathFragment) throws IOException {
                 }
             }
 
-            writer.writeLocalName(xPathFragment);
-            writer.write('"');
-
-            writeSeparator();
+            writeKeyLocalName(xPathFragment);
         }
     }
 
+    /**
+     * INTERNAL:
+     * Write the local name of the key followed by the closing quote and the separator.
+     */
+    protected void writeKeyLocalName(XPathFragment xPathFragment) throws IOException {
+        writer.writeLocalName(xPathFragment);
+        writer.write('"');
+
+        writeSeparator();
+    }
+
     /**
      * INTERNAL:
      */
@@ -70,6 +70,15 @@ public boolean supportsOuterJoinsWithBrackets() {
         return false;
     }
 
+    /**
+     * INTERNAL:
+     * DB2 on z/OS does not support several rows in the VALUES clause of an INSERT statement.
+     */
+    @Override
+    public int getMaxMultiRowInsertRows(int parametersPerRow) {
+        return 1;
+    }
+
     @Override
     protected Hashtable<Class<?>, FieldTypeDefinition> buildFieldTypes() {
         Hashtable<Class<?>, FieldTypeDefinition> res = super.buildFieldTypes();
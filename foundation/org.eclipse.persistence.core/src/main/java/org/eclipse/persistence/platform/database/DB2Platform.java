@@ -1654,6 +1654,15 @@ public boolean supportsIdentity() {
         return true;
     }
 
+    /**
+     * INTERNAL:
+     * DB2 and Derby allow 32767 bind parameters per statement.
+     */
+    @Override
+    public int getMaxMultiRowInsertRows(int parametersPerRow) {
+        return Math.max(1, Math.min(1000, 32767 / Math.max(1, parametersPerRow)));
+    }
+
     /**
      * INTERNAL: DB2 supports temp tables.
      * This is used by UpdateAllQuerys.
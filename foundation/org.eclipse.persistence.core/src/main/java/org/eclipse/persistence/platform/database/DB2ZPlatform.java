@@ -97,6 +97,15 @@ public String getTableCreationSuffix() {
         return super.getTableCreationSuffix();
     }
 
+    /**
+     * INTERNAL:
+     * DB2 on z/OS does not support several rows in the VALUES clause of an INSERT statement.
+     */
+    @Override
+    public int getMaxMultiRowInsertRows(int parametersPerRow) {
+        return 1;
+    }
+
     @Override
     public String getProcedureArgument(String name, Object parameter, ParameterType parameterType, 
             StoredProcedureCall call, AbstractSession session) {
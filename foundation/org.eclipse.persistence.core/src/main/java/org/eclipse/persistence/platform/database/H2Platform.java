@@ -146,6 +146,35 @@ public boolean supportsIdentity() {
         return true;
     }
 
+    /**
+     * INTERNAL:
+     * H2 supports multi-row inserts, the rows are limited to keep the statement size reasonable.
+     */
+    @Override
+    public int getMaxMultiRowInsertRows(int parametersPerRow) {
+        return Math.max(1, Math.min(1000, 65535 / Math.max(1, parametersPerRow)));
+    }
+
+    /**
+     * INTERNAL:
+     * H2 binds the IN batch fetch values of integral, decimal and string types as an array.
+     */
+    @Override
+    public String getBatchFetchArrayTypeName(Class<?> elementClass) {
+        if (elementClass == ClassConstants.INTEGER) {
+            return "INTEGER";
+        } else if (elementClass == ClassConstants.LONG) {
+            return "BIGINT";
+        } else if (elementClass == ClassConstants.SHORT) {
+            return "SMALLINT";
+        } else if ((elementClass == ClassConstants.BIGDECIMAL) || (elementClass == ClassConstants.BIGINTEGER)) {
+            return "NUMERIC";
+        } else if (elementClass == ClassConstants.STRING) {
+            return "VARCHAR";
+        }
+        return null;
+    }
+
     @Override
     public boolean supportsSequenceObjects() {
         return true;
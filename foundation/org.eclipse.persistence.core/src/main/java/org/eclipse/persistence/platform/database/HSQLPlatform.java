@@ -203,6 +203,15 @@ public boolean supportsIdentity() {
         return true;
     }
 
+    /**
+     * INTERNAL:
+     * HSQL supports multi-row inserts, the rows are limited to keep the statement size reasonable.
+     */
+    @Override
+    public int getMaxMultiRowInsertRows(int parametersPerRow) {
+        return Math.max(1, Math.min(1000, 65535 / Math.max(1, parametersPerRow)));
+    }
+
     @Override
     public ValueReadQuery buildSelectQueryForIdentity() {
         return new ValueReadQuery("CALL IDENTITY()");
@@ -686,6 +686,15 @@ public boolean supportsIdentity() {
         return true;
     }
 
+    /**
+     * INTERNAL:
+     * MySQL allows 65535 bind parameters per statement, the rows are also limited to keep the packet size reasonable.
+     */
+    @Override
+    public int getMaxMultiRowInsertRows(int parametersPerRow) {
+        return Math.max(1, Math.min(1000, 65535 / Math.max(1, parametersPerRow)));
+    }
+
     /**
      * INTERNAL:
      * Indicates whether the platform supports the count distinct function with multiple fields.
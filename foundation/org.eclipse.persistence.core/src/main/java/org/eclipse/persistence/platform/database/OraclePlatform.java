@@ -1360,4 +1360,14 @@ public boolean checkTableExists(final DatabaseSessionImpl session,
     public int getINClauseLimit() {
         return 1000;
     }
+
+    /**
+     * INTERNAL:
+     * Oracle selects the elements of the collection bound for IN batch fetching using TABLE().
+     * The collection types are bound by the Oracle platforms of the Oracle extension.
+     */
+    @Override
+    public String getBatchFetchArraySubselect() {
+        return "(SELECT COLUMN_VALUE FROM TABLE(?))";
+    }
 }
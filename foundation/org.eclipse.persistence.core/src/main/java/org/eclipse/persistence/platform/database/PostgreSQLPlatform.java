@@ -354,6 +354,37 @@ public boolean supportsIdentity() {
         return true;
     }
 
+    /**
+     * INTERNAL:
+     * PostgreSQL allows 32767 bind parameters per statement.
+     */
+    @Override
+    public int getMaxMultiRowInsertRows(int parametersPerRow) {
+        return Math.max(1, Math.min(1000, 32767 / Math.max(1, parametersPerRow)));
+    }
+
+    /**
+     * INTERNAL:
+     * PostgreSQL binds the IN batch fetch values of integral, decimal, string and UUID types as an array.
+     */
+    @Override
+    public String getBatchFetchArrayTypeName(Class<?> elementClass) {
+        if (elementClass == ClassConstants.INTEGER) {
+            return "int4";
+        } else if (elementClass == ClassConstants.LONG) {
+            return "int8";
+        } else if (elementClass == ClassConstants.SHORT) {
+            return "int2";
+        } else if ((elementClass == ClassConstants.BIGDECIMAL) || (elementClass == ClassConstants.BIGINTEGER)) {
+            return "numeric";
+        } else if (elementClass == ClassConstants.STRING) {
+            return "varchar";
+        } else if (elementClass == UUID.class) {
+            return "uuid";
+        }
+        return null;
+    }
+
     /**
      * INTERNAL: Returns query used to read back the value generated by
      * Identity. This method is called when identity NativeSequence is
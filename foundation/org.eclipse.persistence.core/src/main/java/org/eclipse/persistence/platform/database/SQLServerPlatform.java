@@ -946,6 +946,15 @@ public boolean supportsIdentity() {
         return true;
     }
 
+    /**
+     * INTERNAL:
+     * SQL Server allows 2100 bind parameters per statement and 1000 rows per VALUES clause.
+     */
+    @Override
+    public int getMaxMultiRowInsertRows(int parametersPerRow) {
+        return Math.max(1, Math.min(1000, 2099 / Math.max(1, parametersPerRow)));
+    }
+
     /**
      * INTERNAL:
      */
@@ -77,7 +77,7 @@ public void executeCommit() throws DatabaseException {
 
         // Check whether the object is already being committed,
         // if it is and it is new, then a shallow insert must be done.
-        if (getSession().getCommitManager().isCommitInPreModify(getObject())) {
+        if (getSession().getCommitManager().isCommitInPreModify(getObject(), getObjectChangeSet())) {
             // A shallow insert must be performed.
             dontCascadeParts();
             getQueryMechanism().insertObjectForWrite();
@@ -39,12 +39,15 @@
 import org.eclipse.persistence.exceptions.QueryException;
 import org.eclipse.persistence.expressions.Expression;
 import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.expressions.ExpressionOperator;
 import org.eclipse.persistence.history.AsOfClause;
 import org.eclipse.persistence.internal.databaseaccess.DatabaseCall;
 import org.eclipse.persistence.internal.descriptors.OptimisticLockingPolicy;
+import org.eclipse.persistence.internal.descriptors.ResultSetPlan;
 import org.eclipse.persistence.internal.expressions.FieldExpression;
 import org.eclipse.persistence.internal.expressions.ForUpdateClause;
 import org.eclipse.persistence.internal.expressions.ForUpdateOfClause;
+import org.eclipse.persistence.internal.expressions.FunctionExpression;
 import org.eclipse.persistence.internal.expressions.ObjectExpression;
 import org.eclipse.persistence.internal.expressions.QueryKeyExpression;
 import org.eclipse.persistence.internal.helper.DatabaseField;
@@ -63,6 +66,7 @@
 import org.eclipse.persistence.mappings.CollectionMapping;
 import org.eclipse.persistence.mappings.DatabaseMapping;
 import org.eclipse.persistence.mappings.ForeignReferenceMapping;
+import org.eclipse.persistence.sessions.DatabaseRecord;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -192,6 +196,9 @@ If ResultSet optimization is used (isResultSetOptimizedQuery is set to true) the
     /** PERF: Indicates whether the query is actually using ResultSet optimization. If isResultSetOptimizedQuery==null set automatically before executing call. */
     protected transient Boolean usesResultSetAccessOptimization;
 
+    /** PERF: The columns of the mappings in the fields selected by the call, used when building objects directly from the result set. */
+    protected transient ResultSetPlan resultSetPlan;
+
     /** PERF: Allow queries to be defined as read-only in unit of work execution. */
     protected boolean isReadOnly = false;
 
@@ -246,6 +253,21 @@ If ResultSet optimization is used (isResultSetOptimizedQuery is set to true) the
     /** Indicates whether the query should use SerializedObjectPolicy if descriptor has it.*/
     protected boolean shouldUseSerializedObjectPolicy;
 
+    /** Name of the parameter of the object after which the next keyset page starts. */
+    public static final String KEYSET_AFTER_PARAMETER = "EclipseLink-KeysetAfter";
+
+    /** Indicates whether the query pages by the order by key, starting after the key of the last object of the previous page. */
+    protected boolean usesKeysetPagination;
+
+    /** The last object of the previous page, the next page starts after its order by key. */
+    protected Object keysetAfter;
+
+    /** The seek predicate of the order by key, built on prepare if the query starts after an object. */
+    protected Expression keysetExpression;
+
+    /** The order bys of the query followed by its primary key, built on prepare if the order bys do not include the key. */
+    protected List<Expression> keysetOrderByExpressions;
+
     /**
      * INTERNAL:
      * Initialize the state of the query
@@ -1253,6 +1275,13 @@ public Object execute(AbstractSession session, AbstractRecord translationRow) th
             throw QueryException.refreshNotPossibleWithCheckCacheOnly(this);
         }
 
+        // The seek predicate takes its values from the last object of the previous page.
+        if (this.keysetAfter != null) {
+            AbstractRecord keysetRow = (translationRow == null) ? new DatabaseRecord() : translationRow.clone();
+            keysetRow.put(KEYSET_AFTER_PARAMETER, this.keysetAfter);
+            return super.execute(session, keysetRow);
+        }
+
         return super.execute(session, translationRow);
     }
 
@@ -1561,6 +1590,163 @@ public boolean hasOrderByExpressions() {
         return (orderByExpressions != null) && (!orderByExpressions.isEmpty());
     }
 
+    /**
+     * PUBLIC:
+     * Return if the query pages by the order by key.
+     * @see #setKeysetAfter(Object)
+     */
+    public boolean usesKeysetPagination() {
+        return usesKeysetPagination;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if the query pages by the order by key instead of by offset.
+     * The primary key is appended to the ordering of the query to make the key unique,
+     * and the page following an object only selects the rows after its key,
+     * so the database can seek to the page through an index of the key whatever the depth of the page.
+     * The size of the page is set with setMaxRows.
+     * <p>
+     * The order by items must be direct attributes or fields of the queried object, ascending or descending,
+     * and must not be null, nulls first and nulls last orderings are not supported.
+     * The order bys of the query are not changed, the primary key is only appended to the SQL.
+     * Each page is a separate query, nothing is held between pages.
+     * @see #setKeysetAfter(Object)
+     */
+    public void setUsesKeysetPagination(boolean usesKeysetPagination) {
+        if (this.usesKeysetPagination != usesKeysetPagination) {
+            this.usesKeysetPagination = usesKeysetPagination;
+            setIsPrepared(false);
+        }
+    }
+
+    /**
+     * PUBLIC:
+     * Return the object after which the page starts, the last object of the previous page.
+     */
+    public Object getKeysetAfter() {
+        return keysetAfter;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the object after which the page starts, the last object of the previous page,
+     * null for the first page.
+     * This also enables keyset pagination, even if the object is null,
+     * so the query must be ordered as required by {@link #setUsesKeysetPagination(boolean)}.
+     * @see #setUsesKeysetPagination(boolean)
+     */
+    public void setKeysetAfter(Object keysetAfter) {
+        setUsesKeysetPagination(true);
+        // The seek predicate is only part of the SQL of the pages after the first.
+        if ((this.keysetAfter == null) != (keysetAfter == null)) {
+            setIsPrepared(false);
+        }
+        this.keysetAfter = keysetAfter;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the seek predicate selecting the rows after the order by key of the keyset parameter,
+     * null if the query does not start after an object.
+     */
+    public Expression getKeysetExpression() {
+        return keysetExpression;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the order bys of the query followed by its primary key, that the SQL of a keyset page is ordered by,
+     * or null if the query does not use keyset pagination or its order bys already include the primary key.
+     */
+    public List<Expression> getKeysetOrderByExpressions() {
+        return keysetOrderByExpressions;
+    }
+
+    /**
+     * INTERNAL:
+     * Append the primary key to the ordering to make the order by key unique,
+     * and build the seek predicate of the page after an object:
+     * (k1 &gt; :k1) OR (k1 = :k1 AND k2 &gt; :k2) OR ...
+     * using &lt; for descending items. The expanded form is used as row value comparisons are not supported on all platforms.
+     */
+    protected void prepareKeysetPagination() throws QueryException {
+        this.keysetExpression = null;
+        this.keysetOrderByExpressions = null;
+        if (!this.usesKeysetPagination) {
+            return;
+        }
+        ExpressionBuilder builder = getExpressionBuilder();
+        List<Expression> keys = new ArrayList<>();
+        List<Boolean> descendings = new ArrayList<>();
+        Set<DatabaseField> keyFields = new HashSet<>();
+        if (hasOrderByExpressions()) {
+            for (Expression orderBy : this.orderByExpressions) {
+                boolean isDescending = false;
+                Expression key = orderBy;
+                while (key.isFunctionExpression()) {
+                    int selector = ((FunctionExpression)key).getOperator().getSelector();
+                    if (selector == ExpressionOperator.Descending) {
+                        isDescending = true;
+                    } else if (selector != ExpressionOperator.Ascending) {
+                        // The seek predicate does not select null keys, so nulls first and nulls last are not supported.
+                        throw QueryException.invalidExpression(orderBy);
+                    }
+                    key = ((FunctionExpression)key).getBaseExpression();
+                }
+                if (key.isFieldExpression() && (((FieldExpression)key).getBaseExpression() == builder)) {
+                    keyFields.add(((FieldExpression)key).getField());
+                } else if (key.isQueryKeyExpression() && (((QueryKeyExpression)key).getBaseExpression() == builder)) {
+                    DatabaseMapping mapping = this.descriptor.getObjectBuilder().getMappingForAttributeName(key.getName());
+                    if ((mapping == null) || (!mapping.isAbstractDirectMapping())) {
+                        throw QueryException.invalidExpression(orderBy);
+                    }
+                    keyFields.add(mapping.getField());
+                } else {
+                    throw QueryException.invalidExpression(orderBy);
+                }
+                keys.add(key);
+                descendings.add(isDescending);
+            }
+        }
+        // The primary key makes the order by key unique, so no row is skipped or repeated between pages.
+        List<Expression> primaryKeyOrderBys = new ArrayList<>();
+        for (DatabaseField primaryKey : this.descriptor.getPrimaryKeyFields()) {
+            if (!keyFields.contains(primaryKey)) {
+                Expression key = builder.getField(primaryKey);
+                primaryKeyOrderBys.add(key);
+                keys.add(key);
+                descendings.add(false);
+            }
+        }
+        if (!primaryKeyOrderBys.isEmpty()) {
+            // The order bys of the query are left as set, the primary key is only appended to the SQL.
+            List<Expression> orderByExpressions = new ArrayList<>(getOrderByExpressions());
+            orderByExpressions.addAll(primaryKeyOrderBys);
+            this.keysetOrderByExpressions = orderByExpressions;
+        }
+        if (this.keysetAfter == null) {
+            return;
+        }
+        Expression after = builder.getParameter(KEYSET_AFTER_PARAMETER);
+        Expression equalKeys = null;
+        for (int index = 0; index < keys.size(); index++) {
+            Expression key = keys.get(index);
+            Expression value;
+            if (key.isFieldExpression()) {
+                value = after.getField(((FieldExpression)key).getField());
+            } else {
+                value = after.get(key.getName());
+            }
+            Expression seek = descendings.get(index) ? key.lessThan(value) : key.greaterThan(value);
+            if (equalKeys != null) {
+                seek = equalKeys.and(seek);
+            }
+            this.keysetExpression = (this.keysetExpression == null) ? seek : this.keysetExpression.or(seek);
+            equalKeys = (equalKeys == null) ? key.equal(value) : equalKeys.and(key.equal(value));
+        }
+    }
+
     /**
      * INTERNAL:
      * The unions are lazy initialized to conserve space.
@@ -2134,6 +2320,8 @@ public void copyFromQuery(DatabaseQuery query) {
             this.defaultBuilder = readQuery.defaultBuilder;
             this.distinctState = readQuery.distinctState;
             this.shouldUseSerializedObjectPolicy = readQuery.shouldUseSerializedObjectPolicy;
+            this.usesKeysetPagination = readQuery.usesKeysetPagination;
+            this.keysetAfter = readQuery.keysetAfter;
         }
     }
 
@@ -2984,6 +3172,23 @@ protected void prepareResultSetAccessOptimization() {
         }
     }
 
+    /**
+     * INTERNAL:
+     * Return the columns of the mappings in the fields selected by the call,
+     * used when building objects directly from the result set.
+     */
+    public ResultSetPlan getResultSetPlan() {
+        return this.resultSetPlan;
+    }
+
+    /**
+     * INTERNAL:
+     * Set the columns of the mappings in the fields selected by the call.
+     */
+    public void setResultSetPlan(ResultSetPlan resultSetPlan) {
+        this.resultSetPlan = resultSetPlan;
+    }
+
     /**
      * INTERNAL:
      */
@@ -3050,6 +3255,7 @@ public boolean isDefaultPropertiesQuery() {
             && (!hasPartialAttributeExpressions())
             && (!hasUnionExpressions())
             && (!hasNonFetchJoinedAttributeExpressions())
+            && (!this.usesKeysetPagination)
             && (this.fetchGroup == null)
             && (this.fetchGroupName == null)
             && (this.shouldUseDefaultFetchGroup);
@@ -3324,6 +3530,14 @@ public boolean hasBatchReadAttributes() {
         return (this.batchFetchPolicy != null) && (this.batchFetchPolicy.hasAttributes());
     }
 
+    /**
+     * INTERNAL:
+     * Return if the query has a batch fetch policy, without creating one.
+     */
+    public boolean hasBatchFetchPolicy() {
+        return this.batchFetchPolicy != null;
+    }
+
     /**
      * INTERNAL:
      * Return if the attribute is specified for batch reading.
@@ -48,6 +48,8 @@ public class QueryResultsCachePolicy implements Serializable, Cloneable {
     protected boolean invalidateOnChange;
     /** Stores the set of classes that should trigger the query cached results to be invalidated. */
     protected Set<Class<?>> invalidationClasses;
+    /** Allows only the cached results affected by a change to be invalidated. */
+    protected boolean isDependencyTracked;
 
     /**
      * PUBLIC:
@@ -73,6 +75,7 @@ public QueryResultsCachePolicy(CacheInvalidationPolicy policy, int maximumResult
         this.isNullIgnored = false;
         this.invalidateOnChange = true;
         this.invalidationClasses = new HashSet<>();
+        this.isDependencyTracked = false;
     }
 
     @Override
@@ -141,6 +144,34 @@ public void setInvalidateOnChange(boolean invalidateOnChange) {
         this.invalidateOnChange = invalidateOnChange;
     }
 
+    /**
+     * PUBLIC:
+     * Return if only the cached results affected by a change should be invalidated.
+     * By default all the cached results of the query are invalidated on any change.
+     * @see #setIsDependencyTracked(boolean)
+     */
+    public boolean isDependencyTracked() {
+        return isDependencyTracked;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if only the cached results affected by a change should be invalidated.
+     * This only applies to object queries, and when invalidate on change is used.
+     * The primary keys of the results of each set of parameters are recorded,
+     * and a committed change, local or received through cache coordination, only invalidates
+     * the results that contain a changed or deleted object, or that a new or changed object
+     * now conforms to in memory with the results' parameters.
+     * A change to another class used in the query's selection criteria still invalidates all of its results,
+     * as do changes to objects that cannot be conformed in memory.
+     * By default all the cached results of the query are invalidated on any change.
+     * The QueryResultsCacheInvalidations and QueryResultsCacheInvalidationsAvoided profiler counters
+     * count the results invalidated and kept.
+     */
+    public void setIsDependencyTracked(boolean isDependencyTracked) {
+        this.isDependencyTracked = isDependencyTracked;
+    }
+
     /**
      * PUBLIC:
      * Return the type of the cache used for the query results.
@@ -30,6 +30,7 @@
 import org.eclipse.persistence.internal.helper.ClassConstants;
 import org.eclipse.persistence.internal.helper.DatabaseField;
 import org.eclipse.persistence.internal.helper.InvalidObject;
+import org.eclipse.persistence.internal.helper.RowPipeline;
 import org.eclipse.persistence.internal.helper.ThreadCursoredList;
 import org.eclipse.persistence.internal.queries.ContainerPolicy;
 import org.eclipse.persistence.internal.queries.DatasourceCallQueryMechanism;
@@ -46,6 +47,7 @@
 import org.eclipse.persistence.sessions.SessionProfiler;
 import org.eclipse.persistence.sessions.remote.DistributedSession;
 import org.eclipse.persistence.tools.profiler.QueryMonitor;
+import org.eclipse.persistence.tools.profiler.jfr.FlightRecorderEvents;
 
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -80,6 +82,9 @@ public class ReadAllQuery extends ObjectLevelReadQuery {
     protected List<Expression> orderSiblingsByExpressions;
     protected Direction direction;
 
+    /** The number of rows built on each thread when building the objects in parallel, null to use the descriptor's. */
+    protected Integer parallelBuildChunkSize;
+
     /**
      * Specifies the direction in which the hierarchy is traversed in a
      * hierarchical query.
@@ -458,6 +463,7 @@ public Object execute(AbstractSession session, AbstractRecord row) throws Databa
                         QueryMonitor.incrementReadAllHits(this);
                     }
                     session.incrementProfile(SessionProfiler.CacheHits, this);
+                    FlightRecorderEvents.cacheAccessed(this, true);
                     // bug6138532 - check for "cached no results" (InvalidObject singleton) in query
                     // results, and return an empty container instance as configured
                     if (queryResults == InvalidObject.instance) {
@@ -478,6 +484,7 @@ public Object execute(AbstractSession session, AbstractRecord row) throws Databa
                 }
             }
             session.incrementProfile(SessionProfiler.CacheMisses, this);
+            FlightRecorderEvents.cacheAccessed(this, false);
         }
         if (QueryMonitor.shouldMonitor()) {
             QueryMonitor.incrementReadAllMisses(this);
@@ -753,6 +760,30 @@ public Direction getDirection() {
         return direction;
     }
 
+    /**
+     * PUBLIC:
+     * Return the number of rows built on each thread when the objects are built in parallel,
+     * or null if the descriptor's chunk size is used.
+     * @see org.eclipse.persistence.descriptors.ClassDescriptor#setParallelBuildChunkSize(int)
+     */
+    public Integer getParallelBuildChunkSize() {
+        return parallelBuildChunkSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the number of rows built on each thread when the objects are built in parallel,
+     * 0 to build the objects on the calling thread, or null to use the descriptor's chunk size.
+     * If the query returns more rows than the chunk size, the rows are split into chunks built on the threads
+     * of the server platform, and the objects are returned in the order of the rows.
+     * This is only done outside of a unit of work, for queries without joining, batch fetching or query results caching,
+     * when building the objects does not execute queries.
+     * @see org.eclipse.persistence.descriptors.ClassDescriptor#setParallelBuildChunkSize(int)
+     */
+    public void setParallelBuildChunkSize(Integer parallelBuildChunkSize) {
+        this.parallelBuildChunkSize = parallelBuildChunkSize;
+    }
+
     /**
      * INTERNAL:
      * Verify that we have hierarchical query expressions
@@ -830,6 +861,10 @@ protected void prepare() throws QueryException {
             }
         }
 
+        if ((!isReportQuery()) && isExpressionQuery()) {
+            prepareKeysetPagination();
+        }
+
         if (this.containerPolicy.overridesRead()) {
             return;
         }
@@ -910,6 +945,40 @@ protected void prepareSelectAllRows() {
         getQueryMechanism().prepareSelectAllRows();
     }
 
+    /**
+     * INTERNAL:
+     * Build the registered result from the rows of a pipeline, as they are fetched.
+     * The pipeline is cancelled if the building fails, so the rows are no longer fetched.
+     */
+    protected Object registerPipelinedRowsInUnitOfWork(RowPipeline<AbstractRecord> rows, UnitOfWorkImpl unitOfWork) {
+        ContainerPolicy cp = this.containerPolicy;
+        Object clones = cp.containerInstance();
+        try {
+            if (cp.shouldAddAll()) {
+                List clonesIn = new ArrayList();
+                List<AbstractRecord> rowsIn = new ArrayList();
+                for (AbstractRecord row : rows) {
+                    clonesIn.add(buildObject(row));
+                    rowsIn.add(row);
+                }
+                cp.addAll(clonesIn, clones, unitOfWork, rowsIn, this, null, true);
+            } else {
+                boolean quickAdd = (clones instanceof Collection) && !this.descriptor.getObjectBuilder().hasWrapperPolicy();
+                for (AbstractRecord row : rows) {
+                    Object clone = buildObject(row);
+                    if (quickAdd) {
+                        ((Collection)clones).add(clone);
+                    } else {
+                        cp.addInto(clone, clones, unitOfWork, row, this, null, true);
+                    }
+                }
+            }
+        } finally {
+            rows.cancel();
+        }
+        return clones;
+    }
+
     /**
      * INTERNAL:
      * All objects queried via a UnitOfWork get registered here.  If the query
@@ -945,6 +1014,9 @@ public Object registerResultInUnitOfWork(Object result, UnitOfWorkImpl unitOfWor
         // result is just a vector, not a collection of wrapped originals.
         // Also for cursors the initial connection is automatically registered.
         if (buildDirectlyFromRows) {
+            if (result instanceof RowPipeline) {
+                return registerPipelinedRowsInUnitOfWork((RowPipeline<AbstractRecord>)result, unitOfWork);
+            }
             List<AbstractRecord> rows = (List<AbstractRecord>)result;
             ContainerPolicy cp = this.containerPolicy;
             int size = rows.size();
@@ -45,6 +45,7 @@
 import org.eclipse.persistence.sessions.SessionProfiler;
 import org.eclipse.persistence.sessions.remote.DistributedSession;
 import org.eclipse.persistence.tools.profiler.QueryMonitor;
+import org.eclipse.persistence.tools.profiler.jfr.FlightRecorderEvents;
 
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -284,12 +285,14 @@ protected Object checkEarlyReturnLocal(AbstractSession session, AbstractRecord t
                     QueryMonitor.incrementReadObjectHits(this);
                 }
                 session.incrementProfile(SessionProfiler.CacheHits, this);
+                FlightRecorderEvents.cacheAccessed(this, true);
             } else {
                 if (!session.isUnitOfWork()) {
                     if (QueryMonitor.shouldMonitor()) {
                         QueryMonitor.incrementReadObjectMisses(this);
                     }
                     session.incrementProfile(SessionProfiler.CacheMisses, this);
+                    FlightRecorderEvents.cacheAccessed(this, false);
                 }
             }
             if (shouldUseWrapperPolicy()) {
@@ -302,6 +305,7 @@ protected Object checkEarlyReturnLocal(AbstractSession session, AbstractRecord t
                     QueryMonitor.incrementReadObjectMisses(this);
                 }
                 session.incrementProfile(SessionProfiler.CacheMisses, this);
+                FlightRecorderEvents.cacheAccessed(this, false);
             }
             return null;
         }
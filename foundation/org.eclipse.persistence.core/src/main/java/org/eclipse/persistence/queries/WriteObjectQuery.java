@@ -109,14 +109,14 @@ public void executeCommitWithChangeSet() throws DatabaseException, OptimisticLoc
         // Do insert of update
         if (!getObjectChangeSet().isNew()) {
             // Must do an update
-            if (!getSession().getCommitManager().isCommitInPreModify(getObject())) {
+            if (!getSession().getCommitManager().isCommitInPreModify(getObject(), getObjectChangeSet())) {
                 //If the changeSet is in the PreModify then it is in the process of being written
                 getQueryMechanism().updateObjectForWriteWithChangeSet();
             }
         } else {
             // check whether the object is already being committed -
             // if it is and it is new, then a shallow insert must be done
-            if (getSession().getCommitManager().isCommitInPreModify(getObject())) {
+            if (getSession().getCommitManager().isCommitInPreModify(getObject(), getObjectChangeSet())) {
                 // a shallow insert must be performed
                 this.dontCascadeParts();
                 getQueryMechanism().insertObjectForWrite();
@@ -88,6 +88,75 @@ public interface SequencingControl {
      */
     void setShouldUseSeparateConnection(boolean shouldUseSeparateConnection);
 
+    /**
+     * PUBLIC:
+     * Indicate whether the preallocated sequence values are refilled in the background
+     * (by default they are not).
+     * @see #setShouldPreallocateInBackground(boolean)
+     */
+    default boolean shouldPreallocateInBackground() {
+        return false;
+    }
+
+    /**
+     * PUBLIC:
+     * Set whether the preallocated sequence values should be refilled in the background
+     * (by default they are not).
+     * If set to true, when the number of preallocated values of a sequence drops below the low-water mark,
+     * new values are allocated by a background thread using the separate sequencing connection,
+     * so inserting threads do not wait for the allocation.
+     * The number of values allocated adapts to the rate they are consumed at,
+     * up to 32 times the preallocation size of the sequence.
+     * This requires shouldUseSeparateConnection() to be true,
+     * and applies to table sequences and sequence objects with a preallocation size greater than 1.
+     * The set value is ignored after sequencing is connected,
+     * and by implementations that do not support background preallocation.
+     * @see #setPreallocationLowWaterMark(int)
+     */
+    default void setShouldPreallocateInBackground(boolean shouldPreallocateInBackground) {
+    }
+
+    /**
+     * PUBLIC:
+     * Return the low-water mark of the background preallocation,
+     * as a percentage of the preallocation size of the sequence.
+     * By default is 25.
+     */
+    default int getPreallocationLowWaterMark() {
+        return 25;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the low-water mark of the background preallocation,
+     * as a percentage of the preallocation size of the sequence.
+     * The preallocated values are refilled when fewer values remain.
+     * By default is 25.
+     * @see #setShouldPreallocateInBackground(boolean)
+     */
+    default void setPreallocationLowWaterMark(int percentage) {
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of times an inserting thread found no preallocated value
+     * and waited for new values to be allocated from the database.
+     * Only counted for sequences preallocated using a separate connection or sequence objects.
+     */
+    default long getPreallocationStallCount() {
+        return 0;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of background refills that completed before the preallocated values ran out,
+     * so no inserting thread had to wait for them.
+     * @see #setShouldPreallocateInBackground(boolean)
+     */
+    default long getPreallocationStallsAvoidedCount() {
+        return 0;
+    }
+
     /**
      * PUBLIC:
      * Indicates whether sequencing actually uses separate connection(s).
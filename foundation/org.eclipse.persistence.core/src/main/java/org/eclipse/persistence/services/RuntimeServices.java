@@ -23,6 +23,7 @@
 import org.eclipse.persistence.internal.helper.ClassConstants;
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.identitymaps.CacheIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.ConcurrentCacheIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.CacheKey;
 import org.eclipse.persistence.internal.identitymaps.FullIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.HardCacheWeakIdentityMap;
@@ -43,6 +44,7 @@
 import org.eclipse.persistence.sessions.Session;
 import org.eclipse.persistence.sessions.server.ConnectionPool;
 import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.tools.profiler.LatencyProfiler;
 import org.eclipse.persistence.tools.profiler.PerformanceProfiler;
 
 import javax.management.openmbean.CompositeData;
@@ -194,6 +196,163 @@ public int getStatementCacheSize() {
         return ((DatabaseLogin)getSession().getDatasourceLogin()).getStatementCacheSize();
     }
 
+    /**
+     *        Returns the number of prepared statements reused from the statement caches of all connections
+     */
+    public long getStatementCacheHitCount() {
+        if (!(getSession().getDatasourceLogin() instanceof DatabaseLogin)) {
+            return 0;
+        }
+        return ((DatabaseLogin)getSession().getDatasourceLogin()).getPlatform().getStatementCacheStatistics().getHitCount();
+    }
+
+    /**
+     *        Returns the number of cacheable statements that were not found in the statement caches of all connections
+     */
+    public long getStatementCacheMissCount() {
+        if (!(getSession().getDatasourceLogin() instanceof DatabaseLogin)) {
+            return 0;
+        }
+        return ((DatabaseLogin)getSession().getDatasourceLogin()).getPlatform().getStatementCacheStatistics().getMissCount();
+    }
+
+    /**
+     *        Returns the number of statements closed because the statement cache of their connection was full
+     */
+    public long getStatementCacheEvictionCount() {
+        if (!(getSession().getDatasourceLogin() instanceof DatabaseLogin)) {
+            return 0;
+        }
+        return ((DatabaseLogin)getSession().getDatasourceLogin()).getPlatform().getStatementCacheStatistics().getEvictionCount();
+    }
+
+    /**
+     *     Resets the statement cache hit, miss and eviction counts
+     */
+    public void resetStatementCacheStatistics() {
+        if (!(getSession().getDatasourceLogin() instanceof DatabaseLogin)) {
+            return;
+        }
+        ((DatabaseLogin)getSession().getDatasourceLogin()).getPlatform().getStatementCacheStatistics().reset();
+    }
+
+    /**
+     *        Returns the number of rows written by batch writing on all connections
+     */
+    public long getBatchWritingRowCount() {
+        if (!(getSession().getDatasourceLogin() instanceof DatabaseLogin)) {
+            return 0;
+        }
+        return ((DatabaseLogin)getSession().getDatasourceLogin()).getPlatform().getBatchWritingStatistics().getRowCount();
+    }
+
+    /**
+     *        Returns the number of round trips to the database executed by batch writing on all connections
+     */
+    public long getBatchWritingRoundTripCount() {
+        if (!(getSession().getDatasourceLogin() instanceof DatabaseLogin)) {
+            return 0;
+        }
+        return ((DatabaseLogin)getSession().getDatasourceLogin()).getPlatform().getBatchWritingStatistics().getRoundTripCount();
+    }
+
+    /**
+     *        Returns the average number of rows written per batch writing round trip
+     */
+    public double getBatchWritingRowsPerRoundTrip() {
+        if (!(getSession().getDatasourceLogin() instanceof DatabaseLogin)) {
+            return 0;
+        }
+        return ((DatabaseLogin)getSession().getDatasourceLogin()).getPlatform().getBatchWritingStatistics().getRowsPerRoundTrip();
+    }
+
+    /**
+     *     Resets the batch writing row and round trip counts
+     */
+    public void resetBatchWritingStatistics() {
+        if (!(getSession().getDatasourceLogin() instanceof DatabaseLogin)) {
+            return;
+        }
+        ((DatabaseLogin)getSession().getDatasourceLogin()).getPlatform().getBatchWritingStatistics().reset();
+    }
+
+    /**
+     *        Returns the number of JPQL queries found already parsed in the JPQL parse cache
+     */
+    public long getJPQLParseCacheHitCount() {
+        return getSession().getProject().getJPQLParseCache().getHitCount();
+    }
+
+    /**
+     *        Returns the number of JPQL queries that were not found in the JPQL parse cache and had to be parsed
+     */
+    public long getJPQLParseCacheMissCount() {
+        return getSession().getProject().getJPQLParseCache().getMissCount();
+    }
+
+    /**
+     *        Returns the number of parsed JPQL queries removed, or not kept, because the JPQL parse cache was full
+     */
+    public long getJPQLParseCacheEvictionCount() {
+        return getSession().getProject().getJPQLParseCache().getEvictionCount();
+    }
+
+    /**
+     *        Returns the estimated parse time in milliseconds saved by the JPQL parse cache
+     */
+    public long getJPQLParseCacheTimeSaved() {
+        return getSession().getProject().getJPQLParseCache().getEstimatedTimeSaved() / 1000000;
+    }
+
+    /**
+     *     Resets the JPQL parse cache hit, miss, eviction and parse time statistics
+     */
+    public void resetJPQLParseCacheStatistics() {
+        getSession().getProject().getJPQLParseCache().resetStatistics();
+    }
+
+    /**
+     *        Returns the latency of each timer in the last snapshot interval of the latency profiler,
+     *     as rows of name, count, mean, 50th, 99th and 99.9th percentiles and maximum in nanoseconds
+     */
+    public Object[][] getLatencyPercentiles() {
+        if (!(getSession().getProfiler() instanceof LatencyProfiler)) {
+            return new Object[0][];
+        }
+        return buildLatencyPercentiles(((LatencyProfiler)getSession().getProfiler()).getLastSnapshot());
+    }
+
+    /**
+     *        Returns the latency of each timer since the latency profiler was reset,
+     *     as rows of name, count, mean, 50th, 99th and 99.9th percentiles and maximum in nanoseconds
+     */
+    public Object[][] getTotalLatencyPercentiles() {
+        if (!(getSession().getProfiler() instanceof LatencyProfiler)) {
+            return new Object[0][];
+        }
+        return buildLatencyPercentiles(((LatencyProfiler)getSession().getProfiler()).getTotals());
+    }
+
+    /**
+     *     Resets the timers, counters and snapshots of the latency profiler
+     */
+    public void resetLatencyPercentiles() {
+        if (getSession().getProfiler() instanceof LatencyProfiler) {
+            ((LatencyProfiler)getSession().getProfiler()).reset();
+        }
+    }
+
+    private Object[][] buildLatencyPercentiles(Map<String, LatencyProfiler.Summary> summaries) {
+        Object[][] rows = new Object[summaries.size()][];
+        int index = 0;
+        for (Map.Entry<String, LatencyProfiler.Summary> entry : summaries.entrySet()) {
+            LatencyProfiler.Summary summary = entry.getValue();
+            rows[index++] = new Object[] {entry.getKey(), summary.getCount(), summary.getMean(), summary.getMedian(),
+                    summary.getPercentile99(), summary.getPercentile999(), summary.getMax()};
+        }
+        return rows;
+    }
+
     /**
      * This method provide access for setting the sequence pre-allocation size
      */
@@ -829,6 +988,8 @@ public List<String> getMappedClassNamesUsingFilter(String filter) {
      protected String getCacheTypeFor(Class<?> identityMapClass) {
          if (identityMapClass == CacheIdentityMap.class) {
              return "Cache";
+         } else if (identityMapClass == ConcurrentCacheIdentityMap.class) {
+             return "ConcurrentCache";
          } else if (identityMapClass == FullIdentityMap.class) {
              return "Full";
          } else if (identityMapClass == HardCacheWeakIdentityMap.class) {
@@ -76,6 +76,88 @@ public interface MBeanRuntimeServicesMBean {
      */
     int getStatementCacheSize();
 
+    /**
+     *        Returns the number of prepared statements reused from the statement caches of all connections
+     */
+    long getStatementCacheHitCount();
+
+    /**
+     *        Returns the number of cacheable statements that were not found in the statement caches of all connections
+     */
+    long getStatementCacheMissCount();
+
+    /**
+     *        Returns the number of statements closed because the statement cache of their connection was full
+     */
+    long getStatementCacheEvictionCount();
+
+    /**
+     *     Resets the statement cache hit, miss and eviction counts
+     */
+    void resetStatementCacheStatistics();
+
+    /**
+     *        Returns the number of rows written by batch writing on all connections
+     */
+    long getBatchWritingRowCount();
+
+    /**
+     *        Returns the number of round trips to the database executed by batch writing on all connections
+     */
+    long getBatchWritingRoundTripCount();
+
+    /**
+     *        Returns the average number of rows written per batch writing round trip
+     */
+    double getBatchWritingRowsPerRoundTrip();
+
+    /**
+     *     Resets the batch writing row and round trip counts
+     */
+    void resetBatchWritingStatistics();
+
+    /**
+     *        Returns the number of JPQL queries found already parsed in the JPQL parse cache
+     */
+    long getJPQLParseCacheHitCount();
+
+    /**
+     *        Returns the number of JPQL queries that were not found in the JPQL parse cache and had to be parsed
+     */
+    long getJPQLParseCacheMissCount();
+
+    /**
+     *        Returns the number of parsed JPQL queries removed, or not kept, because the JPQL parse cache was full
+     */
+    long getJPQLParseCacheEvictionCount();
+
+    /**
+     *        Returns the estimated parse time in milliseconds saved by the JPQL parse cache
+     */
+    long getJPQLParseCacheTimeSaved();
+
+    /**
+     *     Resets the JPQL parse cache hit, miss, eviction and parse time statistics
+     */
+    void resetJPQLParseCacheStatistics();
+
+    /**
+     *        Returns the latency of each timer in the last snapshot interval of the latency profiler,
+     *     as rows of name, count, mean, 50th, 99th and 99.9th percentiles and maximum in nanoseconds
+     */
+    Object[][] getLatencyPercentiles();
+
+    /**
+     *        Returns the latency of each timer since the latency profiler was reset,
+     *     as rows of name, count, mean, 50th, 99th and 99.9th percentiles and maximum in nanoseconds
+     */
+    Object[][] getTotalLatencyPercentiles();
+
+    /**
+     *     Resets the timers, counters and snapshots of the latency profiler
+     */
+    void resetLatencyPercentiles();
+
     /**
      *     This method provides access for setting the sequence pre-allocation size
      */
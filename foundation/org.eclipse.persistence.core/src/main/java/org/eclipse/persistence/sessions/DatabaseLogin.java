@@ -950,6 +950,16 @@ public void setStatementCacheSize(int size) {
         getPlatform().setStatementCacheSize(size);
     }
 
+    /**
+     * PUBLIC:
+     * If prepared statement caching is used this configures if the statements are keyed
+     * on the SQL with its white space normalized, so equivalent SQL strings share a cached statement.
+     * The default is false.
+     */
+    public void setShouldNormalizeStatementCacheKeys(boolean shouldNormalizeStatementCacheKeys) {
+        getPlatform().setShouldNormalizeStatementCacheKeys(shouldNormalizeStatementCacheKeys);
+    }
+
     /**
      * PUBLIC:
      * Used to help bean introspection.
@@ -1026,6 +1036,17 @@ public void setUsesJDBCBatchWriting(boolean usesJDBCBatchWriting) {
         getPlatform().setUsesJDBCBatchWriting(usesJDBCBatchWriting);
     }
 
+    /**
+     * PUBLIC: Set if parameterized JDBC batch writing should write batched inserts as multi-row inserts.
+     * Consecutive inserts into the same table are grouped, and written using INSERT statements
+     * with several rows in their VALUES clause, if the database platform supports them.
+     * The default is false.
+     * @see org.eclipse.persistence.internal.databaseaccess.DatabasePlatform#setUsesMultiRowInsertBatchWriting(boolean)
+     */
+    public void setUsesMultiRowInsertBatchWriting(boolean usesMultiRowInsertBatchWriting) {
+        getPlatform().setUsesMultiRowInsertBatchWriting(usesMultiRowInsertBatchWriting);
+    }
+
     /**
      * PUBLIC:
      * EclipseLink can be configured to use database specific sql grammar not JDBC specific.
@@ -1087,6 +1108,14 @@ public boolean shouldCacheAllStatements() {
         return getPlatform().shouldCacheAllStatements();
     }
 
+    /**
+     * PUBLIC:
+     * Return if cached statements are keyed on the SQL with its white space normalized.
+     */
+    public boolean shouldNormalizeStatementCacheKeys() {
+        return getPlatform().shouldNormalizeStatementCacheKeys();
+    }
+
     /**
      * ADVANCED:
      * Can be used if the app expects upper case but the database is not return consistent case, i.e. different databases.
@@ -1154,6 +1183,14 @@ public boolean shouldUseJDBCBatchWriting() {
         return getPlatform().usesJDBCBatchWriting();
     }
 
+    /**
+     * PUBLIC: Answers true if batched inserts are written as multi-row inserts.
+     * @see #setUsesMultiRowInsertBatchWriting(boolean)
+     */
+    public boolean shouldUseMultiRowInsertBatchWriting() {
+        return getPlatform().usesMultiRowInsertBatchWriting();
+    }
+
     /**
      * PUBLIC:
      * EclipseLink can be configured to use a sequence table
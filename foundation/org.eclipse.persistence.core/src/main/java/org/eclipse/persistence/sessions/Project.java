@@ -1652,7 +1652,7 @@ public <T extends JPAQueryBuilder> T getQueryBuilder() {
 
     // Default JPAQueryBuilder factory.
     // Returns new instance of HermesParser. Based on buildDefaultQueryBuilder() method of AbstractSession.
-    private static final class DefaultQueryBuilderSupplier<T extends JPAQueryBuilder> implements Supplier<T> {
+    private static final class DefaultQueryBuilderSupplier<T extends JPAQueryBuilder> implements Supplier<T>, Serializable {
 
         private static final String DEFAULT_BUILDER_CLASS_NAME = "org.eclipse.persistence.internal.jpa.jpql.HermesParser";
 
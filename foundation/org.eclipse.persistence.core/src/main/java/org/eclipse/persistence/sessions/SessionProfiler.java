@@ -46,10 +46,25 @@ public interface SessionProfiler {
     String RcmReceived = "Counter:MessagesReceived";
     String RcmSent = "Counter:MessagesSent";
     String RemoteChangeSet = "Counter:RemoteChangeSets";
+    String RcmCommandsCoalesced = "Counter:MessagesCoalesced";
+    String RcmBytesSaved = "Counter:MessageBytesSaved";
     String Connects = "Counter:ConnectCalls";
     String Disconnects = "Counter:DisconnectCalls";
     String CacheHits = "Counter:CacheHits";
     String CacheMisses = "Counter:CacheMisses";
+    String StatementCacheHits = "Counter:StatementCacheHits";
+    String StatementCacheMisses = "Counter:StatementCacheMisses";
+    String StatementCacheEvictions = "Counter:StatementCacheEvictions";
+    String JPQLParseCacheHits = "Counter:JPQLParseCacheHits";
+    String JPQLParseCacheMisses = "Counter:JPQLParseCacheMisses";
+    String QueryResultsCacheInvalidations = "Counter:QueryResultsCacheInvalidations";
+    String QueryResultsCacheInvalidationsAvoided = "Counter:QueryResultsCacheInvalidationsAvoided";
+    String SequencePreallocationStalls = "Counter:SequencePreallocationStalls";
+    String SequencePreallocationStallsAvoided = "Counter:SequencePreallocationStallsAvoided";
+    String CommitRowsPreparedInParallel = "Counter:CommitRowsPreparedInParallel";
+    String RowPipelineProducerStalls = "Counter:RowPipelineProducerStalls";
+    String RowPipelineConsumerStalls = "Counter:RowPipelineConsumerStalls";
+    String ParallelObjectBuilds = "Counter:ParallelObjectBuilds";
     String ChangeSetsProcessed = "Counter:ChangesProcessed";
     String ChangeSetsNotProcessed = "Counter:ChangesNotProcessed";
 
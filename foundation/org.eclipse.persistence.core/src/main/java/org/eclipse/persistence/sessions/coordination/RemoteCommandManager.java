@@ -24,6 +24,7 @@
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
 import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.coordination.CommandCoalescer;
 import org.eclipse.persistence.internal.sessions.coordination.CommandPropagator;
 import org.eclipse.persistence.internal.sessions.coordination.RCMCommand;
 import org.eclipse.persistence.internal.sessions.coordination.RemoteConnection;
@@ -33,6 +34,8 @@
 import org.eclipse.persistence.sessions.coordination.rmi.RMITransportManager;
 import org.eclipse.persistence.sessions.serializers.JavaSerializer;
 import org.eclipse.persistence.sessions.serializers.Serializer;
+import org.eclipse.persistence.tools.profiler.jfr.CacheCoordinationEvent;
+import org.eclipse.persistence.tools.profiler.jfr.FlightRecorderEvents;
 
 import java.net.InetAddress;
 
@@ -78,6 +81,7 @@
 public class RemoteCommandManager implements org.eclipse.persistence.sessions.coordination.CommandManager {
     public static final String DEFAULT_CHANNEL = "EclipseLinkCommandChannel";
     public static final boolean DEFAULT_ASYNCHRONOUS_MODE = true;
+    public static final int DEFAULT_COMMAND_COALESCING_SIZE = 100;
 
     /** Uniquely identifies this service in the cluster */
     protected ServiceId serviceId;
@@ -106,6 +110,18 @@ public class RemoteCommandManager implements org.eclipse.persistence.sessions.co
     /** Set the Serializer to use for serialization of commands. */
     protected Serializer serializer;
 
+    /** The time in milliseconds asynchronous commands are buffered to be sent together, 0 if not coalesced. */
+    protected long commandCoalescingWindow;
+
+    /** The maximum number of commands sent together. */
+    protected int commandCoalescingSize;
+
+    /** Determines whether commands sent together should be compressed. */
+    protected boolean shouldCompressCommands;
+
+    /** Sends the coalesced commands, created on the first coalesced command. */
+    protected CommandCoalescer commandCoalescer;
+
     //** Indicates whether RCM is active. In case there's discoveryManager it mirrors discoveryManager.isDiscoveryStopped()
     protected boolean isStopped = true;
 
@@ -121,6 +137,7 @@ public RemoteCommandManager(CommandProcessor commandProcessor) {
         this.discoveryManager = this.transportManager.createDiscoveryManager();
         this.serviceId.setChannel(DEFAULT_CHANNEL);
         this.isAsynchronous = DEFAULT_ASYNCHRONOUS_MODE;
+        this.commandCoalescingSize = DEFAULT_COMMAND_COALESCING_SIZE;
         this.serializer = JavaSerializer.instance;
 
         // Set the command processor to point back to this command manager
@@ -198,6 +215,12 @@ public void shutdown() {
             discoveryManager = newDmgr;
         }
         isStopped = true;
+        synchronized (this) {
+            if (this.commandCoalescer != null) {
+                this.commandCoalescer.stop();
+                this.commandCoalescer = null;
+            }
+        }
         transportManager.discardConnections();
     }
 
@@ -213,6 +236,7 @@ public void propagateCommand(Object command) {
         Command newCommand;
         CommandPropagator propagator;
 
+        CacheCoordinationEvent event = FlightRecorderEvents.beginCacheCoordination();
         this.commandProcessor.startOperationProfile(SessionProfiler.CacheCoordination);
         try {
             if (this.commandConverter != null) {
@@ -234,6 +258,12 @@ public void propagateCommand(Object command) {
             // Set our service id on the command to indicate that it came from us
             newCommand.setServiceId(getServiceId());
 
+            // Buffer the command to be sent with the other commands of the coalescing window.
+            if (shouldCoalesceCommands() && !newCommand.isInternalCommand()) {
+                getCommandCoalescer().addCommand(newCommand);
+                return;
+            }
+
             // PERF: Support plugable serialization.
             Serializer serializer = getSerializer();
             byte[] commandBytes = null;
@@ -256,6 +286,7 @@ public void propagateCommand(Object command) {
             }
         } finally {
             this.commandProcessor.endOperationProfile(SessionProfiler.CacheCoordination);
+            FlightRecorderEvents.endCacheCoordination(event, CacheCoordinationEvent.SEND, command, getServiceId());
         }
     }
 
@@ -287,6 +318,7 @@ public void processCommandFromRemoteConnection(Command command) {
         logDebug("received_remote_command", args);
 
         this.commandProcessor.incrementProfile(SessionProfiler.RcmReceived);
+        CacheCoordinationEvent event = FlightRecorderEvents.beginCacheCoordination();
         this.commandProcessor.startOperationProfile(SessionProfiler.CacheCoordination);
         try {
             // If the command is internal then execute it on this RCM
@@ -308,6 +340,7 @@ public void processCommandFromRemoteConnection(Command command) {
             this.commandProcessor.processCommand(newCommand);
         } finally {
             this.commandProcessor.endOperationProfile(SessionProfiler.CacheCoordination);
+            FlightRecorderEvents.endCacheCoordination(event, CacheCoordinationEvent.RECEIVE, command, command.getServiceId());
         }
         this.commandProcessor.incrementProfile(SessionProfiler.RemoteChangeSet);
     }
@@ -537,6 +570,85 @@ public void setShouldPropagateAsynchronously(boolean asyncMode) {
         isAsynchronous = asyncMode;
     }
 
+    /**
+     * PUBLIC:
+     * Return the time in milliseconds that asynchronously propagated commands are buffered
+     * to be sent together, or 0 if each command is sent on its own.
+     */
+    public long getCommandCoalescingWindow() {
+        return commandCoalescingWindow;
+    }
+
+    /**
+     * ADVANCED:
+     * Set the time in milliseconds that asynchronously propagated commands are buffered
+     * to be sent together. The change sets of the buffered commands are merged,
+     * and they are sent to each connection as a single message by a single sender,
+     * instead of a message per command sent from a thread per connection.
+     * This reduces the number of messages when many units of work are committed,
+     * at the cost of delaying the changes by up to the window.
+     * By default 0, each command is sent on its own.
+     * Commands propagated synchronously are always sent on their own.
+     */
+    public void setCommandCoalescingWindow(long commandCoalescingWindow) {
+        this.commandCoalescingWindow = commandCoalescingWindow;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the maximum number of commands sent together.
+     */
+    public int getCommandCoalescingSize() {
+        return commandCoalescingSize;
+    }
+
+    /**
+     * ADVANCED:
+     * Set the maximum number of commands sent together.
+     * The buffered commands are sent before the end of the coalescing window when it is reached.
+     * By default 100.
+     */
+    public void setCommandCoalescingSize(int commandCoalescingSize) {
+        this.commandCoalescingSize = commandCoalescingSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Return whether the commands sent together should be compressed.
+     */
+    public boolean shouldCompressCommands() {
+        return shouldCompressCommands;
+    }
+
+    /**
+     * ADVANCED:
+     * Set whether the commands sent together should be compressed.
+     * This only applies when commands are coalesced.
+     * By default false.
+     */
+    public void setShouldCompressCommands(boolean shouldCompressCommands) {
+        this.shouldCompressCommands = shouldCompressCommands;
+    }
+
+    /**
+     * INTERNAL:
+     * Return whether propagated commands are buffered to be sent together.
+     */
+    public boolean shouldCoalesceCommands() {
+        return (this.commandCoalescingWindow > 0) && shouldPropagateAsynchronously();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the sender of the coalesced commands, creating it if required.
+     */
+    public synchronized CommandCoalescer getCommandCoalescer() {
+        if (this.commandCoalescer == null) {
+            this.commandCoalescer = new CommandCoalescer(this);
+        }
+        return this.commandCoalescer;
+    }
+
     /**
      * ADVANCED:
      * Allow user to replace the $HOST subString of the local host URL with the user user input at runtime.
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.sessions.serializers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+
+import org.eclipse.persistence.exceptions.RemoteCommandManagerException;
+import org.eclipse.persistence.internal.sessions.ChangeSetReader;
+import org.eclipse.persistence.internal.sessions.ChangeSetSchema;
+import org.eclipse.persistence.internal.sessions.ChangeSetWriter;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+
+/**
+ * Compact binary serialization of the change sets sent by cache coordination.
+ * <p>
+ * The merge change set commands are written in a binary format specialized for change sets,
+ * where the classes and attributes are written as indexes of the descriptors and mappings of the project,
+ * the primary keys and other integral values as variable length integers,
+ * and only the values sent by the Java serialization of the change sets.
+ * The indexes are computed from the class and attribute names when the serializer is initialized,
+ * so all the nodes of the cluster must share the same project, which is checked on each message.
+ * <p>
+ * Other commands, and change sets with changes the format does not support, such as the changes
+ * of ordered lists, are sent with Java serialization, and the two formats can be received by the same node.
+ * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setSerializer(Serializer)
+ * @since EclipseLink 5.0
+ */
+public class ChangeSetSerializer extends AbstractSerializer {
+
+    /** The indexes of the descriptors and mappings of the project */
+    protected transient volatile ChangeSetSchema schema;
+
+    /**
+     * INTERNAL:
+     * Index the descriptors and mappings of the session's project.
+     */
+    @Override
+    public void initialize(Class<?> serializeClass, String serializePackage, Session session) {
+        if (session != null) {
+            this.schema = new ChangeSetSchema(session.getProject());
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the indexes of the descriptors and mappings, indexing the session's project if not initialized.
+     */
+    protected ChangeSetSchema getSchema(Session session) {
+        ChangeSetSchema schema = this.schema;
+        if (schema == null) {
+            schema = new ChangeSetSchema(session.getProject());
+            this.schema = schema;
+        }
+        return schema;
+    }
+
+    @Override
+    public Object serialize(Object object, Session session) {
+        if ((object != null) && ((object.getClass() == MergeChangeSetCommand.class) || (object.getClass() == UnitOfWorkChangeSet.class))) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+            try {
+                ChangeSetWriter writer = new ChangeSetWriter(getSchema(session), bytes);
+                if (object instanceof MergeChangeSetCommand) {
+                    writer.writeCommand((MergeChangeSetCommand)object);
+                } else {
+                    writer.writeChangeSet((UnitOfWorkChangeSet)object);
+                }
+                return bytes.toByteArray();
+            } catch (NotSerializableException exception) {
+                // The change set has changes the binary format does not support.
+            } catch (IOException exception) {
+                throw RemoteCommandManagerException.errorSerializeOrDeserialzeCommand(exception);
+            }
+        }
+        return JavaSerializer.instance.serialize(object, session);
+    }
+
+    @Override
+    public Object deserialize(Object bytes, Session session) {
+        if (!ChangeSetReader.isChangeSetFormat((byte[])bytes)) {
+            return JavaSerializer.instance.deserialize(bytes, session);
+        }
+        try {
+            return new ChangeSetReader(getSchema(session), new ByteArrayInputStream((byte[])bytes), session).readMessage();
+        } catch (IOException exception) {
+            throw RemoteCommandManagerException.errorSerializeOrDeserialzeCommand(exception);
+        }
+    }
+}
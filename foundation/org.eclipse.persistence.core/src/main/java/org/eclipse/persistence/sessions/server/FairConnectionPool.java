@@ -0,0 +1,466 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.sessions.server;
+
+import org.eclipse.persistence.exceptions.ConcurrencyException;
+import org.eclipse.persistence.exceptions.DatabaseException;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.helper.LatencyHistogram;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.Login;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Connection pool that hands connections to waiting threads in FIFO order.
+ * <p>
+ * The pool state is guarded by a {@link ReentrantLock} instead of the pool monitor,
+ * so waiting threads do not pin the carrier thread when the application runs on virtual threads.
+ * A released connection is handed directly to the longest waiting thread, so threads arriving later
+ * can not take it first. Connections are connected, reset and disconnected outside the lock.
+ * <p>
+ * The time taken to acquire a connection is recorded in a histogram, and the pool can be prefilled
+ * up to its minimum number of connections in the background after start up.
+ * @see ServerSession#addConnectionPool(ConnectionPool)
+ * @see org.eclipse.persistence.config.PersistenceUnitProperties#CONNECTION_POOL_FAIR
+ */
+public class FairConnectionPool extends ConnectionPool {
+
+    /** Guards the connection lists, the waiters and the number of connections being connected. */
+    protected final ReentrantLock lock = new ReentrantLock();
+
+    /** Threads waiting for a connection, in arrival order. */
+    protected final Deque<Waiter> waiters = new ArrayDeque<>();
+
+    /** Number of connections being connected outside the lock, these count towards the maximum. */
+    protected int numberOfConnectionsPending;
+
+    /** Time in nanoseconds taken by each successful acquire. */
+    protected final LatencyHistogram acquireTimeHistogram = new LatencyHistogram();
+
+    protected boolean shouldPrefill;
+
+    /**
+     * A thread waiting for a connection.
+     * It is signaled either with a connection or with the right to connect a new one.
+     */
+    protected static final class Waiter {
+        protected final Condition condition;
+        protected Accessor connection;
+        protected boolean canBuildConnection;
+
+        protected Waiter(Condition condition) {
+            this.condition = condition;
+        }
+
+        protected boolean isSignaled() {
+            return (this.connection != null) || this.canBuildConnection;
+        }
+    }
+
+    /**
+     * PUBLIC:
+     * Build a new fair connection pool.
+     */
+    public FairConnectionPool() {
+        super();
+    }
+
+    /**
+     * PUBLIC:
+     * Build a new fair connection pool.
+     */
+    public FairConnectionPool(String name, Login login, ServerSession owner) {
+        super(name, login, owner);
+    }
+
+    /**
+     * PUBLIC:
+     * Build a new fair connection pool.
+     */
+    public FairConnectionPool(String name, Login login, int minNumberOfConnections, int maxNumberOfConnections, ServerSession owner) {
+        super(name, login, minNumberOfConnections, maxNumberOfConnections, owner);
+    }
+
+    /**
+     * PUBLIC:
+     * Build a new fair connection pool.
+     */
+    public FairConnectionPool(String name, Login login, int initialNumberOfConnections, int minNumberOfConnections, int maxNumberOfConnections, ServerSession owner) {
+        super(name, login, initialNumberOfConnections, minNumberOfConnections, maxNumberOfConnections, owner);
+    }
+
+    /**
+     * INTERNAL:
+     * Wait until a connection is available and allocate the connection for the client.
+     * Waiting threads are served in arrival order.
+     */
+    @Override
+    public Accessor acquireConnection() throws ConcurrencyException {
+        // Check for dead database and fail-over.
+        if (this.isDead) {
+            return failover();
+        }
+        long startTime = System.nanoTime();
+        Accessor connection = null;
+        boolean shouldBuildConnection = false;
+        this.lock.lock();
+        try {
+            // Threads already waiting have priority over the available connections.
+            if (this.waiters.isEmpty()) {
+                connection = takeAvailableConnection();
+                if ((connection == null) && (getTotalNumberOfConnections() < this.maxNumberOfConnections)) {
+                    this.numberOfConnectionsPending++;
+                    shouldBuildConnection = true;
+                }
+            }
+            if (connection != null) {
+                this.connectionsUsed.add(connection);
+            } else if (!shouldBuildConnection) {
+                // A connection handed off by offerConnection is already counted as used.
+                Waiter waiter = awaitConnection();
+                connection = waiter.connection;
+                shouldBuildConnection = waiter.canBuildConnection;
+            }
+            if (connection != null) {
+                if (this.owner.isInProfile()) {
+                    this.owner.updateProfile(MONITOR_HEADER + this.name, this.connectionsUsed.size());
+                }
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        if (shouldBuildConnection) {
+            try {
+                connection = buildConnection();
+            } catch (RuntimeException failed) {
+                this.lock.lock();
+                try {
+                    this.numberOfConnectionsPending--;
+                    releaseConnectionSlot();
+                } finally {
+                    this.lock.unlock();
+                }
+                if (!this.failoverConnectionPools.isEmpty()) {
+                    this.isDead = true;
+                    this.timeOfDeath = System.currentTimeMillis();
+                    this.owner.logThrowable(SessionLog.WARNING, SessionLog.SQL, failed);
+                    return acquireConnection();
+                } else {
+                    throw failed;
+                }
+            }
+            this.lock.lock();
+            try {
+                this.numberOfConnectionsPending--;
+                this.connectionsUsed.add(connection);
+                if (this.owner.isInProfile()) {
+                    this.owner.updateProfile(MONITOR_HEADER + this.name, this.connectionsUsed.size());
+                }
+            } finally {
+                this.lock.unlock();
+            }
+        }
+        this.acquireTimeHistogram.record(System.nanoTime() - startTime);
+        if (this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
+            Object[] args = new Object[1];
+            args[0] = this.name;
+            this.owner.log(SessionLog.FINEST, SessionLog.CONNECTION, "acquire_connection", args, connection);
+        }
+        return connection;
+    }
+
+    /**
+     * INTERNAL:
+     * Queue the current thread and wait until it is given a connection, or the right to connect one.
+     * Must be called while holding the lock.
+     */
+    protected Waiter awaitConnection() throws ConcurrencyException {
+        Waiter waiter = new Waiter(this.lock.newCondition());
+        this.waiters.addLast(waiter);
+        try {
+            while (!waiter.isSignaled()) {
+                // As for the monitor based pool, the wait timeout only bounds each wait.
+                if (this.waitTimeout == 0) {
+                    waiter.condition.await();
+                } else {
+                    waiter.condition.await(this.waitTimeout, TimeUnit.MILLISECONDS);
+                }
+            }
+        } catch (InterruptedException exception) {
+            this.waiters.remove(waiter);
+            // Pass on anything handed to this thread while it was interrupted.
+            if (waiter.connection != null) {
+                this.connectionsUsed.remove(waiter.connection);
+                offerConnection(waiter.connection);
+            } else if (waiter.canBuildConnection) {
+                this.numberOfConnectionsPending--;
+                releaseConnectionSlot();
+            }
+            throw ConcurrencyException.waitFailureOnClientSession(exception);
+        }
+        return waiter;
+    }
+
+    /**
+     * INTERNAL:
+     * Remove and return the most recently used available connection, or null if none are available.
+     * If a connection failure was detected, the available connections are validated first.
+     * Must be called while holding the lock.
+     */
+    protected Accessor takeAvailableConnection() {
+        while (!this.connectionsAvailable.isEmpty()) {
+            // Always used the last connection to avoid shift list and to use "hot" connection.
+            Accessor connection = this.connectionsAvailable.remove(this.connectionsAvailable.size() - 1);
+            if (this.checkConnections && this.owner.getLogin().isConnectionHealthValidatedOnError()
+                    && this.owner.getServerPlatform().wasFailureCommunicationBased(null, connection, this.owner)) {
+                try {
+                    //connection failed connect test
+                    connection.closeConnection();
+                } catch (Exception ex) {
+                    //ignore
+                } finally {
+                    connection.releaseCustomizer();
+                }
+            } else {
+                //connection was good use it.  And make sure we stop testing connections
+                this.checkConnections = false;
+                return connection;
+            }
+        }
+        //we have emptied out all connections so let's have the connection pool build more
+        this.checkConnections = false;
+        return null;
+    }
+
+    /**
+     * INTERNAL:
+     * Give the connection to the longest waiting thread, or make it available.
+     * Must be called while holding the lock.
+     */
+    protected void offerConnection(Accessor connection) {
+        Waiter waiter = this.waiters.pollFirst();
+        if (waiter != null) {
+            // Count the connection as used, so it is not given twice.
+            waiter.connection = connection;
+            this.connectionsUsed.add(connection);
+            waiter.condition.signal();
+        } else {
+            this.connectionsAvailable.add(connection);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * A connection was removed from the pool, let the longest waiting thread connect a new one.
+     * Must be called while holding the lock.
+     */
+    protected void releaseConnectionSlot() {
+        if (getTotalNumberOfConnections() < this.maxNumberOfConnections) {
+            Waiter waiter = this.waiters.pollFirst();
+            if (waiter != null) {
+                waiter.canBuildConnection = true;
+                this.numberOfConnectionsPending++;
+                waiter.condition.signal();
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the connection to the pool and hand it to the longest waiting thread.
+     */
+    @Override
+    public void releaseConnection(Accessor connection) throws DatabaseException {
+        if (this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
+            Object[] args = new Object[1];
+            args[0] = this.name;
+            this.owner.log(SessionLog.FINEST, SessionLog.CONNECTION, "release_connection", args, connection);
+        }
+        connection.reset();
+
+        boolean isValid = connection.isValid();
+        boolean shouldDisconnect = false;
+        this.lock.lock();
+        try {
+            this.connectionsUsed.remove(connection);
+            if (!isValid) {
+                this.checkConnections = true;
+                shouldDisconnect = true;
+                releaseConnectionSlot();
+            } else if (!this.waiters.isEmpty() || (getTotalNumberOfConnections() < this.minNumberOfConnections)) {
+                offerConnection(connection);
+            } else {
+                shouldDisconnect = true;
+            }
+            if (this.owner.isInProfile()) {
+                this.owner.updateProfile(MONITOR_HEADER + this.name, this.connectionsUsed.size());
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        if (shouldDisconnect) {
+            if (isValid) {
+                connection.disconnect(getOwner());
+            } else {
+                try {
+                    connection.disconnect(this.owner);
+                } catch (DatabaseException ex) {
+                    //this is an invalid connection so expect an exception.
+                }
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the total number of connections, including the ones being connected.
+     */
+    @Override
+    public int getTotalNumberOfConnections() {
+        return this.connectionsUsed.size() + this.connectionsAvailable.size() + this.numberOfConnectionsPending;
+    }
+
+    /**
+     * INTERNAL:
+     * Allocate the initial connections, and prefill the pool in the background if configured.
+     */
+    @Override
+    public void startUp() {
+        this.lock.lock();
+        try {
+            if (isConnected()) {
+                return;
+            }
+            for (int index = getInitialNumberOfConnections(); index > 0; index--) {
+                getConnectionsAvailable().add(buildConnection());
+            }
+            setIsConnected(true);
+        } finally {
+            this.lock.unlock();
+        }
+        if (this.shouldPrefill && (getInitialNumberOfConnections() < getMinNumberOfConnections())) {
+            this.owner.getServerPlatform().launchContainerRunnable(this::prefill);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Connect new connections until the pool holds its minimum number of connections.
+     * Connections are connected one at a time outside the lock, and handed to waiting threads first.
+     */
+    protected void prefill() {
+        while (true) {
+            this.lock.lock();
+            try {
+                if (!isConnected() || (getTotalNumberOfConnections() >= this.minNumberOfConnections)) {
+                    return;
+                }
+                this.numberOfConnectionsPending++;
+            } finally {
+                this.lock.unlock();
+            }
+            Accessor connection = null;
+            try {
+                connection = buildConnection();
+            } catch (RuntimeException failed) {
+                this.owner.logThrowable(SessionLog.WARNING, SessionLog.CONNECTION, failed);
+            }
+            boolean shouldDisconnect = false;
+            this.lock.lock();
+            try {
+                this.numberOfConnectionsPending--;
+                if (connection == null) {
+                    releaseConnectionSlot();
+                    return;
+                } else if (isConnected()) {
+                    offerConnection(connection);
+                } else {
+                    shouldDisconnect = true;
+                }
+            } finally {
+                this.lock.unlock();
+            }
+            if (shouldDisconnect) {
+                try {
+                    connection.disconnect(getOwner());
+                } catch (DatabaseException exception) {
+                    // Ignore.
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Disconnect all connections.
+     */
+    @Override
+    public void shutDown() {
+        this.lock.lock();
+        try {
+            super.shutDown();
+            this.numberOfConnectionsPending = 0;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * PUBLIC:
+     * Return the histogram of the time in nanoseconds taken to acquire a connection,
+     * including the time spent waiting and connecting.
+     */
+    public LatencyHistogram getAcquireTimeHistogram() {
+        return acquireTimeHistogram;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of threads currently waiting for a connection.
+     */
+    public int getNumberOfWaitingThreads() {
+        this.lock.lock();
+        try {
+            return this.waiters.size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * PUBLIC:
+     * Return if the pool is filled up to its minimum number of connections in the background after start up.
+     */
+    public boolean shouldPrefill() {
+        return shouldPrefill;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if the pool is filled up to its minimum number of connections in the background after start up.
+     * Only the initial number of connections are connected while the session logs in.
+     * The default is false.
+     */
+    public void setShouldPrefill(boolean shouldPrefill) {
+        this.shouldPrefill = shouldPrefill;
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.tools.profiler;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.sessions.DataRecord;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.tools.profiler.jfr.FlightRecorderEvents;
+import org.eclipse.persistence.tools.profiler.jfr.ProfilerOperationEvent;
+
+/**
+ * <p><b>Purpose</b>: A profiler that records the {@link SessionProfiler} timers as JDK flight recorder events,
+ * so they can be correlated with the garbage collection and thread events of the same recording.
+ * <p>
+ * Each timed operation, and each query execution, is recorded as a
+ * {@link ProfilerOperationEvent}, with the query monitor name of the operation if any.
+ * Nothing is recorded if the flight recorder is not available, or if the event is not enabled,
+ * and the counters are ignored.
+ * The SQL, cache, lock and commit events are recorded with or without this profiler.
+ *
+ * @see org.eclipse.persistence.tools.profiler.jfr.FlightRecorderEvents
+ * @since EclipseLink 5.0
+ */
+public class FlightRecorderProfiler implements Serializable, Cloneable, SessionProfiler {
+
+    transient protected AbstractSession session;
+
+    /** The events of the operations started by the current thread. */
+    transient protected ThreadLocal<Map<String, ProfilerOperationEvent>> operationEvents;
+
+    protected int profileWeight;
+
+    /**
+     * PUBLIC:
+     * Create a new profiler.
+     * The profiler can be registered with a session to record its operations in the flight recorder.
+     */
+    public FlightRecorderProfiler() {
+        this.profileWeight = SessionProfiler.ALL;
+    }
+
+    @Override
+    public FlightRecorderProfiler clone() {
+        try {
+            return (FlightRecorderProfiler)super.clone();
+        } catch (CloneNotSupportedException exception) {
+            throw new InternalError();
+        }
+    }
+
+    /**
+     * Return the events of the operations started by the current thread.
+     */
+    protected Map<String, ProfilerOperationEvent> getOperationEvents() {
+        if (this.operationEvents == null) {
+            synchronized (this) {
+                if (this.operationEvents == null) {
+                    this.operationEvents = ThreadLocal.withInitial(HashMap::new);
+                }
+            }
+        }
+        return this.operationEvents.get();
+    }
+
+    /**
+     * INTERNAL:
+     * Begin the event of the operation.
+     */
+    @Override
+    public void startOperationProfile(String operationName) {
+        ProfilerOperationEvent event = FlightRecorderEvents.beginProfilerOperation();
+        if (event != null) {
+            getOperationEvents().put(operationName, event);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Begin the event of the operation.
+     */
+    @Override
+    public void startOperationProfile(String operationName, DatabaseQuery query, int weight) {
+        if (this.profileWeight < weight) {
+            return;
+        }
+        startOperationProfile(operationName);
+    }
+
+    /**
+     * INTERNAL:
+     * Commit the event of the operation.
+     */
+    @Override
+    public void endOperationProfile(String operationName) {
+        endOperationProfile(operationName, null, SessionProfiler.HEAVY);
+    }
+
+    /**
+     * INTERNAL:
+     * Commit the event of the operation, with the query of the operation.
+     */
+    @Override
+    public void endOperationProfile(String operationName, DatabaseQuery query, int weight) {
+        if ((this.profileWeight < weight) || (this.operationEvents == null)) {
+            return;
+        }
+        ProfilerOperationEvent event = this.operationEvents.get().remove(operationName);
+        FlightRecorderEvents.endProfilerOperation(event, operationName, query);
+    }
+
+    /**
+     * INTERNAL:
+     * Record the execution of the query.
+     */
+    @Override
+    public Object profileExecutionOfQuery(DatabaseQuery query, DataRecord row, AbstractSession session) {
+        if (this.profileWeight < SessionProfiler.HEAVY) {
+            return session.internalExecuteQuery(query, (AbstractRecord)row);
+        }
+        ProfilerOperationEvent event = FlightRecorderEvents.beginProfilerOperation();
+        try {
+            return session.internalExecuteQuery(query, (AbstractRecord)row);
+        } finally {
+            FlightRecorderEvents.endProfilerOperation(event, query.getClass().getSimpleName(), query);
+        }
+    }
+
+    @Override
+    public void update(String operationName, Object value) {
+    }
+
+    @Override
+    public void occurred(String operationName, AbstractSession session) {
+    }
+
+    @Override
+    public void occurred(String operationName, DatabaseQuery query, AbstractSession session) {
+    }
+
+    public AbstractSession getSession() {
+        return session;
+    }
+
+    @Override
+    public void setSession(Session session) {
+        this.session = (AbstractSession)session;
+    }
+
+    /**
+     * Set the level of profiling.
+     * One of ALL, HEAVY, NORMAL, NONE.
+     * The higher the level, the more operations are profiled.
+     * @see SessionProfiler
+     */
+    @Override
+    public void setProfileWeight(int profileWeight) {
+        this.profileWeight = profileWeight;
+    }
+
+    /**
+     * Return the level of profiling.
+     * One of ALL, HEAVY, NORMAL, NONE.
+     * @see SessionProfiler
+     */
+    @Override
+    public int getProfileWeight() {
+        return profileWeight;
+    }
+
+    @Override
+    public void initialize() {
+    }
+}
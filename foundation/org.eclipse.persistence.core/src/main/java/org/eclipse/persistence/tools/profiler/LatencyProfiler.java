@@ -0,0 +1,544 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.tools.profiler;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.persistence.internal.helper.LatencyHistogram;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.sessions.DataRecord;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.SessionProfiler;
+
+/**
+ * <p><b>Purpose</b>: A tool used to provide latency percentiles of the profiled operations in a server environment,
+ * with a low enough overhead to be left enabled in production.
+ * <p>
+ * Like the {@link PerformanceMonitor} each {@link SessionProfiler} timer is measured,
+ * in total and for each query monitor name, as well as the counters.
+ * Instead of a total time, the durations of each timer are recorded in a lock free histogram,
+ * from which the count, mean, 50th, 99th and 99.9th percentiles and maximum are reported, in nanoseconds.
+ * The start times are kept by each thread, and recording never locks or allocates once a timer is known.
+ * <p>
+ * The histograms are rolled over each snapshot interval, the summary of the last interval is kept
+ * as the last snapshot, and the interval is added to the totals.
+ * The results are available through the {@link org.eclipse.persistence.services.RuntimeServices} MBean.
+ *
+ * @see org.eclipse.persistence.config.ProfilerType#LatencyProfiler
+ * @since EclipseLink 5.0
+ */
+public class LatencyProfiler implements Serializable, Cloneable, SessionProfiler {
+    protected static final String COUNTER = "Counter:";
+    protected static final String TIMER = "Timer:";
+
+    /** The key of the timer of the execution of the query itself, in the timers of a query. */
+    protected static final String QUERY_EXECUTION = "";
+
+    transient protected AbstractSession session;
+
+    /** The start times of the operations of the current thread, only accessed by that thread. */
+    transient protected ThreadLocal<Map<String, long[]>> operationStartTimes;
+
+    /** The histograms of the current interval, by operation name. */
+    protected ConcurrentMap<String, LatencyHistogram> operationHistograms;
+
+    /** The histograms of the current interval, by query monitor name, then operation name. */
+    protected ConcurrentMap<String, ConcurrentMap<String, LatencyHistogram>> queryHistograms;
+
+    /** The histograms of all the previous intervals, by timer name. */
+    protected ConcurrentMap<String, LatencyHistogram> totalHistograms;
+
+    /** The counters, by operation name, then query monitor name for the counters of a query. */
+    protected ConcurrentMap<String, LongAdder> operationCounters;
+    protected ConcurrentMap<String, ConcurrentMap<String, LongAdder>> queryCounters;
+
+    /** The values of the updated operations. */
+    protected ConcurrentMap<String, Object> operationValues;
+
+    /** The summary of each timer in the last interval. */
+    protected volatile Map<String, Summary> lastSnapshot;
+    protected volatile long lastSnapshotTime;
+
+    /** The number of milliseconds in each interval. */
+    protected long snapshotInterval;
+
+    /** The System.nanoTime of the end of the current interval. */
+    protected final AtomicLong nextSnapshotTime;
+
+    protected int profileWeight;
+
+    /**
+     * <p><b>Purpose</b>: The latency summary of a timer.
+     * All the times are in nanoseconds.
+     */
+    public static class Summary implements Serializable {
+        protected final long count;
+        protected final long mean;
+        protected final long median;
+        protected final long percentile99;
+        protected final long percentile999;
+        protected final long max;
+
+        public Summary(LatencyHistogram histogram) {
+            this.count = histogram.getCount();
+            this.mean = histogram.getMean();
+            this.median = histogram.getPercentile(50);
+            this.percentile99 = histogram.getPercentile(99);
+            this.percentile999 = histogram.getPercentile(99.9);
+            this.max = histogram.getMax();
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getMean() {
+            return mean;
+        }
+
+        public long getMedian() {
+            return median;
+        }
+
+        public long getPercentile99() {
+            return percentile99;
+        }
+
+        public long getPercentile999() {
+            return percentile999;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        @Override
+        public String toString() {
+            return "count=" + count + ", mean=" + mean + ", p50=" + median + ", p99=" + percentile99
+                    + ", p999=" + percentile999 + ", max=" + max;
+        }
+    }
+
+    /**
+     * PUBLIC:
+     * Create a new profiler.
+     * The profiler can be registered with a session to record the latency of its operations.
+     */
+    public LatencyProfiler() {
+        this.operationHistograms = new ConcurrentHashMap<>();
+        this.queryHistograms = new ConcurrentHashMap<>();
+        this.totalHistograms = new ConcurrentHashMap<>();
+        this.operationCounters = new ConcurrentHashMap<>();
+        this.queryCounters = new ConcurrentHashMap<>();
+        this.operationValues = new ConcurrentHashMap<>();
+        this.lastSnapshot = Collections.emptyMap();
+        this.lastSnapshotTime = System.currentTimeMillis();
+        this.snapshotInterval = 60000; // 1 minute
+        this.nextSnapshotTime = new AtomicLong(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.snapshotInterval));
+        this.profileWeight = SessionProfiler.ALL;
+    }
+
+    @Override
+    public LatencyProfiler clone() {
+        try {
+            return (LatencyProfiler)super.clone();
+        } catch (CloneNotSupportedException exception) {
+            throw new InternalError();
+        }
+    }
+
+    /**
+     * Return the number of milliseconds of each snapshot interval.
+     */
+    public long getSnapshotInterval() {
+        return snapshotInterval;
+    }
+
+    /**
+     * Set the number of milliseconds of each snapshot interval.
+     */
+    public void setSnapshotInterval(long snapshotInterval) {
+        this.snapshotInterval = snapshotInterval;
+        this.nextSnapshotTime.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(snapshotInterval));
+    }
+
+    /**
+     * Return the summary of each timer in the last snapshot interval, sorted by timer name.
+     */
+    public Map<String, Summary> getLastSnapshot() {
+        return lastSnapshot;
+    }
+
+    /**
+     * Return the time in milliseconds the last snapshot was taken.
+     */
+    public long getLastSnapshotTime() {
+        return lastSnapshotTime;
+    }
+
+    /**
+     * Return the summary of each timer since the profiler was created or reset,
+     * including the current interval, sorted by timer name.
+     */
+    public Map<String, Summary> getTotals() {
+        Map<String, LatencyHistogram> histograms = new HashMap<>();
+        for (Map.Entry<String, LatencyHistogram> entry : this.totalHistograms.entrySet()) {
+            histograms.computeIfAbsent(entry.getKey(), name -> new LatencyHistogram()).add(entry.getValue());
+        }
+        for (Map.Entry<String, LatencyHistogram> entry : getCurrentHistograms().entrySet()) {
+            histograms.computeIfAbsent(entry.getKey(), name -> new LatencyHistogram()).add(entry.getValue());
+        }
+        Map<String, Summary> totals = new TreeMap<>();
+        for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+            totals.put(entry.getKey(), new Summary(entry.getValue()));
+        }
+        return totals;
+    }
+
+    /**
+     * Return the value of each counter, sorted by counter name.
+     */
+    public Map<String, Long> getCounters() {
+        Map<String, Long> counters = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> entry : this.operationCounters.entrySet()) {
+            counters.put(entry.getKey(), entry.getValue().sum());
+        }
+        for (Map.Entry<String, ConcurrentMap<String, LongAdder>> queryEntry : this.queryCounters.entrySet()) {
+            for (Map.Entry<String, LongAdder> entry : queryEntry.getValue().entrySet()) {
+                counters.put(getQueryCounterName(queryEntry.getKey(), entry.getKey()), entry.getValue().sum());
+            }
+        }
+        return counters;
+    }
+
+    /**
+     * Return the last value of each updated operation.
+     */
+    public Map<String, Object> getOperationValues() {
+        return operationValues;
+    }
+
+    /**
+     * Return the histograms of the current interval by timer name.
+     */
+    protected Map<String, LatencyHistogram> getCurrentHistograms() {
+        Map<String, LatencyHistogram> histograms = new HashMap<>(this.operationHistograms);
+        for (Map.Entry<String, ConcurrentMap<String, LatencyHistogram>> queryEntry : this.queryHistograms.entrySet()) {
+            for (Map.Entry<String, LatencyHistogram> entry : queryEntry.getValue().entrySet()) {
+                histograms.put(getQueryTimerName(queryEntry.getKey(), entry.getKey()), entry.getValue());
+            }
+        }
+        return histograms;
+    }
+
+    /**
+     * Return the name of the timer of the operation of the query, as named by the {@link PerformanceMonitor}.
+     */
+    protected String getQueryTimerName(String monitorName, String operationName) {
+        if (operationName.isEmpty()) {
+            return TIMER + monitorName;
+        }
+        return TIMER + monitorName + ":" + operationName.substring(TIMER.length());
+    }
+
+    /**
+     * Return the name of the counter of the operation of the query, as named by the {@link PerformanceMonitor}.
+     */
+    protected String getQueryCounterName(String monitorName, String operationName) {
+        if (operationName.isEmpty()) {
+            return COUNTER + monitorName;
+        }
+        return COUNTER + monitorName + ":" + operationName.substring(COUNTER.length());
+    }
+
+    /**
+     * Take a snapshot of the current interval and start a new interval.
+     * The histograms of the interval are replaced, so values recorded concurrently with the snapshot
+     * may be missing from both the snapshot and the totals.
+     */
+    public synchronized Map<String, Summary> snapshot() {
+        Map<String, Summary> snapshot = new TreeMap<>();
+        for (String operationName : this.operationHistograms.keySet()) {
+            rollOver(this.operationHistograms, operationName, operationName, snapshot);
+        }
+        for (Map.Entry<String, ConcurrentMap<String, LatencyHistogram>> queryEntry : this.queryHistograms.entrySet()) {
+            for (String operationName : queryEntry.getValue().keySet()) {
+                rollOver(queryEntry.getValue(), operationName, getQueryTimerName(queryEntry.getKey(), operationName), snapshot);
+            }
+        }
+        this.lastSnapshot = Collections.unmodifiableMap(snapshot);
+        this.lastSnapshotTime = System.currentTimeMillis();
+        this.nextSnapshotTime.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.snapshotInterval));
+        return this.lastSnapshot;
+    }
+
+    /**
+     * Replace the histogram of the interval, add its summary to the snapshot and its values to the totals.
+     * Timers not used during the interval are not part of the snapshot.
+     */
+    protected void rollOver(ConcurrentMap<String, LatencyHistogram> histograms, String key, String timerName, Map<String, Summary> snapshot) {
+        LatencyHistogram histogram = histograms.get(key);
+        if ((histogram == null) || (histogram.getCount() == 0)) {
+            return;
+        }
+        histograms.put(key, new LatencyHistogram());
+        snapshot.put(timerName, new Summary(histogram));
+        this.totalHistograms.computeIfAbsent(timerName, name -> new LatencyHistogram()).add(histogram);
+    }
+
+    /**
+     * Take a snapshot if the current interval has ended.
+     * Only one of the threads ending the interval takes the snapshot.
+     */
+    protected void checkSnapshotTime(long time) {
+        long snapshotTime = this.nextSnapshotTime.get();
+        if ((time - snapshotTime) >= 0) {
+            if (this.nextSnapshotTime.compareAndSet(snapshotTime, Long.MAX_VALUE)) {
+                snapshot();
+            }
+        }
+    }
+
+    /**
+     * Remove all the recorded times, counters and snapshots.
+     */
+    public synchronized void reset() {
+        this.operationHistograms.clear();
+        this.queryHistograms.clear();
+        this.totalHistograms.clear();
+        this.operationCounters.clear();
+        this.queryCounters.clear();
+        this.operationValues.clear();
+        this.lastSnapshot = Collections.emptyMap();
+        this.lastSnapshotTime = System.currentTimeMillis();
+        this.nextSnapshotTime.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.snapshotInterval));
+    }
+
+    /**
+     * Return the start times of the operations of the current thread.
+     * Each start time is held in an array, so it can be updated without allocating.
+     */
+    protected Map<String, long[]> getOperationStartTimes() {
+        if (this.operationStartTimes == null) {
+            synchronized (this) {
+                if (this.operationStartTimes == null) {
+                    this.operationStartTimes = ThreadLocal.withInitial(HashMap::new);
+                }
+            }
+        }
+        return this.operationStartTimes.get();
+    }
+
+    /**
+     * Return the duration since the operation was started by the current thread, or -1 if it was not started.
+     */
+    protected long endOperation(String operationName, long endTime) {
+        long[] startTime = getOperationStartTimes().get(operationName);
+        if ((startTime == null) || (startTime[0] == Long.MIN_VALUE)) {
+            return -1;
+        }
+        long time = endTime - startTime[0];
+        startTime[0] = Long.MIN_VALUE;
+        return time;
+    }
+
+    protected void record(ConcurrentMap<String, LatencyHistogram> histograms, String operationName, long time) {
+        LatencyHistogram histogram = histograms.get(operationName);
+        if (histogram == null) {
+            histogram = histograms.computeIfAbsent(operationName, name -> new LatencyHistogram());
+        }
+        histogram.record(time);
+    }
+
+    protected void recordQuery(String monitorName, String operationName, long time) {
+        ConcurrentMap<String, LatencyHistogram> histograms = this.queryHistograms.get(monitorName);
+        if (histograms == null) {
+            histograms = this.queryHistograms.computeIfAbsent(monitorName, name -> new ConcurrentHashMap<>());
+        }
+        record(histograms, operationName, time);
+    }
+
+    /**
+     * INTERNAL:
+     * Start the operation timing.
+     */
+    @Override
+    public void startOperationProfile(String operationName) {
+        Map<String, long[]> startTimes = getOperationStartTimes();
+        long[] startTime = startTimes.get(operationName);
+        if (startTime == null) {
+            startTime = new long[1];
+            startTimes.put(operationName, startTime);
+        }
+        startTime[0] = System.nanoTime();
+    }
+
+    /**
+     * INTERNAL:
+     * Start the operation timing.
+     * The operation of the query is timed from the same start time.
+     */
+    @Override
+    public void startOperationProfile(String operationName, DatabaseQuery query, int weight) {
+        if (this.profileWeight < weight) {
+            return;
+        }
+        startOperationProfile(operationName);
+    }
+
+    /**
+     * INTERNAL:
+     * End the operation timing.
+     */
+    @Override
+    public void endOperationProfile(String operationName) {
+        if (this.profileWeight < SessionProfiler.HEAVY) {
+            return;
+        }
+        long endTime = System.nanoTime();
+        long time = endOperation(operationName, endTime);
+        if (time >= 0) {
+            record(this.operationHistograms, operationName, time);
+            checkSnapshotTime(endTime);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * End the operation timing, recording it for the operation and for the operation of the query.
+     */
+    @Override
+    public void endOperationProfile(String operationName, DatabaseQuery query, int weight) {
+        if (this.profileWeight < weight) {
+            return;
+        }
+        long endTime = System.nanoTime();
+        long time = endOperation(operationName, endTime);
+        if (time >= 0) {
+            record(this.operationHistograms, operationName, time);
+            if (query != null) {
+                recordQuery(query.getMonitorName(), operationName, time);
+            }
+            checkSnapshotTime(endTime);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Time the execution of the query, by query class and by query monitor name.
+     */
+    @Override
+    public Object profileExecutionOfQuery(DatabaseQuery query, DataRecord row, AbstractSession session) {
+        if (this.profileWeight < SessionProfiler.HEAVY) {
+            return session.internalExecuteQuery(query, (AbstractRecord)row);
+        }
+        String monitorName = query.getMonitorName();
+        String className = query.getClass().getSimpleName();
+        count(getQueryCounters(className), QUERY_EXECUTION);
+        count(getQueryCounters(monitorName), QUERY_EXECUTION);
+        long startTime = System.nanoTime();
+        try {
+            return session.internalExecuteQuery(query, (AbstractRecord)row);
+        } finally {
+            long endTime = System.nanoTime();
+            recordQuery(monitorName, QUERY_EXECUTION, endTime - startTime);
+            recordQuery(className, QUERY_EXECUTION, endTime - startTime);
+            checkSnapshotTime(endTime);
+        }
+    }
+
+    protected ConcurrentMap<String, LongAdder> getQueryCounters(String monitorName) {
+        ConcurrentMap<String, LongAdder> counters = this.queryCounters.get(monitorName);
+        if (counters == null) {
+            counters = this.queryCounters.computeIfAbsent(monitorName, name -> new ConcurrentHashMap<>());
+        }
+        return counters;
+    }
+
+    protected void count(ConcurrentMap<String, LongAdder> counters, String operationName) {
+        LongAdder counter = counters.get(operationName);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(operationName, name -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    @Override
+    public void update(String operationName, Object value) {
+        this.operationValues.put(operationName, value);
+    }
+
+    @Override
+    public void occurred(String operationName, AbstractSession session) {
+        if (this.profileWeight < SessionProfiler.NORMAL) {
+            return;
+        }
+        count(this.operationCounters, operationName);
+    }
+
+    @Override
+    public void occurred(String operationName, DatabaseQuery query, AbstractSession session) {
+        if (this.profileWeight < SessionProfiler.NORMAL) {
+            return;
+        }
+        count(this.operationCounters, operationName);
+        count(getQueryCounters(query.getMonitorName()), operationName);
+    }
+
+    public AbstractSession getSession() {
+        return session;
+    }
+
+    @Override
+    public void setSession(Session session) {
+        this.session = (AbstractSession)session;
+    }
+
+    /**
+     * Set the level of profiling.
+     * One of ALL, HEAVY, NORMAL, NONE.
+     * The higher the level, the more operations are profiled.
+     * @see SessionProfiler
+     */
+    @Override
+    public void setProfileWeight(int profileWeight) {
+        this.profileWeight = profileWeight;
+    }
+
+    /**
+     * Return the level of profiling.
+     * One of ALL, HEAVY, NORMAL, NONE.
+     * @see SessionProfiler
+     */
+    @Override
+    public int getProfileWeight() {
+        return profileWeight;
+    }
+
+    @Override
+    public void initialize() {
+    }
+}
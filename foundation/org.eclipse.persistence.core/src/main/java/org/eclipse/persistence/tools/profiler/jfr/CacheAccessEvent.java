@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.tools.profiler.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * <p><b>Purpose</b>: Flight recorder event of a query checking the identity map before going to the database.
+ * The event is disabled by default, as there is one for each query that checks the cache.
+ *
+ * @since EclipseLink 5.0
+ */
+@Name(CacheAccessEvent.NAME)
+@Label("Cache Access")
+@Category({"EclipseLink", "Cache"})
+@Description("A query found, or did not find, its result in the identity map")
+@Enabled(false)
+@StackTrace(false)
+public class CacheAccessEvent extends Event {
+    public static final String NAME = "org.eclipse.persistence.CacheAccess";
+
+    @Label("Query")
+    public String query;
+
+    @Label("Entity Class")
+    public String entityClass;
+
+    @Label("Hit")
+    public boolean hit;
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.tools.profiler.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <p><b>Purpose</b>: Flight recorder event of a cache coordination command being sent or received.
+ *
+ * @since EclipseLink 5.0
+ */
+@Name(CacheCoordinationEvent.NAME)
+@Label("Cache Coordination")
+@Category({"EclipseLink", "Cache"})
+@Description("A cache coordination command was sent to, or received from, the cluster")
+public class CacheCoordinationEvent extends Event {
+    public static final String NAME = "org.eclipse.persistence.CacheCoordination";
+
+    public static final String SEND = "Send";
+    public static final String RECEIVE = "Receive";
+
+    @Label("Direction")
+    public String direction;
+
+    @Label("Command")
+    public String command;
+
+    @Label("Service")
+    @Description("The service sending the command")
+    public String service;
+}
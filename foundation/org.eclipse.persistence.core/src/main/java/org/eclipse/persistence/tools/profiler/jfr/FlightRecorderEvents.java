@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.tools.profiler.jfr;
+
+import java.util.List;
+
+import jdk.jfr.EventType;
+
+import org.eclipse.persistence.internal.databaseaccess.DatabaseCall;
+import org.eclipse.persistence.internal.helper.ConcurrencyManager;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.queries.DatabaseQuery;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: Emit the EclipseLink flight recorder events.<p>
+ * Each begin method returns null, without allocating, if the flight recorder is not available in the JVM,
+ * or if its event is not enabled in the current recordings, and each end method ignores a null event,
+ * so the cost when not recording is a check of a constant and of the enablement of the cached event type.
+ * The event classes and their types are only loaded if the flight recorder is available,
+ * as the jdk.jfr module is optional.
+ *
+ * @since EclipseLink 5.0
+ */
+public final class FlightRecorderEvents {
+
+    private static final boolean IS_AVAILABLE = checkAvailable();
+
+    private FlightRecorderEvents() {
+        // no instance please
+    }
+
+    /**
+     * The types of the events, only loaded if the flight recorder is available.
+     */
+    private static final class EventTypes {
+        static final EventType SQL_EXECUTION = EventType.getEventType(SqlExecutionEvent.class);
+        static final EventType CACHE_ACCESS = EventType.getEventType(CacheAccessEvent.class);
+        static final EventType LOCK_WAIT = EventType.getEventType(LockWaitEvent.class);
+        static final EventType UNIT_OF_WORK_COMMIT = EventType.getEventType(UnitOfWorkCommitEvent.class);
+        static final EventType CACHE_COORDINATION = EventType.getEventType(CacheCoordinationEvent.class);
+        static final EventType PROFILER_OPERATION = EventType.getEventType(ProfilerOperationEvent.class);
+    }
+
+    private static boolean checkAvailable() {
+        try {
+            Class<?> flightRecorder = Class.forName("jdk.jfr.FlightRecorder");
+            return (Boolean)flightRecorder.getMethod("isAvailable").invoke(null);
+        } catch (Exception | LinkageError exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Return if the flight recorder is available in the JVM.
+     */
+    public static boolean isAvailable() {
+        return IS_AVAILABLE;
+    }
+
+    /**
+     * Begin the event of the execution of a SQL call, or return null if it is not recorded.
+     */
+    public static SqlExecutionEvent beginSqlExecution() {
+        if (!IS_AVAILABLE || !EventTypes.SQL_EXECUTION.isEnabled()) {
+            return null;
+        }
+        SqlExecutionEvent event = new SqlExecutionEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * End the event of the execution of the SQL call, with the number of rows of its result.
+     */
+    public static void endSqlExecution(SqlExecutionEvent event, DatabaseCall call, Object result, AbstractSession session) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.sql = call.getSQLString();
+            event.session = session.getName();
+            if (result instanceof Integer) {
+                event.rows = (Integer)result;
+            } else if (result instanceof AbstractRecord) {
+                event.rows = 1;
+            } else if (result == null) {
+                event.rows = 0;
+            } else if (call.isCursorReturned() || !(result instanceof List)) {
+                event.rows = -1;
+            } else {
+                event.rows = ((List<?>)result).size();
+            }
+            event.commit();
+        }
+    }
+
+    /**
+     * Record the check of the identity map by the query.
+     */
+    public static void cacheAccessed(DatabaseQuery query, boolean hit) {
+        if (!IS_AVAILABLE || !EventTypes.CACHE_ACCESS.isEnabled()) {
+            return;
+        }
+        CacheAccessEvent event = new CacheAccessEvent();
+        if (event.shouldCommit()) {
+            event.query = query.getMonitorName();
+            event.entityClass = query.getReferenceClassName();
+            event.hit = hit;
+            event.commit();
+        }
+    }
+
+    /**
+     * Begin the event of a wait on a lock held by the owner thread, or return null if it is not recorded.
+     */
+    public static LockWaitEvent beginLockWait(Thread ownerThread) {
+        if (!IS_AVAILABLE || !EventTypes.LOCK_WAIT.isEnabled()) {
+            return null;
+        }
+        LockWaitEvent event = new LockWaitEvent();
+        event.ownerThread = ownerThread;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * End the event of the wait on the lock, it is only committed if the wait was longer than the threshold.
+     */
+    public static void endLockWait(LockWaitEvent event, ConcurrencyManager lock, String lockType) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.lockType = lockType;
+            if (lock instanceof CacheKey) {
+                Object object = ((CacheKey)lock).getObject();
+                if (object != null) {
+                    event.lockedClass = object.getClass().getName();
+                }
+            }
+            event.commit();
+        }
+    }
+
+    /**
+     * Begin the event of a phase of the commit of a unit of work, or return null if it is not recorded.
+     */
+    public static UnitOfWorkCommitEvent beginCommitPhase() {
+        if (!IS_AVAILABLE || !EventTypes.UNIT_OF_WORK_COMMIT.isEnabled()) {
+            return null;
+        }
+        UnitOfWorkCommitEvent event = new UnitOfWorkCommitEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * End the event of the phase of the commit of the unit of work.
+     */
+    public static void endCommitPhase(UnitOfWorkCommitEvent event, AbstractSession session, String phase) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.phase = phase;
+            event.session = session.getName();
+            event.commit();
+        }
+    }
+
+    /**
+     * Begin the event of sending or receiving a cache coordination command, or return null if it is not recorded.
+     */
+    public static CacheCoordinationEvent beginCacheCoordination() {
+        if (!IS_AVAILABLE || !EventTypes.CACHE_COORDINATION.isEnabled()) {
+            return null;
+        }
+        CacheCoordinationEvent event = new CacheCoordinationEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * End the event of sending or receiving the cache coordination command.
+     */
+    public static void endCacheCoordination(CacheCoordinationEvent event, String direction, Object command, Object service) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.direction = direction;
+            if (command != null) {
+                event.command = command.getClass().getName();
+            }
+            if (service != null) {
+                event.service = service.toString();
+            }
+            event.commit();
+        }
+    }
+
+    /**
+     * Begin the event of a timer of the session profiler, or return null if it is not recorded.
+     */
+    public static ProfilerOperationEvent beginProfilerOperation() {
+        if (!IS_AVAILABLE || !EventTypes.PROFILER_OPERATION.isEnabled()) {
+            return null;
+        }
+        ProfilerOperationEvent event = new ProfilerOperationEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * End the event of the timer of the session profiler.
+     */
+    public static void endProfilerOperation(ProfilerOperationEvent event, String operation, DatabaseQuery query) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            if (query != null) {
+                event.query = query.getMonitorName();
+            }
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.tools.profiler.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * <p><b>Purpose</b>: Flight recorder event of a thread waiting on a cache key lock held by another thread.
+ * Only the waits longer than the threshold of the event, 10 ms by default, are recorded.
+ *
+ * @since EclipseLink 5.0
+ */
+@Name(LockWaitEvent.NAME)
+@Label("Lock Wait")
+@Category({"EclipseLink", "Cache"})
+@Description("A thread waited to acquire a cache key lock")
+@Threshold("10 ms")
+public class LockWaitEvent extends Event {
+    public static final String NAME = "org.eclipse.persistence.LockWait";
+
+    public static final String WRITE = "Write";
+    public static final String DEFERRED = "Deferred";
+    public static final String READ = "Read";
+
+    @Label("Lock Type")
+    public String lockType;
+
+    @Label("Locked Class")
+    public String lockedClass;
+
+    @Label("Owner Thread")
+    @Description("The thread holding the lock when the wait started, if held for writing")
+    public Thread ownerThread;
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.tools.profiler.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <p><b>Purpose</b>: Flight recorder event of a timer of the session profiler.
+ *
+ * @see org.eclipse.persistence.tools.profiler.FlightRecorderProfiler
+ * @since EclipseLink 5.0
+ */
+@Name(ProfilerOperationEvent.NAME)
+@Label("Profiler Operation")
+@Category({"EclipseLink", "Profiler"})
+@Description("An operation timed by the session profiler")
+public class ProfilerOperationEvent extends Event {
+    public static final String NAME = "org.eclipse.persistence.ProfilerOperation";
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Query")
+    @Description("The monitor name of the query of the operation, if any")
+    public String query;
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.tools.profiler.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * <p><b>Purpose</b>: Flight recorder event of the execution of a SQL call by a database accessor,
+ * from the preparation of its statement to the fetch of its rows.
+ *
+ * @since EclipseLink 5.0
+ */
+@Name(SqlExecutionEvent.NAME)
+@Label("SQL Execution")
+@Category({"EclipseLink", "Database"})
+@Description("Execution of a SQL call, including the fetch of its rows")
+public class SqlExecutionEvent extends Event {
+    public static final String NAME = "org.eclipse.persistence.SqlExecution";
+
+    @Label("SQL")
+    public String sql;
+
+    @Label("Session")
+    public String session;
+
+    @Label("Rows")
+    @Description("The number of rows fetched or updated, or -1 if not known, as for a cursor")
+    public long rows;
+
+    @Label("Fetch Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long fetchTime;
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.tools.profiler.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <p><b>Purpose</b>: Flight recorder event of a phase of the commit of a unit of work.
+ *
+ * @since EclipseLink 5.0
+ */
+@Name(UnitOfWorkCommitEvent.NAME)
+@Label("Unit Of Work Commit")
+@Category({"EclipseLink", "Transaction"})
+@Description("A phase of the commit of a unit of work")
+public class UnitOfWorkCommitEvent extends Event {
+    public static final String NAME = "org.eclipse.persistence.UnitOfWorkCommit";
+
+    public static final String CALCULATE_CHANGES = "CalculateChanges";
+    public static final String COMMIT_TO_DATABASE = "CommitToDatabase";
+    public static final String MERGE_CHANGES = "MergeChanges";
+
+    @Label("Phase")
+    public String phase;
+
+    @Label("Session")
+    public String session;
+}
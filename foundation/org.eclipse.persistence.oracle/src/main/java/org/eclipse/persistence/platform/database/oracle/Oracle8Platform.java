@@ -272,6 +272,20 @@ public void setLobValueLimits(int lobValueLimits) {
         this.lobValueLimits = lobValueLimits;
     }
 
+    /**
+     * INTERNAL:
+     * Oracle binds the IN batch fetch values of numeric and string types as the collection types of the SYS schema.
+     */
+    @Override
+    public String getBatchFetchArrayTypeName(Class<?> elementClass) {
+        if (Number.class.isAssignableFrom(elementClass)) {
+            return "SYS.ODCINUMBERLIST";
+        } else if (elementClass == ClassConstants.STRING) {
+            return "SYS.ODCIVARCHAR2LIST";
+        }
+        return null;
+    }
+
     /**
      * INTERNAL:
      * Platforms that support java.sql.Array may override this method.
@@ -20,7 +20,9 @@
 import junit.framework.TestSuite;
 import org.eclipse.persistence.config.PersistenceUnitProperties;
 import org.eclipse.persistence.jpa.JpaHelper;
+import org.eclipse.persistence.jpa.metadata.CompactProjectCache;
 import org.eclipse.persistence.jpa.metadata.FileBasedProjectCache;
+import org.eclipse.persistence.jpa.metadata.ProjectCache;
 import org.eclipse.persistence.sessions.Project;
 import org.eclipse.persistence.sessions.Session;
 import org.eclipse.persistence.testing.framework.jpa.junit.JUnitTestCase;
@@ -36,6 +38,7 @@
 public class MetadataCachingTestSuite extends JUnitTestCase {
 
     String fileName = "MetadataCachingTestProject.file";
+    String projectCache = "java-serialization";
 
     public MetadataCachingTestSuite() {
         super();
@@ -49,6 +52,7 @@ public static Test suite() {
         TestSuite suite = new TestSuite();
         suite.setName("MetadataCachingTestSuite");
         suite.addTest(new MetadataCachingTestSuite("testProjectCacheALLWithDefaultPU"));
+        suite.addTest(new MetadataCachingTestSuite("testCompactProjectCacheALLWithDefaultPU"));
         return suite;
     }
 
@@ -58,7 +62,7 @@ public Map<String, Object> getProperties() {
         //this causes deployment to occur on refreshMetadata rather than wait until an em is obtained
         properties.put(PersistenceUnitProperties.DEPLOY_ON_STARTUP, "true");
         //property we are testing:
-        properties.put(PersistenceUnitProperties.PROJECT_CACHE, "java-serialization");
+        properties.put(PersistenceUnitProperties.PROJECT_CACHE, projectCache);
         properties.put(PersistenceUnitProperties.PROJECT_CACHE_FILE, fileName);
         return properties;
     }
@@ -90,16 +94,16 @@ public void testFileBasedProjectCacheWriting(String persistenceUnitName) {
 
         File file = new File(fileName);
         if (!file.exists()) {
-            fail("the project cache file was not created on deployment using PROJECT_CACHE 'java-serialization'");
+            fail("the project cache file was not created on deployment using PROJECT_CACHE '" + projectCache + "'");
         }
     }
 
     public void testFileBasedProjectCacheReading(String persistenceUnitName) {
-        FileBasedProjectCache projectCache = new FileBasedProjectCache();
+        ProjectCache projectCache = "compact".equals(this.projectCache) ? new CompactProjectCache() : new FileBasedProjectCache();
         Session session = getServerSession(persistenceUnitName);
         Project project = projectCache.retrieveProject(getProperties(), session.getDatasourcePlatform().getConversionManager().getLoader(), session.getSessionLog());
         if (project == null) {
-            fail("Project returned from FileBasedProjectCache.retrieveProject() was null");
+            fail("Project returned from " + projectCache.getClass().getSimpleName() + ".retrieveProject() was null");
         }
     }
 
@@ -126,6 +130,13 @@ public void testProjectCacheALLWithDefaultPU(){
         testFileBasedProjectCacheLoading("default");
     }
 
+    /* Test the compact project cache in runtime with default persistence unit*/
+    public void testCompactProjectCacheALLWithDefaultPU(){
+        fileName = "MetadataCachingTestProject.compact.file";
+        projectCache = "compact";
+        testProjectCacheALLWithDefaultPU();
+    }
+
     /* Test project cache in runtime on JEE with default persistence unit*/
     public void testProjectCacheWithDefaultPU(){
         testFileBasedProjectCacheLoading("default");
@@ -64,6 +64,8 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -131,6 +133,8 @@ public static Test suite() {
         suite.addTest(new AdvancedQueryTest("testObjectResultType"));
         suite.addTest(new AdvancedQueryTest("testNativeResultType"));
         suite.addTest(new AdvancedQueryTest("testCursors"));
+        suite.addTest(new AdvancedQueryTest("testResultStream"));
+        suite.addTest(new AdvancedQueryTest("testResultStreamReleaseInterval"));
         suite.addTest(new AdvancedQueryTest("testFetchGroups"));
         suite.addTest(new AdvancedQueryTest("testMultipleNamedJoinFetchs"));
         suite.addTest(new AdvancedQueryTest("testNativeQueryTransactions"));
@@ -417,6 +421,59 @@ public void testCursors() {
         }
     }
 
+    /**
+     * Test that a result stream returns all the results, and closes its cursor when it is closed.
+     */
+    public void testResultStream() {
+        EntityManager em = createEntityManager();
+        beginTransaction(em);
+        try {
+            long count = (Long)em.createQuery("Select count(employee) from Employee employee").getSingleResult();
+            TypedQuery<Employee> query = em.createQuery("Select employee from Employee employee", Employee.class);
+            try (Stream<Employee> results = query.getResultStream()) {
+                assertEquals("Wrong number of results in the stream", count, results.count());
+            }
+            // Closing a partially consumed stream releases its cursor.
+            try (Stream<Employee> results = query.getResultStream()) {
+                assertTrue("Expected a first result", results.findFirst().isPresent());
+            }
+            assertEquals("Wrong number of results after closing the stream", count, query.getResultList().size());
+        } finally {
+            rollbackTransaction(em);
+            closeEntityManager(em);
+        }
+    }
+
+    /**
+     * Test that a result stream releases the entities it read, but not the entities already managed.
+     */
+    public void testResultStreamReleaseInterval() {
+        EntityManager em = createEntityManager();
+        beginTransaction(em);
+        try {
+            Employee managed = em.createQuery("Select employee from Employee employee", Employee.class).setMaxResults(1).getSingleResult();
+            TypedQuery<Employee> query = em.createQuery("Select employee from Employee employee", Employee.class);
+            query.setHint(QueryHints.RESULT_STREAM_RELEASE_INTERVAL, 2);
+            List<Employee> results;
+            try (Stream<Employee> stream = query.getResultStream()) {
+                results = stream.collect(Collectors.toList());
+            }
+            assertTrue("Expected more than two results", results.size() > 2);
+            assertTrue("The entity managed before the stream was released", em.contains(managed));
+            assertTrue("Expected the managed entity in the results", results.contains(managed));
+            boolean released = false;
+            for (Employee employee : results) {
+                if (!em.contains(employee)) {
+                    released = true;
+                }
+            }
+            assertTrue("No entity read by the stream was released", released);
+        } finally {
+            rollbackTransaction(em);
+            closeEntityManager(em);
+        }
+    }
+
     /**
      * Test the result type of various queries.
      */
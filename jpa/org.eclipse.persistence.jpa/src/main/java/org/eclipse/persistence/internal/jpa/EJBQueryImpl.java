@@ -64,6 +64,7 @@
 import org.eclipse.persistence.queries.ReadQuery;
 import org.eclipse.persistence.queries.ResultSetMappingQuery;
 import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.SessionProfiler;
 
 /**
  * Concrete JPA query class. The JPA query wraps a DatabaseQuery which is
@@ -138,8 +139,10 @@ public static DatabaseQuery buildEJBQLDatabaseQuery(String queryName, String jpq
         DatabaseQuery databaseQuery = null;
         if (isCacheable) {
             databaseQuery = session.getProject().getJPQLParseCache().get(jpqlQuery);
+            session.incrementProfile((databaseQuery == null) ? SessionProfiler.JPQLParseCacheMisses : SessionProfiler.JPQLParseCacheHits);
         }
         if ((databaseQuery == null) || (!databaseQuery.isPrepared())) {
+            long buildStartTime = System.nanoTime();
             JPAQueryBuilder queryBuilder = session.getQueryBuilder();
             databaseQuery = queryBuilder.buildQuery(jpqlQuery, session);
 
@@ -194,7 +197,7 @@ public static DatabaseQuery buildEJBQLDatabaseQuery(String queryName, String jpq
                 // Prepare query as hint may cause cloning (but not un-prepare
                 // as in read-only).
                 databaseQuery.checkPrepare(session, new DatabaseRecord());
-                session.getProject().getJPQLParseCache().put(jpqlQuery, databaseQuery);
+                session.getProject().getJPQLParseCache().put(jpqlQuery, databaseQuery, System.nanoTime() - buildStartTime);
             }
         }
 
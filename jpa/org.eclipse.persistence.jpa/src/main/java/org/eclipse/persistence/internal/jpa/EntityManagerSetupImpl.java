@@ -252,6 +252,7 @@
 import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
 import org.eclipse.persistence.internal.sessions.PropertiesHandler;
 import org.eclipse.persistence.internal.sessions.remote.RemoteConnection;
+import org.eclipse.persistence.jpa.metadata.CompactProjectCache;
 import org.eclipse.persistence.jpa.metadata.FileBasedProjectCache;
 import org.eclipse.persistence.jpa.metadata.MetadataSource;
 import org.eclipse.persistence.jpa.metadata.ProjectCache;
@@ -294,8 +295,11 @@
 import org.eclipse.persistence.sessions.server.ConnectionPolicy;
 import org.eclipse.persistence.sessions.server.ConnectionPool;
 import org.eclipse.persistence.sessions.server.ExternalConnectionPool;
+import org.eclipse.persistence.sessions.server.FairConnectionPool;
 import org.eclipse.persistence.sessions.server.ReadConnectionPool;
 import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.tools.profiler.FlightRecorderProfiler;
+import org.eclipse.persistence.tools.profiler.LatencyProfiler;
 import org.eclipse.persistence.tools.profiler.PerformanceMonitor;
 import org.eclipse.persistence.tools.profiler.PerformanceProfiler;
 import org.eclipse.persistence.tools.profiler.QueryMonitor;
@@ -1336,6 +1340,14 @@ protected void updateProfiler(Map persistenceProperties,ClassLoader loader) {
                 session.setProfiler(new PerformanceMonitor());
                 return;
             }
+            if (newProfilerClassName.equals(ProfilerType.LatencyProfiler)) {
+                session.setProfiler(new LatencyProfiler());
+                return;
+            }
+            if (newProfilerClassName.equals(ProfilerType.FlightRecorderProfiler)) {
+                session.setProfiler(new FlightRecorderProfiler());
+                return;
+            }
 
             if (newProfilerClassName.equals(ProfilerType.DMSProfiler)) {
                 newProfilerClassName = ProfilerType.DMSProfilerClassName;
@@ -1596,7 +1608,10 @@ protected void updateConnectionSettings(ServerSession serverSession, Map propert
         if (connectionsMap.isEmpty()) {
             return;
         }
-        for (Map.Entry<String, Object> entry : connectionsMap.entrySet()) {
+        // The fair pool replaces the pool, so must be processed before the other pool settings.
+        List<Map.Entry<String, Object>> entries = new ArrayList<>(connectionsMap.entrySet());
+        entries.sort((entry1, entry2) -> Boolean.compare(!isConnectionPoolFairProperty(entry1.getKey()), !isConnectionPoolFairProperty(entry2.getKey())));
+        for (Map.Entry<String, Object> entry : entries) {
             String poolName = "default";
             String attribute = null;
             try {
@@ -1677,6 +1692,30 @@ protected void updateConnectionSettings(ServerSession serverSession, Map propert
                     } else {
                         pool.addFailoverConnectionPool((String)entry.getValue());
                     }
+                } else if (attribute.equals(PersistenceUnitProperties.CONNECTION_POOL_FAIR)) {
+                    boolean fair = Boolean.parseBoolean((String)entry.getValue());
+                    if (fair && !(pool instanceof FairConnectionPool) && !(pool instanceof ExternalConnectionPool) && !(pool instanceof ReadConnectionPool)) {
+                        FairConnectionPool fairPool = new FairConnectionPool(pool.getName(), pool.getLogin(), serverSession);
+                        fairPool.setInitialNumberOfConnections(pool.getInitialNumberOfConnections());
+                        fairPool.setMinNumberOfConnections(pool.getMinNumberOfConnections());
+                        fairPool.setMaxNumberOfConnections(pool.getMaxNumberOfConnections());
+                        fairPool.setWaitTimeout(pool.getWaitTimeout());
+                        fairPool.setFailoverConnectionPools(pool.getFailoverConnectionPools());
+                        if (poolName.equals("read")) {
+                            serverSession.setReadConnectionPool(fairPool);
+                        } else if (poolName.equals("sequence")) {
+                            getDatabaseSession().getSequencingControl().setConnectionPool(fairPool);
+                        } else {
+                            if (serverSession.getReadConnectionPool() == pool) {
+                                serverSession.setReadConnectionPool(fairPool);
+                            }
+                            serverSession.addConnectionPool(fairPool);
+                        }
+                    }
+                } else if (attribute.equals(PersistenceUnitProperties.CONNECTION_POOL_PREFILL)) {
+                    if (pool instanceof FairConnectionPool) {
+                        ((FairConnectionPool)pool).setShouldPrefill(Boolean.parseBoolean((String)entry.getValue()));
+                    }
                 } else if (poolName.equals("read") && attribute.equals(PersistenceUnitProperties.CONNECTION_POOL_SHARED)) {
                     boolean shared = Boolean.parseBoolean((String)entry.getValue());
                     if (shared) {
@@ -1695,6 +1734,13 @@ protected void updateConnectionSettings(ServerSession serverSession, Map propert
         }
     }
 
+    /**
+     * Return if the "eclipselink.connection-pool." suffix configures a fair connection pool.
+     */
+    private static boolean isConnectionPoolFairProperty(String key) {
+        return key.equals(PersistenceUnitProperties.CONNECTION_POOL_FAIR) || key.endsWith('.' + PersistenceUnitProperties.CONNECTION_POOL_FAIR);
+    }
+
     protected void updateConnectionPolicy(ServerSession serverSession, Map m) {
         String isLazyString = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.EXCLUSIVE_CONNECTION_IS_LAZY, m, session);
         if(isLazyString != null) {
@@ -2343,6 +2389,22 @@ protected void updateCacheCoordination(Map m, ClassLoader loader) {
                 if (asynch != null) {
                     rcm.setShouldPropagateAsynchronously(asynch.equalsIgnoreCase("true"));
                 }
+                String coalescingWindow = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_COALESCING_WINDOW, m, this.session);
+                property = PersistenceUnitProperties.COORDINATION_COALESCING_WINDOW;
+                value = coalescingWindow;
+                if (coalescingWindow != null) {
+                    rcm.setCommandCoalescingWindow(Long.parseLong(coalescingWindow));
+                }
+                String coalescingSize = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_COALESCING_SIZE, m, this.session);
+                property = PersistenceUnitProperties.COORDINATION_COALESCING_SIZE;
+                value = coalescingSize;
+                if (coalescingSize != null) {
+                    rcm.setCommandCoalescingSize(Integer.parseInt(coalescingSize));
+                }
+                String compression = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_COMPRESSION, m, this.session);
+                if (compression != null) {
+                    rcm.setShouldCompressCommands(compression.equalsIgnoreCase("true"));
+                }
                 String threadPoolSize = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_THREAD_POOL_SIZE, m, this.session);
                 property = PersistenceUnitProperties.COORDINATION_THREAD_POOL_SIZE;
                 value = threadPoolSize;
@@ -2380,6 +2442,22 @@ protected void updateSerializer(Map m, ClassLoader loader) {
         }
     }
 
+    /**
+     * Update whether IN batch fetching binds the foreign key values as an array.
+     */
+    protected void updateBatchFetchArrayBinding(Map m) {
+        String arrayBindingString = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.BATCH_FETCH_ARRAY_BINDING, m, this.session);
+        if (arrayBindingString != null) {
+            if (arrayBindingString.equalsIgnoreCase("true")) {
+                this.session.getPlatform().setUsesArrayBindingForBatchFetch(true);
+            } else if (arrayBindingString.equalsIgnoreCase("false")) {
+                this.session.getPlatform().setUsesArrayBindingForBatchFetch(false);
+            } else {
+                session.handleException(ValidationException.invalidBooleanValueForProperty(arrayBindingString, PersistenceUnitProperties.BATCH_FETCH_ARRAY_BINDING));
+            }
+        }
+    }
+
     /**
      * Update whether session ShouldOptimizeResultSetAccess.
      */
@@ -2891,10 +2969,12 @@ protected void updateSession(Map m, ClassLoader loader) {
             setExceptionHandler(m, loader);
 
             updateBatchWritingSetting(m, loader);
+            updateBatchFetchArrayBinding(m);
 
             updateNativeSQLSetting(m);
             updateSequencing(m);
             updateSequencingStart(m);
+            updateSequencingBackgroundPreallocation(m);
             updateAllowNativeSQLQueriesSetting(m);
             updateSQLCastSetting(m);
             updateUppercaseSetting(m);
@@ -2916,6 +2996,8 @@ protected void updateSession(Map m, ClassLoader loader) {
             updateQueryTimeoutUnit(m);
             updateLockingTimestampDefault(m);
             updateSQLCallDeferralDefault(m);
+            updateCommitParallelPrepare(m);
+            updateCommitSortInserts(m);
             updateNamingIntoIndexed(m);
             if (!session.hasBroker()) {
                 updateCacheCoordination(m, loader);
@@ -2935,6 +3017,7 @@ protected void updateSession(Map m, ClassLoader loader) {
             updateConcurrencyManagerAllowInterruptedExceptionFired(m);
             updateConcurrencyManagerAllowConcurrencyExceptionToBeFiredUp(m);
             updateConcurrencyManagerAllowTakingStackTraceDuringReadLockAcquisition(m);
+            updateConcurrencyManagerUseUncontendedLockFastPath(m);
             updateConcurrencyManagerUseObjectBuildingSemaphore(m);
             updateConcurrencyManagerUseWriteLockManagerSemaphore(m);
             updateConcurrencyManagerNoOfThreadsAllowedToObjectBuildInParallel(m);
@@ -3281,6 +3364,16 @@ protected void updateBatchWritingSetting(Map persistenceProperties, ClassLoader
                 session.handleException(ValidationException.invalidValueForProperty(sizeString, PersistenceUnitProperties.BATCH_WRITING_SIZE, invalid));
             }
         }
+        String multiRowInsertString = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.BATCH_WRITING_MULTI_ROW_INSERT, persistenceProperties, this.session);
+        if (multiRowInsertString != null) {
+            if (multiRowInsertString.equalsIgnoreCase("true")) {
+                this.session.getPlatform().setUsesMultiRowInsertBatchWriting(true);
+            } else if (multiRowInsertString.equalsIgnoreCase("false")) {
+                this.session.getPlatform().setUsesMultiRowInsertBatchWriting(false);
+            } else {
+                session.handleException(ValidationException.invalidBooleanValueForProperty(multiRowInsertString, PersistenceUnitProperties.BATCH_WRITING_MULTI_ROW_INSERT));
+            }
+        }
     }
 
     /**
@@ -3415,6 +3508,27 @@ protected void updateSequencingStart(Map m) {
         }
     }
 
+    protected void updateSequencingBackgroundPreallocation(Map m) {
+        String background = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.SEQUENCING_BACKGROUND_PREALLOCATION, m, session);
+        if (background != null) {
+            if (background.equalsIgnoreCase("true")) {
+                getDatabaseSession().getSequencingControl().setShouldPreallocateInBackground(true);
+            } else if (background.equalsIgnoreCase("false")) {
+                getDatabaseSession().getSequencingControl().setShouldPreallocateInBackground(false);
+            } else {
+                this.session.handleException(ValidationException.invalidBooleanValueForProperty(background, PersistenceUnitProperties.SEQUENCING_BACKGROUND_PREALLOCATION));
+            }
+        }
+        String lowWaterMark = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.SEQUENCING_BACKGROUND_PREALLOCATION_LOW_WATER_MARK, m, session);
+        try {
+            if (lowWaterMark != null) {
+                getDatabaseSession().getSequencingControl().setPreallocationLowWaterMark(Integer.parseInt(lowWaterMark.trim()));
+            }
+        } catch (NumberFormatException exception) {
+            this.session.handleException(ValidationException.invalidValueForProperty(lowWaterMark, PersistenceUnitProperties.SEQUENCING_BACKGROUND_PREALLOCATION_LOW_WATER_MARK, exception));
+        }
+    }
+
     /**
      * Load the projectCacheAccessor for JPA project caching
      */
@@ -3427,6 +3541,8 @@ protected void updateProjectCache(Map m, ClassLoader loader){
                 String accessorType = (String)accessor;
                 if (accessorType.equalsIgnoreCase("java-serialization")) {
                     projectCacheAccessor = new FileBasedProjectCache();
+                } else if (accessorType.equalsIgnoreCase("compact")) {
+                    projectCacheAccessor = new CompactProjectCache();
                 } else {
                     try {
                         Class<? extends ProjectCache> transportClass = findClassForProperty(accessorType, PersistenceUnitProperties.PROJECT_CACHE, loader);
@@ -3598,6 +3714,18 @@ protected void updateCacheStatementSettings(Map m){
                 session.handleException(ValidationException.invalidCacheStatementsSize(cacheStatementsSize,e.getMessage()));
             }
         }
+
+        // Normalize the statement cache keys if specified.
+        String cacheStatementsNormalize = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CACHE_STATEMENTS_NORMALIZE, m, session);
+        if (cacheStatementsNormalize != null) {
+            if (cacheStatementsNormalize.equalsIgnoreCase("true")) {
+                session.getProject().getLogin().setShouldNormalizeStatementCacheKeys(true);
+            } else if (cacheStatementsNormalize.equalsIgnoreCase("false")) {
+                session.getProject().getLogin().setShouldNormalizeStatementCacheKeys(false);
+            } else {
+                session.handleException(ValidationException.invalidBooleanValueForProperty(cacheStatementsNormalize, PersistenceUnitProperties.CACHE_STATEMENTS_NORMALIZE));
+            }
+        }
     }
 
     /**
@@ -3756,6 +3884,32 @@ private void updateSQLCallDeferralDefault(Map persistenceProperties) {
         }
     }
 
+    private void updateCommitParallelPrepare(Map persistenceProperties) {
+        String parallel = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.PERSISTENCE_CONTEXT_COMMIT_PARALLEL_PREPARE, persistenceProperties, this.session);
+        if (parallel != null) {
+            if (parallel.equalsIgnoreCase("true")) {
+                this.session.getCommitManager().setShouldPrepareInParallel(true);
+            } else if (parallel.equalsIgnoreCase("false")) {
+                this.session.getCommitManager().setShouldPrepareInParallel(false);
+            } else {
+                this.session.handleException(ValidationException.invalidBooleanValueForProperty(parallel, PersistenceUnitProperties.PERSISTENCE_CONTEXT_COMMIT_PARALLEL_PREPARE));
+            }
+        }
+    }
+
+    private void updateCommitSortInserts(Map persistenceProperties) {
+        String sort = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.PERSISTENCE_CONTEXT_COMMIT_SORT_INSERTS, persistenceProperties, this.session);
+        if (sort != null) {
+            if (sort.equalsIgnoreCase("true")) {
+                this.session.getCommitManager().setShouldSortNewObjects(true);
+            } else if (sort.equalsIgnoreCase("false")) {
+                this.session.getCommitManager().setShouldSortNewObjects(false);
+            } else {
+                this.session.handleException(ValidationException.invalidBooleanValueForProperty(sort, PersistenceUnitProperties.PERSISTENCE_CONTEXT_COMMIT_SORT_INSERTS));
+            }
+        }
+    }
+
     private void updateNamingIntoIndexed(Map persistenceProperties) {
         String namingIntoIndexed = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.NAMING_INTO_INDEXED, persistenceProperties, this.session);
         if (namingIntoIndexed != null) {
@@ -3857,6 +4011,13 @@ private void updateConcurrencyManagerAllowTakingStackTraceDuringReadLockAcquisit
         }
     }
 
+    private void updateConcurrencyManagerUseUncontendedLockFastPath(Map persistenceProperties) {
+        String useUncontendedLockFastPath = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CONCURRENCY_MANAGER_USE_UNCONTENDED_LOCK_FAST_PATH, persistenceProperties, session);
+        if (useUncontendedLockFastPath != null) {
+            ConcurrencyUtil.SINGLETON.setUseUncontendedLockFastPath(Boolean.parseBoolean(useUncontendedLockFastPath));
+        }
+    }
+
     private void updateConcurrencyManagerUseObjectBuildingSemaphore(Map persistenceProperties) {
         String useObjectBuildingSemaphore = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CONCURRENCY_MANAGER_USE_SEMAPHORE_TO_SLOW_DOWN_OBJECT_BUILDING, persistenceProperties, session);
         try {
@@ -312,10 +312,15 @@ protected static abstract class Hint {
             addHint(new ResultTypeHint());
             addHint(new ResultSetTypeHint());
             addHint(new ResultSetConcurrencyHint());
+            addHint(new ResultStreamReleaseIntervalHint());
+            addHint(new ParallelBuildChunkSizeHint());
+            addHint(new KeysetPaginationHint());
+            addHint(new KeysetAfterHint());
             addHint(new IndirectionPolicyHint());
             addHint(new QueryCacheTypeHint());
             addHint(new QueryCacheIgnoreNullHint());
             addHint(new QueryCacheInvalidateOnChangeHint());
+            addHint(new QueryCacheTrackDependenciesHint());
             addHint(new QueryCacheRandomizedExpiryHint());
             // 325167: Make reserved # bind parameter char generic to enable native SQL pass through
             addHint(new ParameterDelimiterHint());
@@ -1045,6 +1050,74 @@ DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, Cla
         }
     }
 
+    protected static class ResultStreamReleaseIntervalHint extends Hint {
+        ResultStreamReleaseIntervalHint() {
+            super(QueryHints.RESULT_STREAM_RELEASE_INTERVAL, "");
+        }
+
+        @Override
+        DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, ClassLoader loader, AbstractSession activeSession) {
+            if (query.isReadAllQuery() || query.isDataReadQuery()) {
+                query.setProperty(QueryHints.RESULT_STREAM_RELEASE_INTERVAL, QueryHintsHandler.parseIntegerHint(valueToApply, QueryHints.RESULT_STREAM_RELEASE_INTERVAL));
+            } else {
+                throw new IllegalArgumentException(ExceptionLocalization.buildMessage("ejb30-wrong-type-for-query-hint",new Object[]{getQueryId(query), name, getPrintValue(valueToApply)}));
+            }
+            return query;
+        }
+    }
+
+    protected static class ParallelBuildChunkSizeHint extends Hint {
+        ParallelBuildChunkSizeHint() {
+            super(QueryHints.PARALLEL_BUILD_CHUNK_SIZE, "");
+        }
+
+        @Override
+        DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, ClassLoader loader, AbstractSession activeSession) {
+            if (query.isReadAllQuery()) {
+                ((ReadAllQuery)query).setParallelBuildChunkSize(QueryHintsHandler.parseIntegerHint(valueToApply, QueryHints.PARALLEL_BUILD_CHUNK_SIZE));
+            } else {
+                throw new IllegalArgumentException(ExceptionLocalization.buildMessage("ejb30-wrong-type-for-query-hint",new Object[]{getQueryId(query), name, getPrintValue(valueToApply)}));
+            }
+            return query;
+        }
+    }
+
+    protected static class KeysetPaginationHint extends Hint {
+        KeysetPaginationHint() {
+            super(QueryHints.KEYSET_PAGINATION, HintValues.FALSE);
+            valueArray = new Object[][] {
+                {HintValues.FALSE, Boolean.FALSE},
+                {HintValues.TRUE, Boolean.TRUE}
+            };
+        }
+
+        @Override
+        DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, ClassLoader loader, AbstractSession activeSession) {
+            if (query.isObjectLevelReadQuery()) {
+                ((ObjectLevelReadQuery)query).setUsesKeysetPagination((Boolean) valueToApply);
+            } else {
+                throw new IllegalArgumentException(ExceptionLocalization.buildMessage("ejb30-wrong-type-for-query-hint",new Object[]{getQueryId(query), name, getPrintValue(valueToApply)}));
+            }
+            return query;
+        }
+    }
+
+    protected static class KeysetAfterHint extends Hint {
+        KeysetAfterHint() {
+            super(QueryHints.KEYSET_AFTER, "");
+        }
+
+        @Override
+        DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, ClassLoader loader, AbstractSession activeSession) {
+            if (query.isObjectLevelReadQuery()) {
+                ((ObjectLevelReadQuery)query).setKeysetAfter("".equals(valueToApply) ? null : valueToApply);
+            } else {
+                throw new IllegalArgumentException(ExceptionLocalization.buildMessage("ejb30-wrong-type-for-query-hint",new Object[]{getQueryId(query), name, getPrintValue(valueToApply)}));
+            }
+            return query;
+        }
+    }
+
     protected static class ExclusiveHint extends Hint {
         ExclusiveHint() {
             super(QueryHints.EXCLUSIVE_CONNECTION, HintValues.FALSE);
@@ -1376,6 +1449,33 @@ DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, Cla
         }
     }
 
+    /**
+     * Define the query cache track dependencies hint.
+     * Only reset the query cache if unset (as other query cache properties may be set first).
+     */
+    protected static class QueryCacheTrackDependenciesHint extends Hint {
+        QueryCacheTrackDependenciesHint() {
+            super(QueryHints.QUERY_RESULTS_CACHE_TRACK_DEPENDENCIES, HintValues.FALSE);
+            valueArray = new Object[][] {
+                {HintValues.FALSE, Boolean.FALSE},
+                {HintValues.TRUE, Boolean.TRUE}
+            };
+        }
+
+        @Override
+        DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, ClassLoader loader, AbstractSession activeSession) {
+            if (query.isReadQuery()) {
+                if (((ReadQuery)query).getQueryResultsCachePolicy() == null) {
+                    ((ReadQuery)query).cacheQueryResults();
+                }
+                ((ReadQuery)query).getQueryResultsCachePolicy().setIsDependencyTracked((Boolean) valueToApply);
+            } else {
+                throw new IllegalArgumentException(ExceptionLocalization.buildMessage("ejb30-wrong-type-for-query-hint",new Object[]{getQueryId(query), name, getPrintValue(valueToApply)}));
+            }
+            return query;
+        }
+    }
+
     /**
      * Define the query cache randomized expiry hint.
      * Only reset the query cache if unset (as other query cache properties may be set first).
@@ -1493,6 +1593,8 @@ DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, Cla
                     readQuery.getQueryResultsCachePolicy().setCacheType(ClassConstants.HardCacheWeakIdentityMap_Class);
                 } else if (valueToApply.equals(CacheType.CACHE.name())) {
                     readQuery.getQueryResultsCachePolicy().setCacheType(ClassConstants.CacheIdentityMap_Class);
+                } else if (valueToApply.equals(CacheType.CONCURRENT_CACHE.name())) {
+                    readQuery.getQueryResultsCachePolicy().setCacheType(ClassConstants.ConcurrentCacheIdentityMap_Class);
                 } else if (valueToApply.equals(CacheType.NONE.name())) {
                     readQuery.getQueryResultsCachePolicy().setCacheType(ClassConstants.NoIdentityMap_Class);
                 } else {
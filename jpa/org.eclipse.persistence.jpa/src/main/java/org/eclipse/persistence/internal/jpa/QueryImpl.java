@@ -36,6 +36,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import jakarta.persistence.FlushModeType;
 import jakarta.persistence.LockModeType;
@@ -50,6 +51,7 @@
 import jakarta.persistence.TemporalType;
 import jakarta.persistence.TransactionRequiredException;
 
+import org.eclipse.persistence.config.QueryHints;
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.QueryException;
 import org.eclipse.persistence.internal.helper.BasicTypeHelperImpl;
@@ -59,12 +61,16 @@
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.jpa.querydef.ParameterExpressionImpl;
 import org.eclipse.persistence.internal.localization.ExceptionLocalization;
+import org.eclipse.persistence.internal.queries.ContainerPolicy;
+import org.eclipse.persistence.internal.queries.CursorSpliterator;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
 import org.eclipse.persistence.jpa.JpaEntityManager;
 import org.eclipse.persistence.platform.database.oracle.plsql.PLSQLStoredProcedureCall;
 import org.eclipse.persistence.platform.database.oracle.plsql.PLSQLargument;
 import org.eclipse.persistence.queries.Call;
+import org.eclipse.persistence.queries.Cursor;
+import org.eclipse.persistence.queries.CursoredStreamPolicy;
 import org.eclipse.persistence.queries.DataModifyQuery;
 import org.eclipse.persistence.queries.DataReadQuery;
 import org.eclipse.persistence.queries.DatabaseQuery;
@@ -85,6 +91,9 @@ public class QueryImpl {
 
     public static final int UNDEFINED = -1;
 
+    /** The JDBC fetch size of the cursor of a result stream, if the query does not set one. */
+    public static final int DEFAULT_RESULT_STREAM_FETCH_SIZE = 100;
+
     /**
      * Wrapped native query. The query may be {@link #isShared}
      */
@@ -489,6 +498,98 @@ public List getResultList() {
         }
     }
 
+    /**
+     * Execute the query and return the query results as a Stream.
+     * The results are read through a cursor, and each object is built when the stream consumes it.
+     * The cursor releases its statement and connection once the last result is consumed,
+     * so a stream that is not fully consumed must be closed.
+     * The JDBC fetch size of the cursor can be set with the "eclipselink.jdbc.fetch-size" hint,
+     * and the "eclipselink.result-stream.release-interval" hint releases the objects
+     * built by the stream from the persistence context.
+     *
+     * @return a stream of the results
+     * @see org.eclipse.persistence.config.QueryHints#RESULT_STREAM_RELEASE_INTERVAL
+     */
+    public Stream getResultStream() {
+        // bug51411440: need to throw IllegalStateException if query
+        // executed on closed em
+        this.entityManager.verifyOpenWithSetRollbackOnly();
+        setAsSQLReadQuery();
+        ContainerPolicy policy = getStreamContainerPolicy(getDatabaseQueryInternal());
+        if (policy == null) {
+            return getResultList().stream();
+        }
+        DatabaseQuery originalQuery = null;
+        boolean wasShared = false;
+        try {
+            propagateResultProperties();
+            ReadQuery query = (ReadQuery) getDatabaseQueryInternal();
+            if (!policy.isCursorPolicy()) {
+                // Execute a clone using a cursor, so the query is unchanged for the other results.
+                originalQuery = query;
+                wasShared = this.isShared;
+                query = (ReadQuery) query.clone();
+                if (query.getFetchSize() == 0) {
+                    query.setFetchSize(DEFAULT_RESULT_STREAM_FETCH_SIZE);
+                }
+                CursoredStreamPolicy cursorPolicy = new CursoredStreamPolicy(query, 1, 1);
+                if (query.isReadAllQuery()) {
+                    ((ReadAllQuery) query).setContainerPolicy(cursorPolicy);
+                } else {
+                    ((DataReadQuery) query).setContainerPolicy(cursorPolicy);
+                }
+                query.setIsPrepared(false);
+                this.databaseQuery = query;
+                this.isShared = false;
+            }
+            Integer releaseInterval = (Integer) query.getProperty(QueryHints.RESULT_STREAM_RELEASE_INTERVAL);
+            // Only the objects registered by the stream are released, not those already managed.
+            Set<Object> managedObjects = null;
+            if ((releaseInterval != null) && (releaseInterval > 0)) {
+                managedObjects = CursorSpliterator.getManagedObjects(getActiveSession());
+            }
+            Cursor cursor = (Cursor) executeReadQuery();
+            return CursorSpliterator.stream(cursor, (releaseInterval == null) ? 0 : releaseInterval, managedObjects);
+        } catch (LockTimeoutException exception) {
+            throw exception;
+        } catch (PersistenceException | IllegalStateException exception) {
+            setRollbackOnly();
+            throw exception;
+        } catch (RuntimeException exception) {
+            setRollbackOnly();
+            throw new PersistenceException(exception);
+        } finally {
+            if (originalQuery != null) {
+                this.databaseQuery = originalQuery;
+                this.isShared = wasShared;
+            }
+        }
+    }
+
+    /**
+     * Return the container policy of the query if its results can be read through a cursor,
+     * otherwise null.
+     * Single results, maps, and results read from the cache only are not streamed from a cursor.
+     */
+    protected ContainerPolicy getStreamContainerPolicy(DatabaseQuery query) {
+        ContainerPolicy policy;
+        if (query.isReadAllQuery()) {
+            ReadAllQuery readAllQuery = (ReadAllQuery) query;
+            if (readAllQuery.shouldCheckCacheOnly() || ((readAllQuery.getDescriptor() != null) && readAllQuery.getDescriptor().isDescriptorForInterface())) {
+                return null;
+            }
+            policy = readAllQuery.getContainerPolicy();
+        } else if (query.isDataReadQuery() && !query.isValueReadQuery()) {
+            policy = ((DataReadQuery) query).getContainerPolicy();
+        } else {
+            return null;
+        }
+        if (policy.isCursorPolicy() || policy.isListPolicy()) {
+            return policy;
+        }
+        return null;
+    }
+
     /**
      * Execute a SELECT query that returns a single untyped result.
      *
@@ -47,6 +47,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Vector;
+import java.util.stream.Stream;
 
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
@@ -600,6 +601,16 @@ public List getResultList() {
         }
     }
 
+    /**
+     * Execute the query and return the query results as a Stream.
+     * The results of a stored procedure are read as for getResultList().
+     * @return a stream of the results
+     */
+    @Override
+    public Stream getResultStream() {
+        return getResultList().stream();
+    }
+
     /**
      * Return the ResultSetMappingQuery for this stored procedure query.
      * NOTE: Methods assumes associated database query is a ResultSetMappingQuery.
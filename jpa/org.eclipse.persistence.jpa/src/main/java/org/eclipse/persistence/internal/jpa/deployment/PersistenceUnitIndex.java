@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.jpa.deployment;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+import org.eclipse.persistence.internal.jpa.metadata.accessors.objects.MetadataClass;
+import org.eclipse.persistence.internal.jpa.metadata.accessors.objects.MetadataFactory;
+import org.eclipse.persistence.jpa.Archive;
+import org.eclipse.persistence.logging.AbstractSessionLog;
+import org.eclipse.persistence.logging.SessionLog;
+
+/**
+ * INTERNAL:
+ * The persistence unit index of an archive lists the classes of the archive that are annotated
+ * with &#64;Entity, &#64;Embeddable, &#64;MappedSuperclass, &#64;Converter or &#64;StaticMetamodel,
+ * directly or through meta-annotations.
+ * <p>
+ * The index is written into the archive at build time by static weaving (see the {@code -index} option of StaticWeave),
+ * and predeploy then only reads the indexed classes instead of scanning every class of the archive.
+ * The index records the number and a checksum of the class names of the archive; an index that does not
+ * match the classes of the archive is ignored and the archive is scanned.
+ */
+public final class PersistenceUnitIndex {
+
+    /** The entry of the index in the archive. */
+    public static final String INDEX_ENTRY = "META-INF/eclipselink-persistence-unit.index";
+
+    /** The version of the index format. */
+    private static final String VERSION = "1";
+
+    private static final String VERSION_PROPERTY = "version";
+    private static final String CLASS_COUNT_PROPERTY = "class-count";
+    private static final String CLASS_CHECKSUM_PROPERTY = "class-checksum";
+    private static final String CLASSES_PROPERTY = "classes";
+
+    private PersistenceUnitIndex() {
+    }
+
+    /**
+     * Return if predeploy processes the class when it is found in an archive.
+     */
+    public static boolean isIndexed(MetadataClass candidateClass) {
+        return PersistenceUnitProcessor.isEntity(candidateClass)
+                || PersistenceUnitProcessor.isEmbeddable(candidateClass)
+                || PersistenceUnitProcessor.isStaticMetamodelClass(candidateClass)
+                || PersistenceUnitProcessor.isConverter(candidateClass)
+                || PersistenceUnitProcessor.isMappedSuperclass(candidateClass);
+    }
+
+    /**
+     * Build the index of the class names of an archive, reading the classes with the factory.
+     */
+    public static byte[] build(Collection<String> classNames, MetadataFactory factory) {
+        List<String> indexed = new ArrayList<>();
+        for (String className : new TreeSet<>(classNames)) {
+            MetadataClass candidateClass = factory.getMetadataClass(className, true);
+            if (candidateClass != null && isIndexed(candidateClass)) {
+                indexed.add(className);
+            }
+        }
+        // Written as properties without the timestamp of Properties.store, so that builds are reproducible.
+        String index = "# EclipseLink persistence unit index\n"
+                + VERSION_PROPERTY + "=" + VERSION + "\n"
+                + CLASS_COUNT_PROPERTY + "=" + new HashSet<>(classNames).size() + "\n"
+                + CLASS_CHECKSUM_PROPERTY + "=" + checksum(classNames) + "\n"
+                + CLASSES_PROPERTY + "=" + String.join(",", indexed) + "\n";
+        return index.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Return the indexed class names of the archive, or null if the archive has no index,
+     * or an index that does not match the class names of the archive.
+     */
+    public static Set<String> read(Archive archive, Set<String> classNames) throws IOException {
+        Properties index = new Properties();
+        try (InputStream in = archive.getEntry(INDEX_ENTRY)) {
+            if (in == null) {
+                return null;
+            }
+            index.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+        if (!VERSION.equals(index.getProperty(VERSION_PROPERTY))
+                || !String.valueOf(classNames.size()).equals(index.getProperty(CLASS_COUNT_PROPERTY))
+                || !checksum(classNames).equals(index.getProperty(CLASS_CHECKSUM_PROPERTY))) {
+            AbstractSessionLog.getLog().log(SessionLog.WARNING, SessionLog.JPA, "persistence_unit_index_out_of_date", INDEX_ENTRY, archive.getRootURL());
+            return null;
+        }
+        Set<String> indexed = new HashSet<>();
+        String classes = index.getProperty(CLASSES_PROPERTY, "");
+        if (!classes.isEmpty()) {
+            for (String className : classes.split(",")) {
+                indexed.add(className);
+            }
+        }
+        return indexed;
+    }
+
+    /**
+     * Return the checksum of the sorted class names.
+     */
+    private static String checksum(Collection<String> classNames) {
+        CRC32 checksum = new CRC32();
+        for (String className : new TreeSet<>(classNames)) {
+            checksum.update(className.getBytes(StandardCharsets.UTF_8));
+            checksum.update('\n');
+        }
+        return Long.toHexString(checksum.getValue());
+    }
+}
@@ -482,6 +482,20 @@ public static ArchiveFactory getArchiveFactory(ClassLoader loader, Map propertie
     }
 
     public static Set<String> getClassNamesFromURL(URL url, ClassLoader loader, Map properties) {
+        return getClassNamesFromURL(url, loader, properties, false);
+    }
+
+    /**
+     * Return the names of the classes at the URL that predeploy processes.
+     * These are the classes listed by the persistence unit index of the archive, if it has an index
+     * that matches its classes, otherwise all the classes at the URL.
+     * @see PersistenceUnitIndex
+     */
+    public static Set<String> getIndexedClassNamesFromURL(URL url, ClassLoader loader, Map properties) {
+        return getClassNamesFromURL(url, loader, properties, true);
+    }
+
+    private static Set<String> getClassNamesFromURL(URL url, ClassLoader loader, Map properties, boolean useIndex) {
         Set<String> classNames = new HashSet<>();
         Archive archive = null;
         try {
@@ -494,6 +508,12 @@ public static Set<String> getClassNamesFromURL(URL url, ClassLoader loader, Map
                         classNames.add(buildClassNameFromEntryString(entry));
                     }
                 }
+                if (useIndex) {
+                    Set<String> indexedClassNames = PersistenceUnitIndex.read(archive, classNames);
+                    if (indexedClassNames != null) {
+                        return indexedClassNames;
+                    }
+                }
             }
         } catch (URISyntaxException | IOException e) {
             throw new RuntimeException("url = [" + url + "]", e);  // NOI18N
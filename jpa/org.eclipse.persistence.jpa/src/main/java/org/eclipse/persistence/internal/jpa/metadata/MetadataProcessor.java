@@ -332,15 +332,17 @@ protected void initPersistenceUnitClasses() {
         // Add all the <class> specifications.
         List<String> classNames = new ArrayList<>(persistenceUnitInfo.getManagedClassNames());
 
-        // Add all the classes from the <jar> specifications.
+        // Add all the classes from the <jar> specifications, or only the
+        // indexed classes of the archives that have a persistence unit index.
         for (URL url : persistenceUnitInfo.getJarFileUrls()) {
-            classNames.addAll(PersistenceUnitProcessor.getClassNamesFromURL(url, m_loader, null));
+            classNames.addAll(PersistenceUnitProcessor.getIndexedClassNamesFromURL(url, m_loader, null));
         }
 
-        // Add all the classes off the classpath at the persistence unit root url.
+        // Add all the classes off the classpath at the persistence unit root
+        // url, or only the indexed classes if it has a persistence unit index.
         Set<String> unlistedClasses = Collections.emptySet();
         if (! persistenceUnitInfo.excludeUnlistedClasses()) {
-            unlistedClasses = PersistenceUnitProcessor.getClassNamesFromURL(persistenceUnitInfo.getPersistenceUnitRootUrl(), m_loader, m_predeployProperties);
+            unlistedClasses = PersistenceUnitProcessor.getIndexedClassNamesFromURL(persistenceUnitInfo.getPersistenceUnitRootUrl(), m_loader, m_predeployProperties);
         }
 
         // 5 - Go through all the class names we found and add those classes
@@ -0,0 +1,489 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.jpa.metadata;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
+
+import org.eclipse.persistence.Version;
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.Project;
+
+/**
+ * <p><b>Purpose</b>: Support storing/retrieving a project representing application metadata
+ * to/from a file in a compact, indexed format that is read through a memory mapped buffer.
+ * <p>
+ * The file starts with a header holding a format version and the EclipseLink version that wrote it,
+ * followed by an index of the project's descriptors and the records that hold them,
+ * and a table of the serialized classes that the records refer to by position instead of repeating their descriptions.
+ * Descriptors are grouped so that descriptors sharing objects (such as a subclass and its parent)
+ * are in the same record, and each record is serialized on its own.
+ * The project and the descriptors it shares objects with are stored in the first record.
+ * On retrieval each record is materialized independently, on concurrent threads,
+ * straight from the mapped file; a file written by another format or EclipseLink version is ignored.
+ * <p>
+ * The file name is given by {@link PersistenceUnitProperties#PROJECT_CACHE_FILE}.
+ *
+ * @see PersistenceUnitProperties#PROJECT_CACHE
+ */
+public class CompactProjectCache implements ProjectCache {
+
+    /** Marks the start of a compact project cache file, "ELPC". */
+    private static final int MAGIC = 0x454C5043;
+
+    /** The version of the file format, incremented on incompatible changes. */
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * Default constructor.
+     */
+    public CompactProjectCache() {
+    }
+
+    @Override
+    public Project retrieveProject(Map<String, ?> properties, ClassLoader loader, SessionLog log) {
+        Project project = null;
+        String fileName = (String)PropertyHelper.getConfigPropertyLogDebug(
+                PersistenceUnitProperties.PROJECT_CACHE_FILE,
+                properties, log);
+        if (fileName != null && !fileName.isEmpty()) {
+            try (FileChannel channel = FileChannel.open(Path.of(fileName), StandardOpenOption.READ)) {
+                project = readProject(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), loader);
+            } catch (Exception e) {
+                //the project not being cached should be different than an exception from reading the file
+                log.logThrowable(SessionLog.WARNING, SessionLog.JPA, e);
+            }
+        }
+        return project;
+    }
+
+    @Override
+    public void storeProject(Project project, Map<String, ?> properties, SessionLog log) {
+        String fileName = (String)PropertyHelper.getConfigPropertyLogDebug(
+                PersistenceUnitProperties.PROJECT_CACHE_FILE,
+                properties, log);
+        if (fileName != null && !fileName.isEmpty()) {
+            try (OutputStream out = new BufferedOutputStream(new FileOutputStream(fileName))) {
+                writeProject(project, out);
+            } catch (Exception e) {
+                //the session is still usable, just not cachable so log a warning
+                log.logThrowable(SessionLog.WARNING, SessionLog.JPA, e);
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Write the project to the stream in the compact format.
+     */
+    protected void writeProject(Project project, OutputStream stream) throws IOException {
+        List<ClassDescriptor> descriptors = project.getOrderedDescriptors();
+        int shell = descriptors.size();
+        // The descriptor collections are rebuilt from the index on retrieval, if they only hold ordered descriptors.
+        Map<Object, Object> replacements = new IdentityHashMap<>();
+        replacements.put(descriptors, new ArrayList<>());
+        Map<ClassDescriptor, Integer> positions = new IdentityHashMap<>();
+        for (int index = 0; index < shell; index++) {
+            positions.put(descriptors.get(index), index);
+        }
+        boolean[] mapped = new boolean[shell];
+        if (isIndexed(project.getDescriptors(), positions, mapped, true)) {
+            replacements.put(project.getDescriptors(), new HashMap<>());
+        }
+        Map<String, ClassDescriptor> aliases = project.getAliasDescriptors();
+        if (aliases != null && isIndexed(aliases, positions, null, false)) {
+            replacements.put(aliases, new HashMap<>());
+        } else {
+            aliases = Map.of();
+        }
+
+        // Group the descriptors, and the project, that share objects.
+        int[] groups = new int[shell + 1];
+        Map<Object, Integer> owners = new IdentityHashMap<>();
+        for (int node = 0; node <= shell; node++) {
+            groups[node] = node;
+            try (ObjectOutputStream out = new GroupingOutputStream(OutputStream.nullOutputStream(), node, groups, owners, replacements)) {
+                out.writeObject(node == shell ? project : descriptors.get(node));
+            }
+        }
+
+        // The project's group is the first record, then one record per group in descriptor order.
+        Map<Integer, Integer> records = new HashMap<>();
+        records.put(find(groups, shell), 0);
+        int[] recordOf = new int[shell];
+        for (int index = 0; index < shell; index++) {
+            recordOf[index] = records.computeIfAbsent(find(groups, index), group -> records.size());
+        }
+        ByteArrayOutputStream[] contents = new ByteArrayOutputStream[records.size()];
+        ObjectOutputStream[] outs = new ObjectOutputStream[records.size()];
+        Map<String, Integer> classIndexes = new HashMap<>();
+        List<ObjectStreamClass> classes = new ArrayList<>();
+        for (int record = 0; record < contents.length; record++) {
+            contents[record] = new ByteArrayOutputStream();
+            outs[record] = new RecordOutputStream(contents[record], replacements, classIndexes, classes);
+        }
+        outs[0].writeObject(project);
+        for (int index = 0; index < shell; index++) {
+            outs[recordOf[index]].writeObject(descriptors.get(index));
+        }
+
+        DataOutputStream out = new DataOutputStream(stream);
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeUTF(Version.getVersionString());
+        out.writeBoolean(replacements.containsKey(project.getDescriptors()));
+        out.writeBoolean(!aliases.isEmpty());
+        out.writeInt(shell);
+        for (int index = 0; index < shell; index++) {
+            out.writeInt(recordOf[index]);
+            out.writeBoolean(mapped[index]);
+            List<String> names = new ArrayList<>();
+            for (Map.Entry<String, ClassDescriptor> alias : aliases.entrySet()) {
+                if (alias.getValue() == descriptors.get(index)) {
+                    names.add(alias.getKey());
+                }
+            }
+            out.writeInt(names.size());
+            for (String name : names) {
+                out.writeUTF(name);
+            }
+        }
+        out.writeInt(contents.length);
+        for (int record = 0; record < contents.length; record++) {
+            outs[record].close();
+            out.writeInt(contents[record].size());
+        }
+        out.writeInt(classes.size());
+        for (ObjectStreamClass description : classes) {
+            out.writeUTF(description.getName());
+            out.writeLong(description.getSerialVersionUID());
+        }
+        for (ByteArrayOutputStream content : contents) {
+            content.writeTo(out);
+        }
+        out.flush();
+    }
+
+    /**
+     * INTERNAL:
+     * Read the project from the buffer holding the compact format.
+     * The records are materialized on concurrent threads, classes are resolved with the loader, if given.
+     */
+    protected Project readProject(ByteBuffer buffer, ClassLoader loader) throws IOException {
+        ByteBuffer header = buffer.duplicate();
+        DataInputStream in = new DataInputStream(new BufferInputStream(header));
+        if (in.readInt() != MAGIC) {
+            throw new StreamCorruptedException("Not a compact project cache file");
+        }
+        int formatVersion = in.readInt();
+        String version = in.readUTF();
+        if (formatVersion != FORMAT_VERSION || !Version.getVersionString().equals(version)) {
+            throw new StreamCorruptedException("Project cache file format " + formatVersion + " written by " + version
+                    + " cannot be read by " + Version.getVersionString());
+        }
+        boolean mapped = in.readBoolean();
+        boolean aliased = in.readBoolean();
+        int count = in.readInt();
+        int[] recordOf = new int[count];
+        boolean[] mappedDescriptors = new boolean[count];
+        String[][] aliases = new String[count][];
+        for (int index = 0; index < count; index++) {
+            recordOf[index] = in.readInt();
+            mappedDescriptors[index] = in.readBoolean();
+            aliases[index] = new String[in.readInt()];
+            for (int alias = 0; alias < aliases[index].length; alias++) {
+                aliases[index][alias] = in.readUTF();
+            }
+        }
+        int[] offsets = new int[in.readInt() + 1];
+        for (int record = 1; record < offsets.length; record++) {
+            offsets[record] = offsets[record - 1] + in.readInt();
+        }
+        String[] classNames = new String[in.readInt()];
+        long[] serialVersionUIDs = new long[classNames.length];
+        for (int index = 0; index < classNames.length; index++) {
+            classNames[index] = in.readUTF();
+            serialVersionUIDs[index] = in.readLong();
+        }
+        ObjectStreamClass[] classes = new ObjectStreamClass[classNames.length];
+        int start = header.position();
+
+        Project[] project = new Project[1];
+        ClassDescriptor[] descriptors = new ClassDescriptor[count];
+        IntStream.range(0, offsets.length - 1).parallel().forEach(record -> {
+            ByteBuffer content = buffer.slice(start + offsets[record], offsets[record + 1] - offsets[record]);
+            try (ObjectInputStream input = new RecordInputStream(new BufferInputStream(content), loader, classNames, serialVersionUIDs, classes)) {
+                if (record == 0) {
+                    project[0] = (Project)input.readObject();
+                }
+                for (int index = 0; index < count; index++) {
+                    if (recordOf[index] == record) {
+                        descriptors[index] = (ClassDescriptor)input.readObject();
+                    }
+                }
+            } catch (IOException | ClassNotFoundException | RuntimeException e) {
+                throw new CompletionException(e);
+            }
+        });
+
+        // Put the descriptors back in the project collections.
+        Map<Class<?>, ClassDescriptor> descriptorsMap = project[0].getDescriptors();
+        for (int index = 0; index < count; index++) {
+            ClassDescriptor descriptor = descriptors[index];
+            if (mapped && mappedDescriptors[index]) {
+                descriptorsMap.put(descriptor.getJavaClass(), descriptor);
+            }
+            if (aliased) {
+                for (String alias : aliases[index]) {
+                    project[0].getAliasDescriptors().put(alias, descriptor);
+                }
+            }
+            project[0].getOrderedDescriptors().add(descriptor);
+        }
+        return project[0];
+    }
+
+    /**
+     * Return if the descriptors of the map are all ordered descriptors, and for the descriptors map keyed by their class.
+     * The descriptors in the map are flagged in mapped.
+     */
+    private static boolean isIndexed(Map<?, ClassDescriptor> map, Map<ClassDescriptor, Integer> positions, boolean[] mapped, boolean keyedByClass) {
+        for (Map.Entry<?, ClassDescriptor> entry : map.entrySet()) {
+            Integer position = positions.get(entry.getValue());
+            if (position == null || (keyedByClass && entry.getKey() != entry.getValue().getJavaClass())) {
+                return false;
+            }
+            if (mapped != null) {
+                mapped[position] = true;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return the group of the node, compressing the path to it.
+     */
+    private static int find(int[] groups, int node) {
+        while (groups[node] != node) {
+            groups[node] = groups[groups[node]];
+            node = groups[node];
+        }
+        return node;
+    }
+
+    /**
+     * Replaces the project's descriptor collections with empty ones, they are rebuilt from the index.
+     */
+    private static class ReplacingOutputStream extends ObjectOutputStream {
+        private final Map<Object, Object> replacements;
+
+        private ReplacingOutputStream(OutputStream out, Map<Object, Object> replacements) throws IOException {
+            super(out);
+            this.replacements = replacements;
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(Object object) throws IOException {
+            Object replacement = this.replacements.get(object);
+            return replacement == null ? object : replacement;
+        }
+    }
+
+    /**
+     * Writes a record, the classes are written as their position in the class table.
+     */
+    private static final class RecordOutputStream extends ReplacingOutputStream {
+        private final Map<String, Integer> classIndexes;
+        private final List<ObjectStreamClass> classes;
+
+        private RecordOutputStream(OutputStream out, Map<Object, Object> replacements, Map<String, Integer> classIndexes, List<ObjectStreamClass> classes) throws IOException {
+            super(out, replacements);
+            this.classIndexes = classIndexes;
+            this.classes = classes;
+        }
+
+        @Override
+        protected void writeClassDescriptor(ObjectStreamClass description) throws IOException {
+            Integer index = this.classIndexes.get(description.getName());
+            if (index == null) {
+                index = this.classes.size();
+                this.classIndexes.put(description.getName(), index);
+                this.classes.add(description);
+            }
+            writeInt(index);
+        }
+    }
+
+    /**
+     * Groups the node with the nodes that already wrote any of the objects it writes.
+     * Immutable values and enums keep no identity through serialization and do not group nodes.
+     */
+    private static final class GroupingOutputStream extends ReplacingOutputStream {
+        private final int node;
+        private final int[] groups;
+        private final Map<Object, Integer> owners;
+
+        private GroupingOutputStream(OutputStream out, int node, int[] groups, Map<Object, Integer> owners, Map<Object, Object> replacements) throws IOException {
+            super(out, replacements);
+            this.node = node;
+            this.groups = groups;
+            this.owners = owners;
+        }
+
+        @Override
+        protected Object replaceObject(Object object) throws IOException {
+            if (!(object instanceof String || object instanceof Number || object instanceof Boolean || object instanceof Character
+                    || object instanceof Enum || object instanceof Class || object instanceof ObjectStreamClass)) {
+                Integer owner = this.owners.putIfAbsent(object, this.node);
+                if (owner != null) {
+                    this.groups[find(this.groups, owner)] = find(this.groups, this.node);
+                }
+            }
+            return super.replaceObject(object);
+        }
+    }
+
+    /**
+     * Reads a record, the project or descriptors are the only allowed instances on top of the structure.
+     * The classes are read from the class table, shared by the records being read concurrently.
+     */
+    private static final class RecordInputStream extends ObjectInputStream implements ObjectInputFilter {
+        private final ClassLoader loader;
+        private final String[] classNames;
+        private final long[] serialVersionUIDs;
+        private final ObjectStreamClass[] classes;
+
+        private RecordInputStream(InputStream in, ClassLoader loader, String[] classNames, long[] serialVersionUIDs, ObjectStreamClass[] classes) throws IOException {
+            super(in);
+            this.loader = loader;
+            this.classNames = classNames;
+            this.serialVersionUIDs = serialVersionUIDs;
+            this.classes = classes;
+            setObjectInputFilter(this);
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+            int index = readInt();
+            if (index < 0 || index >= this.classes.length) {
+                throw new StreamCorruptedException("Invalid class index " + index);
+            }
+            // Races only look up the same description.
+            ObjectStreamClass description = this.classes[index];
+            if (description == null) {
+                description = ObjectStreamClass.lookupAny(resolveClass(this.classNames[index]));
+                if (description.getSerialVersionUID() != this.serialVersionUIDs[index]) {
+                    throw new InvalidClassException(this.classNames[index], "the class was changed since the project cache file was written");
+                }
+                this.classes[index] = description;
+            }
+            return description;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass description) throws IOException, ClassNotFoundException {
+            return resolveClass(description.getName());
+        }
+
+        private Class<?> resolveClass(String name) throws ClassNotFoundException {
+            if (this.loader != null) {
+                try {
+                    return Class.forName(name, false, this.loader);
+                } catch (ClassNotFoundException notFound) {
+                    // fall back to the loader of EclipseLink
+                }
+            }
+            return Class.forName(name, false, CompactProjectCache.class.getClassLoader());
+        }
+
+        @Override
+        public Status checkInput(FilterInfo info) {
+            // Skip checks when decision was already made by higher level filter.
+            ObjectInputFilter serialFilter = ObjectInputFilter.Config.getSerialFilter();
+            if (serialFilter != null) {
+                Status status = serialFilter.checkInput(info);
+                if (status != Status.UNDECIDED) {
+                    // The process-wide filter overrides this filter
+                    return status;
+                }
+            }
+            if (info.serialClass() != null && info.depth() == 1L
+                    && info.serialClass() != Project.class && !ClassDescriptor.class.isAssignableFrom(info.serialClass())) {
+                return Status.REJECTED;
+            }
+            return Status.UNDECIDED;
+        }
+    }
+
+    /**
+     * Reads the remaining bytes of a buffer, such as a slice of the mapped file.
+     */
+    private static final class BufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private BufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!this.buffer.hasRemaining()) {
+                return -1;
+            }
+            length = Math.min(length, this.buffer.remaining());
+            this.buffer.get(bytes, offset, length);
+            return length;
+        }
+
+        @Override
+        public int available() {
+            return this.buffer.remaining();
+        }
+    }
+}
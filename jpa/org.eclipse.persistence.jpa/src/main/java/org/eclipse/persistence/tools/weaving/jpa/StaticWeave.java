@@ -41,6 +41,8 @@
 *&nbsp;&nbsp;&nbsp;&nbsp;The path of log file, the standard output will be the default.<br>
 *&nbsp;&nbsp;-loglevel<br>
 *&nbsp;&nbsp;&nbsp;&nbsp;Specify a literal value for eclipselink log level(OFF,SEVERE,WARNING,INFO,CONFIG,FINE,FINER,FINEST). The default value is OFF.<br>
+*&nbsp;&nbsp;-index<br>
+*&nbsp;&nbsp;&nbsp;&nbsp;Write a persistence unit index of the source classes into the target, so that deployment does not scan all the classes of the target.<br>
 *&nbsp;&nbsp;-persistenceinfo<br>
 *&nbsp;&nbsp;&nbsp;&nbsp;The path contains META-INF/persistence.xml. This is ONLY required when the source does not include it.
 *&nbsp;The classpath must contain all the classes necessary in oder to perform weaving.<br><br>
@@ -69,6 +71,9 @@ public class StaticWeave {
 
         private int loglevel=SessionLog.OFF;
 
+        // Whether a persistence unit index is written into the target
+        private boolean index;
+
         private Writer logWriter;
 
         private PrintStream vout = System.out;
@@ -113,6 +118,7 @@ public void start() throws Exception {
                staticWeaverProcessor.setLog(logWriter);
             }
             staticWeaverProcessor.setLogLevel(loglevel);
+            staticWeaverProcessor.setPersistenceUnitIndex(index);
             staticWeaverProcessor.performWeaving();
         }
 
@@ -122,7 +128,7 @@ public void start() throws Exception {
          */
         void processCommandLine() throws Exception
         {
-            if (argv.length < 2 || argv.length>12) {
+            if (argv.length < 2 || argv.length>13) {
                 printUsage();
                 System.exit(1);
             }
@@ -192,6 +198,11 @@ void processCommandLine() throws Exception
                     continue;
                 }
 
+                if (argv[i].equalsIgnoreCase("-index")) {
+                    index=true;
+                    continue;
+                }
+
                 if(source!=null){
                     printUsage();
                     System.exit(1);
@@ -236,43 +247,47 @@ private void printUsage() {
 
             // Because we can no longer use System.lineSeparator() inside of message bundles, we must break
             // up the message into separate lines and use System.lineSeparator() here instead. (bug6470503)
-            String messageString = ToStringLocalization.buildMessage("staticweave_commandline_help_message_1of19");
+            String messageString = ToStringLocalization.buildMessage("staticweave_commandline_help_message_1of21");
             messageString += System.lineSeparator() + System.lineSeparator();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_2of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_2of21");
+            messageString += System.lineSeparator();
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_3of21");
+            messageString += System.lineSeparator();
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_4of21");
             messageString += System.lineSeparator();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_3of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_5of21");
             messageString += System.lineSeparator();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_4of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_6of21");
             messageString += System.lineSeparator();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_5of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_7of21");
             messageString += System.lineSeparator();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_6of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_8of21");
             messageString += System.lineSeparator();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_7of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_9of21");
             messageString += System.lineSeparator();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_8of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_10of21");
             messageString += System.lineSeparator();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_9of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_11of21");
             messageString += System.lineSeparator();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_10of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_12of21");
             messageString += System.lineSeparator();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_11of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_13of21");
             messageString += System.lineSeparator();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_12of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_14of21");
             messageString += System.lineSeparator();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_13of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_15of21");
             messageString += System.lineSeparator() + System.lineSeparator();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_14of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_16of21");
             messageString += System.lineSeparator();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_15of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_17of21");
             messageString += System.lineSeparator() + System.lineSeparator();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_16of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_18of21");
             messageString += System.lineSeparator();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_17of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_19of21");
             messageString += System.lineSeparator();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_18of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_20of21");
             messageString += System.lineSeparator() + System.lineSeparator();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_19of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_21of21");
             messageString += System.lineSeparator() + System.lineSeparator();
 
             o.println(messageString);
@@ -51,6 +51,7 @@
 * Otherwise composite persistence unit member may or may not specify persistenceInfo of its composite.
 * <li>log - specify a logging file. This is optional.
 * <li>loglevel - specify a literal value of EclipseLink logging level(OFF,SEVERE,WARNING,INFO,CONFIG,FINE,FINER,FINEST) The default value is OFF(8). This is optional.
+* <li>index - specify true to write a persistence unit index of the source classes into the target, so that deployment does not scan all the classes of the target. The default value is false. This is optional.
 * </ul>
 * <li>The weaving will be performed in place if source and target point to the same location. Weaving in place is ONLY applicable for directory-based sources.
 * </ul>
@@ -79,6 +80,7 @@ public class StaticWeaveAntTask extends Task{
     private List<Path> classPaths = new ArrayList<>();
     private int logLevel = SessionLog.OFF;
     private Writer logWriter;
+    private boolean index;
 
     /**
      * Default constructor.
@@ -135,6 +137,13 @@ public void setpersistencexml(String persistenceXMLLocation) {
         this.persistencexml = persistenceXMLLocation;
     }
 
+    /**
+     * Set whether a persistence unit index is written into the target.
+     */
+    public void setIndex(boolean index) {
+        this.index = index;
+    }
+
     /**
      * Add the dependent classpath in order to load classes from the specified input jar.
      */
@@ -217,6 +226,7 @@ private void start() {
                weave.setLog(logWriter);
            }
            weave.setLogLevel(this.logLevel);
+           weave.setPersistenceUnitIndex(this.index);
            weave.performWeaving();
        } catch (Exception e) {
            AbstractSessionLog.getLog().logThrowable(AbstractSessionLog.SEVERE, AbstractSessionLog.WEAVER, e);
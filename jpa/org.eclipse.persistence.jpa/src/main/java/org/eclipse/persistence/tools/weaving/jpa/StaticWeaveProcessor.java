@@ -25,14 +25,19 @@
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.jar.JarEntry;
 import java.util.jar.JarOutputStream;
 
 import org.eclipse.persistence.exceptions.StaticWeaveException;
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.jpa.deployment.ArchiveFactoryImpl;
+import org.eclipse.persistence.internal.jpa.deployment.PersistenceUnitIndex;
 import org.eclipse.persistence.internal.jpa.deployment.PersistenceUnitProcessor;
+import org.eclipse.persistence.internal.jpa.metadata.MetadataLogger;
+import org.eclipse.persistence.internal.jpa.metadata.accessors.objects.MetadataAsmFactory;
 import org.eclipse.persistence.internal.jpa.weaving.AbstractStaticWeaveOutputHandler;
 import org.eclipse.persistence.internal.jpa.weaving.StaticWeaveDirectoryOutputHandler;
 import org.eclipse.persistence.internal.jpa.weaving.StaticWeaveJAROutputHandler;
@@ -57,6 +62,7 @@ public class StaticWeaveProcessor {
     private Writer logWriter;
     private ClassLoader classLoader;
     private int logLevel = SessionLog.OFF;
+    private boolean persistenceUnitIndex;
 
     private static final int NUMBER_OF_BYTES = 1024;
 
@@ -149,6 +155,16 @@ public void setPersistenceXMLLocation(String persistenceXMLLocation) {
         this.persistenceXMLLocation = persistenceXMLLocation;
     }
 
+    /**
+     * Set whether a persistence unit index of the source is written into the target.
+     * Predeploy reads the classes listed by the index instead of scanning all the classes of the target.
+     * @param persistenceUnitIndex true to write the index, the default is false
+     * @see PersistenceUnitIndex
+     */
+    public void setPersistenceUnitIndex(boolean persistenceUnitIndex) {
+        this.persistenceUnitIndex = persistenceUnitIndex;
+    }
+
     /**
      * Set an explicitly identified the location containing persistence.xml.
      * @param persistenceInfoFile the file containing persistence.xml, the file
@@ -253,9 +269,16 @@ private void process() throws IOException,URISyntaxException{
         Archive sourceArchive =(new ArchiveFactoryImpl()).createArchive(source, null, null);
         if (sourceArchive != null) {
             try {
+                List<String> classNames = new ArrayList<>();
                 Iterator<String> entries = sourceArchive.getEntries();
                 while (entries.hasNext()){
                     String entryName = entries.next();
+                    if (entryName.endsWith(".class")) {
+                        classNames.add(PersistenceUnitProcessor.buildClassNameFromEntryString(entryName));
+                    } else if (this.persistenceUnitIndex && PersistenceUnitIndex.INDEX_ENTRY.equals(entryName)) {
+                        // The index is rebuilt.
+                        continue;
+                    }
                     InputStream entryInputStream = sourceArchive.getEntry(entryName);
 
                     // Add a directory entry
@@ -328,6 +351,13 @@ private void process() throws IOException,URISyntaxException{
                         entryInputStream.close();
                     }
                 }
+
+                // Index the classes of the source, the weaving does not change their annotations.
+                if (this.persistenceUnitIndex) {
+                    swoh.addDirEntry(getDirectoryFromEntryName(PersistenceUnitIndex.INDEX_ENTRY));
+                    swoh.addEntry(new JarEntry(PersistenceUnitIndex.INDEX_ENTRY),
+                            PersistenceUnitIndex.build(classNames, new MetadataAsmFactory(new MetadataLogger(null), this.classLoader)));
+                }
             } finally {
                 sourceArchive.close();
                 swoh.closeOutputStream();
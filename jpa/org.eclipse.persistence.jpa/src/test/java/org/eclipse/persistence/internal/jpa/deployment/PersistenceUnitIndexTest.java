@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.jpa.deployment;
+
+import jakarta.persistence.Converter;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import org.eclipse.persistence.internal.jpa.metadata.MetadataLogger;
+import org.eclipse.persistence.internal.jpa.metadata.accessors.objects.MetadataAsmFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+class PersistenceUnitIndexTest {
+
+    @Entity
+    static class IndexedEntity {
+        @Id
+        long id;
+    }
+
+    @Embeddable
+    static class IndexedEmbeddable {
+        String value;
+    }
+
+    @Converter
+    static class IndexedConverter {
+    }
+
+    static class Unmapped {
+    }
+
+    private static final List<Class<?>> CLASSES = List.of(IndexedEntity.class, IndexedEmbeddable.class, IndexedConverter.class, Unmapped.class);
+
+    @Test
+    void testIndexedClassNames(@TempDir Path root) throws Exception {
+        ClassLoader loader = PersistenceUnitIndexTest.class.getClassLoader();
+        for (Class<?> javaClass : CLASSES) {
+            copyClass(javaClass, root);
+        }
+        URL url = root.toUri().toURL();
+        Set<String> classNames = PersistenceUnitProcessor.getClassNamesFromURL(url, loader, null);
+        Assertions.assertEquals(4, classNames.size());
+
+        // Without an index all the classes are scanned.
+        Assertions.assertEquals(classNames, PersistenceUnitProcessor.getIndexedClassNamesFromURL(url, loader, null));
+
+        Files.createDirectories(root.resolve("META-INF"));
+        Files.write(root.resolve(PersistenceUnitIndex.INDEX_ENTRY), PersistenceUnitIndex.build(classNames, new MetadataAsmFactory(new MetadataLogger(null), loader)));
+        Assertions.assertEquals(Set.of(IndexedEntity.class.getName(), IndexedEmbeddable.class.getName(), IndexedConverter.class.getName()),
+                PersistenceUnitProcessor.getIndexedClassNamesFromURL(url, loader, null));
+        // The index is not a class of the archive.
+        Assertions.assertEquals(classNames, PersistenceUnitProcessor.getClassNamesFromURL(url, loader, null));
+    }
+
+    @Test
+    void testOutOfDateIndex(@TempDir Path root) throws Exception {
+        ClassLoader loader = PersistenceUnitIndexTest.class.getClassLoader();
+        copyClass(IndexedEntity.class, root);
+        URL url = root.toUri().toURL();
+        Set<String> classNames = PersistenceUnitProcessor.getClassNamesFromURL(url, loader, null);
+        Files.createDirectories(root.resolve("META-INF"));
+        Files.write(root.resolve(PersistenceUnitIndex.INDEX_ENTRY), PersistenceUnitIndex.build(classNames, new MetadataAsmFactory(new MetadataLogger(null), loader)));
+
+        // A class added after the archive was indexed is found by scanning the archive.
+        copyClass(IndexedEmbeddable.class, root);
+        Assertions.assertEquals(Set.of(IndexedEntity.class.getName(), IndexedEmbeddable.class.getName()),
+                PersistenceUnitProcessor.getIndexedClassNamesFromURL(url, loader, null));
+    }
+
+    private static void copyClass(Class<?> javaClass, Path root) throws IOException {
+        String entry = javaClass.getName().replace('.', '/') + ".class";
+        Path file = root.resolve(entry);
+        Files.createDirectories(file.getParent());
+        try (InputStream in = javaClass.getClassLoader().getResourceAsStream(entry)) {
+            Files.copy(in, file);
+        }
+    }
+}
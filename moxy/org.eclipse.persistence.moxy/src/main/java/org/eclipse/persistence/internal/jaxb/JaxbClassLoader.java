@@ -16,6 +16,8 @@
 
 
 import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -40,6 +42,8 @@ public class JaxbClassLoader extends ClassLoader {
 
     private static final String GENERATED_CLASS_NAME = "org.eclipse.persistence.jaxb.generated";
     private Map<String, Type> generatedClasses;
+    // Only set while a snapshot of the context is being written.
+    private Map<String, byte[]> generatedClassBytes;
     private AtomicInteger generatedClassCounter = new AtomicInteger();
 
     public JaxbClassLoader(ClassLoader nestedClassLoader) {
@@ -126,9 +130,31 @@ public Class<?> loadClass(String className) throws ClassNotFoundException {
     public Class<?> generateClass(String className, byte[] bytes) {
         Class<?> theClass = this.defineClass(className, bytes, 0, bytes.length);
         generatedClasses.put(className, theClass);
+        if (generatedClassBytes != null) {
+            generatedClassBytes.put(className, bytes);
+        }
         return theClass;
     }
 
+    /**
+     * Record the bytes of the classes defined by generateClass from now on, to be written to a snapshot.
+     */
+    public void recordGeneratedClassBytes() {
+        if (generatedClassBytes == null) {
+            generatedClassBytes = new LinkedHashMap<>();
+        }
+    }
+
+    /**
+     * Return the bytes of the classes defined by generateClass since they are recorded, in the order they were defined.
+     */
+    public Map<String, byte[]> getGeneratedClassBytes() {
+        if (generatedClassBytes == null) {
+            return Collections.emptyMap();
+        }
+        return Collections.unmodifiableMap(generatedClassBytes);
+    }
+
     public void putClass(String className, Class<?> clazz) {
         generatedClasses.put(className, clazz);
     }
@@ -411,6 +411,14 @@ public void generateSchema(SchemaOutputResolver outputResolver, Map<QName, Type>
         }
         XMLContext xmlContext = currentJAXBContextState.getXMLContext();
         Generator generator = currentJAXBContextState.getGenerator();
+        if (generator == null && currentJAXBContextState.snapshot != null) {
+            // a context restored from a snapshot generates the schema of its classes as the generated context does
+            try {
+                generator = currentJAXBContextState.snapshot.createGenerator(contextInput.properties, contextInput.classLoader);
+            } catch (Exception e) {
+                throw JAXBException.exceptionDuringSchemaGeneration(e);
+            }
+        }
         if (generator == null) {
             SchemaModelGenerator smGen = new SchemaModelGenerator(xmlContext.getOxmConversionManager());
             smGen.generateSchemas(xmlContext.getDescriptors(), null, new JAXBSchemaOutputResolver(outputResolver), additonalGlobalElements);
@@ -538,7 +546,7 @@ public void setQNamesToDeclaredClasses(HashMap<QName, Class<?>> nameToDeclaredCl
      */
     public Map<String, Class<?>> getArrayClassesToGeneratedClasses() {
         if (contextState.getGenerator() == null) {
-            return null;
+            return contextState.snapshot == null ? null : contextState.snapshot.getArrayClassesToGeneratedClasses();
         }
         return contextState.getGenerator().getAnnotationsProcessor().getArrayClassesToGeneratedClasses();
     }
@@ -781,6 +789,9 @@ protected JAXBElement createJAXBElement(QName qname, Class<?> theClass, Object v
      * annotation.
      */
     public boolean hasSwaRef() {
+        if (contextState.getGenerator() == null) {
+            return contextState.snapshot != null && contextState.snapshot.hasSwaRef();
+        }
         return contextState.getGenerator().getAnnotationsProcessor().hasSwaRef();
     }
 
@@ -1072,6 +1083,8 @@ private boolean isJAXB2ObjectFactory(Class<?> objectFactoryClass, ClassLoader cl
     static class TypeMappingInfoInput extends JAXBContextInput {
 
         private TypeMappingInfo[] typeMappingInfo;
+        // Set when the generated project is being written to a snapshot.
+        JAXBContextSnapshot snapshot;
 
         TypeMappingInfoInput(TypeMappingInfo[] typeMappingInfo, Map properties, ClassLoader classLoader) {
             super(properties, classLoader);
@@ -1137,6 +1150,9 @@ protected JAXBContextState createContextState() throws jakarta.xml.bind.JAXBExce
             JaxbClassLoader loader = PrivilegedAccessHelper.callDoPrivileged(
                     () -> new JaxbClassLoader(classLoader, types)
             );
+            if (snapshot != null) {
+                loader.recordGeneratedClassBytes();
+            }
             JavaModelImpl jModel;
             if (annotationHelper != null) {
                 jModel = new JavaModelImpl(loader, annotationHelper);
@@ -1188,6 +1204,10 @@ private JAXBContextState createContextState(Generator generator, JaxbClassLoader
                     descriptor.setJavaClass(conversionManager.convertClassNameToClass(descriptor.getJavaClassName()));
                 }
             }
+            if (snapshot != null) {
+                // the project has to be written before the session login initializes it
+                snapshot.writeProject((Project) proj);
+            }
 
             XMLPlatform<org.eclipse.persistence.internal.oxm.XMLUnmarshaller> platform = new SAXPlatform();
             platform.getConversionManager().setLoader(loader);
@@ -1210,6 +1230,9 @@ private JAXBContextState createContextState(Generator generator, JaxbClassLoader
                     typeMappingInfo.setXmlDescriptor(xmlDescriptor);
                 }
             }
+            if (snapshot != null) {
+                snapshot.writeGeneratorState(generator, loader, typesToBeBound, contextState.getTypeMappingInfoToGeneratedType());
+            }
 
             return contextState;
         }
@@ -1273,6 +1296,8 @@ protected static class JAXBContextState {
         private Map<Type, TypeMappingInfo> typeToTypeMappingInfo;
         private Map<TypeMappingInfo, JAXBContext.RootLevelXmlAdapter> typeMappingInfoToJavaTypeAdapters;
         private Map properties;
+        // Replaces the generator of a context restored from a snapshot.
+        private JAXBContextSnapshot snapshot;
 
         protected JAXBContextState() {
         }
@@ -1313,6 +1338,20 @@ protected JAXBContextState(XMLContext context, Generator generator, TypeMappingI
             }
         }
 
+        protected JAXBContextState(XMLContext context, JAXBContextSnapshot snapshot, TypeMappingInfo[] boundTypes, Map<TypeMappingInfo, Class<?>> typeMappingInfoToGeneratedType, Map properties) {
+            this(context);
+            this.snapshot = snapshot;
+            this.qNameToGeneratedClasses = snapshot.getQNamesToGeneratedClasses();
+            this.classToGeneratedClasses = snapshot.getClassToGeneratedClasses();
+            this.qNamesToDeclaredClasses = snapshot.getQNamesToDeclaredClasses();
+            this.typeMappingInfoToGeneratedType = typeMappingInfoToGeneratedType;
+            this.typeMappingInfoToJavaTypeAdapters = new HashMap<>();
+            this.boundTypes = boundTypes;
+            if (properties != null) {
+                this.properties = new HashMap(properties);
+            }
+        }
+
         private Map<TypeMappingInfo, JAXBContext.RootLevelXmlAdapter> createAdaptersForAdapterClasses(Map<TypeMappingInfo, Class<?>> typeMappingInfoToAdapterClasses) {
             Map<TypeMappingInfo, JAXBContext.RootLevelXmlAdapter> typeMappingInfoToAdapters = new HashMap<>();
             for (Entry<TypeMappingInfo, Class<?>> entry : typeMappingInfoToAdapterClasses.entrySet()) {
@@ -1422,7 +1461,7 @@ private Map<String, Class<?>> getClassToGeneratedClasses() {
             return classToGeneratedClasses;
         }
 
-        private Generator getGenerator() {
+        Generator getGenerator() {
             return generator;
         }
 
@@ -1450,7 +1489,7 @@ private Map<Type, TypeMappingInfo> getTypeToTypeMappingInfo() {
         }
 
         private Map<TypeMappingInfo, QName> getTypeMappingInfoToSchemaType() {
-            if (typeToTypeMappingInfo != null && !typeToTypeMappingInfo.isEmpty()) {
+            if (generator == null || (typeToTypeMappingInfo != null && !typeToTypeMappingInfo.isEmpty())) {
                 return new HashMap<>();
             }
             return generator.getAnnotationsProcessor().getTypeMappingInfosToSchemaTypes();
@@ -1471,7 +1510,7 @@ private QName getSchemaTypeForTypeMappingInfo(Type type) {
             QName name = null;
             //Check for annotation overrides
             if (type instanceof Class) {
-                name = generator.getAnnotationsProcessor().getUserDefinedSchemaTypes().get(((Class) type).getName());
+                name = getUserDefinedSchemaTypes().get(((Class) type).getName());
                 if (name == null) {
                     Class<?> theClass = (Class) type;
                     //Change default for byte[] to Base64 (JAXB 2.0 default)
@@ -1489,6 +1528,27 @@ private QName getSchemaTypeForTypeMappingInfo(Type type) {
             return name;
         }
 
+        private Map<String, QName> getUserDefinedSchemaTypes() {
+            if (generator != null) {
+                return generator.getAnnotationsProcessor().getUserDefinedSchemaTypes();
+            }
+            return snapshot == null ? new HashMap<>() : snapshot.getUserDefinedSchemaTypes();
+        }
+
+        private Map<String, MarshalCallback> getMarshalCallbacks() {
+            if (generator != null) {
+                return generator.getMarshalCallbacks();
+            }
+            return snapshot == null ? null : snapshot.getMarshalCallbacks();
+        }
+
+        private Map<String, UnmarshalCallback> getUnmarshalCallbacks() {
+            if (generator != null) {
+                return generator.getUnmarshalCallbacks();
+            }
+            return snapshot == null ? null : snapshot.getUnmarshalCallbacks();
+        }
+
         private Map<QName, Class<?>> getQNameToGeneratedClasses() {
             return qNameToGeneratedClasses;
         }
@@ -1521,21 +1581,17 @@ private void initTypeToSchemaType() {
                                 } catch (Exception ex) {
                                 }
                             }
-
-                            if (type == null && getTypeMappingInfoToGeneratedType() != null) {
-                                for (Entry<TypeMappingInfo, Class<?>> entry : getTypeMappingInfoToGeneratedType().entrySet()) {
-                                    if (entry.getValue().equals(javaClass)) {
-                                        type = entry.getKey().getType();
-                                        break;
-                                    }
-                                }
-                            }
                         }
-                        if (type == null) {
-                            type = javaClass;
+                    }
+                    if (type == null && getTypeMappingInfoToGeneratedType() != null) {
+                        for (Entry<TypeMappingInfo, Class<?>> entry : getTypeMappingInfoToGeneratedType().entrySet()) {
+                            if (entry.getValue().equals(javaClass)) {
+                                type = entry.getKey().getType();
+                                break;
+                            }
                         }
-
-                    } else {
+                    }
+                    if (type == null) {
                         type = javaClass;
                     }
                     this.typeToSchemaType.put(type, schemaType);
@@ -1586,14 +1642,14 @@ public void setXMLContext(XMLContext xmlContext) {
         public JAXBMarshaller createMarshaller(JAXBContext jaxbContext) throws jakarta.xml.bind.JAXBException {
             // create a JAXBIntrospector and set it on the marshaller
             JAXBMarshaller marshaller = new JAXBMarshaller(xmlContext.createMarshaller(), jaxbContext);
-            if (generator != null && generator.hasMarshalCallbacks()) {
+            Map<String, MarshalCallback> marshalCallbacks = getMarshalCallbacks();
+            if (marshalCallbacks != null && !marshalCallbacks.isEmpty()) {
                 // initialize each callback in the map
                 ClassLoader classLoader = getXMLContext().getSession(0).getDatasourcePlatform().getConversionManager().getLoader();
-                for (Object o : generator.getMarshalCallbacks().keySet()) {
-                    MarshalCallback cb = generator.getMarshalCallbacks().get(o);
+                for (MarshalCallback cb : marshalCallbacks.values()) {
                     cb.initialize(classLoader);
                 }
-                marshaller.setMarshalCallbacks(generator.getMarshalCallbacks());
+                marshaller.setMarshalCallbacks(marshalCallbacks);
             }
             if (properties != null) {
                 setPropertyOnMarshaller(JAXBContextProperties.MEDIA_TYPE, marshaller);
@@ -1621,14 +1677,14 @@ public JAXBMarshaller createMarshaller(JAXBContext jaxbContext) throws jakarta.x
         public JAXBUnmarshaller createUnmarshaller(JAXBContext jaxbContext) throws jakarta.xml.bind.JAXBException {
 
             JAXBUnmarshaller unmarshaller = new JAXBUnmarshaller(xmlContext.createUnmarshaller(PARSER_FEATURES), jaxbContext);
-            if (generator != null && generator.hasUnmarshalCallbacks()) {
+            Map<String, UnmarshalCallback> unmarshalCallbacks = getUnmarshalCallbacks();
+            if (unmarshalCallbacks != null && !unmarshalCallbacks.isEmpty()) {
                 // initialize each callback in the map
                 ClassLoader classLoader = getXMLContext().getSession(0).getDatasourcePlatform().getConversionManager().getLoader();
-                for (Object o : generator.getUnmarshalCallbacks().keySet()) {
-                    UnmarshalCallback cb = generator.getUnmarshalCallbacks().get(o);
+                for (UnmarshalCallback cb : unmarshalCallbacks.values()) {
                     cb.initialize(classLoader);
                 }
-                unmarshaller.setUnmarshalCallbacks(generator.getUnmarshalCallbacks());
+                unmarshaller.setUnmarshalCallbacks(unmarshalCallbacks);
             }
             if (properties != null) {
                 setPropertyOnUnmarshaller(JAXBContextProperties.MEDIA_TYPE, unmarshaller);
@@ -1701,7 +1757,7 @@ private static void openToCore(JavaModelInputImpl input) {
     //we need to open what has been opened to us either directly
     //or by jakarta.xml.bind API also to core on which we depend
     //to allow reflection access to code we use from that module
-    private static void openToCore(Collection<Class<?>> classes) {
+    static void openToCore(Collection<Class<?>> classes) {
         // need to open to core IF we're not eclipselink.jar
         if (NEEDS_OPEN) {
             final Module moxyModule = JAXBContext.class.getModule();
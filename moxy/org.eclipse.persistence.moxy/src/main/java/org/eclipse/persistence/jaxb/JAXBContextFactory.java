@@ -109,6 +109,12 @@ public static jakarta.xml.bind.JAXBContext createContext(Class<?>[] classesToBeB
      * also be aware of classes reachable from the classes in the array.
      */
     public static jakarta.xml.bind.JAXBContext createContext(Class<?>[] classesToBeBound, Map<String, Object> properties, ClassLoader classLoader) throws JAXBException {
+        if (properties != null && properties.get(JAXBContextProperties.CONTEXT_SNAPSHOT) != null) {
+            JAXBContext context = JAXBContextSnapshot.load(classesToBeBound, properties, classLoader);
+            if (context != null) {
+                return context;
+            }
+        }
         Type[] types = new Type[classesToBeBound.length];
         System.arraycopy(classesToBeBound, 0, types, 0, classesToBeBound.length);
         return createContext(types, properties, classLoader);
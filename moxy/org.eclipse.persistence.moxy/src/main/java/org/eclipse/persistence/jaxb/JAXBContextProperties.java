@@ -444,4 +444,17 @@ public static final class Factory {
      * @see org.eclipse.persistence.jaxb.UnmarshallerProperties#MOXY_LOG_PAYLOAD
      */
     public static final String MOXY_LOG_PAYLOAD = "eclipselink.logging.payload.moxy";
+
+    /**
+     * The name of a class path resource holding a snapshot written by {@link JAXBContextSnapshot}
+     * for the classes being bound.
+     *
+     * The JAXBContext is restored from the snapshot instead of being generated from the annotations
+     * of the classes. When the resource is missing, was written for other classes or the classes
+     * have changed since, the JAXBContext is generated as usual.
+     *
+     * @since 5.0
+     * @see org.eclipse.persistence.jaxb.JAXBContextSnapshot
+     */
+    public static final String CONTEXT_SNAPSHOT = "eclipselink.context-snapshot";
 }
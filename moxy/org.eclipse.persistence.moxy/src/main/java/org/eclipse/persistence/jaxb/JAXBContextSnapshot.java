@@ -0,0 +1,655 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.jaxb;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Type;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import javax.xml.namespace.QName;
+
+import org.eclipse.persistence.Version;
+import org.eclipse.persistence.descriptors.ClassExtractor;
+import org.eclipse.persistence.descriptors.InheritancePolicy;
+import org.eclipse.persistence.exceptions.JAXBException;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.jaxb.JaxbClassLoader;
+import org.eclipse.persistence.internal.jaxb.WrappedValue;
+import org.eclipse.persistence.internal.oxm.mappings.Descriptor;
+import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
+import org.eclipse.persistence.jaxb.JAXBContext.JAXBContextInput;
+import org.eclipse.persistence.jaxb.JAXBContext.JAXBContextState;
+import org.eclipse.persistence.jaxb.JAXBContext.TypeMappingInfoInput;
+import org.eclipse.persistence.jaxb.compiler.Generator;
+import org.eclipse.persistence.jaxb.compiler.MarshalCallback;
+import org.eclipse.persistence.jaxb.compiler.UnmarshalCallback;
+import org.eclipse.persistence.logging.AbstractSessionLog;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.mappings.converters.ObjectTypeConverter;
+import org.eclipse.persistence.mappings.foundation.AbstractDirectMapping;
+import org.eclipse.persistence.oxm.XMLContext;
+import org.eclipse.persistence.oxm.XMLLogin;
+import org.eclipse.persistence.oxm.mappings.XMLCompositeDirectCollectionMapping;
+import org.eclipse.persistence.sessions.Project;
+
+/**
+ * <p><b>Purpose:</b> Write the JAXBContext of a set of classes to a snapshot at build time,
+ * and restore the JAXBContext from the snapshot at run time without processing the
+ * annotations and the external metadata of the classes again.
+ * <p><b>Responsibilities:</b><ul>
+ * <li>Serialize the project generated for the classes, with the wrapper classes generated for it</li>
+ * <li>Record a checksum of the class file of each class the project refers to</li>
+ * <li>Restore the JAXBContext from the snapshot when the class files still match the checksums</li></ul>
+ * <p>A snapshot is written by {@link #write(Class[], Map, ClassLoader, OutputStream)}, or by running
+ * this class with the snapshot file and the class names as arguments, for example from the build:
+ * <pre>java org.eclipse.persistence.jaxb.JAXBContextSnapshot target/classes/META-INF/model.jaxb com.example.Customer com.example.Order</pre>
+ * A JAXBContext created on the same classes with the property {@link JAXBContextProperties#CONTEXT_SNAPSHOT}
+ * set to the resource name of the snapshot is then restored from it:
+ * <pre>JAXBContextFactory.createContext(new Class[] {Customer.class, Order.class}, Map.of(JAXBContextProperties.CONTEXT_SNAPSHOT, "META-INF/model.jaxb"));</pre>
+ * <p>The project is written before the session login, so the descriptors are initialized when the
+ * restored JAXBContext logs in, and the XPath trees are built from the mappings when first used.
+ * The state the project keeps in transient fields is written along with it.
+ * The properties that drive the generation, such as the external metadata, are read when the snapshot
+ * is written, the other properties apply to the restored JAXBContext. A restored JAXBContext generates
+ * the project again to generate the schema of the classes.
+ * <p>The snapshot is written with Java serialization, so the objects the project refers to, such as
+ * the adapters and the accessor factories, must be serializable. The snapshot must be trusted as much
+ * as the class path.
+ *
+ * @since 5.0
+ * @see JAXBContextProperties#CONTEXT_SNAPSHOT
+ */
+public final class JAXBContextSnapshot {
+
+    private static final String FORMAT = "EclipseLink JAXBContext snapshot 1";
+
+    // Written by the TypeMappingInfoInput while the project is generated.
+    private ByteArrayOutputStream payload;
+    private SnapshotOutputStream payloadOut;
+    private Map<String, byte[]> generatedClassBytes;
+
+    // Restored from the snapshot, in place of the Generator.
+    private Class<?>[] boundTypes;
+    private Class<?>[] generatedTypes;
+    private Map<QName, Class<?>> qNamesToGeneratedClasses;
+    private Map<String, Class<?>> classToGeneratedClasses;
+    private Map<QName, Class<?>> qNamesToDeclaredClasses;
+    private Map<String, Class<?>> arrayClassesToGeneratedClasses;
+    private Map<String, QName> userDefinedSchemaTypes;
+    private Map<String, MarshalCallback> marshalCallbacks;
+    private Map<String, UnmarshalCallback> unmarshalCallbacks;
+    private boolean hasSwaRef;
+
+    private JAXBContextSnapshot() {
+    }
+
+    /**
+     * Write the snapshot of the JAXBContext created on the given classes and properties.
+     * @param classesToBeBound the classes to bind
+     * @param properties the properties to create the JAXBContext with, may be null
+     * @param classLoader the loader of the classes, when null the loader of the first class is used
+     * @param stream the stream to write the snapshot to, it is not closed
+     */
+    public static void write(Class<?>[] classesToBeBound, Map<String, Object> properties, ClassLoader classLoader, OutputStream stream) throws jakarta.xml.bind.JAXBException {
+        if (classLoader == null && classesToBeBound.length > 0) {
+            classLoader = classesToBeBound[0].getClassLoader();
+        }
+        TypeMappingInfo[] typeMappingInfos = new TypeMappingInfo[classesToBeBound.length];
+        String[] classNames = new String[classesToBeBound.length];
+        for (int i = 0; i < classesToBeBound.length; i++) {
+            typeMappingInfos[i] = new TypeMappingInfo();
+            typeMappingInfos[i].setType(classesToBeBound[i]);
+            classNames[i] = classesToBeBound[i].getName();
+        }
+        JAXBContextSnapshot snapshot = new JAXBContextSnapshot();
+        TypeMappingInfoInput contextInput = new TypeMappingInfoInput(typeMappingInfos, properties, classLoader);
+        contextInput.snapshot = snapshot;
+        new JAXBContext(contextInput);
+
+        try {
+            ObjectOutputStream out = new ObjectOutputStream(stream);
+            out.writeUTF(FORMAT);
+            out.writeUTF(Version.getVersionString());
+            out.writeObject(classNames);
+            out.writeObject(snapshot.payloadOut.checksums);
+            out.writeObject(snapshot.generatedClassBytes);
+            out.writeObject(snapshot.payload.toByteArray());
+            out.flush();
+        } catch (IOException e) {
+            throw new jakarta.xml.bind.JAXBException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Restore a JAXBContext from a snapshot.
+     * @param stream the stream to read the snapshot from, it is not closed
+     * @param properties the properties of the JAXBContext, may be null
+     * @param classLoader the loader of the classes, when null the context class loader is used
+     * @throws jakarta.xml.bind.JAXBException when the snapshot cannot be read, or is stale
+     */
+    public static JAXBContext read(InputStream stream, Map<String, Object> properties, ClassLoader classLoader) throws jakarta.xml.bind.JAXBException {
+        return read(stream, properties, classLoader, null);
+    }
+
+    /**
+     * INTERNAL:
+     * Restore the JAXBContext of the snapshot resource named by the CONTEXT_SNAPSHOT property,
+     * or return null to have the JAXBContext generated when the snapshot is missing, was written
+     * for other classes or is stale.
+     */
+    static JAXBContext load(Class<?>[] classesToBeBound, Map<String, Object> properties, ClassLoader classLoader) {
+        String resource = (String) properties.get(JAXBContextProperties.CONTEXT_SNAPSHOT);
+        if (classLoader == null) {
+            classLoader = Thread.currentThread().getContextClassLoader();
+        }
+        SessionLog log = AbstractSessionLog.getLog();
+        try (InputStream stream = classLoader.getResourceAsStream(resource)) {
+            if (stream == null) {
+                log.log(SessionLog.FINE, SessionLog.MOXY, "moxy_context_snapshot_not_found", resource);
+                return null;
+            }
+            JAXBContext context = read(stream, properties, classLoader, classesToBeBound);
+            if (context != null) {
+                log.log(SessionLog.FINE, SessionLog.MOXY, "moxy_context_snapshot_restored", resource);
+            } else {
+                log.log(SessionLog.WARNING, SessionLog.MOXY, "moxy_context_snapshot_not_used", resource, Arrays.toString(classesToBeBound));
+            }
+            return context;
+        } catch (Exception e) {
+            log.log(SessionLog.WARNING, SessionLog.MOXY, "moxy_context_snapshot_not_used", resource, e.getMessage());
+            return null;
+        }
+    }
+
+    @SuppressWarnings({"unchecked"})
+    private static JAXBContext read(InputStream stream, Map<String, Object> properties, ClassLoader classLoader, Class<?>[] expectedClasses) throws jakarta.xml.bind.JAXBException {
+        if (classLoader == null) {
+            classLoader = Thread.currentThread().getContextClassLoader();
+        }
+        String[] classNames;
+        Map<String, Long> checksums;
+        Map<String, byte[]> generatedClasses;
+        byte[] payload;
+        try {
+            ObjectInputStream in = new ObjectInputStream(stream);
+            // the table of a map is checked at the depth of the map
+            in.setObjectInputFilter(new SnapshotFilter(String[].class, Map.class, Map.Entry[].class, byte[].class));
+            if (!FORMAT.equals(in.readUTF()) || !Version.getVersionString().equals(in.readUTF())) {
+                throw new jakarta.xml.bind.JAXBException(JAXBException.invalidContextSnapshot(Version.getVersionString(), null));
+            }
+            classNames = (String[]) in.readObject();
+            checksums = (Map<String, Long>) in.readObject();
+            generatedClasses = (Map<String, byte[]>) in.readObject();
+            payload = (byte[]) in.readObject();
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            throw new jakarta.xml.bind.JAXBException(JAXBException.invalidContextSnapshot(Version.getVersionString(), e));
+        }
+        if (expectedClasses != null) {
+            Set<String> expectedClassNames = new HashSet<>();
+            for (Class<?> expectedClass : expectedClasses) {
+                expectedClassNames.add(expectedClass.getName());
+            }
+            if (!expectedClassNames.equals(new HashSet<>(Arrays.asList(classNames)))) {
+                return null;
+            }
+        }
+        for (Map.Entry<String, Long> entry : checksums.entrySet()) {
+            if (checksum(classLoader, entry.getKey()) != entry.getValue()) {
+                throw new jakarta.xml.bind.JAXBException(JAXBException.staleContextSnapshot(entry.getKey()));
+            }
+        }
+
+        List<Class<?>> classes = new ArrayList<>(classNames.length);
+        try {
+            for (String className : classNames) {
+                classes.add(PrivilegedAccessHelper.getClassForName(className, false, classLoader));
+            }
+        } catch (ClassNotFoundException e) {
+            throw new jakarta.xml.bind.JAXBException(JAXBException.invalidContextSnapshot(Version.getVersionString(), e));
+        }
+        JAXBContext.openToCore(classes);
+        JaxbClassLoader loader = new JaxbClassLoader(classLoader, classes.toArray(new Class<?>[0]));
+        if (!generatedClasses.isEmpty()) {
+            Module moxyModule = JAXBContext.class.getModule();
+            if (moxyModule.isNamed() && !moxyModule.isExported(WrappedValue.class.getPackageName(), loader.getUnnamedModule())) {
+                // the generated classes live in the unnamed module of the loader, as when they are generated
+                moxyModule.addExports(WrappedValue.class.getPackageName(), loader.getUnnamedModule());
+            }
+            for (Map.Entry<String, byte[]> entry : generatedClasses.entrySet()) {
+                loader.generateClass(entry.getKey(), entry.getValue());
+            }
+        }
+
+        SnapshotInput contextInput = new SnapshotInput(payload, loader, properties, classLoader);
+        JAXBContext context = new JAXBContext(contextInput);
+        Set<String> boundClassNames = new HashSet<>(Arrays.asList(classNames));
+        Map<Type, TypeMappingInfo> typeToTypeMappingInfo = new HashMap<>();
+        for (TypeMappingInfo typeMappingInfo : contextInput.typeMappingInfos) {
+            if (boundClassNames.contains(((Class<?>) typeMappingInfo.getType()).getName())) {
+                typeToTypeMappingInfo.put(typeMappingInfo.getType(), typeMappingInfo);
+            }
+        }
+        context.setTypeToTypeMappingInfo(typeToTypeMappingInfo);
+        return context;
+    }
+
+    /**
+     * Write the snapshot of the JAXBContext of the classes given after the name of the snapshot file.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: java " + JAXBContextSnapshot.class.getName() + " <snapshot file> <class name>...");
+            System.exit(1);
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        Class<?>[] classes = new Class<?>[args.length - 1];
+        for (int i = 1; i < args.length; i++) {
+            classes[i - 1] = PrivilegedAccessHelper.getClassForName(args[i], false, classLoader);
+        }
+        try (OutputStream stream = new FileOutputStream(args[0])) {
+            write(classes, null, classLoader, stream);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Write the generated project, before the session login initializes it.
+     */
+    void writeProject(Project project) throws IOException {
+        payload = new ByteArrayOutputStream();
+        payloadOut = new SnapshotOutputStream(payload);
+        payloadOut.writeObject(project);
+        writeTransientState();
+    }
+
+    /**
+     * Write the state the project keeps in transient fields, which MOXy sets from classes rather than
+     * from class names, after the objects holding it. The objects are recorded by the stream as they
+     * are written, the state written may hold more of them.
+     */
+    private void writeTransientState() throws IOException {
+        List<Object> owners = payloadOut.transientStateOwners;
+        for (int i = 0; i < owners.size(); i++) {
+            Object[] state = getTransientState(owners.get(i));
+            if (state != null) {
+                payloadOut.writeObject(owners.get(i));
+                payloadOut.writeObject(state);
+            }
+        }
+        payloadOut.writeObject(null);
+    }
+
+    private static boolean hasTransientState(Object object) {
+        return object instanceof InheritancePolicy || object instanceof AbstractDirectMapping
+                || object instanceof XMLCompositeDirectCollectionMapping || object instanceof ObjectTypeConverter
+                || object instanceof DatabaseField;
+    }
+
+    private static Object[] getTransientState(Object owner) {
+        if (owner instanceof InheritancePolicy policy) {
+            Class<?> classExtractorClass = policy.hasClassExtractor() ? policy.getClassExtractor().getClass() : null;
+            return new Object[] {policy.getClassIndicatorMapping(), policy.shouldUseClassNameAsIndicator(), policy.shouldReadSubclassesValue(), classExtractorClass};
+        } else if (owner instanceof AbstractDirectMapping mapping) {
+            return new Object[] {mapping.getAttributeClassification(), mapping.getNullValue()};
+        } else if (owner instanceof XMLCompositeDirectCollectionMapping mapping) {
+            return mapping.getNullValue() == null ? null : new Object[] {mapping.getNullValue()};
+        } else if (owner instanceof ObjectTypeConverter converter) {
+            return new Object[] {converter.getFieldToAttributeValues(), converter.getDefaultAttributeValue(), converter.getFieldClassification()};
+        } else if (owner instanceof DatabaseField field) {
+            return field.type == null ? null : new Object[] {field.type};
+        }
+        return null;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static void readTransientState(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        Object owner;
+        while ((owner = in.readObject()) != null) {
+            Object[] state = (Object[]) in.readObject();
+            if (owner instanceof InheritancePolicy policy) {
+                policy.setClassIndicatorMapping((Map) state[0]);
+                policy.setShouldUseClassNameAsIndicator((Boolean) state[1]);
+                policy.setShouldReadSubclasses((Boolean) state[2]);
+                if (state[3] != null) {
+                    try {
+                        policy.setClassExtractor(PrivilegedAccessHelper.newInstanceFromClass((Class<ClassExtractor>) state[3]));
+                    } catch (ReflectiveOperationException e) {
+                        throw new InvalidClassException(((Class<?>) state[3]).getName(), e.getMessage());
+                    }
+                }
+            } else if (owner instanceof AbstractDirectMapping mapping) {
+                mapping.setAttributeClassification((Class<?>) state[0]);
+                mapping.setNullValue(state[1]);
+            } else if (owner instanceof XMLCompositeDirectCollectionMapping mapping) {
+                mapping.setNullValue(state[0]);
+            } else if (owner instanceof ObjectTypeConverter converter) {
+                converter.setFieldToAttributeValues((Map) state[0]);
+                converter.setDefaultAttributeValue(state[1]);
+                converter.setFieldClassification((Class<?>) state[2]);
+            } else if (owner instanceof DatabaseField field) {
+                field.type = (Class<?>) state[0];
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Write what the JAXBContextState otherwise gets from the Generator.
+     */
+    void writeGeneratorState(Generator generator, JaxbClassLoader loader, TypeMappingInfo[] typeMappingInfos, Map<TypeMappingInfo, Class<?>> typeMappingInfoToGeneratedType) throws IOException {
+        Class<?>[] types = new Class<?>[typeMappingInfos.length];
+        Class<?>[] generated = new Class<?>[typeMappingInfos.length];
+        for (int i = 0; i < typeMappingInfos.length; i++) {
+            types[i] = (Class<?>) typeMappingInfos[i].getType();
+            if (typeMappingInfoToGeneratedType != null) {
+                generated[i] = typeMappingInfoToGeneratedType.get(typeMappingInfos[i]);
+            }
+        }
+        payloadOut.writeObject(types);
+        payloadOut.writeObject(generated);
+        payloadOut.writeObject(copy(generator.getMappingsGenerator().getQNamesToGeneratedClasses()));
+        payloadOut.writeObject(copy(generator.getMappingsGenerator().getClassToGeneratedClasses()));
+        payloadOut.writeObject(copy(generator.getMappingsGenerator().getQNamesToDeclaredClasses()));
+        payloadOut.writeObject(copy(generator.getAnnotationsProcessor().getArrayClassesToGeneratedClasses()));
+        payloadOut.writeObject(copy(generator.getAnnotationsProcessor().getUserDefinedSchemaTypes()));
+        payloadOut.writeObject(copy(generator.getMarshalCallbacks()));
+        payloadOut.writeObject(copy(generator.getUnmarshalCallbacks()));
+        payloadOut.writeBoolean(generator.getAnnotationsProcessor().hasSwaRef());
+        payloadOut.close();
+        generatedClassBytes = new LinkedHashMap<>(loader.getGeneratedClassBytes());
+    }
+
+    private static <K, V> Map<K, V> copy(Map<K, V> map) {
+        return map == null ? null : new HashMap<>(map);
+    }
+
+    @SuppressWarnings({"unchecked"})
+    private void readGeneratorState(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        boundTypes = (Class<?>[]) in.readObject();
+        generatedTypes = (Class<?>[]) in.readObject();
+        qNamesToGeneratedClasses = (Map<QName, Class<?>>) in.readObject();
+        classToGeneratedClasses = (Map<String, Class<?>>) in.readObject();
+        qNamesToDeclaredClasses = (Map<QName, Class<?>>) in.readObject();
+        arrayClassesToGeneratedClasses = (Map<String, Class<?>>) in.readObject();
+        userDefinedSchemaTypes = (Map<String, QName>) in.readObject();
+        marshalCallbacks = (Map<String, MarshalCallback>) in.readObject();
+        unmarshalCallbacks = (Map<String, UnmarshalCallback>) in.readObject();
+        hasSwaRef = in.readBoolean();
+    }
+
+    /**
+     * INTERNAL:
+     * Generate the project of the bound classes again, for the Generator to write their schema.
+     */
+    Generator createGenerator(Map<String, Object> properties, ClassLoader classLoader) throws jakarta.xml.bind.JAXBException {
+        TypeMappingInfo[] typeMappingInfos = new TypeMappingInfo[boundTypes.length];
+        for (int i = 0; i < boundTypes.length; i++) {
+            typeMappingInfos[i] = new TypeMappingInfo();
+            typeMappingInfos[i].setType(boundTypes[i]);
+        }
+        return new TypeMappingInfoInput(typeMappingInfos, properties, classLoader).createContextState().getGenerator();
+    }
+
+    Map<QName, Class<?>> getQNamesToGeneratedClasses() {
+        return qNamesToGeneratedClasses;
+    }
+
+    Map<String, Class<?>> getClassToGeneratedClasses() {
+        return classToGeneratedClasses;
+    }
+
+    Map<QName, Class<?>> getQNamesToDeclaredClasses() {
+        return qNamesToDeclaredClasses;
+    }
+
+    Map<String, Class<?>> getArrayClassesToGeneratedClasses() {
+        return arrayClassesToGeneratedClasses;
+    }
+
+    Map<String, QName> getUserDefinedSchemaTypes() {
+        return userDefinedSchemaTypes;
+    }
+
+    Map<String, MarshalCallback> getMarshalCallbacks() {
+        return marshalCallbacks;
+    }
+
+    Map<String, UnmarshalCallback> getUnmarshalCallbacks() {
+        return unmarshalCallbacks;
+    }
+
+    boolean hasSwaRef() {
+        return hasSwaRef;
+    }
+
+    /**
+     * Return the CRC32 of the class file of the class, or -1 when there is no class file.
+     */
+    private static long checksum(ClassLoader classLoader, String className) throws jakarta.xml.bind.JAXBException {
+        try (InputStream in = classLoader.getResourceAsStream(className.replace('.', '/') + ".class")) {
+            if (in == null) {
+                return -1;
+            }
+            CRC32 crc = new CRC32();
+            byte[] buffer = new byte[8192];
+            int count;
+            while ((count = in.read(buffer)) > 0) {
+                crc.update(buffer, 0, count);
+            }
+            return crc.getValue();
+        } catch (IOException e) {
+            throw new jakarta.xml.bind.JAXBException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Stands for the class loaders referenced by the project, they are replaced by the
+     * JaxbClassLoader of the restored JAXBContext.
+     */
+    private static final class ClassLoaderReference implements Serializable {
+    }
+
+    /**
+     * Records the checksum of each application class written to the stream. The classes of
+     * EclipseLink and of the platform are left out, the former are checked by the version.
+     */
+    private static final class SnapshotOutputStream extends ObjectOutputStream {
+
+        private final Map<String, Long> checksums = new HashMap<>();
+        private final List<Object> transientStateOwners = new ArrayList<>();
+
+        private SnapshotOutputStream(OutputStream out) throws IOException {
+            super(out);
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(Object obj) {
+            if (obj instanceof ClassLoader) {
+                return new ClassLoaderReference();
+            }
+            if (hasTransientState(obj)) {
+                transientStateOwners.add(obj);
+            }
+            return obj;
+        }
+
+        @Override
+        protected void annotateClass(Class<?> cl) throws IOException {
+            while (cl.isArray()) {
+                cl = cl.getComponentType();
+            }
+            String className = cl.getName();
+            ClassLoader classLoader = cl.getClassLoader();
+            if (cl.isPrimitive() || checksums.containsKey(className) || classLoader == null
+                    || classLoader == ClassLoader.getPlatformClassLoader() || classLoader instanceof JaxbClassLoader
+                    || isEclipseLinkClass(cl)) {
+                return;
+            }
+            try {
+                checksums.put(className, checksum(classLoader, className));
+            } catch (jakarta.xml.bind.JAXBException e) {
+                throw (IOException) e.getCause();
+            }
+        }
+
+        private static boolean isEclipseLinkClass(Class<?> cl) {
+            CodeSource codeSource = cl.getProtectionDomain().getCodeSource();
+            return codeSource != null && codeSource.getLocation() != null
+                    && (isLocationOf(codeSource, JAXBContext.class) || isLocationOf(codeSource, Version.class));
+        }
+
+        private static boolean isLocationOf(CodeSource codeSource, Class<?> cl) {
+            CodeSource classCodeSource = cl.getProtectionDomain().getCodeSource();
+            return classCodeSource != null && classCodeSource.getLocation() != null
+                    && codeSource.getLocation().toExternalForm().equals(classCodeSource.getLocation().toExternalForm());
+        }
+    }
+
+    /**
+     * Verifies the content of a snapshot being read, only the given classes are allowed on top of the structure.
+     */
+    private static final class SnapshotFilter implements ObjectInputFilter {
+
+        private final Class<?>[] topLevelClasses;
+
+        private SnapshotFilter(Class<?>... topLevelClasses) {
+            this.topLevelClasses = topLevelClasses;
+        }
+
+        @Override
+        public Status checkInput(FilterInfo info) {
+            // Skip checks when decision was already made by higher level filter.
+            ObjectInputFilter serialFilter = ObjectInputFilter.Config.getSerialFilter();
+            if (serialFilter != null) {
+                Status status = serialFilter.checkInput(info);
+                if (status != Status.UNDECIDED) {
+                    // The process-wide filter overrides this filter
+                    return status;
+                }
+            }
+            if (info.serialClass() != null && info.depth() == 1L) {
+                for (Class<?> topLevelClass : topLevelClasses) {
+                    if (topLevelClass.isAssignableFrom(info.serialClass())) {
+                        return Status.UNDECIDED;
+                    }
+                }
+                return Status.REJECTED;
+            }
+            return Status.UNDECIDED;
+        }
+    }
+
+    /**
+     * Resolves the classes of the snapshot with the JaxbClassLoader that defines the generated classes.
+     */
+    private static final class SnapshotInputStream extends ObjectInputStream {
+
+        private final JaxbClassLoader loader;
+
+        private SnapshotInputStream(InputStream in, JaxbClassLoader loader) throws IOException {
+            super(in);
+            this.loader = loader;
+            enableResolveObject(true);
+            // the project, the transient state of its objects and the generator state
+            setObjectInputFilter(new SnapshotFilter(Project.class, Object[].class, Map.class));
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            try {
+                return PrivilegedAccessHelper.getClassForName(desc.getName(), false, loader);
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+
+        @Override
+        protected Object resolveObject(Object obj) {
+            return obj instanceof ClassLoaderReference ? loader : obj;
+        }
+    }
+
+    /**
+     * Creates the JAXBContextState from the project of the snapshot, as the TypeMappingInfoInput
+     * creates it from the generated project.
+     */
+    private static final class SnapshotInput extends JAXBContextInput {
+
+        private final byte[] payload;
+        private final JaxbClassLoader loader;
+        private TypeMappingInfo[] typeMappingInfos;
+
+        private SnapshotInput(byte[] payload, JaxbClassLoader loader, Map properties, ClassLoader classLoader) {
+            super(properties, classLoader);
+            this.payload = payload;
+            this.loader = loader;
+        }
+
+        @Override
+        protected JAXBContextState createContextState() throws jakarta.xml.bind.JAXBException {
+            JAXBContextSnapshot snapshot = new JAXBContextSnapshot();
+            Project project;
+            try (ObjectInputStream in = new SnapshotInputStream(new ByteArrayInputStream(payload), loader)) {
+                project = (Project) in.readObject();
+                readTransientState(in);
+                snapshot.readGeneratorState(in);
+            } catch (IOException | ClassNotFoundException e) {
+                throw new jakarta.xml.bind.JAXBException(JAXBException.invalidContextSnapshot(Version.getVersionString(), e));
+            }
+
+            typeMappingInfos = new TypeMappingInfo[snapshot.boundTypes.length];
+            Map<TypeMappingInfo, Class<?>> typeMappingInfoToGeneratedType = new HashMap<>();
+            for (int i = 0; i < typeMappingInfos.length; i++) {
+                typeMappingInfos[i] = new TypeMappingInfo();
+                typeMappingInfos[i].setType(snapshot.boundTypes[i]);
+                if (snapshot.generatedTypes[i] != null) {
+                    typeMappingInfoToGeneratedType.put(typeMappingInfos[i], snapshot.generatedTypes[i]);
+                }
+            }
+
+            XMLContext xmlContext = new XMLContext(project, loader, sessionEventListeners());
+            ((XMLLogin) xmlContext.getSession().getDatasourceLogin()).setEqualNamespaceResolvers(true);
+            JAXBContextState contextState = new JAXBContextState(xmlContext, snapshot, typeMappingInfos, typeMappingInfoToGeneratedType, properties);
+
+            for (int i = 0; i < typeMappingInfos.length; i++) {
+                Class<?> classToLookup = snapshot.generatedTypes[i] == null ? snapshot.boundTypes[i] : snapshot.generatedTypes[i];
+                typeMappingInfos[i].setXmlDescriptor((Descriptor) project.getDescriptor(classToLookup));
+            }
+            return contextState;
+        }
+    }
+
+}
@@ -324,6 +324,8 @@ public Object getProperty(String key) throws PropertyException {
             return xmlMarshaller.getJsonTypeConfiguration().getJsonTypeAttributeName();
         } else if (MarshallerProperties.JSON_DISABLE_NESTED_ARRAY_NAME.equals(key)) {
             return xmlMarshaller.getJsonTypeConfiguration().isJsonDisableNestedArrayName();
+        } else if (MarshallerProperties.JSON_UTF8_OUTPUT.equals(key)) {
+            return xmlMarshaller.isUTF8Output();
         } else if (SUN_CHARACTER_ESCAPE_HANDLER.equals(key) || SUN_JSE_CHARACTER_ESCAPE_HANDLER.equals(key) ||SUN_CHARACTER_ESCAPE_HANDLER_MARSHALLER.equals(key) || SUN_JSE_CHARACTER_ESCAPE_HANDLER_MARSHALLER.equals(key)) {
             if (xmlMarshaller.getCharacterEscapeHandler() instanceof CharacterEscapeHandlerWrapper wrapper) {
                 return wrapper.getHandler();
@@ -916,6 +918,7 @@ public void setProperty(String key, Object value) throws PropertyException {
                     case MarshallerProperties.JSON_TYPE_COMPATIBILITY -> xmlMarshaller.getJsonTypeConfiguration().setJsonTypeCompatibility((Boolean) value);
                     case MarshallerProperties.JSON_TYPE_ATTRIBUTE_NAME -> xmlMarshaller.getJsonTypeConfiguration().setJsonTypeAttributeName((String) value);
                     case MarshallerProperties.JSON_DISABLE_NESTED_ARRAY_NAME -> xmlMarshaller.getJsonTypeConfiguration().setJsonDisableNestedArrayName((Boolean) value);
+                    case MarshallerProperties.JSON_UTF8_OUTPUT -> xmlMarshaller.setUTF8Output((Boolean) value);
                     case MarshallerProperties.CHARACTER_ESCAPE_HANDLER -> xmlMarshaller.setCharacterEscapeHandler((CharacterEscapeHandler) value);
                     case MarshallerProperties.MOXY_LOG_PAYLOAD -> xmlMarshaller.setLogPayload(((Boolean) value));
                     case MarshallerProperties.MOXY_LOGGING_LEVEL -> {
@@ -242,6 +242,16 @@ public class MarshallerProperties {
      */
     public static final String JSON_DISABLE_NESTED_ARRAY_NAME = "eclipselink.json.disable-nested-array-name";
 
+    /**
+     * The Constant JSON_UTF8_OUTPUT.  If true unformatted JSON marshalled to an
+     * OutputStream in UTF-8 is written directly as bytes, with the property names
+     * encoded once per mapping instead of on every marshal.
+     * Default is false.
+     * @since 5.0
+     * @see org.eclipse.persistence.oxm.record.JSONOutputStreamRecord
+     */
+    public static final String JSON_UTF8_OUTPUT = "eclipselink.json.utf8-output";
+
     /**
      *
      */
@@ -14,6 +14,7 @@
 //     Oracle - initial API and implementation from Oracle TopLink
 package org.eclipse.persistence.jaxb.compiler;
 
+import java.io.Serializable;
 import java.lang.reflect.Method;
 
 import jakarta.xml.bind.Unmarshaller;
@@ -37,11 +38,11 @@
  *  @see org.eclipse.persistence.jaxb.JAXBUnmarshalListener
  *  @see org.eclipse.persistence.jaxb.JAXBUnmarshaller
  */
-public class UnmarshalCallback {
+public class UnmarshalCallback implements Serializable {
     private Class<?> domainClass;
     private String domainClassName;
-    private Method afterUnmarshalCallback;
-    private Method beforeUnmarshalCallback;
+    private transient Method afterUnmarshalCallback;
+    private transient Method beforeUnmarshalCallback;
     private boolean hasAfterUnmarshalCallback = false;
     private boolean hasBeforeUnmarshalCallback = false;
 
@@ -224,6 +224,7 @@ public class MOXyJsonProvider implements MessageBodyReader<Object>, MessageBodyW
     private boolean marshalEmptyCollections = true;
     private Map<String, String> namespacePrefixMapper;
     private char namespaceSeperator = Constants.DOT;
+    private boolean utf8Output = true;
     private String valueWrapper;
     private boolean wrapperAsArrayName = false;
 
@@ -523,6 +524,15 @@ public boolean isWrapperAsArrayName() {
         return wrapperAsArrayName;
     }
 
+    /**
+     * If true unformatted JSON in UTF-8 is encoded directly into the bytes of
+     * the entity stream (default is true).
+     * @see org.eclipse.persistence.jaxb.MarshallerProperties#JSON_UTF8_OUTPUT
+     */
+    public boolean isUTF8Output() {
+        return utf8Output;
+    }
+
     /**
      * @return true indicating that <i>MOXyJsonProvider</i> will
      * be used for the JSON binding if the media type is of the following
@@ -911,6 +921,17 @@ public void setWrapperAsArrayName(boolean wrapperAsArrayName) {
         this.wrapperAsArrayName = wrapperAsArrayName;
     }
 
+    /**
+     * Specify if unformatted JSON in UTF-8 should be encoded directly into the
+     * bytes of the entity stream (default is true).
+     * @param utf8Output - false to write the JSON through the marshaller's
+     * default record.
+     * @see org.eclipse.persistence.jaxb.MarshallerProperties#JSON_UTF8_OUTPUT
+     */
+    public void setUTF8Output(boolean utf8Output) {
+        this.utf8Output = utf8Output;
+    }
+
     /**
      * Specify the key that will correspond to the property mapped with
      * {@literal @XmlValue}.  This key will only be used if there are other mapped
@@ -963,6 +984,7 @@ public void writeTo(Object object, Class<?> type, Type genericType, Annotation[]
             }
             marshaller.setProperty(MarshallerProperties.JSON_WRAPPER_AS_ARRAY_NAME, wrapperAsArrayName);
             marshaller.setProperty(MarshallerProperties.NAMESPACE_PREFIX_MAPPER, namespacePrefixMapper);
+            marshaller.setProperty(MarshallerProperties.JSON_UTF8_OUTPUT, utf8Output);
 
             Map<String, String> mediaTypeParameters = null;
             if(null != mediaType) {
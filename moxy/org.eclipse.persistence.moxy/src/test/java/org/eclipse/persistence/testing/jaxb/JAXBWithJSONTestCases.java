@@ -335,6 +335,11 @@ public void testJSONMarshalToOutputStream() throws Exception{
         os.close();
     }
 
+    public void testJSONMarshalToOutputStream_UTF8Output() throws Exception{
+        getJSONMarshaller().setProperty(MarshallerProperties.JSON_UTF8_OUTPUT, true);
+        testJSONMarshalToOutputStream();
+    }
+
     public void testJSONMarshalToOutputStream_FORMATTED() throws Exception{
         getJSONMarshaller().setProperty(MarshallerProperties.MEDIA_TYPE, "application/json");
         getJSONMarshaller().setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
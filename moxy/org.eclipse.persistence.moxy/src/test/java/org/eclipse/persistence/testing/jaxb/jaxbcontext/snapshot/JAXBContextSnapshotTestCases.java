@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.jaxb.jaxbcontext.snapshot;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+
+import junit.framework.TestCase;
+
+import org.eclipse.persistence.Version;
+import org.eclipse.persistence.jaxb.JAXBContextFactory;
+import org.eclipse.persistence.jaxb.JAXBContextProperties;
+import org.eclipse.persistence.jaxb.JAXBContextSnapshot;
+
+public class JAXBContextSnapshotTestCases extends TestCase {
+
+    private static final String SNAPSHOT = "META-INF/customer.jaxb";
+    private static final String XML = "<customer id=\"7\"><name>Jane</name><status>closed</status><phone>555-1234</phone><phone>555-4321</phone></customer>";
+    private static final String PREFERRED_XML = "<customer xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"preferredCustomer\" id=\"8\"><name>Bob</name><status>active</status><discount/></customer>";
+
+    private static final Class<?>[] CLASSES = new Class<?>[] {Customer.class};
+
+    public JAXBContextSnapshotTestCases(String name) {
+        super(name);
+    }
+
+    public void testReadSnapshot() throws Exception {
+        JAXBContext context = JAXBContextSnapshot.read(new ByteArrayInputStream(writeSnapshot(CLASSES)), null, getClassLoader());
+        assertUnmarshalMarshal(context);
+    }
+
+    public void testSnapshotProperty() throws Exception {
+        SnapshotClassLoader classLoader = new SnapshotClassLoader(writeSnapshot(CLASSES));
+        JAXBContext context = JAXBContextFactory.createContext(CLASSES, snapshotProperties(), classLoader);
+        assertTrue("The snapshot was not read.", classLoader.snapshotRead);
+        assertUnmarshalMarshal(context);
+    }
+
+    public void testSnapshotOfOtherClasses() throws Exception {
+        SnapshotClassLoader classLoader = new SnapshotClassLoader(writeSnapshot(new Class<?>[] {Customer.class, Status.class}));
+        JAXBContext context = JAXBContextFactory.createContext(CLASSES, snapshotProperties(), classLoader);
+        assertTrue("The snapshot was not read.", classLoader.snapshotRead);
+        assertUnmarshalMarshal(context);
+    }
+
+    public void testMissingSnapshot() throws Exception {
+        JAXBContext context = JAXBContextFactory.createContext(CLASSES, snapshotProperties(), getClassLoader());
+        assertUnmarshalMarshal(context);
+    }
+
+    public void testStaleSnapshot() throws Exception {
+        byte[] snapshot = writeSnapshot(CLASSES);
+        SnapshotClassLoader classLoader = new SnapshotClassLoader(snapshot);
+        classLoader.changedClass = PreferredCustomer.class.getName().replace('.', '/') + ".class";
+        try {
+            JAXBContextSnapshot.read(new ByteArrayInputStream(snapshot), null, classLoader);
+            fail("A snapshot of a changed class should not be read.");
+        } catch (JAXBException expected) {
+            assertEquals(org.eclipse.persistence.exceptions.JAXBException.STALE_CONTEXT_SNAPSHOT,
+                    ((org.eclipse.persistence.exceptions.JAXBException) expected.getLinkedException()).getErrorCode());
+        }
+
+        // the context is generated instead
+        JAXBContext context = JAXBContextFactory.createContext(CLASSES, snapshotProperties(), classLoader);
+        assertTrue("The snapshot was not read.", classLoader.snapshotRead);
+        assertUnmarshalMarshal(context);
+    }
+
+    public void testRejectedSnapshotContent() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeUTF("EclipseLink JAXBContext snapshot 1");
+            out.writeUTF(Version.getVersionString());
+            out.writeObject(new ArrayList<>(List.of(Customer.class.getName())));
+        }
+        try {
+            JAXBContextSnapshot.read(new ByteArrayInputStream(bytes.toByteArray()), null, getClassLoader());
+            fail("A snapshot with unexpected content should not be read.");
+        } catch (JAXBException expected) {
+            org.eclipse.persistence.exceptions.JAXBException exception = (org.eclipse.persistence.exceptions.JAXBException) expected.getLinkedException();
+            assertEquals(org.eclipse.persistence.exceptions.JAXBException.INVALID_CONTEXT_SNAPSHOT, exception.getErrorCode());
+            // rejected before the object was read
+            assertTrue(exception.getInternalException() instanceof InvalidClassException);
+        }
+    }
+
+    private byte[] writeSnapshot(Class<?>[] classes) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JAXBContextSnapshot.write(classes, null, getClassLoader(), out);
+        return out.toByteArray();
+    }
+
+    private static Map<String, Object> snapshotProperties() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(JAXBContextProperties.CONTEXT_SNAPSHOT, SNAPSHOT);
+        return properties;
+    }
+
+    private static ClassLoader getClassLoader() {
+        return Customer.class.getClassLoader();
+    }
+
+    private static void assertUnmarshalMarshal(JAXBContext context) throws Exception {
+        Customer control = new Customer();
+        control.id = 7;
+        control.name = "Jane";
+        control.status = Status.CLOSED;
+        control.phones.addAll(List.of("555-1234", "555-4321"));
+        assertEquals(control, context.createUnmarshaller().unmarshal(new StringReader(XML)));
+
+        StringWriter writer = new StringWriter();
+        Marshaller marshaller = context.createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+        marshaller.marshal(control, writer);
+        assertEquals(XML, writer.toString());
+
+        PreferredCustomer preferred = new PreferredCustomer();
+        preferred.id = 8;
+        preferred.name = "Bob";
+        preferred.status = Status.ACTIVE;
+        preferred.discount = 5;
+        assertEquals(preferred, context.createUnmarshaller().unmarshal(new StringReader(PREFERRED_XML)));
+    }
+
+    /**
+     * Serves the snapshot resource, and can change the class file of a class.
+     */
+    private static final class SnapshotClassLoader extends ClassLoader {
+
+        private final byte[] snapshot;
+        private String changedClass;
+        private boolean snapshotRead;
+
+        private SnapshotClassLoader(byte[] snapshot) {
+            super(getClassLoader());
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public InputStream getResourceAsStream(String name) {
+            if (SNAPSHOT.equals(name)) {
+                snapshotRead = true;
+                return new ByteArrayInputStream(snapshot);
+            }
+            if (name.equals(changedClass)) {
+                return new ByteArrayInputStream(new byte[] {(byte) 0xCA, (byte) 0xFE});
+            }
+            return super.getResourceAsStream(name);
+        }
+    }
+
+}
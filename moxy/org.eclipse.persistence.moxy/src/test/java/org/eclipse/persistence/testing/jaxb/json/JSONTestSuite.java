@@ -41,6 +41,7 @@
 import org.eclipse.persistence.testing.jaxb.json.norootelement.NoRootElementNSTestCases;
 import org.eclipse.persistence.testing.jaxb.json.norootelement.NoRootElementTestCases;
 import org.eclipse.persistence.testing.jaxb.json.padding.JSONWithPaddingTestCases;
+import org.eclipse.persistence.testing.jaxb.json.parser.JsonParserReaderTestCases;
 import org.eclipse.persistence.testing.jaxb.json.rootlevellist.RootLevelListTestCases;
 import org.eclipse.persistence.testing.jaxb.json.type.*;
 import org.eclipse.persistence.testing.jaxb.json.unmapped.JsonUnmappedTestCases;
@@ -99,6 +100,7 @@ public static Test suite() {
           suite.addTestSuite(TypePropertyInheritanceTestCases.class);
           suite.addTestSuite(TypePropertyTestCases.class);
           suite.addTestSuite(JsonUnmappedTestCases.class);
+          suite.addTestSuite(JsonParserReaderTestCases.class);
 
           return suite;
     }
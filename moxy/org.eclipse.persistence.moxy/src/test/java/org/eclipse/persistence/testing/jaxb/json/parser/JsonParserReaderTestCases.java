@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.jaxb.json.parser;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.json.Json;
+import jakarta.json.stream.JsonParser;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.Unmarshaller;
+
+import org.eclipse.persistence.jaxb.JAXBContextFactory;
+import org.eclipse.persistence.jaxb.JAXBContextProperties;
+import org.eclipse.persistence.oxm.json.JsonParserSource;
+
+/**
+ * Tests unmarshalling from a JSON parser, whose events are read as they are parsed.
+ */
+public class JsonParserReaderTestCases extends junit.framework.TestCase {
+
+    private static final int RESIDENTS = 10000;
+
+    public JsonParserReaderTestCases() {
+        super(JsonParserReaderTestCases.class.getSimpleName());
+    }
+
+    private static Unmarshaller createUnmarshaller() throws Exception {
+        JAXBContext context = JAXBContextFactory.createContext(new Class<?>[] {Resident.class},
+                Map.of(JAXBContextProperties.MEDIA_TYPE, "application/json"));
+        Unmarshaller unmarshaller = context.createUnmarshaller();
+        unmarshaller.setProperty(JAXBContextProperties.JSON_TYPE_ATTRIBUTE_NAME, "_type");
+        return unmarshaller;
+    }
+
+    private static Resident unmarshal(String json) throws Exception {
+        try (JsonParser parser = Json.createParser(new StringReader(json))) {
+            return (Resident)createUnmarshaller().unmarshal(new JsonParserSource(parser));
+        }
+    }
+
+    public void testTypePropertyBeforeNestedMember() throws Exception {
+        Resident resident = unmarshal("{\"resident\":{\"_type\":\"T\",\"name\":\"Ann\",\"address\":{\"city\":\"Ottawa\"},\"lease\":\"L1\"}}");
+        assertEquals(Tenant.class, resident.getClass());
+        assertEquals("L1", ((Tenant)resident).lease);
+        assertEquals("Ottawa", resident.address.city);
+    }
+
+    public void testTypePropertyAfterNestedMember() throws Exception {
+        // The element is started at its first nested member, so a later type property does not select the subclass.
+        Resident resident = unmarshal("{\"resident\":{\"name\":\"Ann\",\"address\":{\"city\":\"Ottawa\"},\"_type\":\"T\",\"lease\":\"L1\"}}");
+        assertEquals(Resident.class, resident.getClass());
+        assertEquals("Ann", resident.name);
+        assertEquals("Ottawa", resident.address.city);
+    }
+
+    public void testScalarMembersAfterNestedMember() throws Exception {
+        Resident resident = unmarshal("{\"resident\":{\"address\":{\"city\":\"Ottawa\"},\"name\":\"Ann\",\"age\":42,\"nicknames\":[\"A\",\"Annie\"]}}");
+        assertEquals("Ottawa", resident.address.city);
+        assertEquals("Ann", resident.name);
+        assertEquals(42, resident.age);
+        assertEquals(List.of("A", "Annie"), resident.nicknames);
+    }
+
+    public void testLargeDocumentStreamed() throws Exception {
+        StringBuilder json = new StringBuilder("{\"resident\":{\"name\":\"Root\",\"nicknames\":[\"R\"],\"residents\":[");
+        for (int index = 0; index < RESIDENTS; index++) {
+            if (index > 0) {
+                json.append(',');
+            }
+            json.append("{\"name\":\"N").append(index).append("\",\"address\":{\"city\":\"C").append(index).append("\"},\"age\":").append(index).append('}');
+        }
+        json.append("],\"age\":1}}");
+        List<Long> offsets = new ArrayList<>();
+        try (JsonParser parser = Json.createParser(new StringReader(json.toString()))) {
+            Unmarshaller unmarshaller = createUnmarshaller();
+            // Record how far the document has been parsed when each nested resident is built.
+            unmarshaller.setListener(new Unmarshaller.Listener() {
+                @Override
+                public void afterUnmarshal(Object target, Object parent) {
+                    if ((target instanceof Resident) && (parent instanceof Resident)) {
+                        offsets.add(parser.getLocation().getStreamOffset());
+                    }
+                }
+            });
+            Resident root = (Resident)unmarshaller.unmarshal(new JsonParserSource(parser));
+            assertEquals("Root", root.name);
+            assertEquals(List.of("R"), root.nicknames);
+            assertEquals(1, root.age);
+            assertEquals(RESIDENTS, root.residents.size());
+            Resident last = root.residents.get(RESIDENTS - 1);
+            assertEquals("N" + (RESIDENTS - 1), last.name);
+            assertEquals("C" + (RESIDENTS - 1), last.address.city);
+            assertEquals(RESIDENTS - 1, last.age);
+        }
+        assertEquals(RESIDENTS, offsets.size());
+        // The first resident is built before the rest of the document is parsed.
+        assertTrue("The document was buffered before the first resident was built: " + offsets.get(0),
+                offsets.get(0) < json.length() / 100);
+    }
+}
@@ -14,7 +14,12 @@
 //     Oracle - initial implementation
 package org.eclipse.persistence.testing.perf;
 
+import org.eclipse.persistence.testing.perf.core.ChangeSetSerializerBenchmark;
+import org.eclipse.persistence.testing.perf.core.CommitPlanBenchmark;
 import org.eclipse.persistence.testing.perf.core.ConcurrencyManagerBenchmark;
+import org.eclipse.persistence.testing.perf.core.IdentityMapBenchmark;
+import org.eclipse.persistence.testing.perf.core.ParallelObjectBuildingBenchmark;
+import org.eclipse.persistence.testing.perf.core.ResultSetMaterializationBenchmark;
 import org.openjdk.jmh.results.format.ResultFormatType;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
@@ -42,6 +47,11 @@ public static void main(String[] args) throws RunnerException {
 
         Options opt = new OptionsBuilder()
                 .include(getInclude(ConcurrencyManagerBenchmark.class))
+                .include(getInclude(IdentityMapBenchmark.class))
+                .include(getInclude(CommitPlanBenchmark.class))
+                .include(getInclude(ChangeSetSerializerBenchmark.class))
+                .include(getInclude(ResultSetMaterializationBenchmark.class))
+                .include(getInclude(ParallelObjectBuildingBenchmark.class))
                 .result(resultFile)
                 .resultFormat(ResultFormatType.valueOf(resultFormat.toUpperCase()))
                 .warmupIterations(warmupIterations)
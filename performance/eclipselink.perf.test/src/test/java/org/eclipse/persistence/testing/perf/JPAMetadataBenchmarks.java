@@ -15,6 +15,7 @@
 package org.eclipse.persistence.testing.perf;
 
 import org.eclipse.persistence.testing.perf.jpa.tests.basic.JPAMetadataProcessingTests;
+import org.eclipse.persistence.testing.perf.jpa.tests.basic.JPAProjectCacheTests;
 import org.eclipse.persistence.testing.perf.jpa.tests.basic.MethodHandleComparisonTests;
 
 import org.openjdk.jmh.results.format.ResultFormatType;
@@ -42,6 +43,7 @@ public static void main(String[] args) throws RunnerException {
         Options opt = new OptionsBuilder()
                 .include(getInclude(JPAMetadataProcessingTests.class))
                 .include(getInclude(MethodHandleComparisonTests.class))
+                .include(getInclude(JPAProjectCacheTests.class))
                 .jvmArgsPrepend("-javaagent:" + System.getProperty("eclipselink.agent"))
                 .result(resultFile)
                 .resultFormat(ResultFormatType.valueOf(resultFormat.toUpperCase()))
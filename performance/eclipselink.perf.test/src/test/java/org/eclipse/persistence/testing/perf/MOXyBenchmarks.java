@@ -20,6 +20,7 @@
 import org.eclipse.persistence.testing.perf.json.unmarshal.JsonUnmarshalBenchmark;
 import org.eclipse.persistence.testing.perf.json.writer.JsonWriterBenchmark;
 import org.eclipse.persistence.testing.perf.largexml.LargeXmlBenchmark;
+import org.eclipse.persistence.testing.perf.moxy.contextsnapshot.ContextSnapshotBenchmark;
 import org.eclipse.persistence.testing.perf.smallxml.SmallXmlBenchmark;
 import org.openjdk.jmh.results.format.ResultFormatType;
 import org.openjdk.jmh.runner.Runner;
@@ -56,6 +57,7 @@ public static void main(String[] args) throws RunnerException {
                 .include(getInclude(JsonUnmarshalBenchmark.class))
                 .include(getInclude(JsonWriterBenchmark.class))
                 .include(getInclude(MOXyValidationBenchmark.class))
+                .include(getInclude(ContextSnapshotBenchmark.class))
                  // tests that are not part of regular test-harness
 //                .include(getInclude(JPAValidationBenchmark.class))
 //                .include(getInclude(ReferenceResolverBenchmark.class))
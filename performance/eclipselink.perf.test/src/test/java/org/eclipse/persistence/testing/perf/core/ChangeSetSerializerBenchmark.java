@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.core;
+
+import java.math.BigDecimal;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.serializers.ChangeSetSerializer;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+import org.eclipse.persistence.sessions.serializers.Serializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * This benchmark compares sending and receiving the cache coordination command of a change set
+ * with Java serialization, and with the binary change set serializer.
+ *
+ */
+@State(Scope.Benchmark)
+public class ChangeSetSerializerBenchmark {
+
+    public static class Employee {
+        public BigDecimal id;
+        public String firstName;
+        public String lastName;
+        public Integer salary;
+    }
+
+    @Param({"1", "10", "100"})
+    public int changedObjects;
+
+    private Session session;
+
+    private MergeChangeSetCommand command;
+
+    private Serializer changeSetSerializer;
+
+    @Setup
+    public void setup() {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Employee.class);
+        descriptor.addTableName("EMPLOYEE");
+        descriptor.addPrimaryKeyFieldName("EMPLOYEE.ID");
+        descriptor.addDirectMapping("id", "EMPLOYEE.ID");
+        descriptor.addDirectMapping("firstName", "EMPLOYEE.F_NAME");
+        descriptor.addDirectMapping("lastName", "EMPLOYEE.L_NAME");
+        descriptor.addDirectMapping("salary", "EMPLOYEE.SALARY");
+        Project project = new Project(new DatabaseLogin());
+        project.addDescriptor(descriptor);
+        session = project.createDatabaseSession();
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        for (int index = 0; index < changedObjects; index++) {
+            ObjectChangeSet objectChangeSet = new ObjectChangeSet(new BigDecimal(1000 + index), descriptor, null, changeSet, false);
+            objectChangeSet.setCacheSynchronizationType(ClassDescriptor.SEND_OBJECT_CHANGES);
+            addChange(objectChangeSet, "lastName", "Smith" + index);
+            addChange(objectChangeSet, "salary", 50000 + index);
+            changeSet.getAllChangeSets().put(objectChangeSet, objectChangeSet);
+        }
+        command = new MergeChangeSetCommand();
+        command.setChangeSet(changeSet);
+        changeSetSerializer = new ChangeSetSerializer();
+        changeSetSerializer.initialize(UnitOfWorkChangeSet.class, null, session);
+    }
+
+    private void addChange(ObjectChangeSet objectChangeSet, String attribute, Object value) {
+        DirectToFieldChangeRecord record = new DirectToFieldChangeRecord(objectChangeSet);
+        record.setAttribute(attribute);
+        record.setNewValue(value);
+        objectChangeSet.addChange(record);
+    }
+
+    @Benchmark
+    public void testJavaSerializer(Blackhole bh) {
+        Object bytes = JavaSerializer.instance.serialize(command, session);
+        bh.consume(JavaSerializer.instance.deserialize(bytes, session));
+    }
+
+    @Benchmark
+    public void testChangeSetSerializer(Blackhole bh) {
+        Object bytes = changeSetSerializer.serialize(command, session);
+        bh.consume(changeSetSerializer.deserialize(bytes, session));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.core;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.persistence.dynamic.DynamicClassLoader;
+import org.eclipse.persistence.internal.sessions.CommitManager;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * This benchmark compares visiting the classes of a small change set by walking the whole commit order
+ * of a project of 1000 descriptors, with walking the commit plan of the change set.
+ *
+ */
+@State(Scope.Benchmark)
+public class CommitPlanBenchmark {
+
+    private static final int DESCRIPTORS = 1000;
+
+    @Param({"1", "5", "20"})
+    public int changedClasses;
+
+    private List<Class<?>> commitOrder;
+
+    private CommitManager commitManager;
+
+    private UnitOfWorkChangeSet changeSet;
+
+    @Setup
+    public void setup() {
+        DynamicClassLoader loader = new DynamicClassLoader(getClass().getClassLoader());
+        commitOrder = new ArrayList<>(DESCRIPTORS);
+        for (int index = 0; index < DESCRIPTORS; index++) {
+            commitOrder.add(loader.createDynamicClass(getClass().getPackageName() + ".commit.Entity" + index));
+        }
+        commitManager = new CommitManager(null);
+        commitManager.setCommitOrder(commitOrder);
+        commitManager.getCommitOrderIndexes();
+        changeSet = new UnitOfWorkChangeSet();
+        for (int index = 0; index < changedClasses; index++) {
+            Map<ObjectChangeSet, ObjectChangeSet> changes = new IdentityHashMap<>();
+            ObjectChangeSet change = new ObjectChangeSet();
+            changes.put(change, change);
+            Class<?> changedClass = commitOrder.get((index * 397) % DESCRIPTORS);
+            if ((index % 2) == 0) {
+                changeSet.getNewObjectChangeSets().put(changedClass, changes);
+            } else {
+                changeSet.getObjectChanges().put(changedClass, changes);
+            }
+        }
+    }
+
+    @Benchmark
+    public void testCommitOrderWalk(Blackhole bh) {
+        int size = commitOrder.size();
+        for (int index = 0; index < size; index++) {
+            Class<?> theClass = commitOrder.get(index);
+            bh.consume(changeSet.getObjectChanges().get(theClass));
+            bh.consume(changeSet.getNewObjectChangeSets().get(theClass));
+        }
+    }
+
+    @Benchmark
+    public void testCommitPlanWalk(Blackhole bh) {
+        BitSet plan = commitManager.buildCommitPlan(changeSet);
+        for (int index = plan.nextSetBit(0); index >= 0; index = plan.nextSetBit(index + 1)) {
+            Class<?> theClass = commitOrder.get(index);
+            bh.consume(changeSet.getObjectChanges().get(theClass));
+            bh.consume(changeSet.getNewObjectChangeSets().get(theClass));
+        }
+    }
+}
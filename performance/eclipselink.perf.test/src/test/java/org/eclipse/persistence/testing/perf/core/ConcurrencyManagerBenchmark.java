@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -15,22 +15,61 @@
 package org.eclipse.persistence.testing.perf.core;
 
 import org.eclipse.persistence.internal.helper.ConcurrencyManager;
+import org.eclipse.persistence.internal.helper.ConcurrencyUtil;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.infra.Blackhole;
 
 /**
  * This benchmark verify performance of {@code org.eclipse.persistence.internal.helper.ConcurrencyManager}.
+ * The uncontended fast path is compared with the diagnostic-rich path through the {@code fastPath} parameter.
  *
  */
 @State(Scope.Benchmark)
 public class ConcurrencyManagerBenchmark {
 
+    @Param({"true", "false"})
+    public boolean fastPath;
+
+    /** Lock shared by all benchmark threads, so read locks are concurrent. */
+    private final ConcurrencyManager sharedManager = new ConcurrencyManager();
+
+    /** Lock owned by a single benchmark thread, so acquisitions are uncontended. */
+    @State(Scope.Thread)
+    public static class ThreadManager {
+        final ConcurrencyManager concurrencyManager = new ConcurrencyManager();
+    }
+
+    @Setup
+    public void setup() {
+        ConcurrencyUtil.SINGLETON.setUseUncontendedLockFastPath(fastPath);
+    }
+
     @Benchmark
     public void testAcquireRelease(Blackhole bh) throws Exception {
         ConcurrencyManager concurrencyManager = new ConcurrencyManager();
         concurrencyManager.acquire();
         concurrencyManager.release();
     }
+
+    @Benchmark
+    public void testUncontendedAcquireRelease(ThreadManager threadManager) {
+        threadManager.concurrencyManager.acquire();
+        threadManager.concurrencyManager.release();
+    }
+
+    @Benchmark
+    public void testUncontendedAcquireReleaseReadLock(ThreadManager threadManager) {
+        threadManager.concurrencyManager.acquireReadLock();
+        threadManager.concurrencyManager.releaseReadLock();
+    }
+
+    @Benchmark
+    public void testSharedAcquireReleaseReadLock() {
+        sharedManager.acquireReadLock();
+        sharedManager.releaseReadLock();
+    }
 }
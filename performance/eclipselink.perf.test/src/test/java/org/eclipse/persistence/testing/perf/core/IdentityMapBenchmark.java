@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.core;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.eclipse.persistence.internal.identitymaps.CacheIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.ConcurrentCacheIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.IdentityMap;
+import org.eclipse.persistence.internal.identitymaps.SoftCacheWeakIdentityMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * This benchmark compares shared cache identity maps under read only and mixed read/put workloads.
+ * The key space is twice the size of the maps, so the fixed size maps keep evicting.
+ *
+ */
+@State(Scope.Benchmark)
+public class IdentityMapBenchmark {
+
+    private static final int SIZE = 1000;
+
+    private static final int KEYS = SIZE * 2;
+
+    @Param({"Cache", "ConcurrentCache", "SoftCacheWeak"})
+    public String mapType;
+
+    private IdentityMap identityMap;
+
+    @Setup
+    public void setup() {
+        switch (mapType) {
+            case "Cache":
+                identityMap = new CacheIdentityMap(SIZE, null, null, false);
+                break;
+            case "ConcurrentCache":
+                identityMap = new ConcurrentCacheIdentityMap(SIZE, null, null, false);
+                break;
+            default:
+                identityMap = new SoftCacheWeakIdentityMap(SIZE, null, null, false);
+        }
+        for (int index = 0; index < KEYS; index++) {
+            identityMap.put(index, Integer.toString(index), null, 0);
+        }
+    }
+
+    @Benchmark
+    public void testRead(Blackhole bh) {
+        Integer key = ThreadLocalRandom.current().nextInt(SIZE);
+        bh.consume(identityMap.getCacheKey(key, false));
+    }
+
+    @Benchmark
+    public void testMixedReadPut(Blackhole bh) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer key = random.nextInt(KEYS);
+        if (random.nextInt(10) == 0) {
+            bh.consume(identityMap.put(key, key.toString(), null, 0));
+        } else {
+            bh.consume(identityMap.getCacheKey(key, false));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Vector;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedConnection;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * This benchmark compares building objects from the rows fetched from the emulated result set,
+ * from records reading the result set, and directly from the result set by the columns of the mappings.
+ * Run with "-prof gc" to compare the allocation per row.
+ *
+ */
+@State(Scope.Benchmark)
+public class ResultSetMaterializationBenchmark {
+
+    public static class Employee {
+        public long id;
+        public String firstName;
+        public String lastName;
+        public String email;
+        public String city;
+        public int salary;
+    }
+
+    @Param({"10", "100", "1000"})
+    public int rows;
+
+    private DatabaseSession session;
+
+    private ReadAllQuery rowQuery;
+
+    private ReadAllQuery resultSetRecordQuery;
+
+    private ReadAllQuery resultSetQuery;
+
+    @Setup
+    public void setup() {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Employee.class);
+        descriptor.addTableName("EMPLOYEE");
+        descriptor.addPrimaryKeyFieldName("EMPLOYEE.ID");
+        descriptor.addDirectMapping("id", "EMPLOYEE.ID");
+        descriptor.addDirectMapping("firstName", "EMPLOYEE.F_NAME");
+        descriptor.addDirectMapping("lastName", "EMPLOYEE.L_NAME");
+        descriptor.addDirectMapping("email", "EMPLOYEE.EMAIL");
+        descriptor.addDirectMapping("city", "EMPLOYEE.CITY");
+        descriptor.addDirectMapping("salary", "EMPLOYEE.SALARY");
+        // Build the objects on each read.
+        descriptor.useNoIdentityMap();
+        descriptor.getQueryManager().assumeNonExistenceForDoesExist();
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(EmulatedDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        Project project = new Project(login);
+        project.addDescriptor(descriptor);
+        session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.OFF);
+        session.login();
+
+        Vector<DatabaseField> fields = new Vector<>(descriptor.getAllFields());
+        DatabaseField[] fieldsArray = fields.toArray(new DatabaseField[0]);
+        List<DatabaseRecord> data = new ArrayList<>(rows);
+        for (int index = 0; index < rows; index++) {
+            Object[] values = new Object[fieldsArray.length];
+            for (int column = 0; column < fieldsArray.length; column++) {
+                String name = fieldsArray[column].getName();
+                if (name.equals("ID")) {
+                    values[column] = (long) index;
+                } else if (name.equals("SALARY")) {
+                    values[column] = 50000 + index;
+                } else {
+                    values[column] = name + index;
+                }
+            }
+            data.add(new ArrayRecord(fields, fieldsArray, values));
+        }
+        rowQuery = new ReadAllQuery(Employee.class);
+        rowQuery.setIsResultSetAccessOptimizedQuery(false);
+        resultSetRecordQuery = new ReadAllQuery(Employee.class);
+        resultSetRecordQuery.setIsResultSetAccessOptimizedQuery(true);
+        resultSetQuery = new ReadAllQuery(Employee.class);
+        resultSetQuery.setIsResultSetOptimizedQuery(true);
+        rowQuery.prepareCall(session, new DatabaseRecord());
+        EmulatedConnection connection = (EmulatedConnection)((AbstractSession)session).getAccessor().getConnection();
+        connection.putRows(rowQuery.getSQLString(), data);
+    }
+
+    @TearDown
+    public void tearDown() {
+        session.logout();
+    }
+
+    @Benchmark
+    public void testRows(Blackhole bh) {
+        bh.consume(session.executeQuery(rowQuery));
+    }
+
+    @Benchmark
+    public void testResultSetRecords(Blackhole bh) {
+        bh.consume(session.executeQuery(resultSetRecordQuery));
+    }
+
+    @Benchmark
+    public void testResultSetColumns(Blackhole bh) {
+        bh.consume(session.executeQuery(resultSetQuery));
+    }
+}
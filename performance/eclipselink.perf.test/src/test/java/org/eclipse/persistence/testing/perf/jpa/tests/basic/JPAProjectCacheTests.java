@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.jpa.tests.basic;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.jpa.metadata.CompactProjectCache;
+import org.eclipse.persistence.jpa.metadata.FileBasedProjectCache;
+import org.eclipse.persistence.jpa.metadata.ProjectCache;
+import org.eclipse.persistence.logging.DefaultSessionLog;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.mappings.DirectToFieldMapping;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.sessions.Project;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks for the project cache: the startup of the basic model persistence unit
+ * without a project cache and with each project cache format,
+ * and the retrieval of a project of 1000 descriptors from each format.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JPAProjectCacheTests {
+
+    @State(Scope.Benchmark)
+    public static class Unit {
+
+        @Param({"none", "java-serialization", "compact"})
+        public String projectCache;
+
+        private File file;
+        private Map<String, Object> properties;
+
+        @Setup
+        public void setup() throws Exception {
+            file = File.createTempFile("project-cache", ".bin");
+            file.delete();
+            properties = new HashMap<>();
+            properties.put(PersistenceUnitProperties.JDBC_DRIVER, "org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver");
+            properties.put(PersistenceUnitProperties.JDBC_URL, "jdbc:emulateddriver");
+            properties.put(PersistenceUnitProperties.LOGGING_LEVEL, SessionLog.SEVERE_LABEL);
+            if (!"none".equals(projectCache)) {
+                properties.put(PersistenceUnitProperties.PROJECT_CACHE, projectCache);
+                properties.put(PersistenceUnitProperties.PROJECT_CACHE_FILE, file.getPath());
+                // The first deployment stores the project.
+                startup(this);
+            }
+        }
+
+        @TearDown
+        public void tearDown() {
+            file.delete();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class CachedProject {
+
+        @Param({"java-serialization", "compact"})
+        public String projectCache;
+
+        @Param({"1000"})
+        public int descriptors;
+
+        private ProjectCache cache;
+        private File file;
+        private Map<String, Object> properties;
+        private SessionLog log;
+
+        @Setup
+        public void setup() throws Exception {
+            cache = "compact".equals(projectCache) ? new CompactProjectCache() : new FileBasedProjectCache();
+            file = File.createTempFile("project-cache", ".bin");
+            properties = Map.of(PersistenceUnitProperties.PROJECT_CACHE_FILE, file.getPath());
+            log = new DefaultSessionLog();
+            cache.storeProject(buildProject(descriptors), properties, log);
+        }
+
+        @TearDown
+        public void tearDown() {
+            file.delete();
+        }
+    }
+
+    /**
+     * Create the factory of the basic model persistence unit and its first entity manager, which deploys it.
+     */
+    @Benchmark
+    public Object testStartup(Unit unit) {
+        return startup(unit);
+    }
+
+    /**
+     * Retrieve the project of 1000 descriptors from the file.
+     */
+    @Benchmark
+    public Project testRetrieveProject(CachedProject cachedProject) {
+        return cachedProject.cache.retrieveProject(cachedProject.properties, JPAProjectCacheTests.class.getClassLoader(), cachedProject.log);
+    }
+
+    private static Object startup(Unit unit) {
+        EntityManagerFactory emf = Persistence.createEntityManagerFactory("jpa-performance", unit.properties);
+        try {
+            return emf.createEntityManager();
+        } finally {
+            emf.close();
+        }
+    }
+
+    /**
+     * Build a project of descriptors with a few direct mappings each, and a one to one mapping to the next descriptor.
+     */
+    private static Project buildProject(int size) {
+        Project project = new Project();
+        for (int index = 0; index < size; index++) {
+            String table = "ENTITY_" + index;
+            RelationalDescriptor descriptor = new RelationalDescriptor();
+            descriptor.setJavaClassName("example.Entity" + index);
+            descriptor.setAlias("Entity" + index);
+            descriptor.addTableName(table);
+            descriptor.addPrimaryKeyFieldName(table + ".ID");
+            for (String attribute : new String[] {"id", "name", "description", "created", "version"}) {
+                DirectToFieldMapping mapping = new DirectToFieldMapping();
+                mapping.setAttributeName(attribute);
+                mapping.setFieldName(table + "." + attribute.toUpperCase());
+                descriptor.addMapping(mapping);
+            }
+            OneToOneMapping next = new OneToOneMapping();
+            next.setAttributeName("next");
+            next.setReferenceClassName("example.Entity" + ((index + 1) % size));
+            next.addForeignKeyFieldName(table + ".NEXT_ID", "ENTITY_" + ((index + 1) % size) + ".ID");
+            next.dontUseIndirection();
+            descriptor.addMapping(next);
+            project.addDescriptor(descriptor);
+        }
+        return project;
+    }
+}
@@ -29,6 +29,7 @@
 import jakarta.xml.bind.Marshaller;
 
 import org.eclipse.persistence.jaxb.JAXBContextProperties;
+import org.eclipse.persistence.jaxb.MarshallerProperties;
 import org.eclipse.persistence.oxm.json.JsonArrayBuilderResult;
 import org.eclipse.persistence.testing.perf.json.model.Employee;
 import org.eclipse.persistence.testing.perf.json.model.PhoneNumber;
@@ -47,14 +48,19 @@
 @State(Scope.Benchmark)
 public class JsonMarshalBenchmark {
 
+    private static final int EMPLOYEES = 1000;
+
     private JAXBContext jaxbContext;
 
+    private List<Employee> employees;
+
     /*
      * Initial setup.
      */
     @Setup
     public void prepare() throws Exception {
         prepareJAXBContext();
+        prepareEmployees();
     }
 
     @Benchmark
@@ -119,6 +125,44 @@ public void testJsonMarshal(Blackhole bh) throws Exception {
         bh.consume(baos);
     }
 
+    @Benchmark
+    public void testJsonMarshalToOutputStream(Blackhole bh) throws Exception {
+        Marshaller marshaller = jaxbContext.createMarshaller();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        marshaller.marshal(employees, baos);
+        bh.consume(baos);
+    }
+
+    @Benchmark
+    public void testJsonMarshalToOutputStreamUTF8Output(Blackhole bh) throws Exception {
+        Marshaller marshaller = jaxbContext.createMarshaller();
+        marshaller.setProperty(MarshallerProperties.JSON_UTF8_OUTPUT, true);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        marshaller.marshal(employees, baos);
+        bh.consume(baos);
+    }
+
+    private void prepareEmployees() {
+        employees = new ArrayList<Employee>(EMPLOYEES);
+        for (int i = 0; i < EMPLOYEES; i++) {
+            Employee employee = new Employee();
+            employee.setId(i);
+            employee.setFirstName("First" + i);
+            employee.setLastName("Last" + i);
+
+            PhoneNumber workPhone = new PhoneNumber();
+            workPhone.setType("work");
+            workPhone.setNumber("555-" + i);
+            employee.getPhoneNumbers().add(workPhone);
+
+            PhoneNumber homePhone = new PhoneNumber();
+            homePhone.setType("home");
+            homePhone.setNumber("556-" + i);
+            employee.getPhoneNumbers().add(homePhone);
+            employees.add(employee);
+        }
+    }
+
     private void prepareJAXBContext() throws Exception {
 
         Map<String, Object> jaxbProperties = new HashMap<String, Object>(2);
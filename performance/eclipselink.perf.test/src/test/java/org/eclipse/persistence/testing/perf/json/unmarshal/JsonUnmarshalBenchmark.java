@@ -14,7 +14,9 @@
 //     Martin Vojtek - 2.6.0 - initial implementation
 package org.eclipse.persistence.testing.perf.json.unmarshal;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +33,7 @@
 import javax.xml.transform.stream.StreamSource;
 
 import org.eclipse.persistence.jaxb.JAXBContextProperties;
+import org.eclipse.persistence.oxm.json.JsonParserSource;
 import org.eclipse.persistence.oxm.json.JsonStructureSource;
 import org.eclipse.persistence.testing.perf.json.model.Employee;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -47,14 +50,19 @@ public class JsonUnmarshalBenchmark {
 
     private static final String INPUT_JSON = "org/eclipse/persistence/testing/perf/json/unmarshal/input.json";
 
+    private static final int LARGE_EMPLOYEES = 10000;
+
     private JAXBContext jaxbContext;
 
+    private byte[] largeJson;
+
     /*
      * Initial setup.
      */
     @Setup
     public void prepare() throws Exception {
         prepareJAXBContext();
+        prepareLargeJson();
     }
 
     @Benchmark
@@ -162,6 +170,56 @@ public void testJsonParser(Blackhole bh) throws Exception {
         }
     }
 
+    @Benchmark
+    public void testJsonParserSourceUnmarshal(Blackhole bh) throws Exception {
+        InputStream inputStream = null;
+        try {
+            inputStream = Thread.currentThread().getContextClassLoader().getResourceAsStream(INPUT_JSON);
+            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+            JsonParserSource parserSource = new JsonParserSource(Json.createParser(inputStream));
+            @SuppressWarnings("unchecked")
+            List<Employee> employees = (List<Employee>) unmarshaller.unmarshal(parserSource, Employee.class).getValue();
+            bh.consume(employees);
+        } catch (Exception e) {
+            e.printStackTrace();
+            throw e;
+        } finally {
+            if (null != inputStream) {
+                inputStream.close();
+            }
+        }
+    }
+
+    @Benchmark
+    public void testLargeJsonParserSourceUnmarshal(Blackhole bh) throws Exception {
+        Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+        JsonParserSource parserSource = new JsonParserSource(Json.createParser(new ByteArrayInputStream(largeJson)));
+        bh.consume(unmarshaller.unmarshal(parserSource, Employee.class).getValue());
+    }
+
+    @Benchmark
+    public void testLargeJsonReaderUnmarshal(Blackhole bh) throws Exception {
+        Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+        JsonArray employeesArray = Json.createReader(new ByteArrayInputStream(largeJson)).readArray();
+        bh.consume(unmarshaller.unmarshal(new JsonStructureSource(employeesArray), Employee.class).getValue());
+    }
+
+    private void prepareLargeJson() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < LARGE_EMPLOYEES; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(i)
+                .append(",\"firstName\":\"First").append(i)
+                .append("\",\"lastName\":\"Last").append(i)
+                .append("\",\"phoneNumbers\":[{\"type\":\"work\",\"number\":\"").append(100000000 + i)
+                .append("\"},{\"type\":\"home\",\"number\":\"").append(200000000 + i)
+                .append("\"}]}");
+        }
+        largeJson = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
     private void prepareJAXBContext() throws Exception {
         Map<String, Object> jaxbProperties = new HashMap<String, Object>(2);
         jaxbProperties.put(JAXBContextProperties.MEDIA_TYPE, "application/json");
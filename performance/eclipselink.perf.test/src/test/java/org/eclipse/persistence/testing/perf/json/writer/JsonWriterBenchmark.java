@@ -14,6 +14,7 @@
 //     Martin Vojtek - 2.6.0 - initial implementation
 package org.eclipse.persistence.testing.perf.json.writer;
 
+import java.io.ByteArrayOutputStream;
 import java.io.StringWriter;
 
 import jakarta.json.Json;
@@ -30,7 +31,33 @@ public class JsonWriterBenchmark {
 
     @Benchmark
     public void testJsonWriter(Blackhole bh) {
-        JsonObject model = Json.createObjectBuilder()
+        JsonObject model = buildModel();
+
+        StringWriter stWriter = new StringWriter();
+        JsonWriter jsonWriter = Json.createWriter(stWriter);
+        jsonWriter.writeObject(model);
+        jsonWriter.close();
+
+        bh.consume(stWriter.toString());
+    }
+
+    /*
+     * The same model written as UTF-8 bytes, the reference for the byte level output of MOXy.
+     */
+    @Benchmark
+    public void testJsonWriterToOutputStream(Blackhole bh) {
+        JsonObject model = buildModel();
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JsonWriter jsonWriter = Json.createWriter(baos);
+        jsonWriter.writeObject(model);
+        jsonWriter.close();
+
+        bh.consume(baos);
+    }
+
+    private JsonObject buildModel() {
+        return Json.createObjectBuilder()
                 .add("firstName", "Duke")
                 .add("lastName", "Java")
                 .add("age", 18)
@@ -46,12 +73,5 @@ public void testJsonWriter(Blackhole bh) {
                       .add("type", "home")
                       .add("number", "222-222-2222")))
                 .build();
-
-        StringWriter stWriter = new StringWriter();
-        JsonWriter jsonWriter = Json.createWriter(stWriter);
-        jsonWriter.writeObject(model);
-        jsonWriter.close();
-
-        bh.consume(stWriter.toString());
     }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.moxy.contextsnapshot;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.xml.bind.JAXBContext;
+
+import org.eclipse.persistence.jaxb.JAXBContextFactory;
+import org.eclipse.persistence.jaxb.JAXBContextSnapshot;
+import org.eclipse.persistence.testing.perf.largexml.bigpo.ObjectFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * This benchmark compares generating the JAXBContext of the large purchase order model
+ * with restoring it from a snapshot. The first unmarshaller is created to include the login.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ContextSnapshotBenchmark {
+
+    private static final Class<?>[] CLASSES = new Class<?>[] {ObjectFactory.class};
+
+    private byte[] snapshot;
+
+    @Setup
+    public void prepare() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JAXBContextSnapshot.write(CLASSES, null, ObjectFactory.class.getClassLoader(), out);
+        snapshot = out.toByteArray();
+    }
+
+    @Benchmark
+    public Object testGenerateContext() throws Exception {
+        JAXBContext context = JAXBContextFactory.createContext(CLASSES, null, ObjectFactory.class.getClassLoader());
+        return context.createUnmarshaller();
+    }
+
+    @Benchmark
+    public Object testRestoreContext() throws Exception {
+        JAXBContext context = JAXBContextSnapshot.read(new ByteArrayInputStream(snapshot), null, ObjectFactory.class.getClassLoader());
+        return context.createUnmarshaller();
+    }
+}